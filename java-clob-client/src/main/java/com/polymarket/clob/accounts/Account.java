@@ -0,0 +1,45 @@
+package com.polymarket.clob.accounts;
+
+import com.polymarket.clob.client.ClobClient;
+import com.polymarket.clob.utilities.RateLimiter;
+
+import java.util.function.Function;
+
+/**
+ * One account of an {@link AccountPool}: its client and its own rate limit
+ */
+public final class Account {
+    private final String name;
+    private final ClobClient client;
+    private final RateLimiter limiter;
+
+    Account(String name, ClobClient client, RateLimiter limiter) {
+        this.name = name;
+        this.client = client;
+        this.limiter = limiter;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * The account's client. Calls made on it directly bypass the rate limit.
+     */
+    public ClobClient client() {
+        return client;
+    }
+
+    public RateLimiter limiter() {
+        return limiter;
+    }
+
+    /**
+     * Runs a request against the account's client once its rate limit allows,
+     * for example {@code account.call(c -> c.postOrder(order, OrderType.GTC))}
+     */
+    public <T> T call(Function<ClobClient, T> request) {
+        limiter.acquire();
+        return request.apply(client);
+    }
+}
@@ -0,0 +1,165 @@
+package com.polymarket.clob.accounts;
+
+import com.polymarket.clob.client.ClobClient;
+import com.polymarket.clob.exceptions.PolyException;
+import com.polymarket.clob.metadata.MarketMetadataCache;
+import com.polymarket.clob.signer.Signer;
+import com.polymarket.clob.utilities.DaemonThreadFactory;
+import com.polymarket.clob.utilities.RateLimiter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Clients for many accounts on one host, sharing what does not depend on the account.
+ * <p>
+ * All accounts use the process-wide HTTP transport, one {@link MarketMetadataCache}
+ * and one pool of threads, and accounts with the same key share one signer.
+ * What remains per account is a small client holding its credentials and order
+ * builder, and a {@link RateLimiter}. Credentials missing from the specs are
+ * created or derived for all accounts in parallel when the pool is opened.
+ * <p>
+ * {@link Account#call} runs a request on the caller's thread within the
+ * account's rate limit; {@link #submit} runs it on the pool's threads.
+ */
+public class AccountPool implements AutoCloseable {
+    private final MarketMetadataCache metadata;
+    private final Map<String, Account> accounts;
+    private final int signers;
+    private final ExecutorService executor;
+
+    public AccountPool(String host, int chainId, List<AccountSpec> specs) {
+        this(host, chainId, specs, new AccountPoolConfig());
+    }
+
+    /**
+     * Sets up every account, deriving missing credentials in parallel. Fails with
+     * a {@link PolyException} naming the accounts that could not be set up, with
+     * each account's error attached as a suppressed exception.
+     * <p>
+     * A failed startup waits for every account's setup, then only calls
+     * {@code shutdownNow()} on the pool's threads. The accounts that were set up
+     * are dropped unreferenced: their clients hold no threads or connections of
+     * their own, and credentials created for them stay valid on the server and
+     * are derived again on the next start.
+     */
+    public AccountPool(String host, int chainId, List<AccountSpec> specs, AccountPoolConfig config) {
+        Map<String, AccountSpec> byName = new LinkedHashMap<>();
+        for (AccountSpec spec : specs) {
+            if (byName.putIfAbsent(spec.name(), spec) != null) {
+                throw new IllegalArgumentException("duplicate account name " + spec.name());
+            }
+        }
+        this.metadata = new MarketMetadataCache(host);
+        this.executor = Executors.newFixedThreadPool(config.threads(), new DaemonThreadFactory("account-pool"));
+
+        Map<String, Signer> signersByKey = new ConcurrentHashMap<>();
+        Map<String, CompletableFuture<Account>> setup = new LinkedHashMap<>();
+        for (AccountSpec spec : byName.values()) {
+            setup.put(spec.name(), CompletableFuture.supplyAsync(() -> {
+                String key = spec.privateKey().startsWith("0x") ? spec.privateKey().substring(2) : spec.privateKey();
+                Signer signer = signersByKey.computeIfAbsent(key.toLowerCase(Locale.ROOT), k -> new Signer(k, chainId));
+                ClobClient client = ClobClient.sharing(
+                    host, signer, metadata, spec.creds(), spec.signatureType(), spec.funder()
+                );
+                if (spec.creds() == null) {
+                    client.setApiCreds(client.createOrDeriveApiCreds(spec.nonce()));
+                }
+                return new Account(
+                    spec.name(), client, new RateLimiter(config.requestsPerSecond(), config.burst())
+                );
+            }, executor));
+        }
+
+        Map<String, Account> ready = new LinkedHashMap<>();
+        List<String> failed = new ArrayList<>();
+        List<Throwable> causes = new ArrayList<>();
+        for (Map.Entry<String, CompletableFuture<Account>> entry : setup.entrySet()) {
+            try {
+                ready.put(entry.getKey(), entry.getValue().join());
+            } catch (CompletionException e) {
+                failed.add(entry.getKey());
+                causes.add(e.getCause() != null ? e.getCause() : e);
+            }
+        }
+        if (!failed.isEmpty()) {
+            executor.shutdownNow();
+            PolyException error = new PolyException("Could not set up accounts " + failed);
+            causes.forEach(error::addSuppressed);
+            throw error;
+        }
+        this.accounts = Collections.unmodifiableMap(ready);
+        this.signers = signersByKey.size();
+    }
+
+    /**
+     * The named account, or null if the pool has none by that name
+     */
+    public Account account(String name) {
+        return accounts.get(name);
+    }
+
+    /**
+     * All accounts, in the order of the specs
+     */
+    public List<Account> accounts() {
+        return List.copyOf(accounts.values());
+    }
+
+    /**
+     * The metadata cache shared by all accounts
+     */
+    public MarketMetadataCache metadata() {
+        return metadata;
+    }
+
+    /**
+     * Runs a request against the named account on the pool's threads, within the
+     * account's rate limit
+     */
+    public <T> CompletableFuture<T> submit(String name, Function<ClobClient, T> request) {
+        Account account = accounts.get(name);
+        if (account == null) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("unknown account " + name));
+        }
+        return CompletableFuture.supplyAsync(() -> account.call(request), executor);
+    }
+
+    public Stats stats() {
+        long acquired = 0;
+        long throttled = 0;
+        long waitNanos = 0;
+        for (Account account : accounts.values()) {
+            RateLimiter.Stats limiter = account.limiter().stats();
+            acquired += limiter.acquired();
+            throttled += limiter.throttled();
+            waitNanos += limiter.waitNanos();
+        }
+        return new Stats(accounts.size(), signers, acquired, throttled, waitNanos);
+    }
+
+    /**
+     * Stops the pool's threads. Requests already submitted run to completion.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    /**
+     * Snapshot of pool counters, summed over the accounts' rate limiters
+     *
+     * @param signers distinct signing keys among the accounts
+     */
+    public record Stats(int accounts, int signers, long requests, long throttled, long throttledWaitNanos) {}
+}
@@ -0,0 +1,26 @@
+package com.polymarket.clob.accounts;
+
+/**
+ * Settings for {@link AccountPool}
+ */
+public record AccountPoolConfig(
+    double requestsPerSecond,  // Average request rate allowed per account
+    int burst,                 // Requests an idle account may send at once
+    int threads                // Shared threads for credential derivation and submitted requests
+) {
+    public AccountPoolConfig() {
+        this(50, 50, 16);
+    }
+
+    public AccountPoolConfig {
+        if (!(requestsPerSecond > 0)) {
+            throw new IllegalArgumentException("requestsPerSecond must be positive");
+        }
+        if (burst <= 0) {
+            throw new IllegalArgumentException("burst must be positive");
+        }
+        if (threads <= 0) {
+            throw new IllegalArgumentException("threads must be positive");
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.polymarket.clob.accounts;
+
+import com.polymarket.clob.types.ApiCreds;
+
+/**
+ * One account of an {@link AccountPool}
+ *
+ * @param name          unique name the account is looked up by
+ * @param privateKey    signing key; accounts with the same key share one signer
+ * @param signatureType signature type, null for EOA
+ * @param funder        funder or proxy wallet address, null for the signer's address
+ * @param creds         API credentials, or null to create or derive them at startup
+ * @param nonce         nonce for credential derivation, null for 0
+ */
+public record AccountSpec(
+    String name,
+    String privateKey,
+    Integer signatureType,
+    String funder,
+    ApiCreds creds,
+    Integer nonce
+) {
+    public AccountSpec(String name, String privateKey, Integer signatureType, String funder) {
+        this(name, privateKey, signatureType, funder, null, null);
+    }
+
+    public AccountSpec {
+        if (name == null || privateKey == null) {
+            throw new IllegalArgumentException("name and privateKey are required");
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.polymarket.clob.catalog;
+
+import com.polymarket.clob.client.ClobClient;
+import com.polymarket.clob.client.PagedResults;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory index of the market catalog, for lookups without HTTP.
+ * <p>
+ * {@link #refresh()} crawls the paginated /markets endpoint. The next page is
+ * fetched while the current one is parsed into {@link MarketInfo} records. The
+ * crawl then builds hash indexes by condition ID, by token ID and by neg-risk
+ * event, and publishes them together as one immutable snapshot. Readers never
+ * lock and always see a consistent catalog.
+ * <p>
+ * Catalog cursors are offsets and new markets are appended at the end, so
+ * {@link #refreshNew()} resumes from the last page of the previous crawl and
+ * only fetches what was listed since. Use {@link #refresh()} periodically as
+ * well, to pick up state changes of existing markets, such as closing.
+ */
+public class MarketCatalog {
+    private final ClobClient client;
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    // Crawl state, guarded by this
+    private String lastPageCursor;
+    private long pages;
+    private long refreshes;
+    private Duration lastRefreshDuration = Duration.ZERO;
+
+    public MarketCatalog(ClobClient client) {
+        this.client = client;
+    }
+
+    public MarketInfo market(String conditionId) {
+        return snapshot.byConditionId().get(conditionId);
+    }
+
+    public MarketInfo marketForToken(String tokenId) {
+        return snapshot.byTokenId().get(tokenId);
+    }
+
+    /**
+     * Markets of the neg-risk event, one per outcome, or an empty list
+     */
+    public List<MarketInfo> negRiskEvent(String negRiskMarketId) {
+        return snapshot.byNegRiskMarketId().getOrDefault(negRiskMarketId, List.of());
+    }
+
+    public Collection<MarketInfo> markets() {
+        return snapshot.byConditionId().values();
+    }
+
+    public int size() {
+        return snapshot.byConditionId().size();
+    }
+
+    /**
+     * Crawls the whole catalog and replaces the index. Returns the number of markets.
+     */
+    public synchronized int refresh() {
+        long start = System.nanoTime();
+        Map<String, MarketInfo> markets = new HashMap<>(Math.max(16, size() * 2));
+        String lastPage = crawl(null, markets);
+        snapshot = Snapshot.of(markets);
+        lastPageCursor = lastPage;
+        refreshes++;
+        lastRefreshDuration = Duration.ofNanos(System.nanoTime() - start);
+        return markets.size();
+    }
+
+    /**
+     * Fetches markets listed since the last crawl and adds them to the index.
+     * Falls back to a full {@link #refresh()} if there was no previous crawl.
+     * Returns the number of markets fetched.
+     */
+    public synchronized int refreshNew() {
+        if (lastPageCursor == null) {
+            return refresh();
+        }
+        long start = System.nanoTime();
+        Map<String, MarketInfo> fetched = new HashMap<>();
+        String lastPage = crawl(lastPageCursor, fetched);
+        Map<String, MarketInfo> markets = new HashMap<>(snapshot.byConditionId());
+        markets.putAll(fetched);
+        snapshot = Snapshot.of(markets);
+        lastPageCursor = lastPage;
+        refreshes++;
+        lastRefreshDuration = Duration.ofNanos(System.nanoTime() - start);
+        return fetched.size();
+    }
+
+    public synchronized Stats stats() {
+        Snapshot current = snapshot;
+        return new Stats(
+            current.byConditionId().size(),
+            current.byTokenId().size(),
+            current.byNegRiskMarketId().size(),
+            pages,
+            refreshes,
+            lastRefreshDuration
+        );
+    }
+
+    /**
+     * Fetches every page from {@code fromCursor} on into {@code into}. Returns the cursor
+     * of the last page, for the caller to keep only once the pages are in the index.
+     */
+    @SuppressWarnings("unchecked")
+    private String crawl(String fromCursor, Map<String, MarketInfo> into) {
+        String cursor = fromCursor != null ? fromCursor : "MA==";
+        String lastPage = fromCursor;
+        Iterator<PagedResults.Page> it = client.pageMarkets(cursor).pages();
+        while (it.hasNext()) {
+            PagedResults.Page page = it.next();
+            pages++;
+            if (page.data() != null) {
+                for (Object item : page.data()) {
+                    if (item instanceof Map) {
+                        MarketInfo market = MarketInfo.fromMap((Map<String, Object>) item);
+                        if (market.conditionId() != null && !market.conditionId().isEmpty()) {
+                            into.put(market.conditionId(), market);
+                        }
+                    }
+                }
+            }
+            // Remember where the last page starts, so the next incremental crawl resumes there
+            lastPage = cursor;
+            if (it.hasNext()) {
+                cursor = page.nextCursor();
+            }
+        }
+        return lastPage;
+    }
+
+    private record Snapshot(
+        Map<String, MarketInfo> byConditionId,
+        Map<String, MarketInfo> byTokenId,
+        Map<String, List<MarketInfo>> byNegRiskMarketId
+    ) {
+        static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of(), Map.of());
+
+        static Snapshot of(Map<String, MarketInfo> markets) {
+            Map<String, MarketInfo> byTokenId = new HashMap<>(markets.size() * 4);
+            Map<String, List<MarketInfo>> byNegRisk = new HashMap<>();
+            for (MarketInfo market : markets.values()) {
+                for (MarketInfo.Token token : market.tokens()) {
+                    byTokenId.put(token.tokenId(), market);
+                }
+                if (market.negRiskMarketId() != null) {
+                    byNegRisk.computeIfAbsent(market.negRiskMarketId(), k -> new ArrayList<>()).add(market);
+                }
+            }
+            byNegRisk.replaceAll((k, v) -> List.copyOf(v));
+            return new Snapshot(
+                Collections.unmodifiableMap(markets),
+                Collections.unmodifiableMap(byTokenId),
+                Collections.unmodifiableMap(byNegRisk)
+            );
+        }
+    }
+
+    /**
+     * Snapshot of catalog counters
+     */
+    public record Stats(
+        int markets,
+        int tokens,
+        int negRiskEvents,
+        long pages,
+        long refreshes,
+        Duration lastRefreshDuration
+    ) {}
+}
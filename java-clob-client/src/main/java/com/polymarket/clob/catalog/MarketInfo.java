@@ -0,0 +1,73 @@
+package com.polymarket.clob.catalog;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Market from the /markets catalog, reduced to the fields used for trading
+ */
+public record MarketInfo(
+    String conditionId,
+    String questionId,
+    String question,
+    String marketSlug,
+    boolean negRisk,
+    String negRiskMarketId,    // Shared by all markets of a neg-risk event, null otherwise
+    String minimumTickSize,
+    String minimumOrderSize,
+    boolean active,
+    boolean closed,
+    boolean acceptingOrders,
+    List<Token> tokens
+) {
+    /**
+     * Outcome token of a market
+     */
+    public record Token(String tokenId, String outcome) {}
+
+    @SuppressWarnings("unchecked")
+    public static MarketInfo fromMap(Map<String, Object> raw) {
+        List<Token> tokens = new ArrayList<>(2);
+        Object rawTokens = raw.get("tokens");
+        if (rawTokens instanceof List) {
+            for (Object item : (List<Object>) rawTokens) {
+                if (item instanceof Map) {
+                    Map<String, Object> token = (Map<String, Object>) item;
+                    String tokenId = str(token.get("token_id"));
+                    if (tokenId != null && !tokenId.isEmpty()) {
+                        tokens.add(new Token(tokenId, str(token.get("outcome"))));
+                    }
+                }
+            }
+        }
+        String negRiskMarketId = str(raw.get("neg_risk_market_id"));
+        return new MarketInfo(
+            str(raw.get("condition_id")),
+            str(raw.get("question_id")),
+            str(raw.get("question")),
+            str(raw.get("market_slug")),
+            Boolean.TRUE.equals(raw.get("neg_risk")),
+            negRiskMarketId == null || negRiskMarketId.isEmpty() ? null : negRiskMarketId,
+            decimal(raw.get("minimum_tick_size")),
+            decimal(raw.get("minimum_order_size")),
+            Boolean.TRUE.equals(raw.get("active")),
+            Boolean.TRUE.equals(raw.get("closed")),
+            Boolean.TRUE.equals(raw.get("accepting_orders")),
+            List.copyOf(tokens)
+        );
+    }
+
+    private static String str(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    // Numbers arrive as doubles; 0.0001 must not become "1.0E-4"
+    private static String decimal(Object value) {
+        if (value instanceof Number) {
+            return new BigDecimal(value.toString()).stripTrailingZeros().toPlainString();
+        }
+        return str(value);
+    }
+}
@@ -8,29 +8,42 @@ import com.polymarket.clob.exceptions.PolyApiException;
 import com.polymarket.clob.exceptions.PolyException;
 import com.polymarket.clob.headers.Headers;
 import com.polymarket.clob.httphelpers.HttpHelpers;
+import com.polymarket.clob.metadata.MarketMetadataCache;
+import com.polymarket.clob.orderbook.BookChangeDetector;
 import com.polymarket.clob.orderbuilder.OrderBuilder;
 import com.polymarket.clob.signer.Signer;
 import com.polymarket.clob.types.*;
 import com.polymarket.clob.utilities.Utilities;
+import com.polymarket.orderutils.HashSigner;
 
 import java.util.*;
 import java.util.stream.Collectors;
 
 /**
  * Main client for interacting with the Polymarket CLOB API
+ * <p>
+ * The client is thread-safe, and one instance can be shared by every thread of
+ * the process. Host, chain, signer and order builder are fixed at construction.
+ * Credentials and the authentication level they grant are published together as
+ * one immutable snapshot, replaced as a whole by {@link #setApiCreds}. Each
+ * request reads the snapshot once, so it is signed and attributed with one
+ * consistent set of credentials even while another thread rotates them; a
+ * request already under way, or a {@link PagedResults} already created, finishes
+ * with the credentials it started with. Market metadata lives in a concurrent
+ * {@link MarketMetadataCache}. Order building and signing keep no mutable
+ * per-request state.
  */
 public class ClobClient {
     private final String host;
     private final Integer chainId;
     private final Signer signer;
-    private ApiCreds creds;
-    private int mode;
-    private OrderBuilder builder;
+    private final String address;
+    private final int signatureType;
+    private final OrderBuilder builder;
+    private volatile Auth auth;
 
     // Local cache
-    private final Map<String, String> tickSizes = new HashMap<>();
-    private final Map<String, Boolean> negRisk = new HashMap<>();
-    private final Map<String, Integer> feeRates = new HashMap<>();
+    private final MarketMetadataCache metadata;
 
     private static final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -51,29 +64,117 @@ public class ClobClient {
 
     public ClobClient(String host, Integer chainId, String key, ApiCreds creds, 
                       Integer signatureType, String funder) {
+        this(host, chainId, (key != null && chainId != null) ? new Signer(key, chainId) : null,
+            creds, signatureType, funder, null, null, null);
+    }
+
+    /**
+     * Level 1 or 2 client sharing its signer and metadata cache with other clients,
+     * for example the accounts of an {@link com.polymarket.clob.accounts.AccountPool}
+     *
+     * @param metadata cache for the same host, or null for a cache of the client's own
+     * @param creds    API credentials, or null for a Level 1 client
+     */
+    public static ClobClient sharing(String host, Signer signer, MarketMetadataCache metadata, ApiCreds creds,
+                                     Integer signatureType, String funder) {
+        return new ClobClient(host, signer.getChainId(), signer, creds, signatureType, funder, metadata, null, null);
+    }
+
+    /**
+     * Like {@link #sharing(String, Signer, MarketMetadataCache, ApiCreds, Integer, String)}, with
+     * orders signed by {@code orderSigner}, for example a
+     * {@link com.polymarket.clob.signing.remote.RemoteSigner} for the same key. The signer
+     * still authenticates the client's requests.
+     *
+     * @throws IllegalArgumentException if {@code orderSigner} signs for neither the signer nor the funder
+     */
+    public static ClobClient sharing(String host, Signer signer, MarketMetadataCache metadata, ApiCreds creds,
+                                     Integer signatureType, String funder, HashSigner orderSigner) {
+        return new ClobClient(host, signer.getChainId(), signer, creds, signatureType, funder, metadata, orderSigner, null);
+    }
+
+    /**
+     * Level 2 client without a private key, whose orders are signed by {@code orderSigner},
+     * for example a {@link com.polymarket.clob.signing.remote.RemoteSigner}. Requests are
+     * authenticated with the API credentials and the signer's address; creating or
+     * deriving credentials needs the key and is unavailable.
+     */
+    public static ClobClient keyless(String host, int chainId, HashSigner orderSigner, ApiCreds creds,
+                                     Integer signatureType, String funder) {
+        Objects.requireNonNull(creds, "creds");
+        return new ClobClient(host, chainId, null, creds, signatureType, funder, null, orderSigner, null);
+    }
+
+    /**
+     * Level 2 client for the account at {@code address}, without a key or order signer. It
+     * can read and cancel, but not create orders.
+     */
+    public static ClobClient keyless(String host, int chainId, String address, ApiCreds creds, Integer signatureType) {
+        Objects.requireNonNull(address, "address");
+        Objects.requireNonNull(creds, "creds");
+        return new ClobClient(host, chainId, null, creds, signatureType, null, null, null, address);
+    }
+
+    private ClobClient(String host, Integer chainId, Signer signer, ApiCreds creds, Integer signatureType,
+                       String funder, MarketMetadataCache metadata, HashSigner orderSigner, String address) {
+        if (signer != null && orderSigner != null
+            && !orderSigner.getAddress().equalsIgnoreCase(signer.address())
+            && !orderSigner.getAddress().equalsIgnoreCase(funder)) {
+            throw new IllegalArgumentException(
+                "Order signer " + orderSigner.getAddress() + " is neither the signer " + signer.address()
+                    + " nor the funder " + funder
+            );
+        }
         this.host = host.endsWith("/") ? host.substring(0, host.length() - 1) : host;
         this.chainId = chainId;
-        this.signer = (key != null && chainId != null) ? new Signer(key, chainId) : null;
-        this.creds = creds;
-        this.mode = getClientMode();
-
-        if (this.signer != null) {
-            this.builder = new OrderBuilder(this.signer, signatureType, funder);
+        this.signer = signer;
+        if (signer != null) {
+            this.address = signer.address();
+        } else {
+            this.address = orderSigner != null ? orderSigner.getAddress() : address;
+        }
+        // Default to EOA (0) if not specified
+        this.signatureType = signatureType != null ? signatureType : 0;
+        this.auth = auth(creds);
+        this.metadata = metadata != null ? metadata : new MarketMetadataCache(this.host);
+        if (orderSigner != null) {
+            this.builder = new OrderBuilder(orderSigner, chainId, signatureType, funder);
+        } else {
+            this.builder = this.signer != null ? new OrderBuilder(this.signer, signatureType, funder) : null;
         }
     }
 
-    private int getClientMode() {
-        if (signer != null && creds != null) {
-            return Constants.L2;
+    private Auth auth(ApiCreds creds) {
+        if (address != null && creds != null) {
+            return new Auth(creds, Constants.L2);
         }
         if (signer != null) {
-            return Constants.L1;
+            return new Auth(null, Constants.L1);
         }
-        return Constants.L0;
+        return new Auth(null, Constants.L0);
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * Level 2 credentials, or null below Level 2
+     */
+    public ApiCreds getApiCreds() {
+        return auth.creds();
+    }
+
+    /**
+     * Level 2 headers for a request, for callers that send it on their own connection
+     */
+    public Map<String, String> createLevel2Headers(RequestArgs requestArgs) {
+        ApiCreds creds = level2Creds();
+        return Headers.createLevel2Headers(address, creds, requestArgs);
     }
 
     public String getAddress() {
-        return signer != null ? signer.address() : null;
+        return address;
     }
 
     public String getCollateralAddress() {
@@ -150,40 +251,42 @@ public class ClobClient {
         }
     }
 
+    /**
+     * Replaces the credentials. Requests already under way keep the previous ones.
+     */
     public void setApiCreds(ApiCreds creds) {
-        this.creds = creds;
-        this.mode = getClientMode();
+        this.auth = auth(creds);
     }
 
     public Object getApiKeys() {
-        assertLevel2Auth();
+        ApiCreds creds = level2Creds();
 
         RequestArgs requestArgs = new RequestArgs("GET", Endpoints.GET_API_KEYS);
-        Map<String, String> headers = Headers.createLevel2Headers(signer, creds, requestArgs);
+        Map<String, String> headers = Headers.createLevel2Headers(address, creds, requestArgs);
         return HttpHelpers.get(host + Endpoints.GET_API_KEYS, headers);
     }
 
     public Object getClosedOnlyMode() {
-        assertLevel2Auth();
+        ApiCreds creds = level2Creds();
 
         RequestArgs requestArgs = new RequestArgs("GET", Endpoints.CLOSED_ONLY);
-        Map<String, String> headers = Headers.createLevel2Headers(signer, creds, requestArgs);
+        Map<String, String> headers = Headers.createLevel2Headers(address, creds, requestArgs);
         return HttpHelpers.get(host + Endpoints.CLOSED_ONLY, headers);
     }
 
     public Object deleteApiKey() {
-        assertLevel2Auth();
+        ApiCreds creds = level2Creds();
 
         RequestArgs requestArgs = new RequestArgs("DELETE", Endpoints.DELETE_API_KEY);
-        Map<String, String> headers = Headers.createLevel2Headers(signer, creds, requestArgs);
+        Map<String, String> headers = Headers.createLevel2Headers(address, creds, requestArgs);
         return HttpHelpers.delete(host + Endpoints.DELETE_API_KEY, headers, null);
     }
 
     public ReadonlyApiKeyResponse createReadonlyApiKey() {
-        assertLevel2Auth();
+        ApiCreds creds = level2Creds();
 
         RequestArgs requestArgs = new RequestArgs("POST", Endpoints.CREATE_READONLY_API_KEY);
-        Map<String, String> headers = Headers.createLevel2Headers(signer, creds, requestArgs);
+        Map<String, String> headers = Headers.createLevel2Headers(address, creds, requestArgs);
 
         @SuppressWarnings("unchecked")
         Map<String, Object> response = (Map<String, Object>) HttpHelpers.post(
@@ -198,15 +301,15 @@ public class ClobClient {
     }
 
     public Object getReadonlyApiKeys() {
-        assertLevel2Auth();
+        ApiCreds creds = level2Creds();
 
         RequestArgs requestArgs = new RequestArgs("GET", Endpoints.GET_READONLY_API_KEYS);
-        Map<String, String> headers = Headers.createLevel2Headers(signer, creds, requestArgs);
+        Map<String, String> headers = Headers.createLevel2Headers(address, creds, requestArgs);
         return HttpHelpers.get(host + Endpoints.GET_READONLY_API_KEYS, headers);
     }
 
     public boolean deleteReadonlyApiKey(String key) {
-        assertLevel2Auth();
+        ApiCreds creds = level2Creds();
 
         Map<String, Object> body = Map.of("key", key);
         String serialized;
@@ -222,7 +325,7 @@ public class ClobClient {
             body,
             serialized
         );
-        Map<String, String> headers = Headers.createLevel2Headers(signer, creds, requestArgs);
+        Map<String, String> headers = Headers.createLevel2Headers(address, creds, requestArgs);
         
         HttpHelpers.delete(host + Endpoints.DELETE_READONLY_API_KEY, headers, serialized);
         return true;
@@ -274,46 +377,22 @@ public class ClobClient {
     }
 
     public String getTickSize(String tokenId) {
-        if (tickSizes.containsKey(tokenId)) {
-            return tickSizes.get(tokenId);
-        }
-
-        @SuppressWarnings("unchecked")
-        Map<String, Object> result = (Map<String, Object>) HttpHelpers.get(
-            host + Endpoints.GET_TICK_SIZE + "?token_id=" + tokenId, null
-        );
-        String tickSize = String.valueOf(result.get("minimum_tick_size"));
-        tickSizes.put(tokenId, tickSize);
-        return tickSize;
+        return metadata.tickSize(tokenId);
     }
 
     public boolean getNegRisk(String tokenId) {
-        if (negRisk.containsKey(tokenId)) {
-            return negRisk.get(tokenId);
-        }
-
-        @SuppressWarnings("unchecked")
-        Map<String, Object> result = (Map<String, Object>) HttpHelpers.get(
-            host + Endpoints.GET_NEG_RISK + "?token_id=" + tokenId, null
-        );
-        Boolean resultValue = (Boolean) result.get("neg_risk");
-        negRisk.put(tokenId, resultValue);
-        return resultValue;
+        return metadata.negRisk(tokenId);
     }
 
     public int getFeeRateBps(String tokenId) {
-        if (feeRates.containsKey(tokenId)) {
-            return feeRates.get(tokenId);
-        }
+        return metadata.feeRateBps(tokenId);
+    }
 
-        @SuppressWarnings("unchecked")
-        Map<String, Object> result = (Map<String, Object>) HttpHelpers.get(
-            host + Endpoints.GET_FEE_RATE + "?token_id=" + tokenId, null
-        );
-        Integer feeRate = result.get("base_fee") != null ? 
-            ((Number) result.get("base_fee")).intValue() : 0;
-        feeRates.put(tokenId, feeRate);
-        return feeRate;
+    /**
+     * Cache behind {@link #getTickSize}, {@link #getNegRisk} and {@link #getFeeRateBps}
+     */
+    public MarketMetadataCache getMetadataCache() {
+        return metadata;
     }
 
     private String resolveTickSize(String tokenId, String tickSize) {
@@ -343,7 +422,7 @@ public class ClobClient {
     }
 
     public Map<String, Object> createOrder(OrderArgs orderArgs, PartialCreateOrderOptions options) {
-        assertLevel1Auth();
+        assertOrderSigner();
 
         String tickSize = resolveTickSize(
             orderArgs.tokenId(),
@@ -376,11 +455,19 @@ public class ClobClient {
         return builder.createOrder(updatedOrderArgs, createOptions);
     }
 
+    /**
+     * Order factory for one token with its market parameters pinned; see {@link MarketHandle}
+     */
+    public MarketHandle getMarketHandle(String tokenId) {
+        assertOrderSigner();
+        return new MarketHandle(tokenId, chainId, metadata, builder);
+    }
+
     public Map<String, Object> createMarketOrder(
         MarketOrderArgs orderArgs,
         PartialCreateOrderOptions options
     ) {
-        assertLevel1Auth();
+        assertOrderSigner();
 
         String tickSize = resolveTickSize(
             orderArgs.tokenId(),
@@ -426,15 +513,26 @@ public class ClobClient {
     // Continued in next part due to length...
     
     private void assertLevel1Auth() {
-        if (mode < Constants.L1) {
+        if (signer == null) {
             throw new PolyException(Constants.L1_AUTH_UNAVAILABLE);
         }
     }
 
-    private void assertLevel2Auth() {
-        if (mode < Constants.L2) {
+    private void assertOrderSigner() {
+        if (builder == null) {
+            throw new PolyException(Constants.ORDER_SIGNER_UNAVAILABLE);
+        }
+    }
+
+    /**
+     * Credentials for one Level 2 request, read once so the whole request uses the same snapshot
+     */
+    private ApiCreds level2Creds() {
+        Auth current = auth;
+        if (current.mode() < Constants.L2) {
             throw new PolyException(Constants.L2_AUTH_UNAVAILABLE);
         }
+        return current.creds();
     }
 
     public double calculateMarketPrice(String tokenId, String side, double amount, OrderType orderType) {
@@ -514,8 +612,32 @@ public class ClobClient {
         }
     }
 
+    /**
+     * Polls a single book through the detector. Returns null when the book's hash
+     * matches the last one the detector has seen for the token.
+     */
+    public OrderBookSummary getOrderBookIfChanged(String tokenId, BookChangeDetector detector) {
+        byte[] body = HttpHelpers.getBytes(
+            host + Endpoints.GET_ORDER_BOOK + "?token_id=" + tokenId, null
+        );
+        List<OrderBookSummary> changed = detector.apply(body);
+        return changed.isEmpty() ? null : changed.get(0);
+    }
+
+    /**
+     * Polls several books through the detector and returns only those whose hash changed
+     */
+    public List<OrderBookSummary> getOrderBooksIfChanged(List<BookParams> params, BookChangeDetector detector) {
+        List<Map<String, String>> body = params.stream()
+            .map(p -> Map.of("token_id", p.tokenId()))
+            .collect(Collectors.toList());
+
+        byte[] response = HttpHelpers.postBytes(host + Endpoints.GET_ORDER_BOOKS, null, body);
+        return detector.apply(response);
+    }
+
     public Object postOrder(Map<String, Object> order, OrderType orderType) {
-        assertLevel2Auth();
+        ApiCreds creds = level2Creds();
         
         Map<String, Object> body = Utilities.orderToJson(order, creds.apiKey(), orderType);
         String serialized;
@@ -531,12 +653,17 @@ public class ClobClient {
             body,
             serialized
         );
-        Map<String, String> headers = Headers.createLevel2Headers(signer, creds, requestArgs);
-        return HttpHelpers.post(host + Endpoints.POST_ORDER, headers, serialized);
+        Map<String, String> headers = Headers.createLevel2Headers(address, creds, requestArgs);
+        try {
+            return HttpHelpers.post(host + Endpoints.POST_ORDER, headers, serialized);
+        } catch (PolyApiException e) {
+            invalidateOnTickSizeRejection(order, e.getErrorMsg());
+            throw e;
+        }
     }
 
     public Object postOrders(List<PostOrdersArgs> args) {
-        assertLevel2Auth();
+        ApiCreds creds = level2Creds();
         
         List<Map<String, Object>> body = args.stream()
             .map(arg -> Utilities.orderToJson(arg.order(), creds.apiKey(), arg.orderType()))
@@ -555,12 +682,41 @@ public class ClobClient {
             body,
             serialized
         );
-        Map<String, String> headers = Headers.createLevel2Headers(signer, creds, requestArgs);
-        return HttpHelpers.post(host + Endpoints.POST_ORDERS, headers, serialized);
+        Map<String, String> headers = Headers.createLevel2Headers(address, creds, requestArgs);
+        Object response;
+        try {
+            response = HttpHelpers.post(host + Endpoints.POST_ORDERS, headers, serialized);
+        } catch (PolyApiException e) {
+            for (PostOrdersArgs arg : args) {
+                invalidateOnTickSizeRejection(arg.order(), e.getErrorMsg());
+            }
+            throw e;
+        }
+        // Batch responses report rejections per order, in request order
+        if (response instanceof List<?> results && results.size() == args.size()) {
+            for (int i = 0; i < results.size(); i++) {
+                if (results.get(i) instanceof Map<?, ?> result) {
+                    invalidateOnTickSizeRejection(args.get(i).order(), result.get("errorMsg"));
+                }
+            }
+        }
+        return response;
+    }
+
+    /**
+     * A rejection for an invalid tick size means the cached tick size is stale
+     */
+    private void invalidateOnTickSizeRejection(Map<String, Object> order, Object error) {
+        if (error == null || order == null || order.get("tokenId") == null) {
+            return;
+        }
+        if (error.toString().toLowerCase(Locale.ROOT).contains("tick size")) {
+            metadata.invalidateTickSize(order.get("tokenId").toString());
+        }
     }
 
     public Object cancel(String orderId) {
-        assertLevel2Auth();
+        ApiCreds creds = level2Creds();
         
         Map<String, Object> body = Map.of("orderID", orderId);
         String serialized;
@@ -576,12 +732,12 @@ public class ClobClient {
             body,
             serialized
         );
-        Map<String, String> headers = Headers.createLevel2Headers(signer, creds, requestArgs);
+        Map<String, String> headers = Headers.createLevel2Headers(address, creds, requestArgs);
         return HttpHelpers.delete(host + Endpoints.CANCEL, headers, serialized);
     }
 
     public Object cancelOrders(List<String> orderIds) {
-        assertLevel2Auth();
+        ApiCreds creds = level2Creds();
         
         String serialized;
         try {
@@ -596,20 +752,20 @@ public class ClobClient {
             orderIds,
             serialized
         );
-        Map<String, String> headers = Headers.createLevel2Headers(signer, creds, requestArgs);
+        Map<String, String> headers = Headers.createLevel2Headers(address, creds, requestArgs);
         return HttpHelpers.delete(host + Endpoints.CANCEL_ORDERS, headers, serialized);
     }
 
     public Object cancelAll() {
-        assertLevel2Auth();
+        ApiCreds creds = level2Creds();
         
         RequestArgs requestArgs = new RequestArgs("DELETE", Endpoints.CANCEL_ALL);
-        Map<String, String> headers = Headers.createLevel2Headers(signer, creds, requestArgs);
+        Map<String, String> headers = Headers.createLevel2Headers(address, creds, requestArgs);
         return HttpHelpers.delete(host + Endpoints.CANCEL_ALL, headers, null);
     }
 
     public Object cancelMarketOrders(String market, String assetId) {
-        assertLevel2Auth();
+        ApiCreds creds = level2Creds();
         
         Map<String, Object> body = new HashMap<>();
         if (market != null) body.put("market", market);
@@ -628,15 +784,14 @@ public class ClobClient {
             body,
             serialized
         );
-        Map<String, String> headers = Headers.createLevel2Headers(signer, creds, requestArgs);
+        Map<String, String> headers = Headers.createLevel2Headers(address, creds, requestArgs);
         return HttpHelpers.delete(host + Endpoints.CANCEL_MARKET_ORDERS, headers, serialized);
     }
 
     public List<Object> getOrders(OpenOrderParams params, String nextCursor) {
-        assertLevel2Auth();
+        ApiCreds creds = level2Creds();
         
         RequestArgs requestArgs = new RequestArgs("GET", Endpoints.ORDERS);
-        Map<String, String> headers = Headers.createLevel2Headers(signer, creds, requestArgs);
 
         List<Object> results = new ArrayList<>();
         String cursor = nextCursor != null ? nextCursor : "MA==";
@@ -646,6 +801,8 @@ public class ClobClient {
                 host + Endpoints.ORDERS, params, cursor
             );
 
+            // Signed per page so the timestamp stays fresh over long pagination runs
+            Map<String, String> headers = Headers.createLevel2Headers(address, creds, requestArgs);
             Object rawResponse = HttpHelpers.get(url, headers);
             Map<String, Object> response = parseMapResponse(rawResponse, "Failed to parse open orders response");
             cursor = (String) response.get("next_cursor");
@@ -661,19 +818,18 @@ public class ClobClient {
     }
 
     public Object getOrder(String orderId) {
-        assertLevel2Auth();
+        ApiCreds creds = level2Creds();
         
         String endpoint = Endpoints.GET_ORDER + orderId;
         RequestArgs requestArgs = new RequestArgs("GET", endpoint);
-        Map<String, String> headers = Headers.createLevel2Headers(signer, creds, requestArgs);
+        Map<String, String> headers = Headers.createLevel2Headers(address, creds, requestArgs);
         return HttpHelpers.get(host + endpoint, headers);
     }
 
     public List<Object> getTrades(TradeParams params, String nextCursor) {
-        assertLevel2Auth();
+        ApiCreds creds = level2Creds();
         
         RequestArgs requestArgs = new RequestArgs("GET", Endpoints.TRADES);
-        Map<String, String> headers = Headers.createLevel2Headers(signer, creds, requestArgs);
 
         List<Object> results = new ArrayList<>();
         String cursor = nextCursor != null ? nextCursor : "MA==";
@@ -683,6 +839,7 @@ public class ClobClient {
                 host + Endpoints.TRADES, params, cursor
             );
 
+            Map<String, String> headers = Headers.createLevel2Headers(address, creds, requestArgs);
             Object rawResponse = HttpHelpers.get(url, headers);
             Map<String, Object> response = parseMapResponse(rawResponse, "Failed to parse trades response");
             cursor = (String) response.get("next_cursor");
@@ -697,6 +854,32 @@ public class ClobClient {
         return results;
     }
 
+    /**
+     * Open orders yielded page by page as they arrive; see {@link PagedResults}
+     */
+    public PagedResults pageOrders(OpenOrderParams params, String nextCursor) {
+        ApiCreds creds = level2Creds();
+        RequestArgs requestArgs = new RequestArgs("GET", Endpoints.ORDERS);
+        return new PagedResults(cursor -> fetchPage(
+            HttpHelpers.addQueryOpenOrdersParams(host + Endpoints.ORDERS, params, cursor),
+            Headers.createLevel2Headers(address, creds, requestArgs),
+            "Failed to parse open orders response"
+        ), nextCursor);
+    }
+
+    /**
+     * Trades yielded page by page as they arrive; see {@link PagedResults}
+     */
+    public PagedResults pageTrades(TradeParams params, String nextCursor) {
+        ApiCreds creds = level2Creds();
+        RequestArgs requestArgs = new RequestArgs("GET", Endpoints.TRADES);
+        return new PagedResults(cursor -> fetchPage(
+            HttpHelpers.addQueryTradeParams(host + Endpoints.TRADES, params, cursor),
+            Headers.createLevel2Headers(address, creds, requestArgs),
+            "Failed to parse trades response"
+        ), nextCursor);
+    }
+
     public Object getLastTradePrice(String tokenId) {
         return HttpHelpers.get(
             host + Endpoints.GET_LAST_TRADE_PRICE + "?token_id=" + tokenId, null
@@ -711,19 +894,19 @@ public class ClobClient {
     }
 
     public Object getNotifications() {
-        assertLevel2Auth();
+        ApiCreds creds = level2Creds();
         
         RequestArgs requestArgs = new RequestArgs("GET", Endpoints.GET_NOTIFICATIONS);
-        Map<String, String> headers = Headers.createLevel2Headers(signer, creds, requestArgs);
-        String url = host + Endpoints.GET_NOTIFICATIONS + "?signature_type=" + builder.getSigType();
+        Map<String, String> headers = Headers.createLevel2Headers(address, creds, requestArgs);
+        String url = host + Endpoints.GET_NOTIFICATIONS + "?signature_type=" + signatureType;
         return HttpHelpers.get(url, headers);
     }
 
     public Object dropNotifications(DropNotificationParams params) {
-        assertLevel2Auth();
+        ApiCreds creds = level2Creds();
         
         RequestArgs requestArgs = new RequestArgs("DELETE", Endpoints.DROP_NOTIFICATIONS);
-        Map<String, String> headers = Headers.createLevel2Headers(signer, creds, requestArgs);
+        Map<String, String> headers = Headers.createLevel2Headers(address, creds, requestArgs);
         String url = HttpHelpers.dropNotificationsQueryParams(
             host + Endpoints.DROP_NOTIFICATIONS, params
         );
@@ -731,17 +914,17 @@ public class ClobClient {
     }
 
     public Object getBalanceAllowance(BalanceAllowanceParams params) {
-        assertLevel2Auth();
+        ApiCreds creds = level2Creds();
         
         RequestArgs requestArgs = new RequestArgs("GET", Endpoints.GET_BALANCE_ALLOWANCE);
-        Map<String, String> headers = Headers.createLevel2Headers(signer, creds, requestArgs);
+        Map<String, String> headers = Headers.createLevel2Headers(address, creds, requestArgs);
         
         BalanceAllowanceParams finalParams = params;
         if (finalParams.signatureType() == -1) {
             finalParams = new BalanceAllowanceParams(
                 finalParams.assetType(),
                 finalParams.tokenId(),
-                builder.getSigType()
+                signatureType
             );
         }
         
@@ -752,17 +935,17 @@ public class ClobClient {
     }
 
     public Object updateBalanceAllowance(BalanceAllowanceParams params) {
-        assertLevel2Auth();
+        ApiCreds creds = level2Creds();
         
         RequestArgs requestArgs = new RequestArgs("GET", Endpoints.UPDATE_BALANCE_ALLOWANCE);
-        Map<String, String> headers = Headers.createLevel2Headers(signer, creds, requestArgs);
+        Map<String, String> headers = Headers.createLevel2Headers(address, creds, requestArgs);
         
         BalanceAllowanceParams finalParams = params;
         if (finalParams.signatureType() == -1) {
             finalParams = new BalanceAllowanceParams(
                 finalParams.assetType(),
                 finalParams.tokenId(),
-                builder.getSigType()
+                signatureType
             );
         }
         
@@ -773,10 +956,10 @@ public class ClobClient {
     }
 
     public Object isOrderScoring(OrderScoringParams params) {
-        assertLevel2Auth();
+        ApiCreds creds = level2Creds();
         
         RequestArgs requestArgs = new RequestArgs("GET", Endpoints.IS_ORDER_SCORING);
-        Map<String, String> headers = Headers.createLevel2Headers(signer, creds, requestArgs);
+        Map<String, String> headers = Headers.createLevel2Headers(address, creds, requestArgs);
         String url = HttpHelpers.addOrderScoringParamsToUrl(
             host + Endpoints.IS_ORDER_SCORING, params
         );
@@ -784,7 +967,7 @@ public class ClobClient {
     }
 
     public Object areOrdersScoring(OrdersScoringParams params) {
-        assertLevel2Auth();
+        ApiCreds creds = level2Creds();
         
         String serialized;
         try {
@@ -799,7 +982,7 @@ public class ClobClient {
             params.orderIds(),
             serialized
         );
-        Map<String, String> headers = Headers.createLevel2Headers(signer, creds, requestArgs);
+        Map<String, String> headers = Headers.createLevel2Headers(address, creds, requestArgs);
         return HttpHelpers.post(host + Endpoints.ARE_ORDERS_SCORING, headers, serialized);
     }
 
@@ -829,6 +1012,39 @@ public class ClobClient {
         );
     }
 
+    public PagedResults pageSamplingMarkets(String nextCursor) {
+        return pageCatalog(Endpoints.GET_SAMPLING_MARKETS, nextCursor);
+    }
+
+    public PagedResults pageSamplingSimplifiedMarkets(String nextCursor) {
+        return pageCatalog(Endpoints.GET_SAMPLING_SIMPLIFIED_MARKETS, nextCursor);
+    }
+
+    /**
+     * The whole market catalog yielded page by page, instead of one raw page per call
+     */
+    public PagedResults pageMarkets(String nextCursor) {
+        return pageCatalog(Endpoints.GET_MARKETS, nextCursor);
+    }
+
+    public PagedResults pageSimplifiedMarkets(String nextCursor) {
+        return pageCatalog(Endpoints.GET_SIMPLIFIED_MARKETS, nextCursor);
+    }
+
+    private PagedResults pageCatalog(String endpoint, String nextCursor) {
+        return new PagedResults(cursor -> fetchPage(
+            host + endpoint + "?next_cursor=" + cursor,
+            null,
+            "Failed to parse markets response"
+        ), nextCursor);
+    }
+
+    @SuppressWarnings("unchecked")
+    private PagedResults.Page fetchPage(String url, Map<String, String> headers, String errorMessage) {
+        Map<String, Object> response = parseMapResponse(HttpHelpers.get(url, headers), errorMessage);
+        return new PagedResults.Page((List<Object>) response.get("data"), (String) response.get("next_cursor"));
+    }
+
     public Object getMarket(String conditionId) {
         return HttpHelpers.get(host + Endpoints.GET_MARKET + conditionId, null);
     }
@@ -857,5 +1073,9 @@ public class ClobClient {
     public String getOrderBookHash(OrderBookSummary orderbook) {
         return Utilities.generateOrderbookSummaryHash(orderbook);
     }
-}
 
+    /**
+     * Credentials and the authentication level they grant, published together
+     */
+    private record Auth(ApiCreds creds, int mode) {}
+}
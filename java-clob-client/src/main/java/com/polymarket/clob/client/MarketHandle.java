@@ -0,0 +1,199 @@
+package com.polymarket.clob.client;
+
+import com.polymarket.clob.config.Config;
+import com.polymarket.clob.constants.Constants;
+import com.polymarket.clob.metadata.MarketMetadataCache;
+import com.polymarket.clob.metadata.MetadataListener;
+import com.polymarket.clob.orderbuilder.OrderBuilder;
+import com.polymarket.clob.types.RoundConfig;
+import com.polymarket.clob.utilities.TokenSymbols;
+
+import java.util.Map;
+
+/**
+ * Order factory for one token, for callers that quote the same token repeatedly.
+ * <p>
+ * The handle pins the token's tick size and rounding configuration, valid price
+ * range, neg-risk flag, fee rate and exchange, so {@link #createOrder} only computes
+ * amounts and signs, reusing the token ID parsed once by {@link TokenSymbols}.
+ * Pinned values are reloaded from the client's {@link MarketMetadataCache} when the cache reports a change for the token, for
+ * example after a tick_size_change event or a post rejected for its tick size, and
+ * at least once per tick-size TTL. Obtain one through {@link ClobClient#getMarketHandle}
+ * and close it when done so it stops listening to the cache.
+ */
+public class MarketHandle implements AutoCloseable {
+    private final String tokenId;
+    private final int tokenHandle;
+    private final int chainId;
+    private final MarketMetadataCache metadata;
+    private final OrderBuilder builder;
+    private final MetadataListener listener;
+    private final long maxAgeNanos;
+
+    private volatile Pinned pinned;
+    private volatile boolean stale;
+
+    MarketHandle(String tokenId, int chainId, MarketMetadataCache metadata, OrderBuilder builder) {
+        this.tokenId = tokenId;
+        this.tokenHandle = TokenSymbols.intern(tokenId);
+        this.chainId = chainId;
+        this.metadata = metadata;
+        this.builder = builder;
+        this.maxAgeNanos = metadata.config().tickSizeTtl().toNanos();
+        this.listener = changed -> {
+            if (changed == null || changed.equals(tokenId)) {
+                stale = true;
+            }
+        };
+        // Registered before loading so a change during the load is not missed
+        metadata.addListener(listener);
+        try {
+            this.pinned = load();
+        } catch (RuntimeException e) {
+            metadata.removeListener(listener);
+            throw e;
+        }
+    }
+
+    /**
+     * Creates and signs a limit order for this token with the pinned market parameters
+     *
+     * @param price order price, validated against the pinned tick size
+     * @param size  size in conditional tokens
+     * @param side  BUY or SELL
+     */
+    public Map<String, Object> createOrder(double price, double size, String side) {
+        return createOrder(price, size, side, 0);
+    }
+
+    /**
+     * Creates and signs a limit order that expires at the given time, for GTD orders
+     *
+     * @param expiration UNIX time in seconds, or 0 for no expiration
+     */
+    public Map<String, Object> createOrder(double price, double size, String side, long expiration) {
+        return sign(prepareOrder(price, size, side, expiration));
+    }
+
+    /**
+     * First half of {@link #createOrder}: validates the price and computes the
+     * amounts, capturing the pinned parameters for {@link #sign}. Lets callers
+     * run the cheap step and the signature on different threads.
+     */
+    public Prepared prepareOrder(double price, double size, String side, long expiration) {
+        Pinned p = current();
+        if (price < p.minPrice() || price > p.maxPrice()) {
+            throw new IllegalArgumentException(
+                "price (" + price + "), min: " + p.tickSize() + " - max: " + p.maxPrice()
+            );
+        }
+        OrderBuilder.OrderResult amounts = builder.getOrderAmounts(side, size, price, p.roundConfig());
+        return new Prepared(amounts, p.feeRateBps(), p.negRisk(), expiration);
+    }
+
+    /**
+     * Second half of {@link #createOrder}: signs a prepared order
+     */
+    public Map<String, Object> sign(Prepared prepared) {
+        return builder.signOrder(
+            tokenHandle,
+            prepared.amounts(),
+            prepared.feeRateBps(),
+            0,
+            prepared.expiration(),
+            Constants.ZERO_ADDRESS,
+            prepared.negRisk()
+        );
+    }
+
+    public String tokenId() {
+        return tokenId;
+    }
+
+    /**
+     * {@link TokenSymbols} handle of the token
+     */
+    public int tokenHandle() {
+        return tokenHandle;
+    }
+
+    public String tickSize() {
+        return current().tickSize();
+    }
+
+    public boolean negRisk() {
+        return current().negRisk();
+    }
+
+    public int feeRateBps() {
+        return current().feeRateBps();
+    }
+
+    public String exchangeAddress() {
+        return current().exchangeAddress();
+    }
+
+    /**
+     * Reloads the pinned values from the metadata cache
+     */
+    public synchronized void refresh() {
+        stale = false;
+        pinned = load();
+    }
+
+    @Override
+    public void close() {
+        metadata.removeListener(listener);
+    }
+
+    private Pinned current() {
+        Pinned p = pinned;
+        if (stale || System.nanoTime() - p.loadedAtNanos() > maxAgeNanos) {
+            synchronized (this) {
+                p = pinned;
+                if (stale || System.nanoTime() - p.loadedAtNanos() > maxAgeNanos) {
+                    stale = false;
+                    p = load();
+                    pinned = p;
+                }
+            }
+        }
+        return p;
+    }
+
+    private Pinned load() {
+        String tickSize = metadata.tickSize(tokenId);
+        RoundConfig roundConfig = OrderBuilder.roundConfig(tickSize);
+        if (roundConfig == null) {
+            throw new IllegalArgumentException("unsupported tick size (" + tickSize + ") for token " + tokenId);
+        }
+        double tick = Double.parseDouble(tickSize);
+        boolean negRisk = metadata.negRisk(tokenId);
+        return new Pinned(
+            tickSize,
+            roundConfig,
+            tick,
+            1 - tick,
+            negRisk,
+            metadata.feeRateBps(tokenId),
+            Config.getContractConfig(chainId, negRisk).exchange(),
+            System.nanoTime()
+        );
+    }
+
+    /**
+     * Validated order amounts with the market parameters they were computed under
+     */
+    public record Prepared(OrderBuilder.OrderResult amounts, int feeRateBps, boolean negRisk, long expiration) {}
+
+    private record Pinned(
+        String tickSize,
+        RoundConfig roundConfig,
+        double minPrice,
+        double maxPrice,
+        boolean negRisk,
+        int feeRateBps,
+        String exchangeAddress,
+        long loadedAtNanos
+    ) {}
+}
@@ -0,0 +1,267 @@
+package com.polymarket.clob.client;
+
+import com.polymarket.clob.constants.Constants;
+import com.polymarket.clob.utilities.DaemonThreadFactory;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazily paginated results of a cursor-based endpoint.
+ * <p>
+ * Records are yielded as pages arrive instead of being collected into one list,
+ * so memory stays bounded by a page or two regardless of the result size. While
+ * a page is being consumed the next one is already being fetched in the
+ * background. Each page is a separate request made through the supplied
+ * {@link PageFetcher}, so authenticated endpoints sign fresh headers per page.
+ * Every call to {@link #iterator()}, {@link #pages()}, {@link #stream()} or
+ * {@link #publisher()} starts a new pass from the first cursor. Canceling a
+ * publisher's subscription also cancels its prefetch, interrupting the request.
+ */
+public class PagedResults implements Iterable<Object> {
+    private static final ExecutorService prefetcher =
+        Executors.newCachedThreadPool(new DaemonThreadFactory("clob-pagination"));
+
+    private final PageFetcher fetcher;
+    private final String firstCursor;
+
+    PagedResults(PageFetcher fetcher, String firstCursor) {
+        this.fetcher = fetcher;
+        this.firstCursor = firstCursor != null ? firstCursor : "MA==";
+    }
+
+    @Override
+    public Iterator<Object> iterator() {
+        return new RecordIterator(pages());
+    }
+
+    /**
+     * Iterator over whole pages, for callers that need page boundaries or cursors
+     */
+    public Iterator<Page> pages() {
+        return new PageIterator();
+    }
+
+    public Stream<Object> stream() {
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.NONNULL),
+            false
+        );
+    }
+
+    /**
+     * Publisher delivering records on the shared pagination threads, honouring subscriber demand
+     */
+    public Flow.Publisher<Object> publisher() {
+        return publisher(prefetcher);
+    }
+
+    public Flow.Publisher<Object> publisher(Executor executor) {
+        return subscriber -> {
+            PageIterator pages = new PageIterator();
+            subscriber.onSubscribe(new IteratorSubscription(subscriber, new RecordIterator(pages), pages, executor));
+        };
+    }
+
+    /**
+     * Fetches one page for a cursor
+     */
+    @FunctionalInterface
+    public interface PageFetcher {
+        Page fetch(String cursor);
+    }
+
+    /**
+     * One page of records and the cursor of the page after it
+     */
+    public record Page(List<Object> data, String nextCursor) {
+        boolean isLast() {
+            return nextCursor == null || Constants.END_CURSOR.equals(nextCursor);
+        }
+    }
+
+    private final class PageIterator implements Iterator<Page> {
+        private volatile CompletableFuture<Page> pending;
+        private volatile boolean canceled;
+
+        PageIterator() {
+            pending = fetch(firstCursor);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return pending != null;
+        }
+
+        @Override
+        public Page next() {
+            if (pending == null) {
+                throw new NoSuchElementException();
+            }
+            Page page;
+            try {
+                page = pending.join();
+            } catch (CompletionException e) {
+                pending = null;
+                throw e.getCause() instanceof RuntimeException re ? re : e;
+            }
+            // Prefetch the next page while this one is consumed
+            pending = page.isLast() ? null : fetch(page.nextCursor());
+            if (canceled) {
+                cancel();
+            }
+            return page;
+        }
+
+        /**
+         * Cancels the prefetch in progress, if any, and interrupts its request
+         */
+        void cancel() {
+            canceled = true;
+            CompletableFuture<Page> prefetch = pending;
+            if (prefetch != null) {
+                prefetch.cancel(true);
+            }
+        }
+
+        // CompletableFuture.cancel does not interrupt, so the task is canceled alongside it
+        private CompletableFuture<Page> fetch(String cursor) {
+            CompletableFuture<Page> page = new CompletableFuture<>();
+            Future<?> task = prefetcher.submit(() -> {
+                try {
+                    page.complete(fetcher.fetch(cursor));
+                } catch (Throwable e) {
+                    page.completeExceptionally(e);
+                }
+            });
+            page.whenComplete((result, e) -> {
+                if (page.isCancelled()) {
+                    task.cancel(true);
+                }
+            });
+            return page;
+        }
+    }
+
+    private static final class RecordIterator implements Iterator<Object> {
+        private final Iterator<Page> pages;
+        private Iterator<Object> current = List.of().iterator();
+
+        RecordIterator(Iterator<Page> pages) {
+            this.pages = pages;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext()) {
+                if (!pages.hasNext()) {
+                    return false;
+                }
+                Page page = pages.next();
+                current = page.data() != null ? page.data().iterator() : List.of().iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public Object next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+    }
+
+    private static final class IteratorSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super Object> subscriber;
+        private final Iterator<Object> iterator;
+        private final PageIterator pages;
+        private final Executor executor;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger pendingDrains = new AtomicInteger();
+        private final AtomicBoolean done = new AtomicBoolean();
+        // A non-positive request, signalled from the drain so it never overlaps onNext
+        private volatile Throwable invalidRequest;
+
+        IteratorSubscription(Flow.Subscriber<? super Object> subscriber, Iterator<Object> iterator,
+                             PageIterator pages, Executor executor) {
+            this.subscriber = subscriber;
+            this.iterator = iterator;
+            this.pages = pages;
+            this.executor = executor;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                if (invalidRequest == null) {
+                    invalidRequest = new IllegalArgumentException("request must be positive: " + n);
+                }
+            } else {
+                demand.accumulateAndGet(n, (a, b) -> a + b < 0 ? Long.MAX_VALUE : a + b);
+            }
+            if (pendingDrains.getAndIncrement() == 0) {
+                executor.execute(this::drain);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            done.set(true);
+            pages.cancel();
+        }
+
+        private void drain() {
+            int missed = 1;
+            while (true) {
+                if (invalidRequest != null) {
+                    if (done.compareAndSet(false, true)) {
+                        pages.cancel();
+                        subscriber.onError(invalidRequest);
+                    }
+                    return;
+                }
+                while (!done.get() && demand.get() > 0 && invalidRequest == null) {
+                    boolean more;
+                    Object next;
+                    try {
+                        more = iterator.hasNext();
+                        next = more ? iterator.next() : null;
+                    } catch (RuntimeException e) {
+                        if (done.compareAndSet(false, true)) {
+                            subscriber.onError(e);
+                        }
+                        return;
+                    }
+                    if (!more) {
+                        if (done.compareAndSet(false, true)) {
+                            subscriber.onComplete();
+                        }
+                        return;
+                    }
+                    subscriber.onNext(next);
+                    demand.decrementAndGet();
+                }
+                missed = pendingDrains.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -19,6 +19,7 @@ public final class Constants {
 
     public static final String L1_AUTH_UNAVAILABLE = "A private key is needed to interact with this endpoint!";
     public static final String L2_AUTH_UNAVAILABLE = "API Credentials are needed to interact with this endpoint!";
+    public static final String ORDER_SIGNER_UNAVAILABLE = "A private key or order signer is needed to create orders!";
     public static final String BUILDER_AUTH_UNAVAILABLE = "Builder API Credentials needed to interact with this endpoint!";
     
     public static final String ZERO_ADDRESS = "0x0000000000000000000000000000000000000000";
@@ -27,5 +28,9 @@ public final class Constants {
     public static final int POLYGON = 137;
     
     public static final String END_CURSOR = "LTE=";
+
+    // WebSocket channels
+    public static final String WS_MARKET_CHANNEL = "wss://ws-subscriptions-clob.polymarket.com/ws/market";
+    public static final String WS_USER_CHANNEL = "wss://ws-subscriptions-clob.polymarket.com/ws/user";
 }
 
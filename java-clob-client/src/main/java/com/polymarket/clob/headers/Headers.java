@@ -48,6 +48,17 @@ public final class Headers {
         Signer signer,
         ApiCreds creds,
         RequestArgs requestArgs
+    ) {
+        return createLevel2Headers(signer.address(), creds, requestArgs);
+    }
+
+    /**
+     * Creates Level 2 Poly headers for a request from the account's address, without its key
+     */
+    public static Map<String, String> createLevel2Headers(
+        String address,
+        ApiCreds creds,
+        RequestArgs requestArgs
     ) {
         long timestamp = Instant.now().getEpochSecond();
 
@@ -65,7 +76,7 @@ public final class Headers {
         );
 
         Map<String, String> headers = new HashMap<>();
-        headers.put(POLY_ADDRESS, signer.address());
+        headers.put(POLY_ADDRESS, address);
         headers.put(POLY_SIGNATURE, hmacSig);
         headers.put(POLY_TIMESTAMP, String.valueOf(timestamp));
         headers.put(POLY_API_KEY, creds.apiKey());
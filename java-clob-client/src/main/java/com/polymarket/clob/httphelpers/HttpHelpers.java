@@ -14,6 +14,7 @@ import java.net.URLEncoder;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.zip.GZIPInputStream;
@@ -26,18 +27,7 @@ public final class HttpHelpers {
     private static final HttpClient httpClient;
 
     static {
-        String socksProxyHost = System.getProperty("socksProxyHost");
-        String socksProxyPort = System.getProperty("socksProxyPort");
-        if (StringUtils.isNotEmpty(socksProxyHost) && StringUtils.isNotEmpty(socksProxyPort)) {
-            httpClient = HttpClient.newBuilder()
-                    .version(HttpClient.Version.HTTP_2)
-                    .proxy(ProxySelector.of(InetSocketAddress.createUnresolved(socksProxyHost, Integer.parseInt(socksProxyPort))))
-                    .build();
-        } else {
-            httpClient = HttpClient.newBuilder()
-                    .version(HttpClient.Version.HTTP_2)
-                    .build();
-        }
+        httpClient = newHttpClient();
     }
 
     private HttpHelpers() {
@@ -55,6 +45,60 @@ public final class HttpHelpers {
         return request(endpoint, "DELETE", headers, data);
     }
 
+    /**
+     * GET returning the undecoded response body, decompressed but not parsed
+     */
+    public static byte[] getBytes(String endpoint, Map<String, String> headers) {
+        return decodeBody(send(endpoint, "GET", headers, null));
+    }
+
+    /**
+     * POST returning the undecoded response body, decompressed but not parsed
+     */
+    public static byte[] postBytes(String endpoint, Map<String, String> headers, Object data) {
+        return decodeBody(send(endpoint, "POST", headers, data));
+    }
+
+    /**
+     * New HTTP client with its own connection pool, using the same protocol and proxy
+     * settings as the shared one. For traffic that must not queue behind other requests.
+     */
+    public static HttpClient newHttpClient() {
+        String socksProxyHost = System.getProperty("socksProxyHost");
+        String socksProxyPort = System.getProperty("socksProxyPort");
+        if (StringUtils.isNotEmpty(socksProxyHost) && StringUtils.isNotEmpty(socksProxyPort)) {
+            return HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_2)
+                    .proxy(ProxySelector.of(InetSocketAddress.createUnresolved(socksProxyHost, Integer.parseInt(socksProxyPort))))
+                    .build();
+        }
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .build();
+    }
+
+    /**
+     * Request with the standard headers and body encoding, for callers that send it themselves
+     */
+    public static HttpRequest buildRequest(String endpoint, String method, Map<String, String> headers, Object data) {
+        Map<String, String> finalHeaders = overloadHeaders(method, headers);
+
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
+            .uri(URI.create(endpoint))
+            .method(method, createBodyPublisher(data, finalHeaders));
+
+        finalHeaders.forEach(requestBuilder::header);
+        return requestBuilder.build();
+    }
+
+    /**
+     * WebSocket builder on the shared HTTP client, so sockets use the same proxy settings
+     */
+    public static WebSocket.Builder newWebSocketBuilder() {
+        return httpClient.newWebSocketBuilder()
+            .header("User-Agent", "py_clob_client");
+    }
+
     private static Map<String, String> overloadHeaders(String method, Map<String, String> headers) {
         Map<String, String> result = headers != null ? new java.util.HashMap<>(headers) : new java.util.HashMap<>();
         result.put("User-Agent", "py_clob_client");
@@ -70,16 +114,24 @@ public final class HttpHelpers {
     }
 
     private static Object request(String endpoint, String method, Map<String, String> headers, Object data) {
-        try {
-            Map<String, String> finalHeaders = overloadHeaders(method, headers);
-
-            HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
-                .uri(URI.create(endpoint))
-                .method(method, createBodyPublisher(data, finalHeaders));
+        HttpResponse<byte[]> response = send(endpoint, method, headers, data);
+        String body = new String(decodeBody(response), StandardCharsets.UTF_8);
 
-            finalHeaders.forEach(requestBuilder::header);
+        if (body.trim().isEmpty()) {
+            return body;
+        }
+        try {
+            // Try to parse as JSON
+            return objectMapper.readValue(body, Object.class);
+        } catch (Exception e) {
+            // If JSON parsing fails, return the raw string
+            return body;
+        }
+    }
 
-            HttpRequest request = requestBuilder.build();
+    private static HttpResponse<byte[]> send(String endpoint, String method, Map<String, String> headers, Object data) {
+        try {
+            HttpRequest request = buildRequest(endpoint, method, headers, data);
             // Use byte array handler to properly handle gzip compressed responses
             HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
 
@@ -87,47 +139,30 @@ public final class HttpHelpers {
                 String bodyStr = new String(response.body(), StandardCharsets.UTF_8);
                 throw new PolyApiException(response.statusCode(), bodyStr);
             }
-
-            try {
-                // Check if response is gzip compressed
-                String contentEncoding = response.headers().firstValue("Content-Encoding").orElse("");
-                byte[] bodyBytes = response.body();
-                String body;
-
-                if ("gzip".equalsIgnoreCase(contentEncoding)) {
-                    // Decompress gzip response
-                    body = decompressGzip(bodyBytes);
-                } else {
-                    // Plain text response
-                    body = new String(bodyBytes, StandardCharsets.UTF_8);
-                }
-
-                if (body == null || body.trim().isEmpty()) {
-                    return body;
-                }
-                // Try to parse as JSON
-                return objectMapper.readValue(body, Object.class);
-            } catch (Exception e) {
-                // If JSON parsing fails, return the raw string
-                String contentEncoding = response.headers().firstValue("Content-Encoding").orElse("");
-                if ("gzip".equalsIgnoreCase(contentEncoding)) {
-                    return decompressGzip(response.body());
-                } else {
-                    return new String(response.body(), StandardCharsets.UTF_8);
-                }
-            }
+            return response;
         } catch (IOException | InterruptedException e) {
             throw new PolyApiException("Request exception: " + e.getMessage());
         }
     }
 
+    /**
+     * Returns the response body bytes, decompressing gzip if the server used it
+     */
+    private static byte[] decodeBody(HttpResponse<byte[]> response) {
+        String contentEncoding = response.headers().firstValue("Content-Encoding").orElse("");
+        if ("gzip".equalsIgnoreCase(contentEncoding)) {
+            return decompressGzip(response.body());
+        }
+        return response.body();
+    }
+
     /**
      * Decompress gzip compressed data
      */
-    private static String decompressGzip(byte[] compressed) {
+    private static byte[] decompressGzip(byte[] compressed) {
         try (ByteArrayInputStream bis = new ByteArrayInputStream(compressed);
              GZIPInputStream gis = new GZIPInputStream(bis)) {
-            return new String(gis.readAllBytes(), StandardCharsets.UTF_8);
+            return gis.readAllBytes();
         } catch (IOException e) {
             throw new PolyApiException("Failed to decompress gzip response: " + e.getMessage());
         }
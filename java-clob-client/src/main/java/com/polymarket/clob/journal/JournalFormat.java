@@ -0,0 +1,184 @@
+package com.polymarket.clob.journal;
+
+import com.polymarket.clob.orderbook.OffHeapBookStore;
+import com.polymarket.clob.types.LastTrade;
+import com.polymarket.clob.types.OrderBookSummary;
+import com.polymarket.clob.types.OrderSummary;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary layout of market-data journal files.
+ * <p>
+ * A file starts with a 16-byte header (magic, version, first sequence) followed by
+ * records. Each record has a 24-byte header
+ * <pre>
+ *   int   length      total record length including this header, 8-byte aligned
+ *   short type        BOOK, TRADE or MARKET_EVENTS
+ *   short reserved
+ *   long  sequence
+ *   long  timestamp   epoch nanoseconds at which the observation was recorded
+ * </pre>
+ * followed by the body. A length of 0 marks the end of written data and
+ * {@link #END_OF_FILE} means the writer rolled to the next file.
+ * All values are little-endian; prices and sizes are fixed-point longs scaled by
+ * {@link OffHeapBookStore#SCALE}.
+ */
+public final class JournalFormat {
+    private JournalFormat() {}
+
+    public static final int MAGIC = 0x4A524E4C;  // "JRNL"
+    public static final int VERSION = 1;
+    public static final int FILE_HEADER_LENGTH = 16;
+    public static final int RECORD_HEADER_LENGTH = 24;
+    public static final int END_OF_FILE = -1;
+    public static final String FILE_SUFFIX = ".journal";
+
+    public static final short BOOK = 1;
+    public static final short TRADE = 2;
+    public static final short MARKET_EVENTS = 3;
+
+    private static final short NULL_STRING = -1;
+
+    static String fileName(long firstSequence) {
+        return String.format("%020d%s", firstSequence, FILE_SUFFIX);
+    }
+
+    static int align(int length) {
+        return (length + 7) & ~7;
+    }
+
+    static void writeBook(ByteBuffer buffer, OrderBookSummary book) {
+        writeString(buffer, book.market());
+        writeString(buffer, book.assetId());
+        writeString(buffer, book.timestamp());
+        writeString(buffer, book.hash());
+        writeString(buffer, book.minOrderSize());
+        writeString(buffer, book.tickSize());
+        buffer.put(book.negRisk() == null ? (byte) 2 : (byte) (book.negRisk() ? 1 : 0));
+        writeLevels(buffer, book.bids());
+        writeLevels(buffer, book.asks());
+    }
+
+    static void writeTrade(ByteBuffer buffer, LastTrade trade) {
+        writeString(buffer, trade.market());
+        writeString(buffer, trade.assetId());
+        writeString(buffer, trade.price());
+        writeString(buffer, trade.size());
+        writeString(buffer, trade.side());
+        writeString(buffer, trade.feeRateBps());
+        writeString(buffer, trade.timestamp());
+    }
+
+    static void writeMarketEvents(ByteBuffer buffer, String conditionId, byte[] json) {
+        writeString(buffer, conditionId);
+        buffer.putInt(json.length);
+        buffer.put(json);
+    }
+
+    /**
+     * Decodes a BOOK body starting at the buffer's position
+     */
+    public static OrderBookSummary readBook(ByteBuffer buffer) {
+        String market = readString(buffer);
+        String assetId = readString(buffer);
+        String timestamp = readString(buffer);
+        String hash = readString(buffer);
+        String minOrderSize = readString(buffer);
+        String tickSize = readString(buffer);
+        byte negRisk = buffer.get();
+        List<OrderSummary> bids = readLevels(buffer);
+        List<OrderSummary> asks = readLevels(buffer);
+        return new OrderBookSummary(
+            market,
+            assetId,
+            timestamp,
+            bids,
+            asks,
+            minOrderSize,
+            negRisk == 2 ? null : negRisk == 1,
+            tickSize,
+            hash
+        );
+    }
+
+    /**
+     * Decodes a TRADE body starting at the buffer's position
+     */
+    public static LastTrade readTrade(ByteBuffer buffer) {
+        return new LastTrade(
+            readString(buffer),
+            readString(buffer),
+            readString(buffer),
+            readString(buffer),
+            readString(buffer),
+            readString(buffer),
+            readString(buffer)
+        );
+    }
+
+    /**
+     * Decodes the condition ID of a MARKET_EVENTS body and leaves the buffer on the JSON length
+     */
+    public static String readMarketEventsConditionId(ByteBuffer buffer) {
+        return readString(buffer);
+    }
+
+    public static byte[] readMarketEventsJson(ByteBuffer buffer) {
+        byte[] json = new byte[buffer.getInt()];
+        buffer.get(json);
+        return json;
+    }
+
+    private static void writeLevels(ByteBuffer buffer, List<OrderSummary> levels) {
+        int count = levels == null ? 0 : levels.size();
+        buffer.putInt(count);
+        for (int i = 0; i < count; i++) {
+            OrderSummary level = levels.get(i);
+            buffer.putLong(OffHeapBookStore.parseFixed(level.price()));
+            buffer.putLong(OffHeapBookStore.parseFixed(level.size()));
+        }
+    }
+
+    private static List<OrderSummary> readLevels(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        List<OrderSummary> levels = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long price = buffer.getLong();
+            long size = buffer.getLong();
+            levels.add(new OrderSummary(fixedToString(price), fixedToString(size)));
+        }
+        return levels;
+    }
+
+    private static String fixedToString(long fixed) {
+        return BigDecimal.valueOf(fixed, 6).stripTrailingZeros().toPlainString();
+    }
+
+    private static void writeString(ByteBuffer buffer, String value) {
+        if (value == null) {
+            buffer.putShort(NULL_STRING);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("String too long for journal: " + bytes.length + " bytes");
+        }
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        short length = buffer.getShort();
+        if (length == NULL_STRING) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
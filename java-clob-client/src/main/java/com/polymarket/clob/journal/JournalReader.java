@@ -0,0 +1,218 @@
+package com.polymarket.clob.journal;
+
+import com.polymarket.clob.types.LastTrade;
+import com.polymarket.clob.types.OrderBookSummary;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Cursor over the records of a journal directory written by {@link JournalWriter}.
+ * <p>
+ * Files are mapped read-only one at a time and records are read in place: moving
+ * the cursor and reading the header fields allocates nothing, and {@link #body()}
+ * is the mapped buffer itself, positioned on the record body. Decoding into
+ * {@link OrderBookSummary} or {@link LastTrade} is only done on request.
+ * <p>
+ * When the cursor reaches the end of the written data, {@link #next()} returns
+ * false; calling it again later picks up records appended since, so the reader
+ * can also tail a live journal.
+ */
+public class JournalReader implements AutoCloseable {
+    private final Path directory;
+    private final List<Path> files = new ArrayList<>();
+
+    private int fileIndex = -1;
+    private Arena fileArena;
+    private ByteBuffer buffer;
+    private long fileFirstSequence;
+
+    private int recordStart = -1;
+    private int recordLength;
+
+    public JournalReader(Path directory) {
+        this.directory = directory;
+        refreshFiles();
+    }
+
+    /**
+     * Advances to the next record. Returns false at the end of the written data.
+     */
+    public boolean next() {
+        if (buffer == null && !openFile(0)) {
+            return false;
+        }
+        while (true) {
+            buffer.limit(buffer.capacity());
+            int position = recordStart < 0 ? JournalFormat.FILE_HEADER_LENGTH : recordStart + recordLength;
+            if (position + Integer.BYTES <= buffer.capacity()) {
+                int length = buffer.getInt(position);
+                VarHandle.acquireFence();
+                if (length > 0) {
+                    recordStart = position;
+                    recordLength = length;
+                    buffer.limit(position + length);
+                    buffer.position(position + JournalFormat.RECORD_HEADER_LENGTH);
+                    return true;
+                }
+            }
+            // End-of-file marker, no room left for one, or end of data in a file that a
+            // restarted writer left behind: continue in the next file if there is one
+            if (fileIndex + 1 >= files.size()) {
+                refreshFiles();
+            }
+            if (!openFile(fileIndex + 1)) {
+                return false;
+            }
+        }
+    }
+
+    public short type() {
+        return buffer.getShort(recordStart + 4);
+    }
+
+    public long sequence() {
+        return buffer.getLong(recordStart + 8);
+    }
+
+    public long timestampNanos() {
+        return buffer.getLong(recordStart + 16);
+    }
+
+    public int bodyLength() {
+        return recordLength - JournalFormat.RECORD_HEADER_LENGTH;
+    }
+
+    /**
+     * The mapped file buffer positioned on the current record's body, limited to the record.
+     * Valid until the cursor moves.
+     */
+    public ByteBuffer body() {
+        buffer.limit(recordStart + recordLength);
+        buffer.position(recordStart + JournalFormat.RECORD_HEADER_LENGTH);
+        return buffer;
+    }
+
+    public OrderBookSummary readBook() {
+        checkType(JournalFormat.BOOK);
+        return JournalFormat.readBook(body());
+    }
+
+    public LastTrade readTrade() {
+        checkType(JournalFormat.TRADE);
+        return JournalFormat.readTrade(body());
+    }
+
+    /**
+     * Current position as (file index, byte offset of the current record); see {@link #seek}
+     */
+    public int fileIndex() {
+        return fileIndex;
+    }
+
+    public int recordOffset() {
+        return recordStart;
+    }
+
+    public long fileFirstSequence() {
+        return fileFirstSequence;
+    }
+
+    public int fileCount() {
+        return files.size();
+    }
+
+    /**
+     * Positions the cursor so that the next call to {@link #next()} returns the record
+     * at the given file index and byte offset, as previously reported by
+     * {@link #fileIndex()} and {@link #recordOffset()}.
+     */
+    public void seek(int fileIndex, int recordOffset) {
+        if (!openFile(fileIndex)) {
+            throw new IllegalArgumentException("No journal file at index " + fileIndex);
+        }
+        if (recordOffset > JournalFormat.FILE_HEADER_LENGTH) {
+            recordStart = recordOffset;
+            recordLength = 0;
+        }
+    }
+
+    /**
+     * Positions the cursor before the first record of the last file. Returns false if there are no files.
+     */
+    public boolean seekToLastFile() {
+        return !files.isEmpty() && openFile(files.size() - 1);
+    }
+
+    @Override
+    public void close() {
+        closeFile();
+    }
+
+    private boolean openFile(int index) {
+        if (index >= files.size()) {
+            return false;
+        }
+        closeFile();
+        Path file = files.get(index);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            fileArena = Arena.ofShared();
+            MemorySegment mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), fileArena);
+            buffer = mapped.asByteBuffer().order(ByteOrder.LITTLE_ENDIAN);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to map journal file " + file, e);
+        }
+        if (buffer.capacity() < JournalFormat.FILE_HEADER_LENGTH || buffer.getInt(0) != JournalFormat.MAGIC) {
+            throw new IllegalStateException("Not a journal file: " + file);
+        }
+        if (buffer.getInt(4) != JournalFormat.VERSION) {
+            throw new IllegalStateException("Unsupported journal version " + buffer.getInt(4) + " in " + file);
+        }
+        fileFirstSequence = buffer.getLong(8);
+        fileIndex = index;
+        recordStart = -1;
+        recordLength = 0;
+        return true;
+    }
+
+    private void closeFile() {
+        if (fileArena != null) {
+            fileArena.close();
+            fileArena = null;
+            buffer = null;
+        }
+    }
+
+    private void refreshFiles() {
+        files.clear();
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> listing = Files.list(directory)) {
+            listing
+                .filter(p -> p.getFileName().toString().endsWith(JournalFormat.FILE_SUFFIX))
+                .sorted()
+                .forEach(files::add);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list journal directory " + directory, e);
+        }
+    }
+
+    private void checkType(short expected) {
+        if (type() != expected) {
+            throw new IllegalStateException("Current record has type " + type() + ", expected " + expected);
+        }
+    }
+}
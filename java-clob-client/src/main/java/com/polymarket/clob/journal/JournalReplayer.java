@@ -0,0 +1,230 @@
+package com.polymarket.clob.journal;
+
+import com.polymarket.clob.orderbook.BookListener;
+import com.polymarket.clob.orderbook.TradeListener;
+import com.polymarket.clob.types.LastTrade;
+import com.polymarket.clob.types.OrderBookSummary;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays a journal written by {@link JournalWriter} into the same
+ * {@link BookListener} and {@link TradeListener} interfaces that
+ * {@link com.polymarket.clob.orderbook.BookPoller} and the WebSocket clients feed,
+ * so book-driven code can be run offline.
+ * <p>
+ * Records are read in place from the mapped files and only decoded when a
+ * listener for their type is registered. Replay runs on the calling thread, at
+ * the recorded pace scaled by a speed factor or as fast as possible with
+ * {@link #MAX_SPEED}. A sparse time index, built on the first seek, maps
+ * timestamps to file positions so replay can start anywhere in the journal
+ * without scanning it from the beginning.
+ */
+public class JournalReplayer implements AutoCloseable {
+    public static final double REAL_TIME = 1.0;
+    public static final double MAX_SPEED = Double.POSITIVE_INFINITY;
+
+    // One index entry every INDEX_INTERVAL records, plus the first record of every file
+    private static final int INDEX_INTERVAL = 4096;
+
+    private final JournalReader reader;
+    private final List<BookListener> bookListeners = new CopyOnWriteArrayList<>();
+    private final List<TradeListener> tradeListeners = new CopyOnWriteArrayList<>();
+    private volatile boolean stopped;
+
+    private long[] indexTimestamps;
+    private int[] indexFiles;
+    private int[] indexOffsets;
+    private int indexSize;
+
+    private long replayed;
+    private long skipped;
+    private long maxLagNanos;
+
+    public JournalReplayer(Path directory) {
+        this.reader = new JournalReader(directory);
+    }
+
+    public void addListener(BookListener listener) {
+        bookListeners.add(listener);
+    }
+
+    public void removeListener(BookListener listener) {
+        bookListeners.remove(listener);
+    }
+
+    public void addTradeListener(TradeListener listener) {
+        tradeListeners.add(listener);
+    }
+
+    public void removeTradeListener(TradeListener listener) {
+        tradeListeners.remove(listener);
+    }
+
+    /**
+     * Replays the whole journal as fast as possible. Returns the number of records delivered.
+     */
+    public long replay() {
+        return replay(Long.MIN_VALUE, Long.MAX_VALUE, MAX_SPEED);
+    }
+
+    /**
+     * Replays records with timestamps in {@code [fromNanos, toNanos)}.
+     *
+     * @param fromNanos first timestamp to replay, in epoch nanoseconds
+     * @param toNanos   timestamp at which to stop, in epoch nanoseconds
+     * @param speed     multiple of the recorded pace, {@link #REAL_TIME} for wall-clock
+     *                  speed or {@link #MAX_SPEED} for no pacing
+     * @return the number of records delivered to listeners
+     */
+    public long replay(long fromNanos, long toNanos, double speed) {
+        if (!(speed > 0)) {
+            throw new IllegalArgumentException("speed must be positive: " + speed);
+        }
+        stopped = false;
+        seek(fromNanos);
+
+        boolean paced = speed != MAX_SPEED;
+        long firstTimestamp = Long.MIN_VALUE;
+        long startNanos = 0;
+        long delivered = 0;
+
+        while (!stopped && reader.next()) {
+            long timestamp = reader.timestampNanos();
+            if (timestamp < fromNanos) {
+                continue;
+            }
+            if (timestamp >= toNanos) {
+                break;
+            }
+            if (paced) {
+                if (firstTimestamp == Long.MIN_VALUE) {
+                    firstTimestamp = timestamp;
+                    startNanos = System.nanoTime();
+                }
+                long due = startNanos + (long) ((timestamp - firstTimestamp) / speed);
+                long wait = due - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                } else {
+                    maxLagNanos = Math.max(maxLagNanos, -wait);
+                }
+            }
+            if (deliver()) {
+                delivered++;
+            } else {
+                skipped++;
+            }
+        }
+        replayed += delivered;
+        return delivered;
+    }
+
+    /**
+     * Stops a replay running on another thread after the current record
+     */
+    public void stop() {
+        stopped = true;
+    }
+
+    /**
+     * Timestamp of the first record in the journal, or -1 if it is empty
+     */
+    public long firstTimestamp() {
+        buildIndex();
+        return indexSize == 0 ? -1 : indexTimestamps[0];
+    }
+
+    public Stats stats() {
+        return new Stats(replayed, skipped, maxLagNanos, indexSize);
+    }
+
+    @Override
+    public void close() {
+        stopped = true;
+        reader.close();
+    }
+
+    private boolean deliver() {
+        short type = reader.type();
+        if (type == JournalFormat.BOOK && !bookListeners.isEmpty()) {
+            OrderBookSummary book = reader.readBook();
+            for (BookListener listener : bookListeners) {
+                listener.onBook(book);
+            }
+            return true;
+        }
+        if (type == JournalFormat.TRADE && !tradeListeners.isEmpty()) {
+            LastTrade trade = reader.readTrade();
+            for (TradeListener listener : tradeListeners) {
+                listener.onTrade(trade);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Positions the reader at or before the first record with a timestamp of at least {@code nanos}
+     */
+    private void seek(long nanos) {
+        buildIndex();
+        if (indexSize == 0) {
+            return;
+        }
+        int lo = 0;
+        int hi = indexSize - 1;
+        int found = 0;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (indexTimestamps[mid] < nanos) {
+                found = mid;
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        reader.seek(indexFiles[found], indexOffsets[found]);
+    }
+
+    private void buildIndex() {
+        if (indexTimestamps != null) {
+            return;
+        }
+        indexTimestamps = new long[64];
+        indexFiles = new int[64];
+        indexOffsets = new int[64];
+
+        int lastFile = -1;
+        long count = 0;
+        while (reader.next()) {
+            if (reader.fileIndex() != lastFile || count % INDEX_INTERVAL == 0) {
+                addIndexEntry(reader.timestampNanos(), reader.fileIndex(), reader.recordOffset());
+                lastFile = reader.fileIndex();
+            }
+            count++;
+        }
+    }
+
+    private void addIndexEntry(long timestamp, int file, int offset) {
+        if (indexSize == indexTimestamps.length) {
+            int capacity = indexSize * 2;
+            indexTimestamps = Arrays.copyOf(indexTimestamps, capacity);
+            indexFiles = Arrays.copyOf(indexFiles, capacity);
+            indexOffsets = Arrays.copyOf(indexOffsets, capacity);
+        }
+        indexTimestamps[indexSize] = timestamp;
+        indexFiles[indexSize] = file;
+        indexOffsets[indexSize] = offset;
+        indexSize++;
+    }
+
+    /**
+     * Snapshot of replay counters. {@code maxLagNanos} is how far behind schedule a paced replay fell.
+     */
+    public record Stats(long replayed, long skipped, long maxLagNanos, int indexEntries) {}
+}
@@ -0,0 +1,320 @@
+package com.polymarket.clob.journal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.polymarket.clob.orderbook.BookListener;
+import com.polymarket.clob.orderbook.TradeListener;
+import com.polymarket.clob.types.LastTrade;
+import com.polymarket.clob.types.OrderBookSummary;
+import com.polymarket.clob.utilities.DaemonThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.invoke.VarHandle;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Append-only market-data journal over rolling memory-mapped files.
+ * <p>
+ * Producers (pollers, WebSocket clients, or direct calls) only timestamp the
+ * observation and offer it to a lock-free queue, so recording never blocks the
+ * polling path; when the queue is full the observation is dropped and counted.
+ * A single writer thread drains the queue, assigns sequence numbers and encodes
+ * records straight into the mapped file, rolling to a new file when the current
+ * one is full. See {@link JournalFormat} for the layout and {@link JournalReader}
+ * for reading it back.
+ */
+public class JournalWriter implements BookListener, TradeListener, AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(JournalWriter.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    public static final long DEFAULT_FILE_SIZE = 256L * 1024 * 1024;
+    public static final int DEFAULT_QUEUE_CAPACITY = 1 << 20;
+
+    // Wall-clock nanoseconds derived from nanoTime, so timestamps are monotonic and allocation-free
+    private static final long EPOCH_NANOS_OFFSET = System.currentTimeMillis() * 1_000_000L - System.nanoTime();
+
+    private final Path directory;
+    private final long fileSize;
+    private final int queueCapacity;
+
+    private final Queue<Entry> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Thread writerThread;
+    private volatile boolean running = true;
+
+    // Writer-thread state
+    private long nextSequence;
+    private Arena fileArena;
+    private MemorySegment mapped;
+    private ByteBuffer out;
+    private ByteBuffer scratch = ByteBuffer.allocate(64 * 1024).order(ByteOrder.LITTLE_ENDIAN);
+
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder bytesWritten = new LongAdder();
+    private final LongAdder files = new LongAdder();
+
+    public JournalWriter(Path directory) {
+        this(directory, DEFAULT_FILE_SIZE, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public JournalWriter(Path directory, long fileSize, int queueCapacity) {
+        if (fileSize <= JournalFormat.FILE_HEADER_LENGTH + JournalFormat.RECORD_HEADER_LENGTH
+                || fileSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("fileSize out of range: " + fileSize);
+        }
+        this.directory = directory;
+        this.fileSize = fileSize;
+        this.queueCapacity = queueCapacity;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create journal directory " + directory, e);
+        }
+        this.nextSequence = lastSequence(directory) + 1;
+        openFile();
+
+        this.writerThread = new DaemonThreadFactory("journal-writer").newThread(this::run);
+        this.writerThread.start();
+    }
+
+    /**
+     * Current time in epoch nanoseconds, on the same clock as record timestamps
+     */
+    public static long epochNanos() {
+        return EPOCH_NANOS_OFFSET + System.nanoTime();
+    }
+
+    @Override
+    public void onBook(OrderBookSummary book) {
+        offer(new Entry(JournalFormat.BOOK, epochNanos(), book));
+    }
+
+    @Override
+    public void onTrade(LastTrade trade) {
+        offer(new Entry(JournalFormat.TRADE, epochNanos(), trade));
+    }
+
+    /**
+     * Records a {@code getLastTradePrice} response for the token
+     */
+    @SuppressWarnings("unchecked")
+    public void recordLastTradePrice(String tokenId, Object response) {
+        if (!(response instanceof Map)) {
+            return;
+        }
+        Map<String, Object> raw = (Map<String, Object>) response;
+        onTrade(new LastTrade(
+            null,
+            tokenId,
+            raw.get("price") != null ? raw.get("price").toString() : null,
+            raw.get("size") != null ? raw.get("size").toString() : null,
+            raw.get("side") != null ? raw.get("side").toString() : null,
+            null,
+            null
+        ));
+    }
+
+    /**
+     * Records a {@code getMarketTradesEvents} response; it is serialized on the writer thread
+     */
+    public void recordMarketTradesEvents(String conditionId, Object response) {
+        offer(new Entry(JournalFormat.MARKET_EVENTS, epochNanos(), new MarketEvents(conditionId, response)));
+    }
+
+    public Stats stats() {
+        return new Stats(written.sum(), dropped.sum(), bytesWritten.sum(), files.sum(), queued.get());
+    }
+
+    /**
+     * Drains the queue, flushes the current file and stops the writer thread
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        closeFile();
+    }
+
+    /**
+     * Queues the entry, or counts it as dropped when the queue is full or the writer is closed.
+     * An entry counted in {@code queued} before close() stopped the writer is always drained:
+     * the writer exits only once {@code queued} is zero after {@code running} went false, and
+     * an offer that increments {@code queued} after that point sees {@code running} false.
+     */
+    private void offer(Entry entry) {
+        if (!running) {
+            dropped.increment();
+            return;
+        }
+        if (queued.incrementAndGet() > queueCapacity || !running) {
+            queued.decrementAndGet();
+            dropped.increment();
+            return;
+        }
+        queue.offer(entry);
+    }
+
+    private void run() {
+        int idle = 0;
+        while (true) {
+            Entry entry = queue.poll();
+            if (entry == null) {
+                // queued also counts offers that passed the running check but are not in the queue yet
+                if (!running && queued.get() == 0) {
+                    return;
+                }
+                if (++idle < 1000) {
+                    Thread.onSpinWait();
+                } else {
+                    LockSupport.parkNanos(50_000);
+                }
+                continue;
+            }
+            idle = 0;
+            queued.decrementAndGet();
+            try {
+                write(entry);
+            } catch (RuntimeException e) {
+                dropped.increment();
+                log.warn("Failed to journal record of type {}", entry.type(), e);
+            }
+        }
+    }
+
+    private void write(Entry entry) {
+        encodeBody(entry);
+        int length = JournalFormat.align(JournalFormat.RECORD_HEADER_LENGTH + scratch.position());
+        if (length > fileSize - JournalFormat.FILE_HEADER_LENGTH) {
+            throw new IllegalArgumentException("Record of " + length + " bytes exceeds journal file size");
+        }
+        if (out.remaining() < length + Integer.BYTES) {
+            roll();
+        }
+
+        int start = out.position();
+        out.putInt(start, 0);
+        out.putShort(start + 4, entry.type());
+        out.putShort(start + 6, (short) 0);
+        out.putLong(start + 8, nextSequence);
+        out.putLong(start + 16, entry.timestampNanos());
+        out.put(start + JournalFormat.RECORD_HEADER_LENGTH, scratch, 0, scratch.position());
+        // Publish the length last so a concurrent reader never sees a partial record
+        VarHandle.releaseFence();
+        out.putInt(start, length);
+        out.position(start + length);
+
+        nextSequence++;
+        written.increment();
+        bytesWritten.add(length);
+    }
+
+    private void encodeBody(Entry entry) {
+        while (true) {
+            scratch.clear();
+            try {
+                switch (entry.type()) {
+                    case JournalFormat.BOOK -> JournalFormat.writeBook(scratch, (OrderBookSummary) entry.payload());
+                    case JournalFormat.TRADE -> JournalFormat.writeTrade(scratch, (LastTrade) entry.payload());
+                    case JournalFormat.MARKET_EVENTS -> {
+                        MarketEvents events = (MarketEvents) entry.payload();
+                        JournalFormat.writeMarketEvents(scratch, events.conditionId(), toJson(events.response()));
+                    }
+                    default -> throw new IllegalArgumentException("Unknown journal record type " + entry.type());
+                }
+                return;
+            } catch (BufferOverflowException e) {
+                scratch = ByteBuffer.allocate(scratch.capacity() * 2).order(ByteOrder.LITTLE_ENDIAN);
+            }
+        }
+    }
+
+    private void roll() {
+        out.putInt(out.position(), JournalFormat.END_OF_FILE);
+        closeFile();
+        openFile();
+    }
+
+    private void openFile() {
+        Path file = directory.resolve(JournalFormat.fileName(nextSequence));
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            fileArena = Arena.ofShared();
+            mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize, fileArena);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create journal file " + file, e);
+        }
+        out = mapped.asByteBuffer().order(ByteOrder.LITTLE_ENDIAN);
+        out.putInt(JournalFormat.MAGIC);
+        out.putInt(JournalFormat.VERSION);
+        out.putLong(nextSequence);
+        files.increment();
+    }
+
+    private void closeFile() {
+        if (fileArena == null) {
+            return;
+        }
+        mapped.force();
+        fileArena.close();
+        fileArena = null;
+        mapped = null;
+        out = null;
+    }
+
+    private static byte[] toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to serialize market events", e);
+        }
+    }
+
+    /**
+     * Last sequence number already in the directory, or -1 if it has no records.
+     * A trailing file without records is reused, since its name is the next sequence.
+     */
+    private static long lastSequence(Path directory) {
+        try (JournalReader reader = new JournalReader(directory)) {
+            if (!reader.seekToLastFile()) {
+                return -1;
+            }
+            long last = reader.fileFirstSequence() - 1;
+            while (reader.next()) {
+                last = reader.sequence();
+            }
+            return last;
+        }
+    }
+
+    private record Entry(short type, long timestampNanos, Object payload) {}
+
+    private record MarketEvents(String conditionId, Object response) {}
+
+    /**
+     * Snapshot of journal writer counters
+     */
+    public record Stats(long written, long dropped, long bytesWritten, long files, int queued) {}
+}
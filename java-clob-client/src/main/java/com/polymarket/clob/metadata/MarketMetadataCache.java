@@ -0,0 +1,509 @@
+package com.polymarket.clob.metadata;
+
+import com.polymarket.clob.constants.Constants;
+import com.polymarket.clob.constants.Endpoints;
+import com.polymarket.clob.exceptions.PolyApiException;
+import com.polymarket.clob.httphelpers.HttpHelpers;
+import com.polymarket.clob.utilities.DaemonThreadFactory;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Thread-safe cache of per-token market metadata: tick size, neg-risk flag and fee rate.
+ * <p>
+ * Each field has its own TTL, since tick sizes change as prices approach the
+ * extremes while neg-risk flags never do. Tokens the server does not know are
+ * cached as unknown for a shorter TTL so repeated lookups do not each cost a
+ * round trip. Concurrent misses for the same token share one load.
+ * {@link #warmUp()} fills tick sizes and neg-risk flags for the whole
+ * catalog from the paginated /markets endpoint. Listeners are told when a
+ * cached value changes or is invalidated. The cache is not tied to a client,
+ * so clients for the same host can share one.
+ * <p>
+ * Values restored from a {@link MetadataSnapshot} are served even after they
+ * expire: the first lookup of an expired restored value returns it and reloads
+ * it in the background (stale-while-revalidate), so a restart never waits on
+ * metadata the previous process already had.
+ */
+public class MarketMetadataCache {
+    private final String host;
+    private final MetadataCacheConfig config;
+
+    private final Field<String> tickSizes;
+    private final Field<Boolean> negRisk;
+    private final Field<Integer> feeRates;
+
+    private final List<MetadataListener> listeners = new CopyOnWriteArrayList<>();
+    private final LongAdder warmedTokens = new LongAdder();
+    // Background reloads of stale restored values; its one thread exits when idle
+    private final ThreadPoolExecutor revalidator;
+
+    public MarketMetadataCache(String host) {
+        this(host, new MetadataCacheConfig());
+    }
+
+    public MarketMetadataCache(String host, MetadataCacheConfig config) {
+        this.host = host.endsWith("/") ? host.substring(0, host.length() - 1) : host;
+        this.config = config;
+        this.tickSizes = new Field<>(config.tickSizeTtl(), this::fetchTickSize);
+        this.negRisk = new Field<>(config.negRiskTtl(), this::fetchNegRisk);
+        this.feeRates = new Field<>(config.feeRateTtl(), this::fetchFeeRate);
+        this.revalidator = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+            new DaemonThreadFactory("metadata-revalidate"));
+        this.revalidator.allowCoreThreadTimeOut(true);
+    }
+
+    public void addListener(MetadataListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(MetadataListener listener) {
+        listeners.remove(listener);
+    }
+
+    public String tickSize(String tokenId) {
+        return tickSizes.get(tokenId);
+    }
+
+    public boolean negRisk(String tokenId) {
+        return negRisk.get(tokenId);
+    }
+
+    public int feeRateBps(String tokenId) {
+        return feeRates.get(tokenId);
+    }
+
+    /**
+     * Stores a tick size learned elsewhere, e.g. from a market channel tick_size_change event
+     */
+    public void putTickSize(String tokenId, String tickSize) {
+        tickSizes.put(tokenId, tickSize);
+    }
+
+    public void putNegRisk(String tokenId, boolean value) {
+        negRisk.put(tokenId, value);
+    }
+
+    public void putFeeRateBps(String tokenId, int feeRateBps) {
+        feeRates.put(tokenId, feeRateBps);
+    }
+
+    /**
+     * Drops the cached tick size so the next lookup reloads it
+     */
+    public void invalidateTickSize(String tokenId) {
+        tickSizes.invalidate(tokenId);
+    }
+
+    public void invalidate(String tokenId) {
+        tickSizes.invalidate(tokenId);
+        negRisk.invalidate(tokenId);
+        feeRates.invalidate(tokenId);
+    }
+
+    public void invalidateAll() {
+        tickSizes.clear();
+        negRisk.clear();
+        feeRates.clear();
+        notifyChange(null);
+    }
+
+    /**
+     * Loads tick sizes and neg-risk flags for every token in the /markets catalog.
+     * Fee rates are not part of the catalog and are still loaded per token.
+     * Returns the number of tokens cached.
+     */
+    @SuppressWarnings("unchecked")
+    public int warmUp() {
+        int tokens = 0;
+        String cursor = "MA==";
+        while (!Constants.END_CURSOR.equals(cursor)) {
+            Object raw = HttpHelpers.get(host + Endpoints.GET_MARKETS + "?next_cursor=" + cursor, null);
+            if (!(raw instanceof Map)) {
+                throw new PolyApiException("Unexpected markets response: " + raw);
+            }
+            Map<String, Object> page = (Map<String, Object>) raw;
+            cursor = (String) page.get("next_cursor");
+            List<Object> data = (List<Object>) page.get("data");
+            if (data == null) {
+                break;
+            }
+            for (Object item : data) {
+                if (item instanceof Map) {
+                    tokens += warm((Map<String, Object>) item);
+                }
+            }
+            if (cursor == null) {
+                break;
+            }
+        }
+        warmedTokens.add(tokens);
+        return tokens;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int warm(Map<String, Object> market) {
+        Object tokens = market.get("tokens");
+        if (!(tokens instanceof List)) {
+            return 0;
+        }
+        Object tickSize = market.get("minimum_tick_size");
+        Object negRiskValue = market.get("neg_risk");
+        int count = 0;
+        for (Object token : (List<Object>) tokens) {
+            if (!(token instanceof Map)) {
+                continue;
+            }
+            Object tokenId = ((Map<String, Object>) token).get("token_id");
+            if (tokenId == null || tokenId.toString().isEmpty()) {
+                continue;
+            }
+            if (tickSize != null) {
+                tickSizes.put(tokenId.toString(), toTickSize(tickSize));
+            }
+            if (negRiskValue instanceof Boolean) {
+                negRisk.put(tokenId.toString(), (Boolean) negRiskValue);
+            }
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Reloads every cached field of the token from the server, bypassing the TTL
+     */
+    public void refresh(String tokenId) {
+        tickSizes.reload(tokenId);
+        negRisk.reload(tokenId);
+        feeRates.reload(tokenId);
+    }
+
+    // Known values with their expiry, expired ones included, for snapshotting; see MetadataSnapshot
+    Map<String, Saved<String>> tickSizeValues() {
+        return tickSizes.values();
+    }
+
+    Map<String, Saved<Boolean>> negRiskValues() {
+        return negRisk.values();
+    }
+
+    Map<String, Saved<Integer>> feeRateValues() {
+        return feeRates.values();
+    }
+
+    // Restores a snapshotted value with its original expiry; once expired it is served stale and revalidated
+    void restoreTickSize(String tokenId, String tickSize, long expiresAtMillis) {
+        tickSizes.restore(tokenId, tickSize, expiresAtMillis);
+    }
+
+    void restoreNegRisk(String tokenId, boolean value, long expiresAtMillis) {
+        negRisk.restore(tokenId, value, expiresAtMillis);
+    }
+
+    void restoreFeeRateBps(String tokenId, int feeRateBps, long expiresAtMillis) {
+        feeRates.restore(tokenId, feeRateBps, expiresAtMillis);
+    }
+
+    private void notifyChange(String tokenId) {
+        for (MetadataListener listener : listeners) {
+            listener.onMetadataChange(tokenId);
+        }
+    }
+
+    public MetadataCacheConfig config() {
+        return config;
+    }
+
+    public Stats stats() {
+        return new Stats(tickSizes.stats(), negRisk.stats(), feeRates.stats(), warmedTokens.sum());
+    }
+
+    @SuppressWarnings("unchecked")
+    private String fetchTickSize(String tokenId) {
+        Map<String, Object> result = (Map<String, Object>) HttpHelpers.get(
+            host + Endpoints.GET_TICK_SIZE + "?token_id=" + tokenId, null
+        );
+        return toTickSize(result.get("minimum_tick_size"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Boolean fetchNegRisk(String tokenId) {
+        Map<String, Object> result = (Map<String, Object>) HttpHelpers.get(
+            host + Endpoints.GET_NEG_RISK + "?token_id=" + tokenId, null
+        );
+        return (Boolean) result.get("neg_risk");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Integer fetchFeeRate(String tokenId) {
+        Map<String, Object> result = (Map<String, Object>) HttpHelpers.get(
+            host + Endpoints.GET_FEE_RATE + "?token_id=" + tokenId, null
+        );
+        return result.get("base_fee") != null ?
+            ((Number) result.get("base_fee")).intValue() : 0;
+    }
+
+    // The API returns tick sizes as JSON numbers; 0.0001 must not become "1.0E-4"
+    private static String toTickSize(Object value) {
+        if (value instanceof Number) {
+            return new BigDecimal(value.toString()).stripTrailingZeros().toPlainString();
+        }
+        return String.valueOf(value);
+    }
+
+    private static boolean isUnknownToken(PolyApiException e) {
+        Integer status = e.getStatusCode();
+        return status != null && (status == 400 || status == 404);
+    }
+
+    /**
+     * One cached field: TTL'd entries, negative entries for unknown tokens, and counters
+     */
+    private final class Field<T> {
+        private final long ttlNanos;
+        private final Function<String, T> loader;
+        private final Map<String, Entry<T>> entries = new ConcurrentHashMap<>();
+        // Loads in progress; concurrent misses for a token wait on the first caller's load
+        private final Map<String, CompletableFuture<T>> inFlight = new ConcurrentHashMap<>();
+        private final Set<String> revalidating = ConcurrentHashMap.newKeySet();
+
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder negativeHits = new LongAdder();
+        private final LongAdder staleHits = new LongAdder();
+        private final LongAdder loads = new LongAdder();
+        private final LongAdder sharedLoads = new LongAdder();
+        private final LongAdder loadFailures = new LongAdder();
+        private final LongAdder loadNanos = new LongAdder();
+        private final AtomicLong maxLoadNanos = new AtomicLong();
+        private final LongAdder invalidations = new LongAdder();
+
+        Field(Duration ttl, Function<String, T> loader) {
+            this.ttlNanos = ttl.toNanos();
+            this.loader = loader;
+        }
+
+        T get(String tokenId) {
+            Entry<T> entry = entries.get(tokenId);
+            if (entry != null && entry.expiresAtNanos() - System.nanoTime() > 0) {
+                if (entry.unknown() != null) {
+                    negativeHits.increment();
+                    throw new PolyApiException(entry.unknown().getStatusCode(), entry.unknown().getErrorMsg());
+                }
+                hits.increment();
+                return entry.value();
+            }
+            if (entry != null && entry.restored() && entry.unknown() == null) {
+                staleHits.increment();
+                revalidate(tokenId);
+                return entry.value();
+            }
+            misses.increment();
+            return load(tokenId);
+        }
+
+        /**
+         * Reloads the token in the background unless a reload is already queued.
+         * A failed reload keeps the stale value, and the next lookup tries again.
+         */
+        private void revalidate(String tokenId) {
+            if (!revalidating.add(tokenId)) {
+                return;
+            }
+            revalidator.execute(() -> {
+                try {
+                    load(tokenId);
+                } catch (PolyApiException e) {
+                    // Counted as a load failure, and cached as unknown if the server no longer knows the token
+                } finally {
+                    revalidating.remove(tokenId);
+                }
+            });
+        }
+
+        /**
+         * Reloads a cached token. On a transient failure the current value is kept.
+         */
+        void reload(String tokenId) {
+            if (!entries.containsKey(tokenId)) {
+                return;
+            }
+            try {
+                load(tokenId);
+            } catch (PolyApiException e) {
+                // Counted as a load failure, and cached as unknown if the server no longer knows the token
+            }
+        }
+
+        private T load(String tokenId) {
+            CompletableFuture<T> mine = new CompletableFuture<>();
+            CompletableFuture<T> load = inFlight.computeIfAbsent(tokenId, k -> mine);
+            if (load != mine) {
+                sharedLoads.increment();
+                try {
+                    return load.join();
+                } catch (CompletionException e) {
+                    if (e.getCause() instanceof RuntimeException cause) {
+                        throw cause;
+                    }
+                    throw e;
+                }
+            }
+            try {
+                T value = fetch(tokenId);
+                mine.complete(value);
+                return value;
+            } catch (RuntimeException e) {
+                mine.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(tokenId, mine);
+            }
+        }
+
+        private T fetch(String tokenId) {
+            long start = System.nanoTime();
+            T value;
+            try {
+                value = loader.apply(tokenId);
+            } catch (PolyApiException e) {
+                loadFailures.increment();
+                if (isUnknownToken(e)) {
+                    store(tokenId, new Entry<>(null, System.nanoTime() + config.negativeTtl().toNanos(), e, false));
+                }
+                throw e;
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                loads.increment();
+                loadNanos.add(elapsed);
+                maxLoadNanos.accumulateAndGet(elapsed, Math::max);
+            }
+            put(tokenId, value);
+            return value;
+        }
+
+        void put(String tokenId, T value) {
+            store(tokenId, new Entry<>(value, System.nanoTime() + ttlNanos, null, false));
+        }
+
+        void restore(String tokenId, T value, long expiresAtMillis) {
+            long remainingMillis = expiresAtMillis - System.currentTimeMillis();
+            store(tokenId, new Entry<>(value, System.nanoTime() + remainingMillis * 1_000_000, null, true));
+        }
+
+        void invalidate(String tokenId) {
+            if (entries.remove(tokenId) != null) {
+                invalidations.increment();
+                notifyChange(tokenId);
+            }
+        }
+
+        void clear() {
+            invalidations.add(entries.size());
+            entries.clear();
+        }
+
+        Map<String, Saved<T>> values() {
+            long now = System.nanoTime();
+            long nowMillis = System.currentTimeMillis();
+            Map<String, Saved<T>> values = new HashMap<>();
+            entries.forEach((tokenId, entry) -> {
+                long remaining = entry.expiresAtNanos() - now;
+                if (entry.unknown() == null && entry.value() != null) {
+                    values.put(tokenId, new Saved<>(entry.value(), nowMillis + remaining / 1_000_000));
+                }
+            });
+            return values;
+        }
+
+        private void store(String tokenId, Entry<T> entry) {
+            Entry<T> previous = entries.put(tokenId, entry);
+            if (previous != null && !Objects.equals(previous.value(), entry.value())) {
+                notifyChange(tokenId);
+            }
+            if (entries.size() > config.maxEntries()) {
+                evict();
+            }
+        }
+
+        // Drops expired entries, stale restored ones included, then arbitrary ones until the field is 10% under its bound
+        private void evict() {
+            long now = System.nanoTime();
+            entries.values().removeIf(e -> e.expiresAtNanos() - now <= 0);
+            int target = config.maxEntries() - config.maxEntries() / 10;
+            Iterator<Entry<T>> it = entries.values().iterator();
+            while (entries.size() > target && it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+
+        FieldStats stats() {
+            long loadCount = loads.sum();
+            return new FieldStats(
+                entries.size(),
+                hits.sum(),
+                misses.sum(),
+                negativeHits.sum(),
+                staleHits.sum(),
+                loadCount,
+                sharedLoads.sum(),
+                loadFailures.sum(),
+                invalidations.sum(),
+                Duration.ofNanos(loadCount == 0 ? 0 : loadNanos.sum() / loadCount),
+                Duration.ofNanos(maxLoadNanos.get())
+            );
+        }
+    }
+
+    /**
+     * @param restored whether the value came from a snapshot, and so is served stale once expired
+     */
+    private record Entry<T>(T value, long expiresAtNanos, PolyApiException unknown, boolean restored) {}
+
+    /**
+     * A cached value and the wall-clock time it expires, as written to a snapshot
+     */
+    record Saved<T>(T value, long expiresAtMillis) {}
+
+    /**
+     * Counters for one cached field. {@code sharedLoads} counts misses that waited
+     * for another caller's load of the same token instead of loading it again;
+     * {@code staleHits} counts expired restored values served while they were reloaded.
+     */
+    public record FieldStats(
+        int entries,
+        long hits,
+        long misses,
+        long negativeHits,
+        long staleHits,
+        long loads,
+        long sharedLoads,
+        long loadFailures,
+        long invalidations,
+        Duration avgLoadLatency,
+        Duration maxLoadLatency
+    ) {}
+
+    /**
+     * Snapshot of metadata cache counters
+     */
+    public record Stats(FieldStats tickSize, FieldStats negRisk, FieldStats feeRate, long warmedTokens) {}
+}
@@ -0,0 +1,29 @@
+package com.polymarket.clob.metadata;
+
+import java.time.Duration;
+
+/**
+ * Settings for {@link MarketMetadataCache}
+ */
+public record MetadataCacheConfig(
+    Duration tickSizeTtl,      // Tick sizes change when prices approach 0 or 1
+    Duration negRiskTtl,       // Neg-risk flags are fixed for the life of a market
+    Duration feeRateTtl,       // How long a fee rate is trusted before it is reloaded
+    Duration negativeTtl,      // How long an unknown token is remembered as unknown
+    int maxEntries             // Per-field bound; expired entries are evicted first
+) {
+    public MetadataCacheConfig() {
+        this(Duration.ofMinutes(5), Duration.ofHours(24), Duration.ofHours(1), Duration.ofMinutes(1), 100_000);
+    }
+
+    public MetadataCacheConfig {
+        for (Duration ttl : new Duration[] {tickSizeTtl, negRiskTtl, feeRateTtl, negativeTtl}) {
+            if (ttl.isNegative() || ttl.isZero()) {
+                throw new IllegalArgumentException("TTLs must be positive");
+            }
+        }
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+    }
+}
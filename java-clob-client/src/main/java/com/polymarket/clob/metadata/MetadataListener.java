@@ -0,0 +1,12 @@
+package com.polymarket.clob.metadata;
+
+/**
+ * Listener notified when cached metadata for a token changes or is invalidated
+ */
+@FunctionalInterface
+public interface MetadataListener {
+    /**
+     * @param tokenId the token whose metadata changed, or null when the whole cache was invalidated
+     */
+    void onMetadataChange(String tokenId);
+}
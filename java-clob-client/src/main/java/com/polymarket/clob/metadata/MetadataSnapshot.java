@@ -0,0 +1,238 @@
+package com.polymarket.clob.metadata;
+
+import com.polymarket.clob.utilities.DaemonThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persists a {@link MarketMetadataCache} to a compact binary file so a restarted
+ * process can place its first orders without metadata round trips.
+ * <p>
+ * {@link #load()} memory-maps the file and fills the cache with every entry,
+ * keeping the expiry it had when it was saved. Nothing is fetched at startup.
+ * An entry that has expired, whether before the restart or after, is served
+ * stale on its next lookup and revalidated in the background, so no lookup after
+ * a restart waits on a round trip for a token the snapshot knew, and the reloads
+ * are spread over first use rather than sent in one burst.
+ * {@link #start(Duration)} saves the cache periodically and {@link #close()}
+ * saves it one last time. Saves write a temporary file and move it into place,
+ * so a crash never leaves a truncated snapshot behind.
+ * <p>
+ * File layout, little-endian: a header (magic, version, saved-at epoch millis,
+ * entry count) followed by one entry per token
+ * <pre>
+ *   short  token ID length, then UTF-8 bytes
+ *   byte   flags: HAS_TICK_SIZE, HAS_NEG_RISK, NEG_RISK, HAS_FEE_RATE
+ *   short  tick size length, then UTF-8 bytes    if HAS_TICK_SIZE
+ *   long   tick size expiry, epoch millis        if HAS_TICK_SIZE
+ *   long   neg-risk expiry, epoch millis         if HAS_NEG_RISK
+ *   int    fee rate in bps                       if HAS_FEE_RATE
+ *   long   fee rate expiry, epoch millis         if HAS_FEE_RATE
+ * </pre>
+ */
+public class MetadataSnapshot implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(MetadataSnapshot.class);
+
+    private static final int MAGIC = 0x4D44534E;  // "MDSN"
+    private static final int VERSION = 2;
+    private static final int HEADER_LENGTH = 20;
+
+    private static final byte HAS_TICK_SIZE = 1;
+    private static final byte HAS_NEG_RISK = 2;
+    private static final byte NEG_RISK = 4;
+    private static final byte HAS_FEE_RATE = 8;
+
+    private final MarketMetadataCache cache;
+    private final Path file;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * @param cache  cache to save and fill
+     * @param file   snapshot file
+     */
+    public MetadataSnapshot(MarketMetadataCache cache, Path file) {
+        this.cache = cache;
+        this.file = file;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("metadata-snapshot"));
+    }
+
+    /**
+     * Fills the cache from the snapshot file, if there is one. Returns the number of
+     * tokens loaded, stale ones included.
+     */
+    public int load() {
+        if (!Files.isRegularFile(file)) {
+            return 0;
+        }
+        int loaded = 0;
+        try (Arena arena = Arena.ofConfined();
+             FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena)
+                .asByteBuffer()
+                .order(ByteOrder.LITTLE_ENDIAN);
+            if (in.remaining() < HEADER_LENGTH || in.getInt() != MAGIC || in.getInt() != VERSION) {
+                log.warn("Ignoring unreadable metadata snapshot {}", file);
+                return 0;
+            }
+            in.getLong();  // saved at
+            int count = in.getInt();
+            for (int i = 0; i < count; i++) {
+                String tokenId = readString(in);
+                byte flags = in.get();
+                if ((flags & HAS_TICK_SIZE) != 0) {
+                    String tickSize = readString(in);
+                    long expiresAt = in.getLong();
+                    cache.restoreTickSize(tokenId, tickSize, expiresAt);
+                }
+                if ((flags & HAS_NEG_RISK) != 0) {
+                    long expiresAt = in.getLong();
+                    cache.restoreNegRisk(tokenId, (flags & NEG_RISK) != 0, expiresAt);
+                }
+                if ((flags & HAS_FEE_RATE) != 0) {
+                    int feeRate = in.getInt();
+                    long expiresAt = in.getLong();
+                    cache.restoreFeeRateBps(tokenId, feeRate, expiresAt);
+                }
+                loaded++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read metadata snapshot " + file, e);
+        } catch (RuntimeException e) {
+            log.warn("Ignoring corrupt metadata snapshot {}", file, e);
+            return 0;
+        }
+        return loaded;
+    }
+
+    /**
+     * Writes the cache's current contents to the snapshot file. Returns the number of tokens saved.
+     */
+    public synchronized int save() {
+        Map<String, MarketMetadataCache.Saved<String>> tickSizes = cache.tickSizeValues();
+        Map<String, MarketMetadataCache.Saved<Boolean>> negRisk = cache.negRiskValues();
+        Map<String, MarketMetadataCache.Saved<Integer>> feeRates = cache.feeRateValues();
+        Set<String> tokenIds = new HashSet<>(tickSizes.keySet());
+        tokenIds.addAll(negRisk.keySet());
+        tokenIds.addAll(feeRates.keySet());
+
+        ByteBuffer out = ByteBuffer.allocate(HEADER_LENGTH + tokenIds.size() * 128).order(ByteOrder.LITTLE_ENDIAN);
+        out.putInt(MAGIC);
+        out.putInt(VERSION);
+        out.putLong(System.currentTimeMillis());
+        out.putInt(tokenIds.size());
+        for (String tokenId : tokenIds) {
+            MarketMetadataCache.Saved<String> tickSize = tickSizes.get(tokenId);
+            MarketMetadataCache.Saved<Boolean> negRiskValue = negRisk.get(tokenId);
+            MarketMetadataCache.Saved<Integer> feeRate = feeRates.get(tokenId);
+            byte flags = 0;
+            if (tickSize != null) {
+                flags |= HAS_TICK_SIZE;
+            }
+            if (negRiskValue != null) {
+                flags |= negRiskValue.value() ? HAS_NEG_RISK | NEG_RISK : HAS_NEG_RISK;
+            }
+            if (feeRate != null) {
+                flags |= HAS_FEE_RATE;
+            }
+            out = ensureCapacity(out,
+                2 + tokenId.length() * 3 + 1 + 2 + (tickSize == null ? 0 : tickSize.value().length() * 3) + 8 + 8 + 4 + 8);
+            writeString(out, tokenId);
+            out.put(flags);
+            if (tickSize != null) {
+                writeString(out, tickSize.value());
+                out.putLong(tickSize.expiresAtMillis());
+            }
+            if (negRiskValue != null) {
+                out.putLong(negRiskValue.expiresAtMillis());
+            }
+            if (feeRate != null) {
+                out.putInt(feeRate.value());
+                out.putLong(feeRate.expiresAtMillis());
+            }
+        }
+        out.flip();
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (FileChannel channel = FileChannel.open(temp,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                while (out.hasRemaining()) {
+                    channel.write(out);
+                }
+                channel.force(true);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write metadata snapshot " + file, e);
+        }
+        return tokenIds.size();
+    }
+
+    /**
+     * Saves the cache every {@code interval} until closed
+     */
+    public void start(Duration interval) {
+        long period = interval.toNanos();
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                save();
+            } catch (RuntimeException e) {
+                log.warn("Periodic metadata snapshot failed", e);
+            }
+        }, period, period, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Stops periodic saves, then saves one last time
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        save();
+    }
+
+    private static ByteBuffer ensureCapacity(ByteBuffer buffer, int needed) {
+        if (buffer.remaining() >= needed) {
+            return buffer;
+        }
+        ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + needed))
+            .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.flip();
+        larger.put(buffer);
+        return larger;
+    }
+
+    private static void writeString(ByteBuffer buffer, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
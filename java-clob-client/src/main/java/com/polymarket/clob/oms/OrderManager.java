@@ -0,0 +1,646 @@
+package com.polymarket.clob.oms;
+
+import com.polymarket.clob.client.ClobClient;
+import com.polymarket.clob.exceptions.PolyApiException;
+import com.polymarket.clob.orderbook.OffHeapBookStore;
+import com.polymarket.clob.orderbuilder.constants.OrderSide;
+import com.polymarket.clob.types.OpenOrderParams;
+import com.polymarket.clob.types.OrderEvent;
+import com.polymarket.clob.types.OrderType;
+import com.polymarket.clob.types.PostOrdersArgs;
+import com.polymarket.clob.utilities.DaemonThreadFactory;
+import com.polymarket.clob.utilities.TokenSymbols;
+import com.polymarket.clob.websocket.UserChannelListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.polymarket.clob.orderbook.OffHeapBookStore.SCALE;
+
+/**
+ * In-process order management: the account's orders as seen by this process.
+ * <p>
+ * Orders enter through the submission methods, which wrap the corresponding
+ * {@link ClobClient} calls and apply their responses, and through user channel
+ * events when the manager is registered as a {@link UserChannelListener}. Fills
+ * are taken from the cumulative size_matched of order updates, so duplicated or
+ * replayed events cannot count a fill twice. Open orders are indexed by
+ * {@link TokenSymbols} handle and side, and per-token {@link Exposure} is kept
+ * up to date on every change, so queries are O(1) and never touch the network.
+ * <p>
+ * {@link #reconcile()} diffs the open orders from {@link ClobClient#getOrders}
+ * against the local view. It adds orders placed elsewhere, corrects fill sizes,
+ * and closes orders that are no longer open after looking up their final
+ * status. Orders changed locally while the snapshot was loading are left alone.
+ * {@link #start(Duration)} reconciles periodically. Each pass forgets orders
+ * closed before the previous one, but keeps their IDs in a bounded tombstone
+ * set, so a late or replayed channel event cannot bring a forgotten order back
+ * as open; only a reconciliation that finds it open on the server does.
+ * <p>
+ * All changes to a token's orders are serialized on that token, so events,
+ * responses and reconciliation may arrive from any thread.
+ */
+public class OrderManager implements UserChannelListener, AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(OrderManager.class);
+    private static final int MAX_TOMBSTONES = 100_000;
+
+    private final ClobClient client;
+    private final Map<String, TrackedOrder> orders = new ConcurrentHashMap<>();
+    // IDs of pruned closed orders, oldest first
+    private final Set<String> tombstones = Collections.synchronizedSet(Collections.newSetFromMap(
+        new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > MAX_TOMBSTONES;
+            }
+        }));
+    private final Object tokensLock = new Object();
+    private volatile TokenOrders[] byHandle = new TokenOrders[0];
+    private final ScheduledExecutorService scheduler;
+
+    private final LongAdder posted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder canceled = new LongAdder();
+    private final LongAdder orderEvents = new LongAdder();
+    private final LongAdder lateEvents = new LongAdder();
+
+    // Reconciliation state, guarded by this
+    private long lastReconcileStart;
+    private long reconciles;
+    private long reconcileAdded;
+    private long reconcileUpdated;
+    private long reconcileClosed;
+    private Duration lastReconcileDuration = Duration.ZERO;
+
+    /**
+     * @param client L2 client used for submissions and reconciliation
+     */
+    public OrderManager(ClobClient client) {
+        this.client = client;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("order-manager"));
+    }
+
+    // Submission
+
+    public Object postOrder(Map<String, Object> order, OrderType orderType) {
+        Object response;
+        try {
+            response = client.postOrder(order, orderType);
+        } catch (PolyApiException e) {
+            rejected.increment();
+            throw e;
+        }
+        applyPostResponse(order, orderType, response);
+        return response;
+    }
+
+    public Object postOrders(List<PostOrdersArgs> args) {
+        Object response;
+        try {
+            response = client.postOrders(args);
+        } catch (PolyApiException e) {
+            rejected.add(args.size());
+            throw e;
+        }
+        // Batch responses report each order's outcome, in request order
+        if (response instanceof List<?> results && results.size() == args.size()) {
+            for (int i = 0; i < results.size(); i++) {
+                applyPostResponse(args.get(i).order(), args.get(i).orderType(), results.get(i));
+            }
+        }
+        return response;
+    }
+
+    public Object cancel(String orderId) {
+        Object response = client.cancel(orderId);
+        applyCancelResponse(response);
+        return response;
+    }
+
+    public Object cancelOrders(List<String> orderIds) {
+        Object response = client.cancelOrders(orderIds);
+        applyCancelResponse(response);
+        return response;
+    }
+
+    public Object cancelAll() {
+        Object response = client.cancelAll();
+        applyCancelResponse(response);
+        return response;
+    }
+
+    public Object cancelMarketOrders(String market, String assetId) {
+        Object response = client.cancelMarketOrders(market, assetId);
+        applyCancelResponse(response);
+        return response;
+    }
+
+    /**
+     * Records an order from its post response, for orders submitted without this manager.
+     * Returns the tracked order, or null if the post was rejected or the order was
+     * already closed and forgotten.
+     *
+     * @param order     the signed order that was posted
+     * @param orderType its order type
+     * @param response  the /order response, or one element of a /orders response
+     */
+    public TrackedOrder applyPostResponse(Map<String, Object> order, OrderType orderType, Object response) {
+        if (!(response instanceof Map<?, ?> result)) {
+            return null;
+        }
+        String id = str(result.get("orderID"));
+        Object success = result.get("success");
+        if (id == null || id.isEmpty() || Boolean.FALSE.equals(success) || "false".equals(str(success))) {
+            rejected.increment();
+            return null;
+        }
+        posted.increment();
+
+        boolean buy = OrderSide.BUY.equals(str(order.get("side")));
+        long makerAmount = Long.parseLong(order.get("makerAmount").toString());
+        long takerAmount = Long.parseLong(order.get("takerAmount").toString());
+        // Order amounts are in 6-decimal base units, the same scale as the fixed-point sizes
+        long size = buy ? takerAmount : makerAmount;
+        long notional = buy ? makerAmount : takerAmount;
+        long price = size > 0 ? (notional * SCALE + size / 2) / size : 0;
+
+        String status = str(result.get("status"));
+        long matched = 0;
+        if ("matched".equalsIgnoreCase(status)) {
+            matched = OffHeapBookStore.parseFixed(str(result.get(buy ? "takingAmount" : "makingAmount")));
+            if (matched <= 0) {
+                matched = size;
+            }
+        }
+        boolean resting = orderType == OrderType.GTC || orderType == OrderType.GTD;
+        TrackedOrder.Status next;
+        if ("unmatched".equalsIgnoreCase(status)) {
+            next = TrackedOrder.Status.CANCELED;
+        } else if (matched >= size) {
+            next = TrackedOrder.Status.FILLED;
+        } else {
+            // Whatever an immediate order did not match is canceled by the exchange
+            next = resting ? TrackedOrder.Status.OPEN : TrackedOrder.Status.CANCELED;
+        }
+
+        return apply(new TrackedOrder(
+            id,
+            TokenSymbols.intern(order.get("tokenId").toString()),
+            null,
+            buy ? OrderSide.BUY : OrderSide.SELL,
+            price,
+            size,
+            Math.min(matched, size),
+            next,
+            System.nanoTime()
+        ), false);
+    }
+
+    /**
+     * Closes the orders listed as canceled in a cancel response. Returns how many were tracked.
+     */
+    public int applyCancelResponse(Object response) {
+        if (!(response instanceof Map<?, ?> result) || !(result.get("canceled") instanceof List<?> ids)) {
+            return 0;
+        }
+        int closed = 0;
+        for (Object id : ids) {
+            if (id != null && close(id.toString(), TrackedOrder.Status.CANCELED)) {
+                closed++;
+            }
+        }
+        canceled.add(closed);
+        return closed;
+    }
+
+    // User channel
+
+    @Override
+    public void onOrder(OrderEvent event) {
+        if (event.id() == null || event.type() == null || event.assetId() == null) {
+            return;
+        }
+        orderEvents.increment();
+        TrackedOrder.Status status = event.type() == OrderEvent.Type.CANCELLATION
+            ? TrackedOrder.Status.CANCELED
+            : TrackedOrder.Status.OPEN;
+        apply(fromEvent(event, status), false);
+    }
+
+    /**
+     * Adds and updates orders from the channel's REST resync. Orders missing from
+     * it are left to {@link #reconcile()}, which checks their final status.
+     */
+    @Override
+    public void onResync(List<OrderEvent> openOrders) {
+        for (OrderEvent order : openOrders) {
+            if (order.id() != null && order.assetId() != null) {
+                apply(fromEvent(order, TrackedOrder.Status.OPEN), false);
+            }
+        }
+    }
+
+    // Queries
+
+    /**
+     * The order with the given ID, including recently closed ones, or null
+     */
+    public TrackedOrder order(String orderId) {
+        return orders.get(orderId);
+    }
+
+    /**
+     * Open orders of the token on one side, as a live read-only view
+     *
+     * @param side BUY or SELL
+     */
+    public Collection<TrackedOrder> openOrders(String tokenId, String side) {
+        int handle = TokenSymbols.find(tokenId);
+        return handle != TokenSymbols.NOT_FOUND ? openOrders(handle, side) : List.of();
+    }
+
+    public Collection<TrackedOrder> openOrders(int tokenHandle, String side) {
+        TokenOrders token = existing(tokenHandle);
+        if (token == null) {
+            return List.of();
+        }
+        return Collections.unmodifiableCollection(token.side(side).values());
+    }
+
+    /**
+     * All open orders, across tokens
+     */
+    public List<TrackedOrder> openOrders() {
+        List<TrackedOrder> open = new ArrayList<>();
+        for (TokenOrders token : byHandle) {
+            if (token != null) {
+                open.addAll(token.bids.values());
+                open.addAll(token.asks.values());
+            }
+        }
+        return open;
+    }
+
+    public int openCount(String tokenId, String side) {
+        int handle = TokenSymbols.find(tokenId);
+        TokenOrders token = handle != TokenSymbols.NOT_FOUND ? existing(handle) : null;
+        return token != null ? token.side(side).size() : 0;
+    }
+
+    public Exposure exposure(String tokenId) {
+        int handle = TokenSymbols.find(tokenId);
+        return handle != TokenSymbols.NOT_FOUND ? exposure(handle) : Exposure.EMPTY;
+    }
+
+    public Exposure exposure(int tokenHandle) {
+        TokenOrders token = existing(tokenHandle);
+        return token != null ? token.exposure : Exposure.EMPTY;
+    }
+
+    // Reconciliation
+
+    /**
+     * Diffs the server's open orders against the local view and applies the
+     * differences. Returns the number of orders added, updated or closed.
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized int reconcile() {
+        long start = System.nanoTime();
+        Map<String, OrderEvent> remote = new HashMap<>();
+        for (Object raw : client.getOrders(new OpenOrderParams(), null)) {
+            if (raw instanceof Map) {
+                OrderEvent order = OrderEvent.fromMap((Map<String, Object>) raw);
+                if (order.id() != null && order.assetId() != null) {
+                    remote.put(order.id(), order);
+                }
+            }
+        }
+
+        int added = 0;
+        int updated = 0;
+        int closed = 0;
+        for (OrderEvent order : remote.values()) {
+            TrackedOrder local = orders.get(order.id());
+            TrackedOrder server = fromEvent(order, TrackedOrder.Status.OPEN);
+            if (local == null) {
+                // The server's list is authoritative, even for an order this manager had closed and forgotten
+                apply(server, true);
+                added++;
+            } else if (local.updatedAtNanos() < start
+                && (!local.isOpen() || local.sizeMatched() != server.sizeMatched())) {
+                apply(server, true);
+                updated++;
+            }
+        }
+        for (TrackedOrder local : orders.values()) {
+            if (local.isOpen() && local.updatedAtNanos() < start && !remote.containsKey(local.id())) {
+                if (resolveClosed(local)) {
+                    closed++;
+                }
+            }
+        }
+
+        // Closed orders that predate the previous pass can no longer race with a snapshot.
+        // Tombstoned before removal, so an event in between cannot recreate them.
+        long pruneBefore = lastReconcileStart;
+        orders.values().removeIf(order -> {
+            if (order.isOpen() || order.updatedAtNanos() >= pruneBefore) {
+                return false;
+            }
+            tombstones.add(order.id());
+            return true;
+        });
+
+        lastReconcileStart = start;
+        reconciles++;
+        reconcileAdded += added;
+        reconcileUpdated += updated;
+        reconcileClosed += closed;
+        lastReconcileDuration = Duration.ofNanos(System.nanoTime() - start);
+        return added + updated + closed;
+    }
+
+    /**
+     * Reconciles every {@code interval}, starting now, until closed
+     */
+    public void start(Duration interval) {
+        long period = interval.toNanos();
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                reconcile();
+            } catch (RuntimeException e) {
+                log.warn("Order reconciliation failed", e);
+            }
+        }, 0, period, TimeUnit.NANOSECONDS);
+    }
+
+    public Stats stats() {
+        int tokens = 0;
+        int open = 0;
+        for (TokenOrders token : byHandle) {
+            if (token != null) {
+                tokens++;
+                open += token.bids.size() + token.asks.size();
+            }
+        }
+        synchronized (this) {
+            return new Stats(
+                orders.size(),
+                open,
+                tokens,
+                posted.sum(),
+                rejected.sum(),
+                canceled.sum(),
+                orderEvents.sum(),
+                reconciles,
+                reconcileAdded,
+                reconcileUpdated,
+                reconcileClosed,
+                lastReconcileDuration,
+                lateEvents.sum()
+            );
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Looks up the final status of an order that is no longer open on the server
+     */
+    private boolean resolveClosed(TrackedOrder local) {
+        Object raw;
+        try {
+            raw = client.getOrder(local.id());
+        } catch (PolyApiException e) {
+            if (!Integer.valueOf(404).equals(e.getStatusCode())) {
+                log.debug("Could not look up order {}, retrying next pass", local.id(), e);
+                return false;
+            }
+            raw = null;
+        }
+        long matched = local.sizeMatched();
+        TrackedOrder.Status status = TrackedOrder.Status.CANCELED;
+        if (raw instanceof Map<?, ?> order) {
+            String serverStatus = str(order.get("status"));
+            if (serverStatus != null && serverStatus.toUpperCase(Locale.ROOT).contains("LIVE")) {
+                // Opened again between the snapshot and the lookup; the next pass catches up
+                return false;
+            }
+            matched = Math.max(matched, OffHeapBookStore.parseFixed(str(order.get("size_matched"))));
+            if (matched >= local.originalSize() || "MATCHED".equalsIgnoreCase(serverStatus)) {
+                status = TrackedOrder.Status.FILLED;
+            }
+        }
+        apply(local.with(matched, status, System.nanoTime()), false);
+        return true;
+    }
+
+    private boolean close(String orderId, TrackedOrder.Status status) {
+        TrackedOrder current = orders.get(orderId);
+        if (current == null) {
+            return false;
+        }
+        apply(current.with(current.sizeMatched(), status, System.nanoTime()), false);
+        return true;
+    }
+
+    /**
+     * Merges the update into the order's state and the token indexes. A closed
+     * order only reopens when {@code authoritative}, and fill sizes never move backwards.
+     * Returns null if the update is for a forgotten closed order and is not authoritative.
+     */
+    private TrackedOrder apply(TrackedOrder update, boolean authoritative) {
+        TokenOrders token = token(update.tokenHandle());
+        synchronized (token) {
+            TrackedOrder previous = orders.get(update.id());
+            if (previous == null && tombstones.contains(update.id())) {
+                if (!authoritative) {
+                    lateEvents.increment();
+                    return null;
+                }
+                tombstones.remove(update.id());
+            }
+            TrackedOrder next = update;
+            if (previous != null) {
+                long matched = Math.max(previous.sizeMatched(), update.sizeMatched());
+                TrackedOrder.Status status = update.status();
+                if (!previous.isOpen() && !authoritative) {
+                    status = previous.status();
+                } else if (status == TrackedOrder.Status.OPEN && matched >= previous.originalSize()) {
+                    status = TrackedOrder.Status.FILLED;
+                }
+                next = new TrackedOrder(
+                    previous.id(),
+                    previous.tokenHandle(),
+                    previous.market() != null ? previous.market() : update.market(),
+                    previous.side(),
+                    previous.price(),
+                    previous.originalSize(),
+                    matched,
+                    status,
+                    update.updatedAtNanos()
+                );
+            } else if (next.isOpen() && next.sizeMatched() >= next.originalSize()) {
+                next = next.with(next.sizeMatched(), TrackedOrder.Status.FILLED, next.updatedAtNanos());
+            }
+            orders.put(next.id(), next);
+            token.replace(previous, next);
+            return next;
+        }
+    }
+
+    private TokenOrders existing(int handle) {
+        TokenOrders[] table = byHandle;
+        return handle >= 0 && handle < table.length ? table[handle] : null;
+    }
+
+    private TokenOrders token(int handle) {
+        TokenOrders token = existing(handle);
+        if (token != null) {
+            return token;
+        }
+        synchronized (tokensLock) {
+            TokenOrders[] table = byHandle;
+            if (handle < table.length && table[handle] != null) {
+                return table[handle];
+            }
+            if (handle >= table.length) {
+                table = Arrays.copyOf(table, Math.max(handle + 1, table.length * 2));
+            }
+            token = new TokenOrders();
+            table[handle] = token;
+            byHandle = table;
+            return token;
+        }
+    }
+
+    private static TrackedOrder fromEvent(OrderEvent event, TrackedOrder.Status status) {
+        return new TrackedOrder(
+            event.id(),
+            TokenSymbols.intern(event.assetId()),
+            event.market(),
+            event.side() != null ? event.side().toUpperCase(Locale.ROOT) : null,
+            OffHeapBookStore.parseFixed(event.price()),
+            OffHeapBookStore.parseFixed(event.originalSize()),
+            OffHeapBookStore.parseFixed(event.sizeMatched()),
+            status,
+            System.nanoTime()
+        );
+    }
+
+    private static String str(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    /**
+     * Open orders of one token, guarded by the instance monitor
+     */
+    private static final class TokenOrders {
+        final Map<String, TrackedOrder> bids = new ConcurrentHashMap<>();
+        final Map<String, TrackedOrder> asks = new ConcurrentHashMap<>();
+        volatile Exposure exposure = Exposure.EMPTY;
+
+        Map<String, TrackedOrder> side(String side) {
+            return OrderSide.BUY.equals(side) ? bids : asks;
+        }
+
+        void replace(TrackedOrder previous, TrackedOrder next) {
+            long buySize = exposure.openBuySize();
+            long sellSize = exposure.openSellSize();
+            long buyNotional = exposure.openBuyNotional();
+            long sellNotional = exposure.openSellNotional();
+            long bought = exposure.filledBuySize();
+            long sold = exposure.filledSellSize();
+
+            if (previous != null && previous.isOpen()) {
+                side(previous.side()).remove(previous.id());
+                if (previous.isBuy()) {
+                    buySize -= previous.remaining();
+                    buyNotional -= notional(previous);
+                } else {
+                    sellSize -= previous.remaining();
+                    sellNotional -= notional(previous);
+                }
+            }
+            if (next.isOpen()) {
+                side(next.side()).put(next.id(), next);
+                if (next.isBuy()) {
+                    buySize += next.remaining();
+                    buyNotional += notional(next);
+                } else {
+                    sellSize += next.remaining();
+                    sellNotional += notional(next);
+                }
+            }
+            long filled = next.sizeMatched() - (previous != null ? previous.sizeMatched() : 0);
+            if (next.isBuy()) {
+                bought += filled;
+            } else {
+                sold += filled;
+            }
+            exposure = new Exposure(buySize, sellSize, buyNotional, sellNotional, bought, sold);
+        }
+
+        private static long notional(TrackedOrder order) {
+            return order.remaining() * order.price() / SCALE;
+        }
+    }
+
+    /**
+     * Aggregate position of one token's orders, fixed-point like {@link TrackedOrder}.
+     * Filled sizes cover orders seen by this manager, not the account's balance.
+     */
+    public record Exposure(
+        long openBuySize,
+        long openSellSize,
+        long openBuyNotional,
+        long openSellNotional,
+        long filledBuySize,
+        long filledSellSize
+    ) {
+        public static final Exposure EMPTY = new Exposure(0, 0, 0, 0, 0, 0);
+
+        public long netFilled() {
+            return filledBuySize - filledSellSize;
+        }
+    }
+
+    /**
+     * Snapshot of order manager counters. {@code lateEvents} counts updates ignored
+     * because they arrived after their order was closed and forgotten.
+     */
+    public record Stats(
+        int trackedOrders,
+        int openOrders,
+        int tokens,
+        long posted,
+        long rejected,
+        long canceled,
+        long orderEvents,
+        long reconciles,
+        long reconcileAdded,
+        long reconcileUpdated,
+        long reconcileClosed,
+        Duration lastReconcileDuration,
+        long lateEvents
+    ) {}
+}
@@ -0,0 +1,50 @@
+package com.polymarket.clob.oms;
+
+import com.polymarket.clob.orderbook.OffHeapBookStore;
+import com.polymarket.clob.orderbuilder.constants.OrderSide;
+import com.polymarket.clob.utilities.TokenSymbols;
+
+/**
+ * State of one order known to an {@link OrderManager}.
+ * Prices and sizes are fixed-point, scaled by {@link OffHeapBookStore#SCALE}.
+ */
+public record TrackedOrder(
+    String id,
+    int tokenHandle,              // TokenSymbols handle of the asset
+    String market,
+    String side,                  // BUY or SELL
+    long price,
+    long originalSize,
+    long sizeMatched,
+    Status status,
+    long updatedAtNanos
+) {
+    public enum Status {
+        OPEN,
+        FILLED,
+        CANCELED
+    }
+
+    public String tokenId() {
+        return TokenSymbols.tokenId(tokenHandle);
+    }
+
+    public boolean isBuy() {
+        return OrderSide.BUY.equals(side);
+    }
+
+    public boolean isOpen() {
+        return status == Status.OPEN;
+    }
+
+    /**
+     * Size still resting on the book, zero once the order is closed
+     */
+    public long remaining() {
+        return isOpen() ? Math.max(0, originalSize - sizeMatched) : 0;
+    }
+
+    TrackedOrder with(long sizeMatched, Status status, long updatedAtNanos) {
+        return new TrackedOrder(id, tokenHandle, market, side, price, originalSize, sizeMatched, status, updatedAtNanos);
+    }
+}
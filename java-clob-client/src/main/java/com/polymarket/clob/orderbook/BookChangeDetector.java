@@ -0,0 +1,271 @@
+package com.polymarket.clob.orderbook;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.polymarket.clob.exceptions.PolyApiException;
+import com.polymarket.clob.types.OrderBookSummary;
+import com.polymarket.clob.types.OrderSummary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hash-gated parser for polled /book and /books responses.
+ * Reads each book's hash with a streaming parser and only materializes the
+ * bid/ask levels when the hash differs from the last one seen for the asset.
+ * Level arrays that appear before the hash are skipped and re-read from their
+ * byte offset once the book is known to have changed.
+ * <p>
+ * A book's hash is recorded only after the whole response has been parsed and
+ * its changed books delivered, so a response that fails part-way is reported
+ * again in full on the next poll.
+ */
+public class BookChangeDetector {
+    private static final Logger log = LoggerFactory.getLogger(BookChangeDetector.class);
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    private final Map<String, String> lastHashes = new ConcurrentHashMap<>();
+    private final List<BookListener> listeners = new CopyOnWriteArrayList<>();
+
+    private final LongAdder changed = new LongAdder();
+    private final LongAdder unchanged = new LongAdder();
+
+    public void addListener(BookListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(BookListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Parses a raw /book object or /books array, notifies listeners of changed books,
+     * records their hashes and returns them. Unchanged books are skipped without
+     * building their levels.
+     */
+    public List<OrderBookSummary> apply(byte[] body) {
+        if (body == null || body.length == 0) {
+            return Collections.emptyList();
+        }
+
+        List<OrderBookSummary> result = new ArrayList<>();
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    OrderBookSummary book = readBook(parser, body);
+                    if (book != null) {
+                        result.add(book);
+                    }
+                }
+            } else if (token == JsonToken.START_OBJECT) {
+                OrderBookSummary book = readBook(parser, body);
+                if (book != null) {
+                    result.add(book);
+                }
+            } else {
+                throw new PolyApiException("Unexpected order book payload: " + token);
+            }
+        } catch (IOException e) {
+            throw new PolyApiException("Failed to parse order book response: " + e.getMessage());
+        }
+
+        for (OrderBookSummary book : result) {
+            for (BookListener listener : listeners) {
+                try {
+                    listener.onBook(book);
+                } catch (RuntimeException e) {
+                    log.warn("Book listener failed on {}", book.assetId(), e);
+                }
+            }
+        }
+        for (OrderBookSummary book : result) {
+            if (book.assetId() != null && book.hash() != null) {
+                lastHashes.put(book.assetId(), book.hash());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Last hash seen for the asset, or null if none
+     */
+    public String lastHash(String assetId) {
+        return lastHashes.get(assetId);
+    }
+
+    /**
+     * Forgets the last hash so the next poll materializes the book again
+     */
+    public void reset(String assetId) {
+        lastHashes.remove(assetId);
+    }
+
+    public void resetAll() {
+        lastHashes.clear();
+    }
+
+    public long changedCount() {
+        return changed.sum();
+    }
+
+    public long unchangedCount() {
+        return unchanged.sum();
+    }
+
+    /**
+     * Reads one book object with the parser positioned on its START_OBJECT.
+     * Returns null when the hash matches the last one seen.
+     */
+    private OrderBookSummary readBook(JsonParser parser, byte[] body) throws IOException {
+        String market = null;
+        String assetId = null;
+        String timestamp = null;
+        String minOrderSize = null;
+        Boolean negRisk = null;
+        String tickSize = null;
+        String hash = null;
+
+        List<OrderSummary> bids = null;
+        List<OrderSummary> asks = null;
+        long bidsOffset = -1;
+        long asksOffset = -1;
+        // null until both asset_id and hash are known, then whether the book changed
+        Boolean isChanged = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "market" -> market = textOrNull(parser, value);
+                case "asset_id" -> {
+                    assetId = textOrNull(parser, value);
+                    if (hash != null) {
+                        isChanged = hasChanged(assetId, hash);
+                    }
+                }
+                case "timestamp" -> timestamp = textOrNull(parser, value);
+                case "min_order_size" -> minOrderSize = textOrNull(parser, value);
+                case "tick_size" -> tickSize = textOrNull(parser, value);
+                case "neg_risk" -> negRisk = value == JsonToken.VALUE_NULL ? null : parser.getValueAsBoolean();
+                case "hash" -> {
+                    hash = textOrNull(parser, value);
+                    if (assetId != null) {
+                        isChanged = hasChanged(assetId, hash);
+                    }
+                }
+                case "bids" -> {
+                    if (isChanged == null) {
+                        bidsOffset = parser.currentTokenLocation().getByteOffset();
+                        parser.skipChildren();
+                    } else if (isChanged) {
+                        bids = readLevels(parser);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                case "asks" -> {
+                    if (isChanged == null) {
+                        asksOffset = parser.currentTokenLocation().getByteOffset();
+                        parser.skipChildren();
+                    } else if (isChanged) {
+                        asks = readLevels(parser);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+
+        // Decide now if the hash or asset_id was missing
+        if (isChanged == null) {
+            isChanged = hasChanged(assetId, hash);
+        }
+
+        if (!isChanged) {
+            unchanged.increment();
+            return null;
+        }
+
+        if (bids == null) {
+            bids = bidsOffset >= 0 ? readLevelsAt(body, bidsOffset) : new ArrayList<>();
+        }
+        if (asks == null) {
+            asks = asksOffset >= 0 ? readLevelsAt(body, asksOffset) : new ArrayList<>();
+        }
+
+        changed.increment();
+
+        return new OrderBookSummary(
+            market,
+            assetId,
+            timestamp,
+            bids,
+            asks,
+            minOrderSize,
+            negRisk,
+            tickSize,
+            hash
+        );
+    }
+
+    private boolean hasChanged(String assetId, String hash) {
+        if (assetId == null || hash == null) {
+            return true;
+        }
+        return !hash.equals(lastHashes.get(assetId));
+    }
+
+    private static List<OrderSummary> readLevelsAt(byte[] body, long offset) throws IOException {
+        try (JsonParser levelParser = jsonFactory.createParser(body, (int) offset, body.length - (int) offset)) {
+            levelParser.nextToken();
+            return readLevels(levelParser);
+        }
+    }
+
+    private static List<OrderSummary> readLevels(JsonParser parser) throws IOException {
+        List<OrderSummary> levels = new ArrayList<>();
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return levels;
+        }
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            String price = null;
+            String size = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("price".equals(field)) {
+                    price = textOrNull(parser, value);
+                } else if ("size".equals(field)) {
+                    size = textOrNull(parser, value);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            levels.add(new OrderSummary(price, size));
+        }
+        return levels;
+    }
+
+    private static String textOrNull(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (value.isStructStart()) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getText();
+    }
+}
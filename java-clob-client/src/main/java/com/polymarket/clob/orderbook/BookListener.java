@@ -0,0 +1,11 @@
+package com.polymarket.clob.orderbook;
+
+import com.polymarket.clob.types.OrderBookSummary;
+
+/**
+ * Receives order book updates from a polling or streaming source
+ */
+@FunctionalInterface
+public interface BookListener {
+    void onBook(OrderBookSummary book);
+}
@@ -0,0 +1,322 @@
+package com.polymarket.clob.orderbook;
+
+import com.polymarket.clob.client.ClobClient;
+import com.polymarket.clob.types.BookParams;
+import com.polymarket.clob.types.OrderBookSummary;
+import com.polymarket.clob.utilities.DaemonThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Polls order books for many tokens through /books.
+ * Due tokens are chunked into evenly sized batches, up to maxInFlight batches run
+ * in parallel, and each token's interval adapts to how often its book changes:
+ * it halves on a change and grows by a quarter on every unchanged poll.
+ * Unchanged books are detected by hash and never materialized.
+ */
+public class BookPoller implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(BookPoller.class);
+
+    private final ClobClient client;
+    private final BookPollerConfig config;
+    private final BookChangeDetector detector = new BookChangeDetector();
+
+    private final Map<String, TokenState> tokens = new ConcurrentHashMap<>();
+    private final Map<String, OrderBookSummary> latest = new ConcurrentHashMap<>();
+    private final List<BookListener> listeners = new CopyOnWriteArrayList<>();
+
+    private final Semaphore inFlight;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService workers;
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder booksPolled = new LongAdder();
+    private final LongAdder booksChanged = new LongAdder();
+    private final LongAdder requestNanos = new LongAdder();
+    private volatile long startNanos;
+
+    public BookPoller(ClobClient client) {
+        this(client, new BookPollerConfig());
+    }
+
+    public BookPoller(ClobClient client, BookPollerConfig config) {
+        this.client = client;
+        this.config = config;
+        this.inFlight = new Semaphore(config.maxInFlight());
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("book-poller-scheduler"));
+        this.workers = Executors.newFixedThreadPool(config.maxInFlight(), new DaemonThreadFactory("book-poller"));
+    }
+
+    public void addListener(BookListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(BookListener listener) {
+        listeners.remove(listener);
+    }
+
+    public void add(String tokenId) {
+        tokens.computeIfAbsent(tokenId, id -> new TokenState(config.minInterval().toNanos()));
+    }
+
+    public void addAll(Collection<String> tokenIds) {
+        tokenIds.forEach(this::add);
+    }
+
+    public void remove(String tokenId) {
+        tokens.remove(tokenId);
+        latest.remove(tokenId);
+        detector.reset(tokenId);
+    }
+
+    public void start() {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+        startNanos = System.nanoTime();
+        long tick = config.tick().toNanos();
+        scheduler.scheduleWithFixedDelay(this::schedule, 0, tick, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    /**
+     * Latest book for the token, or null if it has not been polled yet
+     */
+    public OrderBookSummary latest(String tokenId) {
+        return latest.get(tokenId);
+    }
+
+    /**
+     * Read-only view of the latest book per token
+     */
+    public Map<String, OrderBookSummary> latestView() {
+        return Collections.unmodifiableMap(latest);
+    }
+
+    /**
+     * Time since the token's book was last fetched, or null if it never was
+     */
+    public Duration staleness(String tokenId) {
+        TokenState state = tokens.get(tokenId);
+        if (state == null || state.lastPolledNanos == 0) {
+            return null;
+        }
+        return Duration.ofNanos(System.nanoTime() - state.lastPolledNanos);
+    }
+
+    /**
+     * Current adaptive polling interval for the token, or null if it is not tracked
+     */
+    public Duration interval(String tokenId) {
+        TokenState state = tokens.get(tokenId);
+        return state != null ? Duration.ofNanos(state.intervalNanos) : null;
+    }
+
+    public Stats stats() {
+        long now = System.nanoTime();
+        long maxStaleness = 0;
+        long totalStaleness = 0;
+        int polled = 0;
+        for (TokenState state : tokens.values()) {
+            if (state.lastPolledNanos != 0) {
+                long staleness = now - state.lastPolledNanos;
+                maxStaleness = Math.max(maxStaleness, staleness);
+                totalStaleness += staleness;
+                polled++;
+            }
+        }
+
+        long requestCount = requests.sum();
+        long books = booksPolled.sum();
+        double elapsedSeconds = startNanos == 0 ? 0 : (now - startNanos) / 1e9;
+        return new Stats(
+            tokens.size(),
+            config.maxInFlight() - inFlight.availablePermits(),
+            requestCount,
+            errors.sum(),
+            books,
+            booksChanged.sum(),
+            elapsedSeconds > 0 ? books / elapsedSeconds : 0,
+            requestCount > 0 ? Duration.ofNanos(requestNanos.sum() / requestCount) : Duration.ZERO,
+            Duration.ofNanos(maxStaleness),
+            polled > 0 ? Duration.ofNanos(totalStaleness / polled) : Duration.ZERO
+        );
+    }
+
+    private void schedule() {
+        try {
+            long now = System.nanoTime();
+            List<Map.Entry<String, TokenState>> due = new ArrayList<>();
+            for (Map.Entry<String, TokenState> entry : tokens.entrySet()) {
+                TokenState state = entry.getValue();
+                if (!state.inFlight && state.nextDueNanos - now <= 0) {
+                    due.add(entry);
+                }
+            }
+            if (due.isEmpty()) {
+                return;
+            }
+            // Most overdue first, so hot tokens are not starved by a large backlog
+            due.sort(Comparator.comparingLong(e -> e.getValue().nextDueNanos));
+
+            int batchCount = (due.size() + config.maxBatchSize() - 1) / config.maxBatchSize();
+            int batchSize = (due.size() + batchCount - 1) / batchCount;
+            for (int from = 0; from < due.size(); from += batchSize) {
+                if (!inFlight.tryAcquire()) {
+                    return;
+                }
+                List<String> batch = new ArrayList<>(batchSize);
+                for (Map.Entry<String, TokenState> entry : due.subList(from, Math.min(from + batchSize, due.size()))) {
+                    entry.getValue().inFlight = true;
+                    batch.add(entry.getKey());
+                }
+                workers.execute(() -> poll(batch));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Book poller scheduling failed", e);
+        }
+    }
+
+    private void poll(List<String> batch) {
+        long begin = System.nanoTime();
+        try {
+            List<BookParams> params = new ArrayList<>(batch.size());
+            for (String tokenId : batch) {
+                params.add(new BookParams(tokenId));
+            }
+
+            List<OrderBookSummary> changed = client.getOrderBooksIfChanged(params, detector);
+            long end = System.nanoTime();
+            requests.increment();
+            requestNanos.add(end - begin);
+            booksPolled.add(batch.size());
+            booksChanged.add(changed.size());
+
+            // The detector has already recorded these hashes, so the books must be
+            // kept even if a listener fails: they will not be reported again
+            List<OrderBookSummary> kept = new ArrayList<>(changed.size());
+            for (OrderBookSummary book : changed) {
+                if (store(book)) {
+                    kept.add(book);
+                }
+            }
+            for (OrderBookSummary book : kept) {
+                for (BookListener listener : listeners) {
+                    try {
+                        listener.onBook(book);
+                    } catch (RuntimeException e) {
+                        log.warn("Book listener failed on {}", book.assetId(), e);
+                    }
+                }
+            }
+
+            for (String tokenId : batch) {
+                TokenState state = tokens.get(tokenId);
+                if (state != null) {
+                    state.polled(end, config.minInterval().toNanos(), config.maxInterval().toNanos());
+                }
+            }
+        } catch (RuntimeException e) {
+            errors.increment();
+            log.warn("Book poll of {} tokens failed", batch.size(), e);
+            long retryAt = System.nanoTime() + config.minInterval().toNanos();
+            for (String tokenId : batch) {
+                TokenState state = tokens.get(tokenId);
+                if (state != null) {
+                    state.nextDueNanos = retryAt;
+                    state.inFlight = false;
+                }
+            }
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    /**
+     * Keeps a polled book unless its token was removed while the poll was in flight.
+     * Checked again after the put, since remove() may run in between.
+     */
+    private boolean store(OrderBookSummary book) {
+        String tokenId = book.assetId();
+        TokenState state = tokens.get(tokenId);
+        if (state != null) {
+            latest.put(tokenId, book);
+            state.changed = true;
+            if (tokens.get(tokenId) == state) {
+                return true;
+            }
+            latest.remove(tokenId, book);
+        }
+        // The detector recorded the hash after remove() reset it; forget it so a re-added token is fetched in full
+        detector.reset(tokenId);
+        return false;
+    }
+
+    /**
+     * Scheduling state for one token. Written by the worker polling it and read by the scheduler.
+     */
+    private static final class TokenState {
+        volatile long intervalNanos;
+        volatile long nextDueNanos;
+        volatile long lastPolledNanos;
+        volatile boolean inFlight;
+        volatile boolean changed;
+
+        TokenState(long initialInterval) {
+            this.intervalNanos = initialInterval;
+            this.nextDueNanos = System.nanoTime();
+        }
+
+        void polled(long now, long minInterval, long maxInterval) {
+            if (changed) {
+                intervalNanos = Math.max(minInterval, intervalNanos / 2);
+            } else {
+                intervalNanos = Math.min(maxInterval, intervalNanos + intervalNanos / 4);
+            }
+            changed = false;
+            lastPolledNanos = now;
+            nextDueNanos = now + intervalNanos;
+            inFlight = false;
+        }
+    }
+
+    /**
+     * Snapshot of poller throughput and staleness
+     */
+    public record Stats(
+        int tokens,
+        int inFlight,
+        long requests,
+        long errors,
+        long booksPolled,
+        long booksChanged,
+        double booksPerSecond,
+        Duration avgRequestLatency,
+        Duration maxStaleness,
+        Duration avgStaleness
+    ) {}
+}
@@ -0,0 +1,30 @@
+package com.polymarket.clob.orderbook;
+
+import java.time.Duration;
+
+/**
+ * Settings for {@link BookPoller}
+ */
+public record BookPollerConfig(
+    int maxBatchSize,          // Maximum number of tokens per /books request
+    int maxInFlight,           // Number of /books requests allowed in flight at once
+    Duration minInterval,      // Polling interval for tokens that change on every poll
+    Duration maxInterval,      // Polling interval ceiling for tokens that never change
+    Duration tick              // How often the scheduler looks for due tokens
+) {
+    public BookPollerConfig() {
+        this(100, 4, Duration.ofMillis(250), Duration.ofSeconds(10), Duration.ofMillis(50));
+    }
+
+    public BookPollerConfig {
+        if (maxBatchSize <= 0 || maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxBatchSize and maxInFlight must be positive");
+        }
+        if (minInterval.isNegative() || minInterval.isZero() || maxInterval.compareTo(minInterval) < 0) {
+            throw new IllegalArgumentException("intervals must satisfy 0 < minInterval <= maxInterval");
+        }
+        if (tick.isNegative() || tick.isZero()) {
+            throw new IllegalArgumentException("tick must be positive");
+        }
+    }
+}
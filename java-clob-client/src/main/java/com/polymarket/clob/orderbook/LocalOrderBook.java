@@ -0,0 +1,148 @@
+package com.polymarket.clob.orderbook;
+
+import com.polymarket.clob.orderbuilder.constants.OrderSide;
+import com.polymarket.clob.types.OrderBookSummary;
+import com.polymarket.clob.types.OrderSummary;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Order book for one asset maintained from snapshots and price-level deltas.
+ * Levels are kept sorted by price; a size of zero removes the level.
+ * Methods are synchronized so readers on other threads see a consistent book.
+ */
+public class LocalOrderBook {
+    private final String assetId;
+    private final NavigableMap<BigDecimal, String> bids = new TreeMap<>(Comparator.reverseOrder());
+    private final NavigableMap<BigDecimal, String> asks = new TreeMap<>();
+
+    private String market;
+    private String timestamp;
+    private String hash;
+    private String minOrderSize;
+    private Boolean negRisk;
+    private String tickSize;
+
+    public LocalOrderBook(String assetId) {
+        this.assetId = assetId;
+    }
+
+    public String assetId() {
+        return assetId;
+    }
+
+    /**
+     * Replaces the whole book with the given levels
+     */
+    public synchronized void applySnapshot(OrderBookSummary snapshot) {
+        bids.clear();
+        asks.clear();
+        putLevels(bids, snapshot.bids());
+        putLevels(asks, snapshot.asks());
+        this.market = snapshot.market();
+        this.timestamp = snapshot.timestamp();
+        this.hash = snapshot.hash();
+        if (snapshot.minOrderSize() != null) {
+            this.minOrderSize = snapshot.minOrderSize();
+        }
+        if (snapshot.negRisk() != null) {
+            this.negRisk = snapshot.negRisk();
+        }
+        if (snapshot.tickSize() != null) {
+            this.tickSize = snapshot.tickSize();
+        }
+    }
+
+    /**
+     * Sets one price level. The side is BUY for bids and SELL for asks.
+     */
+    public synchronized void applyChange(String side, String price, String size, String timestamp, String hash) {
+        NavigableMap<BigDecimal, String> levels = OrderSide.BUY.equals(side) ? bids : asks;
+        BigDecimal key = new BigDecimal(price);
+        if (new BigDecimal(size).signum() == 0) {
+            levels.remove(key);
+        } else {
+            levels.put(key, size);
+        }
+        if (timestamp != null) {
+            this.timestamp = timestamp;
+        }
+        if (hash != null) {
+            this.hash = hash;
+        }
+    }
+
+    public synchronized void setTickSize(String tickSize) {
+        this.tickSize = tickSize;
+    }
+
+    public synchronized String hash() {
+        return hash;
+    }
+
+    /**
+     * Best bid price, or null if there are no bids
+     */
+    public synchronized BigDecimal bestBid() {
+        return bids.isEmpty() ? null : bids.firstKey();
+    }
+
+    /**
+     * Best ask price, or null if there are no asks
+     */
+    public synchronized BigDecimal bestAsk() {
+        return asks.isEmpty() ? null : asks.firstKey();
+    }
+
+    public synchronized int bidDepth() {
+        return bids.size();
+    }
+
+    public synchronized int askDepth() {
+        return asks.size();
+    }
+
+    /**
+     * Copies the book into an OrderBookSummary. Levels are ordered the way /book
+     * returns them: worst price first, so the best price is the last element.
+     */
+    public synchronized OrderBookSummary toSummary() {
+        return new OrderBookSummary(
+            market,
+            assetId,
+            timestamp,
+            toLevels(bids),
+            toLevels(asks),
+            minOrderSize,
+            negRisk,
+            tickSize,
+            hash
+        );
+    }
+
+    private static void putLevels(NavigableMap<BigDecimal, String> levels, List<OrderSummary> summaries) {
+        if (summaries == null) {
+            return;
+        }
+        for (OrderSummary level : summaries) {
+            BigDecimal price = new BigDecimal(level.price());
+            if (new BigDecimal(level.size()).signum() != 0) {
+                levels.put(price, level.size());
+            }
+        }
+    }
+
+    private static List<OrderSummary> toLevels(NavigableMap<BigDecimal, String> levels) {
+        List<OrderSummary> result = new ArrayList<>(levels.size());
+        for (Map.Entry<BigDecimal, String> level : levels.descendingMap().entrySet()) {
+            result.add(new OrderSummary(level.getKey().toPlainString(), level.getValue()));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,396 @@
+package com.polymarket.clob.orderbook;
+
+import com.polymarket.clob.types.OrderBookSummary;
+import com.polymarket.clob.types.OrderSummary;
+import com.polymarket.clob.utilities.TokenSymbols;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Order books for many tokens stored off-heap in one {@link MemorySegment}.
+ * <p>
+ * Every token gets a fixed-size slot holding a header and up to maxLevels bid and
+ * ask levels, best price first. Prices and sizes are fixed-point longs scaled by
+ * {@link #SCALE}, so a book costs no heap objects once its slot is assigned and
+ * the read accessors allocate nothing. Slots are found through an array indexed
+ * by {@link TokenSymbols} handle, so {@link #slotOf(int)} involves no hashing.
+ * <p>
+ * Each slot is guarded by a seqlock: a writer makes the version odd, writes, then
+ * makes it even again, and readers retry until they see the same even version on
+ * both sides of their read. Writers to the same slot are serialized on the slot's
+ * stripe; readers never block.
+ * <p>
+ * Slot layout:
+ * <pre>
+ *   0  long  version
+ *   8  int   bid count
+ *  12  int   ask count
+ *  16  long  timestamp (as sent by the server, ms)
+ *  24  byte  hash length (bytes)
+ *  25  byte[23] hash, hex-decoded
+ *  48  bids: maxLevels x (long price, long size)
+ *   .. asks: maxLevels x (long price, long size)
+ * </pre>
+ */
+public class OffHeapBookStore implements AutoCloseable {
+    public static final long SCALE = 1_000_000L;
+    public static final long NO_PRICE = -1L;
+
+    private static final long VERSION = 0;
+    private static final long BID_COUNT = 8;
+    private static final long ASK_COUNT = 12;
+    private static final long TIMESTAMP = 16;
+    private static final long HASH_LENGTH = 24;
+    private static final long HASH = 25;
+    private static final int MAX_HASH_BYTES = 23;
+    private static final long LEVELS = 48;
+    private static final long LEVEL_BYTES = 16;
+
+    private static final int STRIPES = 64;
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(int[].class);
+
+    private final int maxBooks;
+    private final int maxLevels;
+    private final long slotBytes;
+    private final Arena arena;
+    private final MemorySegment segment;
+
+    // Slot + 1 per token handle, 0 for none; replaced on growth and republished on every assignment
+    private volatile int[] slotsByHandle = new int[0];
+    private final Object slotLock = new Object();
+    private final AtomicInteger nextSlot = new AtomicInteger();
+    private final Object[] writeLocks = new Object[STRIPES];
+
+    public OffHeapBookStore(int maxBooks, int maxLevels) {
+        if (maxBooks <= 0 || maxLevels <= 0) {
+            throw new IllegalArgumentException("maxBooks and maxLevels must be positive");
+        }
+        this.maxBooks = maxBooks;
+        this.maxLevels = maxLevels;
+        this.slotBytes = LEVELS + 2L * maxLevels * LEVEL_BYTES;
+        this.arena = Arena.ofShared();
+        this.segment = arena.allocate(slotBytes * maxBooks, Long.BYTES);
+        this.segment.fill((byte) 0);
+        for (int i = 0; i < STRIPES; i++) {
+            writeLocks[i] = new Object();
+        }
+    }
+
+    public int maxBooks() {
+        return maxBooks;
+    }
+
+    public int maxLevels() {
+        return maxLevels;
+    }
+
+    public int size() {
+        return Math.min(nextSlot.get(), maxBooks);
+    }
+
+    /**
+     * Off-heap bytes reserved for all slots
+     */
+    public long byteSize() {
+        return segment.byteSize();
+    }
+
+    /**
+     * Slot for the token, or -1 if the token has never been stored
+     */
+    public int slotOf(String tokenId) {
+        int handle = TokenSymbols.find(tokenId);
+        return handle != TokenSymbols.NOT_FOUND ? slotOf(handle) : -1;
+    }
+
+    /**
+     * Slot for a {@link TokenSymbols} handle, or -1 if the token has never been stored
+     */
+    public int slotOf(int tokenHandle) {
+        int[] table = slotsByHandle;
+        return tokenHandle >= 0 && tokenHandle < table.length ? (int) SLOT.getAcquire(table, tokenHandle) - 1 : -1;
+    }
+
+    private int assignSlot(int handle) {
+        synchronized (slotLock) {
+            int[] table = slotsByHandle;
+            if (handle < table.length && table[handle] != 0) {
+                return table[handle] - 1;
+            }
+            int assigned = nextSlot.get();
+            if (assigned >= maxBooks) {
+                throw new IllegalStateException("Off-heap book store is full (" + maxBooks + " books)");
+            }
+            if (handle >= table.length) {
+                table = Arrays.copyOf(table, Math.max(handle + 1, table.length * 2));
+            }
+            // Count the slot before readers can find it, so checkSlot never rejects a published slot
+            nextSlot.set(assigned + 1);
+            SLOT.setRelease(table, handle, assigned + 1);
+            slotsByHandle = table;
+            return assigned;
+        }
+    }
+
+    /**
+     * Stores the book, keeping at most maxLevels of the best levels per side.
+     * Returns the token's slot.
+     */
+    public int put(OrderBookSummary book) {
+        int handle = TokenSymbols.intern(book.assetId());
+        int slot = slotOf(handle);
+        if (slot < 0) {
+            slot = assignSlot(handle);
+        }
+
+        long base = slot * slotBytes;
+        synchronized (writeLocks[slot % STRIPES]) {
+            long version = segment.get(ValueLayout.JAVA_LONG, base + VERSION);
+            segment.set(ValueLayout.JAVA_LONG, base + VERSION, version + 1);
+            VarHandle.releaseFence();
+
+            // /book lists levels worst first, so walk from the end to store best first
+            int bidCount = writeLevels(base + LEVELS, book.bids());
+            int askCount = writeLevels(base + LEVELS + maxLevels * LEVEL_BYTES, book.asks());
+            segment.set(ValueLayout.JAVA_INT, base + BID_COUNT, bidCount);
+            segment.set(ValueLayout.JAVA_INT, base + ASK_COUNT, askCount);
+            segment.set(ValueLayout.JAVA_LONG, base + TIMESTAMP, parseLong(book.timestamp()));
+            writeHash(base, book.hash());
+
+            VarHandle.releaseFence();
+            segment.set(ValueLayout.JAVA_LONG, base + VERSION, version + 2);
+        }
+        return slot;
+    }
+
+    /**
+     * Best bid as a fixed-point price, or {@link #NO_PRICE} if there are no bids
+     */
+    public long bestBid(int slot) {
+        return levelValue(slot, true, 0, 0);
+    }
+
+    /**
+     * Best ask as a fixed-point price, or {@link #NO_PRICE} if there are no asks
+     */
+    public long bestAsk(int slot) {
+        return levelValue(slot, false, 0, 0);
+    }
+
+    /**
+     * Bid price at the level, 0 being the best, or {@link #NO_PRICE} past the last level
+     */
+    public long bidPrice(int slot, int level) {
+        return levelValue(slot, true, level, 0);
+    }
+
+    public long bidSize(int slot, int level) {
+        return levelValue(slot, true, level, Long.BYTES);
+    }
+
+    /**
+     * Ask price at the level, 0 being the best, or {@link #NO_PRICE} past the last level
+     */
+    public long askPrice(int slot, int level) {
+        return levelValue(slot, false, level, 0);
+    }
+
+    public long askSize(int slot, int level) {
+        return levelValue(slot, false, level, Long.BYTES);
+    }
+
+    public int bidDepth(int slot) {
+        return (int) readStable(slot, BID_COUNT, true);
+    }
+
+    public int askDepth(int slot) {
+        return (int) readStable(slot, ASK_COUNT, true);
+    }
+
+    public long timestamp(int slot) {
+        return readStable(slot, TIMESTAMP, false);
+    }
+
+    /**
+     * Total fixed-point size over the best {@code levels} levels of one side
+     */
+    public long cumulativeSize(int slot, boolean bids, int levels) {
+        checkSlot(slot);
+        long base = slot * slotBytes;
+        long sideBase = base + LEVELS + (bids ? 0 : maxLevels * LEVEL_BYTES);
+        while (true) {
+            long before = segment.get(ValueLayout.JAVA_LONG, base + VERSION);
+            VarHandle.acquireFence();
+            int count = segment.get(ValueLayout.JAVA_INT, base + (bids ? BID_COUNT : ASK_COUNT));
+            int limit = Math.min(Math.min(levels, count), maxLevels);
+            long total = 0;
+            for (int i = 0; i < limit; i++) {
+                total += segment.get(ValueLayout.JAVA_LONG, sideBase + i * LEVEL_BYTES + Long.BYTES);
+            }
+            VarHandle.acquireFence();
+            if ((before & 1) == 0 && before == segment.get(ValueLayout.JAVA_LONG, base + VERSION)) {
+                return total;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Whether the stored hash equals the given hex hash, compared without allocating
+     */
+    public boolean hashEquals(int slot, String hash) {
+        checkSlot(slot);
+        long base = slot * slotBytes;
+        while (true) {
+            long before = segment.get(ValueLayout.JAVA_LONG, base + VERSION);
+            VarHandle.acquireFence();
+            boolean equal = compareHash(base, hash);
+            VarHandle.acquireFence();
+            if ((before & 1) == 0 && before == segment.get(ValueLayout.JAVA_LONG, base + VERSION)) {
+                return equal;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    public static double toDouble(long fixed) {
+        return (double) fixed / SCALE;
+    }
+
+    /**
+     * Parses a decimal string such as "0.045" into a fixed-point long scaled by {@link #SCALE}.
+     * Digits beyond the sixth decimal place are truncated.
+     */
+    public static long parseFixed(String value) {
+        if (value == null || value.isEmpty()) {
+            return 0;
+        }
+        long integer = 0;
+        long fraction = 0;
+        int fractionDigits = -1;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                fractionDigits = 0;
+            } else if (c >= '0' && c <= '9') {
+                if (fractionDigits < 0) {
+                    integer = integer * 10 + (c - '0');
+                } else if (fractionDigits < 6) {
+                    fraction = fraction * 10 + (c - '0');
+                    fractionDigits++;
+                }
+            } else {
+                throw new NumberFormatException("Invalid decimal: " + value);
+            }
+        }
+        for (int i = Math.max(fractionDigits, 0); i < 6; i++) {
+            fraction *= 10;
+        }
+        return integer * SCALE + fraction;
+    }
+
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    private int writeLevels(long sideBase, List<OrderSummary> levels) {
+        if (levels == null) {
+            return 0;
+        }
+        int count = Math.min(levels.size(), maxLevels);
+        for (int i = 0; i < count; i++) {
+            OrderSummary level = levels.get(levels.size() - 1 - i);
+            long offset = sideBase + i * LEVEL_BYTES;
+            segment.set(ValueLayout.JAVA_LONG, offset, parseFixed(level.price()));
+            segment.set(ValueLayout.JAVA_LONG, offset + Long.BYTES, parseFixed(level.size()));
+        }
+        return count;
+    }
+
+    private void writeHash(long base, String hash) {
+        int length = hash == null ? 0 : Math.min(hash.length() / 2, MAX_HASH_BYTES);
+        for (int i = 0; i < length; i++) {
+            int high = Character.digit(hash.charAt(2 * i), 16);
+            int low = Character.digit(hash.charAt(2 * i + 1), 16);
+            segment.set(ValueLayout.JAVA_BYTE, base + HASH + i, (byte) ((high << 4) | (low & 0xf)));
+        }
+        segment.set(ValueLayout.JAVA_BYTE, base + HASH_LENGTH, (byte) length);
+    }
+
+    private boolean compareHash(long base, String hash) {
+        int length = segment.get(ValueLayout.JAVA_BYTE, base + HASH_LENGTH);
+        if (hash == null || hash.length() != 2 * length || length == 0) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            int high = Character.digit(hash.charAt(2 * i), 16);
+            int low = Character.digit(hash.charAt(2 * i + 1), 16);
+            if (segment.get(ValueLayout.JAVA_BYTE, base + HASH + i) != (byte) ((high << 4) | (low & 0xf))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long levelValue(int slot, boolean bids, int level, long field) {
+        checkSlot(slot);
+        if (level < 0 || level >= maxLevels) {
+            return NO_PRICE;
+        }
+        long base = slot * slotBytes;
+        long offset = base + LEVELS + (bids ? 0 : maxLevels * LEVEL_BYTES) + level * LEVEL_BYTES + field;
+        while (true) {
+            long before = segment.get(ValueLayout.JAVA_LONG, base + VERSION);
+            VarHandle.acquireFence();
+            int count = segment.get(ValueLayout.JAVA_INT, base + (bids ? BID_COUNT : ASK_COUNT));
+            long value = level < count ? segment.get(ValueLayout.JAVA_LONG, offset) : NO_PRICE;
+            VarHandle.acquireFence();
+            if ((before & 1) == 0 && before == segment.get(ValueLayout.JAVA_LONG, base + VERSION)) {
+                return value;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private long readStable(int slot, long field, boolean isInt) {
+        checkSlot(slot);
+        long base = slot * slotBytes;
+        while (true) {
+            long before = segment.get(ValueLayout.JAVA_LONG, base + VERSION);
+            VarHandle.acquireFence();
+            long value = isInt
+                ? segment.get(ValueLayout.JAVA_INT, base + field)
+                : segment.get(ValueLayout.JAVA_LONG, base + field);
+            VarHandle.acquireFence();
+            if ((before & 1) == 0 && before == segment.get(ValueLayout.JAVA_LONG, base + VERSION)) {
+                return value;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private void checkSlot(int slot) {
+        if (slot < 0 || slot >= size()) {
+            throw new IndexOutOfBoundsException("Invalid book slot: " + slot);
+        }
+    }
+
+    private static long parseLong(String value) {
+        if (value == null || value.isEmpty()) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
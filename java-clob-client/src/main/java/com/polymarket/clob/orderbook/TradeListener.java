@@ -0,0 +1,11 @@
+package com.polymarket.clob.orderbook;
+
+import com.polymarket.clob.types.LastTrade;
+
+/**
+ * Receives last trade price observations from a polling or streaming source
+ */
+@FunctionalInterface
+public interface TradeListener {
+    void onTrade(LastTrade trade);
+}
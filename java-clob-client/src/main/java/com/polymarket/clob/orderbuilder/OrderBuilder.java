@@ -5,11 +5,15 @@ import com.polymarket.clob.orderbuilder.constants.OrderSide;
 import com.polymarket.clob.orderbuilder.helpers.OrderBuilderHelpers;
 import com.polymarket.clob.signer.Signer;
 import com.polymarket.clob.types.*;
+import com.polymarket.clob.utilities.TokenSymbols;
+import com.polymarket.orderutils.HashSigner;
 import com.polymarket.orderutils.UtilsSigner;
 import com.polymarket.orderutils.builders.UtilsOrderBuilder;
 import com.polymarket.orderutils.model.OrderData;
 import com.polymarket.orderutils.model.SignedOrder;
+import com.polymarket.orderutils.utils.Utils;
 
+import java.math.BigInteger;
 import java.util.List;
 import java.util.Map;
 
@@ -24,16 +28,39 @@ public class OrderBuilder {
         TickSize.TICK_0_0001, new RoundConfig(4, 2, 6)
     );
 
-    private final Signer signer;
+    private final int chainId;
+    private final String address;
     private final int sigType;
     private final String funder;
+    private final HashSigner hashSigner;
+
+    // Order builders per exchange, created on first use since they fix the EIP-712 domain
+    private volatile UtilsOrderBuilder exchangeBuilder;
+    private volatile UtilsOrderBuilder negRiskExchangeBuilder;
 
     public OrderBuilder(Signer signer, Integer sigType, String funder) {
-        this.signer = signer;
+        this(new UtilsSigner(signer.getPrivateKey()), signer.getChainId(), sigType, funder);
+    }
+
+    /**
+     * Builder whose order signatures come from the given hash signer, for example a
+     * {@link com.polymarket.clob.signing.remote.RemoteSigner} holding the key in another process
+     */
+    public OrderBuilder(HashSigner hashSigner, int chainId, Integer sigType, String funder) {
+        this.chainId = chainId;
+        this.address = hashSigner.getAddress();
+        this.hashSigner = hashSigner;
         // Default to EOA (0) if not specified
         this.sigType = (sigType != null) ? sigType : 0;
         // Default to signer address if funder not specified
-        this.funder = (funder != null) ? funder : signer.address();
+        this.funder = (funder != null) ? funder : address;
+    }
+
+    /**
+     * Rounding configuration for a tick size, or null if the tick size is not supported
+     */
+    public static RoundConfig roundConfig(String tickSize) {
+        return ROUNDING_CONFIG.get(tickSize);
     }
 
     public OrderResult getOrderAmounts(String side, double size, double price, RoundConfig roundConfig) {
@@ -115,79 +142,99 @@ public class OrderBuilder {
     public Map<String, Object> createOrder(OrderArgs orderArgs, CreateOrderOptions options) {
         RoundConfig roundConfig = ROUNDING_CONFIG.get(options.tickSize());
         OrderResult result = getOrderAmounts(orderArgs.side(), orderArgs.size(), orderArgs.price(), roundConfig);
-
-        ContractConfig contractConfig = Config.getContractConfig(signer.getChainId(), options.negRisk());
-
-        // Create UtilsSigner and UtilsOrderBuilder
-        UtilsSigner utilsSigner = new UtilsSigner(signer.getPrivateKey());
-        UtilsOrderBuilder orderBuilder = new UtilsOrderBuilder(
-                contractConfig.exchange(),
-                signer.getChainId(),
-                utilsSigner
+        return signOrder(
+            orderArgs.tokenId(),
+            result,
+            orderArgs.feeRateBps(),
+            orderArgs.nonce(),
+            orderArgs.expiration(),
+            orderArgs.taker(),
+            options.negRisk()
         );
-
-        // Convert side string to integer (0 = BUY, 1 = SELL)
-        int sideValue = OrderSide.BUY.equals(result.side()) ? 0 : 1;
-
-        // Build order data
-        OrderData orderData = OrderData.builder()
-                .maker(funder)
-                .taker(orderArgs.taker())
-                .tokenId(orderArgs.tokenId())
-                .makerAmount(String.valueOf(result.makerAmount()))
-                .takerAmount(String.valueOf(result.takerAmount()))
-                .side(sideValue)
-                .feeRateBps(String.valueOf(orderArgs.feeRateBps()))
-                .nonce(String.valueOf(orderArgs.nonce()))
-                .signer(signer.address())
-                .expiration(String.valueOf(orderArgs.expiration()))
-                .signatureType(sigType)
-                .build();
-
-        // Build and sign the order
-        SignedOrder signedOrder = orderBuilder.buildSignedOrder(orderData);
-
-        return signedOrder.toMap();
     }
 
     public Map<String, Object> createMarketOrder(MarketOrderArgs orderArgs, CreateOrderOptions options) {
         RoundConfig roundConfig = ROUNDING_CONFIG.get(options.tickSize());
         OrderResult result = getMarketOrderAmounts(orderArgs.side(), orderArgs.amount(), orderArgs.price(), roundConfig);
+        // Market orders typically don't expire
+        return signOrder(
+            orderArgs.tokenId(),
+            result,
+            orderArgs.feeRateBps(),
+            orderArgs.nonce(),
+            0,
+            orderArgs.taker(),
+            options.negRisk()
+        );
+    }
 
-        ContractConfig contractConfig = Config.getContractConfig(signer.getChainId(), options.negRisk());
+    /**
+     * Builds and signs an order from already computed amounts
+     */
+    public Map<String, Object> signOrder(String tokenId, OrderResult amounts, int feeRateBps, long nonce,
+                                         long expiration, String taker, boolean negRisk) {
+        return signOrder(tokenId, new BigInteger(tokenId), amounts, feeRateBps, nonce, expiration, taker, negRisk);
+    }
 
-        // Create UtilsSigner and UtilsOrderBuilder
-        UtilsSigner utilsSigner = new UtilsSigner(signer.getPrivateKey());
-        UtilsOrderBuilder orderBuilder = new UtilsOrderBuilder(
-                contractConfig.exchange(),
-                signer.getChainId(),
-                utilsSigner
+    /**
+     * Builds and signs an order for a {@link TokenSymbols} handle, reusing the parsed token ID
+     */
+    public Map<String, Object> signOrder(int tokenHandle, OrderResult amounts, int feeRateBps, long nonce,
+                                         long expiration, String taker, boolean negRisk) {
+        return signOrder(
+            TokenSymbols.tokenId(tokenHandle),
+            TokenSymbols.value(tokenHandle),
+            amounts,
+            feeRateBps,
+            nonce,
+            expiration,
+            taker,
+            negRisk
         );
+    }
 
+    private Map<String, Object> signOrder(String tokenId, BigInteger tokenValue, OrderResult amounts, int feeRateBps,
+                                          long nonce, long expiration, String taker, boolean negRisk) {
         // Convert side string to integer (0 = BUY, 1 = SELL)
-        int sideValue = OrderSide.BUY.equals(result.side()) ? 0 : 1;
+        int sideValue = OrderSide.BUY.equals(amounts.side()) ? 0 : 1;
 
-        // Build order data for market order (expiration is 0)
         OrderData orderData = OrderData.builder()
                 .maker(funder)
-                .taker(orderArgs.taker())
-                .tokenId(orderArgs.tokenId())
-                .makerAmount(String.valueOf(result.makerAmount()))
-                .takerAmount(String.valueOf(result.takerAmount()))
+                .taker(taker)
+                .tokenId(tokenId)
+                .makerAmount(String.valueOf(amounts.makerAmount()))
+                .takerAmount(String.valueOf(amounts.takerAmount()))
                 .side(sideValue)
-                .feeRateBps(String.valueOf(orderArgs.feeRateBps()))
-                .nonce(String.valueOf(orderArgs.nonce()))
-                .signer(signer.address())
-                .expiration("0")  // Market orders typically don't expire
+                .feeRateBps(String.valueOf(feeRateBps))
+                .nonce(String.valueOf(nonce))
+                .signer(address)
+                .expiration(String.valueOf(expiration))
                 .signatureType(sigType)
                 .build();
 
         // Build and sign the order
-        SignedOrder signedOrder = orderBuilder.buildSignedOrder(orderData);
+        SignedOrder signedOrder = exchangeBuilder(negRisk).buildSignedOrder(orderData, tokenValue);
 
         return signedOrder.toMap();
     }
 
+    private UtilsOrderBuilder exchangeBuilder(boolean negRisk) {
+        UtilsOrderBuilder orderBuilder = negRisk ? negRiskExchangeBuilder : exchangeBuilder;
+        if (orderBuilder == null) {
+            ContractConfig contractConfig = Config.getContractConfig(chainId, negRisk);
+            // Counter-based salts keep bulk-signed identical orders from colliding
+            orderBuilder = new UtilsOrderBuilder(
+                contractConfig.exchange(), chainId, hashSigner, Utils::generateUniqueSeed
+            );
+            if (negRisk) {
+                negRiskExchangeBuilder = orderBuilder;
+            } else {
+                exchangeBuilder = orderBuilder;
+            }
+        }
+        return orderBuilder;
+    }
+
     public double calculateBuyMarketPrice(List<OrderSummary> positions, double amountToMatch, OrderType orderType) {
         if (positions == null || positions.isEmpty()) {
             throw new RuntimeException("no match");
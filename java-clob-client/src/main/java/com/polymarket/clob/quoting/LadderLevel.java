@@ -0,0 +1,14 @@
+package com.polymarket.clob.quoting;
+
+/**
+ * One target quote of a ladder
+ *
+ * @param side  BUY or SELL
+ * @param price limit price, a multiple of the token's tick size
+ * @param size  size in conditional tokens
+ */
+public record LadderLevel(
+    String side,
+    double price,
+    double size
+) {}
@@ -0,0 +1,339 @@
+package com.polymarket.clob.quoting;
+
+import com.polymarket.clob.client.ClobClient;
+import com.polymarket.clob.client.MarketHandle;
+import com.polymarket.clob.oms.OrderManager;
+import com.polymarket.clob.oms.TrackedOrder;
+import com.polymarket.clob.orderbook.OffHeapBookStore;
+import com.polymarket.clob.orderbuilder.constants.OrderSide;
+import com.polymarket.clob.submission.OrderBatcherConfig;
+import com.polymarket.clob.types.OrderType;
+import com.polymarket.clob.types.PostOrdersArgs;
+import com.polymarket.clob.utilities.DaemonThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Keeps one token's quote ladder in line with a target using as few requests as possible.
+ * <p>
+ * {@link #requote} diffs the target levels against the orders this ladder has
+ * live, keyed by side and price. Levels with the same size are left alone.
+ * Levels that are gone or resized are canceled in one DELETE /orders request.
+ * Only new and resized levels are signed, in parallel, while the cancel is in
+ * flight. They are posted in /orders batches once the cancel has freed their
+ * collateral. Orders the cancel response does not list as canceled, for
+ * example because they matched meanwhile, stay live and their levels are not
+ * posted over; the next requote tries again. With an {@link OrderManager}, live
+ * orders that have filled, partly filled or been canceled elsewhere are
+ * replaced as well.
+ * <p>
+ * Requotes of one ladder are serialized. Ladders of different tokens share the
+ * signing and posting threads and may requote concurrently.
+ */
+public class QuoteLadder implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(QuoteLadder.class);
+
+    private static final ExecutorService signers = Executors.newFixedThreadPool(
+        Runtime.getRuntime().availableProcessors(), new DaemonThreadFactory("ladder-signer")
+    );
+    private static final ExecutorService posters =
+        Executors.newCachedThreadPool(new DaemonThreadFactory("ladder-poster"));
+
+    private final MarketHandle handle;
+    private final boolean ownsHandle;
+    private final Function<List<PostOrdersArgs>, Object> postOrders;
+    private final Function<List<String>, Object> cancelOrders;
+    private final OrderManager orders;
+
+    // Guarded by this
+    private final Map<LevelKey, Live> live = new HashMap<>();
+    private long requotes;
+    private long targetLevels;
+    private long unchangedLevels;
+    private long signed;
+    private long posted;
+    private long canceled;
+    private long failed;
+    private long totalRequoteNanos;
+    private long maxRequoteNanos;
+    private long lastRequoteNanos;
+
+    public QuoteLadder(ClobClient client, String tokenId) {
+        this(client.getMarketHandle(tokenId), true, client::postOrders, client::cancelOrders, null);
+    }
+
+    /**
+     * Ladder whose posts and cancels go through the order manager, which also
+     * tells the ladder when its orders fill or are canceled elsewhere
+     */
+    public QuoteLadder(ClobClient client, String tokenId, OrderManager orders) {
+        this(client.getMarketHandle(tokenId), true, orders::postOrders, orders::cancelOrders, orders);
+    }
+
+    /**
+     * @param handle       order factory for the token; not closed by the ladder
+     * @param postOrders   sends one /orders batch, for example {@code client::postOrders}
+     * @param cancelOrders sends one DELETE /orders request
+     * @param orders       order manager consulted for fills, may be null
+     */
+    public QuoteLadder(MarketHandle handle, Function<List<PostOrdersArgs>, Object> postOrders,
+                       Function<List<String>, Object> cancelOrders, OrderManager orders) {
+        this(handle, false, postOrders, cancelOrders, orders);
+    }
+
+    private QuoteLadder(MarketHandle handle, boolean ownsHandle, Function<List<PostOrdersArgs>, Object> postOrders,
+                        Function<List<String>, Object> cancelOrders, OrderManager orders) {
+        this.handle = handle;
+        this.ownsHandle = ownsHandle;
+        this.postOrders = postOrders;
+        this.cancelOrders = cancelOrders;
+        this.orders = orders;
+    }
+
+    /**
+     * Moves the ladder to the target levels. Levels at the same side and price
+     * count as one; the last one wins.
+     */
+    public synchronized Result requote(List<LadderLevel> target) {
+        long start = System.nanoTime();
+        Map<LevelKey, LadderLevel> wanted = new HashMap<>(target.size() * 2);
+        for (LadderLevel level : target) {
+            wanted.put(LevelKey.of(level.side(), level.price()), level);
+        }
+
+        List<String> toCancel = new ArrayList<>();
+        Map<LevelKey, Live> canceling = new HashMap<>();
+        int kept = 0;
+        for (Iterator<Map.Entry<LevelKey, Live>> it = live.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<LevelKey, Live> entry = it.next();
+            Live order = entry.getValue();
+            LadderLevel level = wanted.get(entry.getKey());
+            TrackedOrder tracked = orders != null ? orders.order(order.orderId()) : null;
+            boolean closed = tracked != null && !tracked.isOpen();
+            boolean intact = tracked == null || tracked.sizeMatched() == 0;
+            if (level != null && !closed && intact && fixed(level.size()) == order.size()) {
+                wanted.remove(entry.getKey());
+                kept++;
+                continue;
+            }
+            if (!closed) {
+                toCancel.add(order.orderId());
+                canceling.put(entry.getKey(), order);
+            }
+            it.remove();
+        }
+
+        // Sign while the cancel is in flight; new orders wait for it before posting
+        CompletableFuture<Object> cancel = toCancel.isEmpty()
+            ? CompletableFuture.completedFuture(null)
+            : CompletableFuture.supplyAsync(() -> cancelOrders.apply(toCancel), posters);
+        List<LevelKey> keys = new ArrayList<>(wanted.keySet());
+        List<CompletableFuture<Map<String, Object>>> signing = new ArrayList<>(keys.size());
+        for (LevelKey key : keys) {
+            LadderLevel level = wanted.get(key);
+            signing.add(CompletableFuture.supplyAsync(
+                () -> handle.createOrder(level.price(), level.size(), level.side()), signers
+            ));
+        }
+
+        Object cancelResponse;
+        try {
+            cancelResponse = cancel.join();
+        } catch (RuntimeException e) {
+            // Posting now could double the exposure; keep the old orders and let the next requote retry
+            log.warn("Ladder cancel of {} orders failed for token {}", toCancel.size(), handle.tokenId(), e);
+            live.putAll(canceling);
+            return record(start, kept, 0, 0, keys.size(), 0);
+        }
+
+        // Orders the server did not cancel are still resting; the same reasoning applies to each of them
+        int cancels = toCancel.size();
+        if (!toCancel.isEmpty()) {
+            Set<String> confirmed = canceledIds(cancelResponse);
+            for (Map.Entry<LevelKey, Live> entry : canceling.entrySet()) {
+                if (!confirmed.contains(entry.getValue().orderId())) {
+                    live.put(entry.getKey(), entry.getValue());
+                    cancels--;
+                }
+            }
+            if (cancels < toCancel.size()) {
+                log.warn("Ladder cancel left {} of {} orders live for token {}",
+                    toCancel.size() - cancels, toCancel.size(), handle.tokenId());
+            }
+        }
+
+        List<PostOrdersArgs> args = new ArrayList<>(keys.size());
+        List<LevelKey> signedKeys = new ArrayList<>(keys.size());
+        int failed = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            if (live.containsKey(keys.get(i))) {
+                failed++;
+                continue;
+            }
+            try {
+                args.add(new PostOrdersArgs(signing.get(i).join(), OrderType.GTC));
+                signedKeys.add(keys.get(i));
+            } catch (RuntimeException e) {
+                failed++;
+                log.warn("Could not sign ladder level {} for token {}", wanted.get(keys.get(i)), handle.tokenId(), e);
+            }
+        }
+
+        int placed = 0;
+        int limit = OrderBatcherConfig.SERVER_BATCH_LIMIT;
+        List<CompletableFuture<Object>> batches = new ArrayList<>();
+        for (int from = 0; from < args.size(); from += limit) {
+            List<PostOrdersArgs> batch = args.subList(from, Math.min(from + limit, args.size()));
+            batches.add(CompletableFuture.supplyAsync(() -> postOrders.apply(batch), posters));
+        }
+        for (int b = 0; b < batches.size(); b++) {
+            int from = b * limit;
+            int size = Math.min(limit, args.size() - from);
+            Object response;
+            try {
+                response = batches.get(b).join();
+            } catch (RuntimeException e) {
+                failed += size;
+                log.warn("Ladder post of {} orders failed for token {}", size, handle.tokenId(), e);
+                continue;
+            }
+            List<?> results = response instanceof List<?> list ? list : List.of();
+            for (int i = 0; i < size; i++) {
+                Object result = i < results.size() ? results.get(i) : null;
+                String orderId = result instanceof Map<?, ?> map && map.get("orderID") != null
+                    ? map.get("orderID").toString()
+                    : null;
+                if (orderId == null || orderId.isEmpty()) {
+                    failed++;
+                    continue;
+                }
+                LevelKey key = signedKeys.get(from + i);
+                live.put(key, new Live(orderId, fixed(wanted.get(key).size())));
+                placed++;
+            }
+        }
+
+        return record(start, kept, cancels, placed, failed, args.size());
+    }
+
+    // IDs listed under "canceled" in a DELETE /orders response; anything else counts as not canceled
+    private static Set<String> canceledIds(Object response) {
+        Set<String> ids = new HashSet<>();
+        if (response instanceof Map<?, ?> result && result.get("canceled") instanceof List<?> canceled) {
+            for (Object id : canceled) {
+                if (id != null) {
+                    ids.add(id.toString());
+                }
+            }
+        }
+        return ids;
+    }
+
+    private Result record(long start, int kept, int cancels, int placed, int failed, int signatures) {
+        long elapsed = System.nanoTime() - start;
+        requotes++;
+        targetLevels += kept + placed + failed;
+        unchangedLevels += kept;
+        signed += signatures;
+        posted += placed;
+        canceled += cancels;
+        this.failed += failed;
+        totalRequoteNanos += elapsed;
+        maxRequoteNanos = Math.max(maxRequoteNanos, elapsed);
+        lastRequoteNanos = elapsed;
+        return new Result(kept, cancels, placed, failed, elapsed);
+    }
+
+    /**
+     * Cancels every live order of the ladder. Returns the number canceled.
+     */
+    public synchronized int clear() {
+        return requote(List.of()).canceled();
+    }
+
+    /**
+     * Order IDs the ladder currently has live
+     */
+    public synchronized List<String> liveOrderIds() {
+        List<String> ids = new ArrayList<>(live.size());
+        for (Live order : live.values()) {
+            ids.add(order.orderId());
+        }
+        return ids;
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(
+            requotes,
+            live.size(),
+            targetLevels,
+            unchangedLevels,
+            signed,
+            posted,
+            canceled,
+            failed,
+            lastRequoteNanos,
+            requotes > 0 ? totalRequoteNanos / requotes : 0,
+            maxRequoteNanos
+        );
+    }
+
+    /**
+     * Closes the market handle if the ladder created it. Live orders are left in place; see {@link #clear()}.
+     */
+    @Override
+    public void close() {
+        if (ownsHandle) {
+            handle.close();
+        }
+    }
+
+    private static long fixed(double value) {
+        return Math.round(value * OffHeapBookStore.SCALE);
+    }
+
+    private record LevelKey(boolean buy, long price) {
+        static LevelKey of(String side, double price) {
+            return new LevelKey(OrderSide.BUY.equals(side), fixed(price));
+        }
+    }
+
+    private record Live(String orderId, long size) {}
+
+    /**
+     * Outcome of one requote. {@code failed} counts levels that could not be signed
+     * or posted, or whose previous order could not be canceled.
+     */
+    public record Result(int kept, int canceled, int posted, int failed, long elapsedNanos) {}
+
+    /**
+     * Snapshot of ladder counters. {@code unchangedLevels} counts target levels
+     * served by an existing order, each one a signature, post and cancel saved
+     * over a full cancel-and-replace.
+     */
+    public record Stats(
+        long requotes,
+        int liveOrders,
+        long targetLevels,
+        long unchangedLevels,
+        long signed,
+        long posted,
+        long canceled,
+        long failed,
+        long lastRequoteNanos,
+        long meanRequoteNanos,
+        long maxRequoteNanos
+    ) {}
+}
@@ -0,0 +1,339 @@
+package com.polymarket.clob.signing.remote;
+
+import com.polymarket.clob.exceptions.PolyException;
+import com.polymarket.clob.utilities.DaemonThreadFactory;
+import com.polymarket.orderutils.ExchangeDomain;
+import com.polymarket.orderutils.HashSigner;
+import org.web3j.utils.Numeric;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Order signer backed by a {@link SigningDaemon}, for processes that should not load the key.
+ * <p>
+ * Plugs into {@link com.polymarket.clob.orderbuilder.OrderBuilder} in place of
+ * a local key. Only orders can be signed: each order hash goes to the daemon
+ * with its exchange, and the daemon builds the digest. Orders from concurrent
+ * callers are coalesced: a writer thread sends everything queued as one request,
+ * and keeps sending while earlier requests are being signed, so batches grow with
+ * load without a linger delay. {@link #signAll} queues many orders at once for
+ * bulk signing.
+ */
+public class RemoteSigner implements HashSigner, AutoCloseable {
+    private final SocketChannel channel;
+    private final String address;
+    private final int chainId;
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final Map<Integer, List<Pending>> inFlight = new ConcurrentHashMap<>();
+    private final Thread writer;
+    private final Thread reader;
+    private int nextRequestId;                          // writer thread only
+    private volatile boolean closed;
+    private final AtomicReference<PolyException> closeReason = new AtomicReference<>();
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder signatures = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder roundTripNanos = new LongAdder();
+    private final AtomicLong maxRoundTripNanos = new AtomicLong();
+
+    /**
+     * Connects to the daemon and checks that it signs for the expected address
+     *
+     * @param expectedAddress the client's signer or funder address, which the daemon's key must belong to
+     * @throws PolyException if the daemon signs for another address
+     */
+    public RemoteSigner(Path socketPath, String expectedAddress) {
+        try {
+            this.channel = SocketChannel.open(StandardProtocolFamily.UNIX);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to connect to signing daemon " + socketPath, e);
+        }
+        try {
+            channel.connect(UnixDomainSocketAddress.of(socketPath));
+            ByteBuffer hello = ByteBuffer.allocate(SigningProtocol.HELLO_BYTES);
+            SigningProtocol.readFully(channel, hello);
+            if (hello.getInt() != SigningProtocol.MAGIC || hello.getShort() != SigningProtocol.VERSION) {
+                throw new PolyException("Unsupported signing daemon at " + socketPath);
+            }
+            this.chainId = hello.getInt();
+            byte[] addressBytes = new byte[SigningProtocol.ADDRESS_BYTES];
+            hello.get(addressBytes);
+            this.address = Numeric.toHexString(addressBytes);
+            if (!address.equalsIgnoreCase(expectedAddress)) {
+                throw new PolyException(
+                    "Signing daemon at " + socketPath + " signs for " + address + ", not " + expectedAddress
+                );
+            }
+        } catch (IOException e) {
+            closeQuietly();
+            throw new UncheckedIOException("Failed to connect to signing daemon " + socketPath, e);
+        } catch (RuntimeException e) {
+            closeQuietly();
+            throw e;
+        }
+        this.writer = new DaemonThreadFactory("remote-signer-writer").newThread(this::write);
+        this.reader = new DaemonThreadFactory("remote-signer-reader").newThread(this::read);
+        writer.start();
+        reader.start();
+    }
+
+    @Override
+    public String getAddress() {
+        return address;
+    }
+
+    /**
+     * Chain the daemon signs orders for
+     */
+    public int chainId() {
+        return chainId;
+    }
+
+    /**
+     * Not supported: the daemon builds the digests it signs, so it only signs orders
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public String sign(String structHash) {
+        throw new UnsupportedOperationException("The signing daemon only signs orders; use signOrder");
+    }
+
+    /**
+     * Signs one order, waiting for the daemon's response
+     */
+    @Override
+    public String signOrder(ExchangeDomain domain, String orderHash) {
+        return await(enqueue(domain, orderHash));
+    }
+
+    /**
+     * Signs many orders of one exchange, sent in as few requests as possible.
+     * Signatures are in the order of the hashes.
+     */
+    public List<String> signAll(ExchangeDomain domain, List<String> orderHashes) {
+        List<CompletableFuture<byte[]>> futures = new ArrayList<>(orderHashes.size());
+        for (String hash : orderHashes) {
+            futures.add(enqueue(domain, hash));
+        }
+        List<String> signed = new ArrayList<>(futures.size());
+        for (CompletableFuture<byte[]> future : futures) {
+            signed.add(await(future));
+        }
+        return signed;
+    }
+
+    public Stats stats() {
+        long sent = requests.sum();
+        long signed = signatures.sum();
+        return new Stats(
+            sent,
+            signed,
+            failures.sum(),
+            queue.size(),
+            sent > 0 ? (double) signed / sent : 0,
+            sent > 0 ? roundTripNanos.sum() / sent : 0,
+            maxRoundTripNanos.get()
+        );
+    }
+
+    /**
+     * Disconnects. Hashes not yet signed fail.
+     */
+    @Override
+    public void close() {
+        shutDown(new PolyException("Remote signer is closed"));
+    }
+
+    /**
+     * Marks the signer closed before failing what is queued, so orders arriving
+     * later fail at once with the same reason
+     */
+    private void shutDown(PolyException reason) {
+        closeReason.compareAndSet(null, reason);
+        closed = true;
+        writer.interrupt();
+        closeQuietly();
+        failAll(closeReason.get());
+    }
+
+    private void closeQuietly() {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // Already closed
+        }
+    }
+
+    private CompletableFuture<byte[]> enqueue(ExchangeDomain domain, String orderHash) {
+        if (domain.chainId() != chainId) {
+            throw new IllegalArgumentException(
+                "Order is for chain " + domain.chainId() + ", the signing daemon signs for chain " + chainId
+            );
+        }
+        byte[] hash = Numeric.hexStringToByteArray(orderHash);
+        if (hash.length != SigningProtocol.HASH_BYTES) {
+            throw new IllegalArgumentException("orderHash must be 32 bytes, got " + hash.length);
+        }
+        Pending pending = new Pending(Numeric.hexStringToByteArray(domain.exchangeAddress()), hash);
+        queue.add(pending);
+        if (closed) {
+            // Raced with close
+            pending.result.completeExceptionally(closeReason.get());
+        }
+        return pending.result;
+    }
+
+    private String await(CompletableFuture<byte[]> result) {
+        try {
+            return Numeric.toHexString(result.join());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void write() {
+        ByteBuffer frame = ByteBuffer.allocate(4 + 4 + 2 + SigningProtocol.MAX_BATCH * SigningProtocol.ITEM_BYTES);
+        List<Pending> batch = new ArrayList<>(SigningProtocol.MAX_BATCH);
+        try {
+            while (!closed) {
+                batch.add(queue.take());
+                queue.drainTo(batch, SigningProtocol.MAX_BATCH - 1);
+                int requestId = nextRequestId++;
+                frame.clear();
+                frame.putInt(4 + 2 + batch.size() * SigningProtocol.ITEM_BYTES)
+                    .putInt(requestId)
+                    .putShort((short) batch.size());
+                for (Pending pending : batch) {
+                    frame.put(pending.exchange).put(pending.hash);
+                }
+                frame.flip();
+                List<Pending> sent = List.copyOf(batch);
+                batch.clear();
+                long now = System.nanoTime();
+                for (Pending pending : sent) {
+                    pending.sentAtNanos = now;
+                }
+                inFlight.put(requestId, sent);
+                requests.increment();
+                SigningProtocol.writeFully(channel, frame);
+            }
+        } catch (InterruptedException e) {
+            // Closed
+        } catch (IOException e) {
+            if (!closed) {
+                failures.increment();
+                shutDown(new PolyException("Signing daemon connection failed: " + e.getMessage()));
+            }
+        }
+    }
+
+    private void read() {
+        ByteBuffer header = ByteBuffer.allocate(4);
+        try {
+            while (!closed) {
+                ByteBuffer frame = SigningProtocol.readFrame(channel, header);
+                int requestId = frame.getInt();
+                byte status = frame.get();
+                List<Pending> batch = inFlight.remove(requestId);
+                if (batch == null) {
+                    continue;
+                }
+                long elapsed = System.nanoTime() - batch.get(0).sentAtNanos;
+                roundTripNanos.add(elapsed);
+                if (elapsed > maxRoundTripNanos.get()) {
+                    maxRoundTripNanos.accumulateAndGet(elapsed, Math::max);
+                }
+                if (status != SigningProtocol.OK) {
+                    failures.increment();
+                    byte[] message = new byte[frame.remaining()];
+                    frame.get(message);
+                    PolyException error = new PolyException(
+                        "Signing daemon error: " + new String(message, StandardCharsets.UTF_8)
+                    );
+                    for (Pending pending : batch) {
+                        pending.result.completeExceptionally(error);
+                    }
+                    continue;
+                }
+                int count = frame.getShort() & 0xFFFF;
+                if (count != batch.size()) {
+                    throw new IOException("Signing response has " + count + " signatures for " + batch.size() + " orders");
+                }
+                for (Pending pending : batch) {
+                    byte[] signature = new byte[SigningProtocol.SIGNATURE_BYTES];
+                    frame.get(signature);
+                    pending.result.complete(signature);
+                }
+                signatures.add(count);
+            }
+        } catch (IOException e) {
+            if (!closed) {
+                failures.increment();
+                shutDown(new PolyException("Signing daemon connection failed: " + e.getMessage()));
+            }
+        }
+    }
+
+    private void failAll(PolyException error) {
+        Pending pending;
+        while ((pending = queue.poll()) != null) {
+            pending.result.completeExceptionally(error);
+        }
+        for (Integer requestId : inFlight.keySet()) {
+            List<Pending> batch = inFlight.remove(requestId);
+            if (batch != null) {
+                for (Pending sent : batch) {
+                    sent.result.completeExceptionally(error);
+                }
+            }
+        }
+    }
+
+    private static final class Pending {
+        final byte[] exchange;
+        final byte[] hash;
+        final CompletableFuture<byte[]> result = new CompletableFuture<>();
+        volatile long sentAtNanos;
+
+        Pending(byte[] exchange, byte[] hash) {
+            this.exchange = exchange;
+            this.hash = hash;
+        }
+    }
+
+    /**
+     * Snapshot of signer counters. Round trips are per request, from sending it to its response.
+     */
+    public record Stats(
+        long requests,
+        long signatures,
+        long failures,
+        int queued,
+        double meanBatchSize,
+        long meanRoundTripNanos,
+        long maxRoundTripNanos
+    ) {}
+}
@@ -0,0 +1,295 @@
+package com.polymarket.clob.signing.remote;
+
+import com.polymarket.clob.config.Config;
+import com.polymarket.clob.utilities.DaemonThreadFactory;
+import com.polymarket.orderutils.ExchangeDomain;
+import com.polymarket.orderutils.UtilsSigner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.web3j.utils.Numeric;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Local signing service holding one private key for several processes.
+ * <p>
+ * The daemon loads the key once and listens on a Unix domain socket. Clients,
+ * usually {@link RemoteSigner}, send batches of order hashes in the binary
+ * format of {@link SigningProtocol} and get the signatures back. Each batch is
+ * split across {@code signerThreads} threads, and a connection can have several
+ * batches in flight, so many strategy processes share the cores and the key
+ * setup of one signer.
+ * <p>
+ * The daemon builds every digest it signs itself, by wrapping the order hash in
+ * the EIP712 domain of one of its chain's exchanges, and refuses other
+ * exchanges. Its signatures are therefore only valid as exchange orders, not as
+ * transactions, permits or login messages. Within that, it signs any order it is
+ * sent, so access to the socket is still access to the account's orders. With
+ * {@code ownerOnly} the socket file is readable and writable by the daemon's user
+ * alone; put it in a directory no other user can write to.
+ */
+public class SigningDaemon implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(SigningDaemon.class);
+
+    private final Path socketPath;
+    private final UtilsSigner signer;
+    private final byte[] address;
+    private final int chainId;
+    private final Map<String, ExchangeDomain> domains;    // by lowercase exchange address
+    private final SigningDaemonConfig config;
+    private final ServerSocketChannel server;
+    private final ExecutorService signers;
+    private final ThreadFactory connectionThreads = new DaemonThreadFactory("signing-daemon-connection");
+    private final Set<SocketChannel> connections = ConcurrentHashMap.newKeySet();
+    private final Thread acceptor;
+    private volatile boolean closed;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder signatures = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder signNanos = new LongAdder();
+
+    public SigningDaemon(Path socketPath, String privateKey, int chainId) {
+        this(socketPath, privateKey, chainId, new SigningDaemonConfig());
+    }
+
+    /**
+     * Binds the socket, replacing a stale socket file at the path, and starts accepting clients
+     *
+     * @param chainId chain whose exchange and neg-risk exchange the daemon signs orders for
+     */
+    public SigningDaemon(Path socketPath, String privateKey, int chainId, SigningDaemonConfig config) {
+        this.socketPath = socketPath;
+        this.signer = new UtilsSigner(privateKey);
+        this.address = Numeric.hexStringToByteArray(signer.getAddress());
+        this.chainId = chainId;
+        String exchange = Config.getContractConfig(chainId, false).exchange();
+        String negRiskExchange = Config.getContractConfig(chainId, true).exchange();
+        this.domains = Map.of(
+            exchange.toLowerCase(), new ExchangeDomain(chainId, exchange),
+            negRiskExchange.toLowerCase(), new ExchangeDomain(chainId, negRiskExchange)
+        );
+        this.config = config;
+        try {
+            Files.deleteIfExists(socketPath);
+            this.server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+            server.bind(UnixDomainSocketAddress.of(socketPath));
+            if (config.ownerOnly()) {
+                Files.setPosixFilePermissions(socketPath, PosixFilePermissions.fromString("rw-------"));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to bind signing socket " + socketPath, e);
+        }
+        this.signers = Executors.newFixedThreadPool(config.signerThreads(), new DaemonThreadFactory("signing-daemon"));
+        this.acceptor = new DaemonThreadFactory("signing-daemon-acceptor").newThread(this::accept);
+        this.acceptor.start();
+    }
+
+    /**
+     * Address of the key the daemon signs with
+     */
+    public String address() {
+        return signer.getAddress();
+    }
+
+    public int chainId() {
+        return chainId;
+    }
+
+    public Path socketPath() {
+        return socketPath;
+    }
+
+    public Stats stats() {
+        long sent = requests.sum();
+        long signed = signatures.sum();
+        return new Stats(
+            connections.size(),
+            accepted.sum(),
+            sent,
+            signed,
+            failures.sum(),
+            sent > 0 ? (double) signed / sent : 0,
+            signed > 0 ? signNanos.sum() / signed : 0
+        );
+    }
+
+    /**
+     * Stops accepting, drops the connections and removes the socket file
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            server.close();
+        } catch (IOException e) {
+            log.warn("Could not close signing socket {}", socketPath, e);
+        }
+        for (SocketChannel connection : connections) {
+            closeQuietly(connection);
+        }
+        signers.shutdownNow();
+        try {
+            Files.deleteIfExists(socketPath);
+        } catch (IOException e) {
+            log.warn("Could not remove signing socket {}", socketPath, e);
+        }
+    }
+
+    private void accept() {
+        while (!closed) {
+            SocketChannel connection;
+            try {
+                connection = server.accept();
+            } catch (IOException e) {
+                if (!closed) {
+                    log.error("Signing daemon stopped accepting connections", e);
+                }
+                return;
+            }
+            accepted.increment();
+            connections.add(connection);
+            connectionThreads.newThread(() -> serve(connection)).start();
+        }
+    }
+
+    private void serve(SocketChannel connection) {
+        try {
+            ByteBuffer hello = ByteBuffer.allocate(SigningProtocol.HELLO_BYTES);
+            hello.putInt(SigningProtocol.MAGIC).putShort(SigningProtocol.VERSION).putInt(chainId).put(address).flip();
+            SigningProtocol.writeFully(connection, hello);
+
+            ByteBuffer header = ByteBuffer.allocate(4);
+            while (!closed) {
+                ByteBuffer frame = SigningProtocol.readFrame(connection, header);
+                int requestId = frame.getInt();
+                int count = frame.getShort() & 0xFFFF;
+                if (count > SigningProtocol.MAX_BATCH || frame.remaining() != count * SigningProtocol.ITEM_BYTES) {
+                    throw new IOException("Malformed signing request of " + count + " orders");
+                }
+                requests.increment();
+                ExchangeDomain[] orderDomains = new ExchangeDomain[count];
+                byte[] hashes = new byte[count * SigningProtocol.HASH_BYTES];
+                byte[] exchange = new byte[SigningProtocol.ADDRESS_BYTES];
+                String refused = null;
+                for (int i = 0; i < count; i++) {
+                    frame.get(exchange);
+                    frame.get(hashes, i * SigningProtocol.HASH_BYTES, SigningProtocol.HASH_BYTES);
+                    orderDomains[i] = domains.get(Numeric.toHexString(exchange));
+                    if (orderDomains[i] == null) {
+                        refused = Numeric.toHexString(exchange);
+                    }
+                }
+                if (refused != null) {
+                    respond(connection, requestId, count, null,
+                        new IllegalArgumentException(refused + " is not an exchange on chain " + chainId));
+                    continue;
+                }
+                sign(orderDomains, hashes, count)
+                    .whenComplete((signed, error) -> respond(connection, requestId, count, signed, error));
+            }
+        } catch (IOException e) {
+            if (!closed) {
+                log.debug("Signing connection ended", e);
+            }
+        } finally {
+            connections.remove(connection);
+            closeQuietly(connection);
+        }
+    }
+
+    /**
+     * Signs the orders in parallel ranges and returns the concatenated signatures
+     */
+    private CompletableFuture<byte[]> sign(ExchangeDomain[] orderDomains, byte[] hashes, int count) {
+        byte[] signed = new byte[count * SigningProtocol.SIGNATURE_BYTES];
+        int parts = Math.min(config.signerThreads(), count);
+        List<CompletableFuture<Void>> ranges = new ArrayList<>(parts);
+        for (int part = 0; part < parts; part++) {
+            int from = (int) ((long) count * part / parts);
+            int to = (int) ((long) count * (part + 1) / parts);
+            ranges.add(CompletableFuture.runAsync(() -> signRange(orderDomains, hashes, signed, from, to), signers));
+        }
+        return CompletableFuture.allOf(ranges.toArray(CompletableFuture[]::new)).thenApply(ignored -> signed);
+    }
+
+    private void signRange(ExchangeDomain[] orderDomains, byte[] hashes, byte[] signed, int from, int to) {
+        long start = System.nanoTime();
+        byte[] hash = new byte[SigningProtocol.HASH_BYTES];
+        for (int i = from; i < to; i++) {
+            System.arraycopy(hashes, i * SigningProtocol.HASH_BYTES, hash, 0, hash.length);
+            byte[] digest = orderDomains[i].digest(hash);
+            byte[] signature = Numeric.hexStringToByteArray(signer.sign(Numeric.toHexString(digest)));
+            System.arraycopy(signature, 0, signed, i * SigningProtocol.SIGNATURE_BYTES, SigningProtocol.SIGNATURE_BYTES);
+        }
+        signatures.add(to - from);
+        signNanos.add(System.nanoTime() - start);
+    }
+
+    private void respond(SocketChannel connection, int requestId, int count, byte[] signed, Throwable error) {
+        ByteBuffer response;
+        if (error == null) {
+            response = ByteBuffer.allocate(4 + 4 + 1 + 2 + signed.length);
+            response.putInt(response.capacity() - 4).putInt(requestId).put(SigningProtocol.OK)
+                .putShort((short) count).put(signed);
+        } else {
+            failures.increment();
+            log.warn("Signing request of {} orders failed", count, error);
+            byte[] message = String.valueOf(error.getMessage()).getBytes(StandardCharsets.UTF_8);
+            response = ByteBuffer.allocate(4 + 4 + 1 + message.length);
+            response.putInt(response.capacity() - 4).putInt(requestId).put(SigningProtocol.ERROR).put(message);
+        }
+        response.flip();
+        try {
+            synchronized (connection) {
+                SigningProtocol.writeFully(connection, response);
+            }
+        } catch (IOException e) {
+            // The reader sees the broken connection and cleans up
+            closeQuietly(connection);
+        }
+    }
+
+    private static void closeQuietly(SocketChannel connection) {
+        try {
+            connection.close();
+        } catch (IOException ignored) {
+            // Already closed
+        }
+    }
+
+    /**
+     * Snapshot of daemon counters. {@code meanSignNanos} is per signature,
+     * measured on the signing threads.
+     */
+    public record Stats(
+        int connections,
+        long accepted,
+        long requests,
+        long signatures,
+        long failures,
+        double meanBatchSize,
+        long meanSignNanos
+    ) {}
+}
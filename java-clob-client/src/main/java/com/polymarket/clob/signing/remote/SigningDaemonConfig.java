@@ -0,0 +1,19 @@
+package com.polymarket.clob.signing.remote;
+
+/**
+ * Settings for {@link SigningDaemon}
+ */
+public record SigningDaemonConfig(
+    int signerThreads,         // Threads signing in parallel; each request is split across them
+    boolean ownerOnly          // Restrict the socket file to the daemon's user
+) {
+    public SigningDaemonConfig() {
+        this(Runtime.getRuntime().availableProcessors(), true);
+    }
+
+    public SigningDaemonConfig {
+        if (signerThreads <= 0) {
+            throw new IllegalArgumentException("signerThreads must be positive");
+        }
+    }
+}
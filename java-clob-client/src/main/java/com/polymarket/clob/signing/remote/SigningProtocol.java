@@ -0,0 +1,74 @@
+package com.polymarket.clob.signing.remote;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Wire format between {@link SigningDaemon} and {@link RemoteSigner}. All integers are big-endian.
+ * <pre>
+ * hello    (daemon to client, once): int magic | short version | int chainId | 20-byte signer address
+ * request  (client to daemon):       int length | int requestId | short count |
+ *                                    count x (20-byte exchange | 32-byte order hash)
+ * response (daemon to client):       int length | int requestId | byte status |
+ *                                    OK: short count | count x 65-byte r, s, v signature
+ *                                    ERROR: UTF-8 message
+ * </pre>
+ * {@code length} counts the bytes after the length field. An order hash is the
+ * EIP712 hashStruct of the order; the daemon wraps it in the domain of the named
+ * exchange, which must be one of its chain's exchanges, and signs the result.
+ * Responses to the requests of one connection may arrive in any order.
+ */
+final class SigningProtocol {
+    private SigningProtocol() {}
+
+    static final int MAGIC = 0x504D5344;       // "PMSD"
+    static final short VERSION = 2;
+    static final int HASH_BYTES = 32;
+    static final int SIGNATURE_BYTES = 65;
+    static final int ADDRESS_BYTES = 20;
+    static final int ITEM_BYTES = ADDRESS_BYTES + HASH_BYTES;
+    static final int HELLO_BYTES = 4 + 2 + 4 + ADDRESS_BYTES;
+    static final int MAX_BATCH = 1024;         // Orders per request
+    static final int MAX_FRAME = 4 + 1 + 2 + MAX_BATCH * SIGNATURE_BYTES;
+
+    static final byte OK = 0;
+    static final byte ERROR = 1;
+
+    /**
+     * Reads until the buffer is full, failing at end of stream
+     */
+    static void readFully(SocketChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Signing connection closed");
+            }
+        }
+        buffer.flip();
+    }
+
+    /**
+     * Reads one length-prefixed frame and returns its body
+     */
+    static ByteBuffer readFrame(SocketChannel channel, ByteBuffer header) throws IOException {
+        header.clear();
+        readFully(channel, header);
+        int length = header.getInt();
+        if (length < 0 || length > MAX_FRAME) {
+            throw new IOException("Invalid signing frame length " + length);
+        }
+        ByteBuffer body = ByteBuffer.allocate(length);
+        readFully(channel, body);
+        return body;
+    }
+
+    /**
+     * Writes the whole buffer. Callers sharing a channel serialize their writes.
+     */
+    static void writeFully(SocketChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
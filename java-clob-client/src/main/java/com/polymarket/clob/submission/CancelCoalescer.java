@@ -0,0 +1,267 @@
+package com.polymarket.clob.submission;
+
+import com.polymarket.clob.client.ClobClient;
+import com.polymarket.clob.types.PostOrdersArgs;
+import com.polymarket.clob.utilities.DaemonThreadFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Merges single cancels issued close together into DELETE /orders requests.
+ * <p>
+ * {@link #cancel} adds the order ID to the current batch and returns a future
+ * for that ID's outcome. A batch is sent when it is full or when its linger
+ * expires, whichever comes first. An ID that is already waiting or in flight
+ * is not sent again; the caller gets the existing future. Cancel requests use
+ * their own sender threads, so they never wait behind order posts.
+ * <p>
+ * To send cancels ahead of new orders, wrap the order sender with
+ * {@link #ahead}. Every order post then first flushes the queued cancels and
+ * waits for the responses to every cancel request in flight, so no order
+ * overtakes a cancel issued before it. For example:
+ * {@code new OrderBatcher(cancels.ahead(client::postOrders), config)}.
+ */
+public class CancelCoalescer implements AutoCloseable {
+    private final Function<List<String>, Object> cancelOrders;
+    private final CancelCoalescerConfig config;
+    private final Map<String, CompletableFuture<CancelResult>> pending = new ConcurrentHashMap<>();
+    private final ExecutorService senders;
+    private final ScheduledExecutorService timer;
+    private final Set<CompletableFuture<Void>> inFlight = ConcurrentHashMap.newKeySet();
+
+    // Batches are dispatched and timers scheduled under the lock, so none reaches an executor close() has shut down
+    private final Object lock = new Object();
+    private List<String> buffer = new ArrayList<>();  // guarded by lock
+    private long generation;                          // guarded by lock
+    private boolean closed;                           // guarded by lock
+
+    private final LongAdder requested = new LongAdder();
+    private final LongAdder deduplicated = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder sentIds = new LongAdder();
+    private final LongAdder canceled = new LongAdder();
+    private final LongAdder notCanceled = new LongAdder();
+    private final LongAdder failedBatches = new LongAdder();
+
+    public CancelCoalescer(ClobClient client) {
+        this(client::cancelOrders, new CancelCoalescerConfig());
+    }
+
+    public CancelCoalescer(ClobClient client, CancelCoalescerConfig config) {
+        this(client::cancelOrders, config);
+    }
+
+    /**
+     * @param cancelOrders sends one batch and returns the DELETE /orders response, for
+     *                     example {@code orderManager::cancelOrders} to track the cancels
+     */
+    public CancelCoalescer(Function<List<String>, Object> cancelOrders, CancelCoalescerConfig config) {
+        this.cancelOrders = cancelOrders;
+        this.config = config;
+        this.senders = Executors.newFixedThreadPool(config.maxInFlight(), new DaemonThreadFactory("cancel-sender"));
+        this.timer = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("cancel-coalescer"));
+    }
+
+    /**
+     * Queues a cancel. The future completes with the order's result from the
+     * response, or exceptionally if the request failed.
+     */
+    public CompletableFuture<CancelResult> cancel(String orderId) {
+        CompletableFuture<CancelResult> result = new CompletableFuture<>();
+        synchronized (lock) {
+            if (closed) {
+                return CompletableFuture.failedFuture(new IllegalStateException("Cancel coalescer is closed"));
+            }
+            requested.increment();
+            CompletableFuture<CancelResult> existing = pending.putIfAbsent(orderId, result);
+            if (existing != null) {
+                deduplicated.increment();
+                return existing;
+            }
+            buffer.add(orderId);
+            if (buffer.size() >= config.maxBatchSize() || config.linger().isZero()) {
+                dispatch(takeBuffer());
+            } else if (buffer.size() == 1) {
+                long batch = generation;
+                timer.schedule(() -> flush(batch), config.linger().toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Sends the queued cancels now, without waiting for the linger to expire
+     */
+    public void flush() {
+        synchronized (lock) {
+            if (!buffer.isEmpty()) {
+                dispatch(takeBuffer());
+            }
+        }
+    }
+
+    /**
+     * Wraps an order sender so queued cancels are sent, and their responses
+     * received, before each order post
+     */
+    public Function<List<PostOrdersArgs>, Object> ahead(Function<List<PostOrdersArgs>, Object> postOrders) {
+        return args -> {
+            flush();
+            awaitInFlight();
+            return postOrders.apply(args);
+        };
+    }
+
+    public Stats stats() {
+        long sent = batches.sum();
+        long ids = sentIds.sum();
+        int queued;
+        synchronized (lock) {
+            queued = buffer.size();
+        }
+        return new Stats(
+            requested.sum(),
+            deduplicated.sum(),
+            sent,
+            ids,
+            canceled.sum(),
+            notCanceled.sum(),
+            failedBatches.sum(),
+            queued,
+            sent > 0 ? (double) ids / sent : 0
+        );
+    }
+
+    /**
+     * Sends the queued cancels and stops accepting new ones
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (!buffer.isEmpty()) {
+                dispatch(takeBuffer());
+            }
+        }
+        timer.shutdownNow();
+        senders.shutdown();
+    }
+
+    private void flush(long batch) {
+        synchronized (lock) {
+            // The batch this timer was set for may already have been sent
+            if (batch == generation && !buffer.isEmpty()) {
+                dispatch(takeBuffer());
+            }
+        }
+    }
+
+    /**
+     * Waits for every cancel request dispatched so far. Their failures are
+     * reported through the cancels' own futures, not here.
+     */
+    private void awaitInFlight() {
+        CompletableFuture.allOf(inFlight.toArray(new CompletableFuture<?>[0]))
+            .exceptionally(e -> null)
+            .join();
+    }
+
+    private List<String> takeBuffer() {
+        List<String> taken = buffer;
+        buffer = new ArrayList<>();
+        generation++;
+        return taken;
+    }
+
+    // Called under the lock
+    private void dispatch(List<String> orderIds) {
+        CompletableFuture<Void> batch = CompletableFuture.runAsync(() -> send(orderIds), senders);
+        inFlight.add(batch);
+        batch.whenComplete((ignored, e) -> inFlight.remove(batch));
+    }
+
+    private void send(List<String> orderIds) {
+        batches.increment();
+        sentIds.add(orderIds.size());
+        Object response;
+        try {
+            response = cancelOrders.apply(orderIds);
+        } catch (RuntimeException e) {
+            failedBatches.increment();
+            for (String orderId : orderIds) {
+                complete(orderId, null, e);
+            }
+            return;
+        }
+
+        Map<?, ?> result = response instanceof Map<?, ?> map ? map : Map.of();
+        List<?> canceledIds = result.get("canceled") instanceof List<?> list ? list : List.of();
+        Map<?, ?> rejections = result.get("not_canceled") instanceof Map<?, ?> map ? map : Map.of();
+        for (Object id : canceledIds) {
+            if (id != null && complete(id.toString(), new CancelResult(id.toString(), true, null), null)) {
+                canceled.increment();
+            }
+        }
+        for (String orderId : orderIds) {
+            Object reason = rejections.get(orderId);
+            String message = reason != null ? reason.toString() : "missing from cancel response";
+            if (complete(orderId, new CancelResult(orderId, false, message), null)) {
+                notCanceled.increment();
+            }
+        }
+    }
+
+    /**
+     * Completes the order's future and forgets it, so a later cancel is sent again.
+     * Returns false if the order had no pending future.
+     */
+    private boolean complete(String orderId, CancelResult result, Throwable error) {
+        CompletableFuture<CancelResult> future = pending.remove(orderId);
+        if (future == null) {
+            return false;
+        }
+        if (error != null) {
+            future.completeExceptionally(error);
+        } else {
+            future.complete(result);
+        }
+        return true;
+    }
+
+    /**
+     * Outcome of one cancel
+     *
+     * @param reason why the order was not canceled, as reported by the server; null if canceled
+     */
+    public record CancelResult(String orderId, boolean canceled, String reason) {}
+
+    /**
+     * Snapshot of coalescer counters. {@code deduplicated} counts cancels that
+     * joined one already queued or in flight for the same order.
+     */
+    public record Stats(
+        long requested,
+        long deduplicated,
+        long batches,
+        long sentIds,
+        long canceled,
+        long notCanceled,
+        long failedBatches,
+        int queued,
+        double meanBatchSize
+    ) {}
+}
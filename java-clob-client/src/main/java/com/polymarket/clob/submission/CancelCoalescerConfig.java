@@ -0,0 +1,25 @@
+package com.polymarket.clob.submission;
+
+import java.time.Duration;
+
+/**
+ * Settings for {@link CancelCoalescer}
+ */
+public record CancelCoalescerConfig(
+    Duration linger,           // How long the first cancel of a batch waits for others; zero sends at once
+    int maxBatchSize,          // Order IDs per DELETE /orders request
+    int maxInFlight            // Number of cancel requests allowed in flight at once
+) {
+    public CancelCoalescerConfig() {
+        this(Duration.ofNanos(200_000), 500, 4);
+    }
+
+    public CancelCoalescerConfig {
+        if (linger.isNegative()) {
+            throw new IllegalArgumentException("linger must not be negative");
+        }
+        if (maxBatchSize <= 0 || maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxBatchSize and maxInFlight must be positive");
+        }
+    }
+}
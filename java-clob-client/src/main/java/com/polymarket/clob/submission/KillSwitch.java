@@ -0,0 +1,322 @@
+package com.polymarket.clob.submission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.polymarket.clob.client.ClobClient;
+import com.polymarket.clob.constants.Endpoints;
+import com.polymarket.clob.exceptions.PolyApiException;
+import com.polymarket.clob.httphelpers.HttpHelpers;
+import com.polymarket.clob.types.RequestArgs;
+import com.polymarket.clob.utilities.DaemonThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Emergency cancel path that does not share anything with regular traffic.
+ * <p>
+ * The switch holds its own HTTP client, so its connection never queues behind
+ * other requests. The connection is opened at construction and exercised
+ * periodically to keep it warm. The cancel requests are fully built ahead of
+ * time: their L2 headers are re-signed every {@code resignInterval}, so firing
+ * does no HMAC, serialization or allocation on the caller's thread.
+ * <p>
+ * {@link #trigger()} and {@link Target#fire()} are two volatile writes and
+ * never block or allocate, so they are safe from any thread, including signal
+ * and market-data threads. A watcher thread polls the targets and hands the
+ * prepared request to the dedicated client as soon as it sees the write.
+ * {@link Stats} reports the trigger-to-dispatch and trigger-to-response latency
+ * of the last firing.
+ */
+public class KillSwitch implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(KillSwitch.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final ClobClient client;
+    private final KillSwitchConfig config;
+    private final HttpClient http;
+    private final Target cancelAll;
+    private final List<Target> targets = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService scheduler;
+    private final Thread watcher;
+    private volatile boolean closed;
+
+    private final LongAdder fired = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder resigns = new LongAdder();
+    private final LongAdder keepAlives = new LongAdder();
+    private final AtomicLong lastDetectNanos = new AtomicLong();
+    private final AtomicLong lastDispatchNanos = new AtomicLong();
+    private final AtomicLong maxDispatchNanos = new AtomicLong();
+    private final AtomicLong lastResponseNanos = new AtomicLong();
+
+    public KillSwitch(ClobClient client) {
+        this(client, new KillSwitchConfig());
+    }
+
+    /**
+     * @param client L2 client whose credentials sign the cancel requests
+     */
+    public KillSwitch(ClobClient client, KillSwitchConfig config) {
+        this.client = client;
+        this.config = config;
+        this.http = HttpHelpers.newHttpClient();
+        this.cancelAll = new Target(Endpoints.CANCEL_ALL, null);
+        targets.add(cancelAll);
+        prepare(cancelAll);
+        keepAlive(true);
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("kill-switch-signer"));
+        long resign = config.resignInterval().toNanos();
+        long keepAlive = config.keepAliveInterval().toNanos();
+        scheduler.scheduleAtFixedRate(this::resignAll, resign, resign, TimeUnit.NANOSECONDS);
+        scheduler.scheduleWithFixedDelay(() -> keepAlive(false), keepAlive, keepAlive, TimeUnit.NANOSECONDS);
+
+        this.watcher = new DaemonThreadFactory("kill-switch").newThread(this::watch);
+        this.watcher.setPriority(Thread.MAX_PRIORITY);
+        this.watcher.start();
+    }
+
+    /**
+     * Cancels all open orders of the account. Never blocks; the response arrives
+     * through {@code cancelAllTarget().result()}.
+     */
+    public void trigger() {
+        cancelAll.fire();
+    }
+
+    /**
+     * The cancel-all target, to inspect its response or rearm it
+     */
+    public Target cancelAllTarget() {
+        return cancelAll;
+    }
+
+    /**
+     * Registers a prepared cancel of the orders of one market or asset
+     *
+     * @param market  condition ID, may be null
+     * @param assetId token ID, may be null
+     */
+    public Target marketTarget(String market, String assetId) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        if (market != null) body.put("market", market);
+        if (assetId != null) body.put("asset_id", assetId);
+        String serialized;
+        try {
+            serialized = objectMapper.writeValueAsString(body);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to serialize body", e);
+        }
+        Target target = new Target(Endpoints.CANCEL_MARKET_ORDERS, serialized);
+        prepare(target);
+        targets.add(target);
+        return target;
+    }
+
+    public Stats stats() {
+        return new Stats(
+            targets.size(),
+            fired.sum(),
+            failures.sum(),
+            resigns.sum(),
+            keepAlives.sum(),
+            lastDetectNanos.get(),
+            lastDispatchNanos.get(),
+            maxDispatchNanos.get(),
+            lastResponseNanos.get()
+        );
+    }
+
+    /**
+     * Stops the watcher and the re-signing, then closes the dedicated HTTP client.
+     * Waits for requests already dispatched, so a cancel on the wire is not cut off.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        scheduler.shutdownNow();
+        LockSupport.unpark(watcher);
+        http.close();
+    }
+
+    private void watch() {
+        long pollNanos = config.pollInterval().toNanos();
+        while (!closed) {
+            for (Target target : targets) {
+                long firedAt = target.firedAtNanos;
+                if (firedAt != 0 && firedAt != target.dispatchedFor) {
+                    target.dispatchedFor = firedAt;
+                    dispatch(target, firedAt);
+                }
+            }
+            if (config.busySpin()) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(pollNanos);
+            }
+        }
+    }
+
+    private void dispatch(Target target, long firedAt) {
+        long detected = System.nanoTime();
+        CompletableFuture<Object> result = target.result;
+        fired.increment();
+        try {
+            HttpRequest request = target.prepared;
+            CompletableFuture<HttpResponse<byte[]>> response = http.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+            long dispatched = System.nanoTime();
+            lastDetectNanos.set(detected - firedAt);
+            lastDispatchNanos.set(dispatched - firedAt);
+            maxDispatchNanos.accumulateAndGet(dispatched - firedAt, Math::max);
+            response.whenComplete((r, error) -> {
+                lastResponseNanos.set(System.nanoTime() - firedAt);
+                if (error != null) {
+                    failures.increment();
+                    result.completeExceptionally(new PolyApiException("Request exception: " + error.getMessage()));
+                } else if (r.statusCode() != 200) {
+                    failures.increment();
+                    result.completeExceptionally(new PolyApiException(r.statusCode(), new String(r.body(), StandardCharsets.UTF_8)));
+                } else {
+                    result.complete(parse(r.body()));
+                }
+            });
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.error("Kill switch dispatch to {} failed", target.path, e);
+            result.completeExceptionally(e);
+        }
+    }
+
+    private void resignAll() {
+        for (Target target : targets) {
+            try {
+                prepare(target);
+            } catch (RuntimeException e) {
+                log.warn("Could not re-sign kill switch request to {}", target.path, e);
+            }
+        }
+    }
+
+    private void prepare(Target target) {
+        RequestArgs args = target.body != null
+            ? new RequestArgs("DELETE", target.path, target.body, target.body)
+            : new RequestArgs("DELETE", target.path);
+        Map<String, String> headers = client.createLevel2Headers(args);
+        target.prepared = HttpHelpers.buildRequest(client.getHost() + target.path, "DELETE", headers, target.body);
+        resigns.increment();
+    }
+
+    /**
+     * Exercises the dedicated connection; the first call opens it and waits for it
+     */
+    private void keepAlive(boolean wait) {
+        HttpRequest request = HttpHelpers.buildRequest(client.getHost() + Endpoints.TIME, "GET", null, null);
+        CompletableFuture<HttpResponse<Void>> response = http.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+        keepAlives.increment();
+        if (wait) {
+            try {
+                response.get(5, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                log.warn("Could not open the kill switch connection", e);
+            }
+        }
+    }
+
+    private static Object parse(byte[] body) {
+        String text = new String(body, StandardCharsets.UTF_8);
+        if (text.isBlank()) {
+            return text;
+        }
+        try {
+            return objectMapper.readValue(text, Object.class);
+        } catch (Exception e) {
+            return text;
+        }
+    }
+
+    /**
+     * One prepared cancel request. Fires at most once until {@link #rearm()}ed.
+     * <p>
+     * The future for the next firing is created while the target is armed, so
+     * {@link #fire()} only publishes it and {@link #result()} can be awaited as
+     * soon as {@code fire()} returns.
+     */
+    public static final class Target {
+        private final String path;
+        private final String body;
+        private volatile HttpRequest prepared;
+        private volatile long firedAtNanos;            // 0 while armed
+        private volatile CompletableFuture<Object> next = new CompletableFuture<>();
+        private volatile CompletableFuture<Object> result;
+        private long dispatchedFor;                    // watcher thread only
+
+        private Target(String path, String body) {
+            this.path = path;
+            this.body = body;
+        }
+
+        /**
+         * Fires the cancel. Two volatile writes; never blocks or allocates.
+         */
+        public void fire() {
+            if (firedAtNanos == 0) {
+                // Published before the timestamp, so the watcher always sees this firing's future
+                result = next;
+                long now = System.nanoTime();
+                firedAtNanos = now != 0 ? now : 1;
+            }
+        }
+
+        public boolean fired() {
+            return firedAtNanos != 0;
+        }
+
+        /**
+         * Response of the last firing, or null if the target has never fired
+         */
+        public CompletableFuture<Object> result() {
+            return result;
+        }
+
+        /**
+         * Allows the target to fire again. {@link #result()} keeps returning the
+         * last firing's response until the next {@link #fire()}.
+         */
+        public void rearm() {
+            next = new CompletableFuture<>();
+            firedAtNanos = 0;
+        }
+    }
+
+    /**
+     * Snapshot of kill switch counters. Latencies are from the trigger write to
+     * the watcher seeing it, to the request being handed to the dedicated client,
+     * and to the response, for the last firing.
+     */
+    public record Stats(
+        int targets,
+        long fired,
+        long failures,
+        long resigns,
+        long keepAlives,
+        long lastDetectNanos,
+        long lastDispatchNanos,
+        long maxDispatchNanos,
+        long lastResponseNanos
+    ) {}
+}
@@ -0,0 +1,25 @@
+package com.polymarket.clob.submission;
+
+import java.time.Duration;
+
+/**
+ * Settings for {@link KillSwitch}
+ */
+public record KillSwitchConfig(
+    Duration resignInterval,     // How often the prepared requests get fresh L2 headers
+    Duration keepAliveInterval,  // How often the dedicated connection is exercised to keep it open
+    boolean busySpin,            // Spin on a core while waiting for a trigger instead of parking
+    Duration pollInterval        // Park time between trigger checks when not spinning
+) {
+    public KillSwitchConfig() {
+        this(Duration.ofSeconds(1), Duration.ofSeconds(5), false, Duration.ofNanos(20_000));
+    }
+
+    public KillSwitchConfig {
+        for (Duration interval : new Duration[] {resignInterval, keepAliveInterval, pollInterval}) {
+            if (interval.isNegative() || interval.isZero()) {
+                throw new IllegalArgumentException("intervals must be positive");
+            }
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.polymarket.clob.submission;
+
+import com.polymarket.clob.client.ClobClient;
+import com.polymarket.clob.exceptions.PolyApiException;
+import com.polymarket.clob.types.OrderType;
+import com.polymarket.clob.types.PostOrdersArgs;
+import com.polymarket.clob.utilities.DaemonThreadFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent single-order posts into /orders batches.
+ * <p>
+ * {@link #submit} queues the order and returns a future for its own entry of the
+ * batch response. A dispatcher thread takes the first queued order and waits up
+ * to the configured linger for more, stopping early once the batch is full, then
+ * sends the batch with one request and one set of L2 headers. Up to maxInFlight
+ * batches are sent in parallel; beyond that the dispatcher waits, and orders
+ * keep accumulating into fuller batches.
+ * <p>
+ * The linger bounds the added latency per order. A longer linger gives fuller
+ * batches and fewer requests under load, at the cost of that delay for every
+ * order. With a zero linger, orders queued while a batch was being sent go out
+ * together in the next one, so batching only happens under contention.
+ * {@link Stats} reports the mean batch size and queueing delay for tuning.
+ */
+public class OrderBatcher implements AutoCloseable {
+    private final Function<List<PostOrdersArgs>, Object> postOrders;
+    private final OrderBatcherConfig config;
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final Semaphore inFlight;
+    private final ExecutorService senders;
+    private final Thread dispatcher;
+    private volatile boolean closed;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder batchedOrders = new LongAdder();
+    private final LongAdder failedBatches = new LongAdder();
+    private final LongAdder queueNanos = new LongAdder();
+
+    public OrderBatcher(ClobClient client) {
+        this(client::postOrders, new OrderBatcherConfig());
+    }
+
+    public OrderBatcher(ClobClient client, OrderBatcherConfig config) {
+        this(client::postOrders, config);
+    }
+
+    /**
+     * @param postOrders sends one batch and returns the /orders response, for example
+     *                   {@code orderManager::postOrders} to track the posted orders
+     */
+    public OrderBatcher(Function<List<PostOrdersArgs>, Object> postOrders, OrderBatcherConfig config) {
+        this.postOrders = postOrders;
+        this.config = config;
+        this.inFlight = new Semaphore(config.maxInFlight());
+        this.senders = Executors.newFixedThreadPool(config.maxInFlight(), new DaemonThreadFactory("order-batch-sender"));
+        this.dispatcher = new DaemonThreadFactory("order-batcher").newThread(this::dispatch);
+        this.dispatcher.start();
+    }
+
+    /**
+     * Queues the order for the next batch. The future completes with the order's
+     * entry of the /orders response, or exceptionally if the whole request failed.
+     */
+    public CompletableFuture<Object> submit(Map<String, Object> order, OrderType orderType) {
+        Pending pending = new Pending(new PostOrdersArgs(order, orderType), new CompletableFuture<>(), System.nanoTime());
+        if (closed) {
+            pending.result().completeExceptionally(new IllegalStateException("Order batcher is closed"));
+            return pending.result();
+        }
+        submitted.increment();
+        queue.add(pending);
+        // Closed concurrently, after the queue was drained
+        if (closed && queue.remove(pending)) {
+            pending.result().completeExceptionally(new IllegalStateException("Order batcher is closed"));
+        }
+        return pending.result();
+    }
+
+    public Stats stats() {
+        long sent = batches.sum();
+        long orders = batchedOrders.sum();
+        return new Stats(
+            submitted.sum(),
+            sent,
+            orders,
+            failedBatches.sum(),
+            queue.size(),
+            sent > 0 ? (double) orders / sent : 0,
+            orders > 0 ? queueNanos.sum() / orders : 0
+        );
+    }
+
+    /**
+     * Stops batching. Orders already taken into a batch are still sent; orders
+     * still queued fail with {@link IllegalStateException}.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        dispatcher.interrupt();
+        try {
+            dispatcher.join(TimeUnit.SECONDS.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        Pending pending;
+        while ((pending = queue.poll()) != null) {
+            pending.result().completeExceptionally(new IllegalStateException("Order batcher is closed"));
+        }
+        senders.shutdown();
+    }
+
+    private void dispatch() {
+        long lingerNanos = config.linger().toNanos();
+        List<Pending> batch = new ArrayList<>(config.maxBatchSize());
+        try {
+            while (!closed) {
+                Pending first = queue.take();
+                batch.add(first);
+                long deadline = first.queuedAtNanos() + lingerNanos;
+                while (batch.size() < config.maxBatchSize()) {
+                    long wait = deadline - System.nanoTime();
+                    Pending next = wait > 0 ? queue.poll(wait, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                inFlight.acquire();
+                // Top up with whatever queued while waiting for a free slot
+                if (batch.size() < config.maxBatchSize()) {
+                    queue.drainTo(batch, config.maxBatchSize() - batch.size());
+                }
+                List<Pending> sending = List.copyOf(batch);
+                batch.clear();
+                senders.execute(() -> {
+                    try {
+                        send(sending);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        } catch (InterruptedException e) {
+            // Closing; orders taken into the unsent batch are failed with the queue
+            for (Pending pending : batch) {
+                pending.result().completeExceptionally(new IllegalStateException("Order batcher is closed"));
+            }
+        }
+    }
+
+    private void send(List<Pending> batch) {
+        long now = System.nanoTime();
+        List<PostOrdersArgs> args = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            args.add(pending.args());
+            queueNanos.add(now - pending.queuedAtNanos());
+        }
+        batches.increment();
+        batchedOrders.add(batch.size());
+
+        Object response;
+        try {
+            response = postOrders.apply(args);
+        } catch (RuntimeException e) {
+            failedBatches.increment();
+            for (Pending pending : batch) {
+                pending.result().completeExceptionally(e);
+            }
+            return;
+        }
+        // Batch responses report each order's outcome, in request order
+        if (response instanceof List<?> results && results.size() == batch.size()) {
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(results.get(i));
+            }
+            return;
+        }
+        failedBatches.increment();
+        PolyApiException error = new PolyApiException("Unexpected /orders response: " + response);
+        for (Pending pending : batch) {
+            pending.result().completeExceptionally(error);
+        }
+    }
+
+    private record Pending(PostOrdersArgs args, CompletableFuture<Object> result, long queuedAtNanos) {}
+
+    /**
+     * Snapshot of batcher counters. {@code meanQueueNanos} is the mean time an
+     * order waited between {@link #submit} and being sent.
+     */
+    public record Stats(
+        long submitted,
+        long batches,
+        long batchedOrders,
+        long failedBatches,
+        int queued,
+        double meanBatchSize,
+        long meanQueueNanos
+    ) {}
+}
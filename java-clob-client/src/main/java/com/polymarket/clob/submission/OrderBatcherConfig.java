@@ -0,0 +1,30 @@
+package com.polymarket.clob.submission;
+
+import java.time.Duration;
+
+/**
+ * Settings for {@link OrderBatcher}
+ */
+public record OrderBatcherConfig(
+    Duration linger,           // How long the first order of a batch waits for others; zero sends what is queued
+    int maxBatchSize,          // Orders per /orders request, at most the server's limit of 15
+    int maxInFlight            // Number of /orders requests allowed in flight at once
+) {
+    public static final int SERVER_BATCH_LIMIT = 15;
+
+    public OrderBatcherConfig() {
+        this(Duration.ofMillis(2), SERVER_BATCH_LIMIT, 4);
+    }
+
+    public OrderBatcherConfig {
+        if (linger.isNegative()) {
+            throw new IllegalArgumentException("linger must not be negative");
+        }
+        if (maxBatchSize <= 0 || maxBatchSize > SERVER_BATCH_LIMIT) {
+            throw new IllegalArgumentException("maxBatchSize must be between 1 and " + SERVER_BATCH_LIMIT);
+        }
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight must be positive");
+        }
+    }
+}
@@ -0,0 +1,361 @@
+package com.polymarket.clob.submission;
+
+import com.polymarket.clob.client.ClobClient;
+import com.polymarket.clob.exceptions.PolyApiException;
+import com.polymarket.clob.types.OrderBookSummary;
+import com.polymarket.clob.types.OrderType;
+import com.polymarket.clob.types.PostOrdersArgs;
+import com.polymarket.clob.utilities.DaemonThreadFactory;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Orders requests to the CLOB by priority class instead of by arrival.
+ * <p>
+ * Each {@link Priority} has its own bounded queue and in-flight limit. A
+ * dispatcher thread always starts the highest-priority request whose class
+ * has a free in-flight slot, so queued cancels go out before any queued new
+ * order, and a burst of new orders cannot use up the slots cancels need.
+ * Requests already executing are not interrupted.
+ * <p>
+ * When a class queue is full, {@link #trySubmit} fails the returned future at
+ * once with {@link RejectedExecutionException}. {@link #submit} instead blocks
+ * the producer until there is room or its timeout expires. Producers can also
+ * check {@link #remainingCapacity} to throttle themselves first.
+ */
+public class OrderGateway implements AutoCloseable {
+    /**
+     * Request classes, highest priority first
+     */
+    public enum Priority {
+        CANCEL_ALL,
+        CANCEL,
+        REPLACE,
+        NEW_ORDER,
+        MARKET_DATA
+    }
+
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    private final ClobClient client;
+    private final OrderGatewayConfig config;
+    private final ExecutorService workers;
+    private final Thread dispatcher;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition dispatchable = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    // Guarded by lock, indexed by priority ordinal
+    private final ArrayDeque<Task<?>>[] queues;
+    private final int[] inFlight = new int[PRIORITIES.length];
+    private final long[] submitted = new long[PRIORITIES.length];
+    private final long[] rejected = new long[PRIORITIES.length];
+    private final long[] completed = new long[PRIORITIES.length];
+    private final long[] failed = new long[PRIORITIES.length];
+    private final long[] totalWaitNanos = new long[PRIORITIES.length];
+    private final long[] maxWaitNanos = new long[PRIORITIES.length];
+    private boolean closed;
+
+    @SuppressWarnings("unchecked")
+    public OrderGateway(ClobClient client, OrderGatewayConfig config) {
+        this.client = client;
+        this.config = config;
+        this.queues = new ArrayDeque[PRIORITIES.length];
+        for (int i = 0; i < queues.length; i++) {
+            queues[i] = new ArrayDeque<>();
+        }
+        this.workers = Executors.newCachedThreadPool(new DaemonThreadFactory("order-gateway-worker"));
+        this.dispatcher = new DaemonThreadFactory("order-gateway").newThread(this::dispatch);
+        this.dispatcher.start();
+    }
+
+    public OrderGateway(ClobClient client) {
+        this(client, new OrderGatewayConfig());
+    }
+
+    /**
+     * Queues a request without blocking. If the class queue is full, the future
+     * fails at once with {@link RejectedExecutionException}.
+     */
+    public <T> CompletableFuture<T> trySubmit(Priority priority, Supplier<T> request) {
+        Task<T> task = new Task<>(priority, request);
+        lock.lock();
+        try {
+            if (!enqueue(task)) {
+                rejected[priority.ordinal()]++;
+                task.result.completeExceptionally(new RejectedExecutionException(
+                    closed ? "Order gateway is closed" : priority + " queue is full"
+                ));
+            }
+        } finally {
+            lock.unlock();
+        }
+        return task.result;
+    }
+
+    /**
+     * Queues a request, waiting up to {@code timeout} for room in the class queue.
+     * If there is still no room, the future fails with {@link RejectedExecutionException}.
+     */
+    public <T> CompletableFuture<T> submit(Priority priority, Supplier<T> request, Duration timeout)
+        throws InterruptedException {
+        Task<T> task = new Task<>(priority, request);
+        long remaining = timeout.toNanos();
+        lock.lock();
+        try {
+            while (!enqueue(task)) {
+                if (closed || remaining <= 0) {
+                    rejected[priority.ordinal()]++;
+                    task.result.completeExceptionally(new RejectedExecutionException(
+                        closed ? "Order gateway is closed" : priority + " queue is full"
+                    ));
+                    break;
+                }
+                remaining = notFull.awaitNanos(remaining);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return task.result;
+    }
+
+    /**
+     * Requests the class can still queue before producers are pushed back
+     */
+    public int remainingCapacity(Priority priority) {
+        lock.lock();
+        try {
+            return config.maxQueued().get(priority) - queues[priority.ordinal()].size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Client calls by class
+
+    public CompletableFuture<Object> cancelAll() {
+        return trySubmit(Priority.CANCEL_ALL, client::cancelAll);
+    }
+
+    public CompletableFuture<Object> cancelMarketOrders(String market, String assetId) {
+        return trySubmit(Priority.CANCEL_ALL, () -> client.cancelMarketOrders(market, assetId));
+    }
+
+    public CompletableFuture<Object> cancel(String orderId) {
+        return trySubmit(Priority.CANCEL, () -> client.cancel(orderId));
+    }
+
+    public CompletableFuture<Object> cancelOrders(List<String> orderIds) {
+        return trySubmit(Priority.CANCEL, () -> client.cancelOrders(orderIds));
+    }
+
+    /**
+     * Cancels an order and posts its replacement once the cancel returns. Completes with the
+     * post response. If the cancel response does not list the order as canceled, for example
+     * because it matched meanwhile, nothing is posted and the future fails with
+     * {@link PolyApiException}.
+     */
+    public CompletableFuture<Object> replace(String orderId, Map<String, Object> order, OrderType orderType) {
+        return trySubmit(Priority.REPLACE, () -> {
+            Object response = client.cancel(orderId);
+            Map<?, ?> result = response instanceof Map<?, ?> map ? map : Map.of();
+            List<?> canceled = result.get("canceled") instanceof List<?> list ? list : List.of();
+            if (!canceled.contains(orderId)) {
+                Map<?, ?> rejections = result.get("not_canceled") instanceof Map<?, ?> map ? map : Map.of();
+                Object reason = rejections.get(orderId);
+                throw new PolyApiException("Order " + orderId + " was not canceled, so its replacement was not posted: "
+                    + (reason != null ? reason : "missing from cancel response"));
+            }
+            return client.postOrder(order, orderType);
+        });
+    }
+
+    public CompletableFuture<Object> postOrder(Map<String, Object> order, OrderType orderType) {
+        return trySubmit(Priority.NEW_ORDER, () -> client.postOrder(order, orderType));
+    }
+
+    public CompletableFuture<Object> postOrders(List<PostOrdersArgs> args) {
+        return trySubmit(Priority.NEW_ORDER, () -> client.postOrders(args));
+    }
+
+    public CompletableFuture<OrderBookSummary> getOrderBook(String tokenId) {
+        return trySubmit(Priority.MARKET_DATA, () -> client.getOrderBook(tokenId));
+    }
+
+    public Stats stats() {
+        Map<Priority, ClassStats> classes = new EnumMap<>(Priority.class);
+        lock.lock();
+        try {
+            for (Priority priority : PRIORITIES) {
+                int i = priority.ordinal();
+                long started = completed[i] + failed[i] + inFlight[i];
+                classes.put(priority, new ClassStats(
+                    queues[i].size(),
+                    inFlight[i],
+                    submitted[i],
+                    rejected[i],
+                    completed[i],
+                    failed[i],
+                    started > 0 ? totalWaitNanos[i] / started : 0,
+                    maxWaitNanos[i]
+                ));
+            }
+        } finally {
+            lock.unlock();
+        }
+        return new Stats(classes);
+    }
+
+    /**
+     * Stops dispatching. Queued requests fail with {@link RejectedExecutionException};
+     * requests already executing run to completion.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            for (ArrayDeque<Task<?>> queue : queues) {
+                Task<?> task;
+                while ((task = queue.poll()) != null) {
+                    task.result.completeExceptionally(new RejectedExecutionException("Order gateway is closed"));
+                }
+            }
+            dispatchable.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        workers.shutdown();
+    }
+
+    /**
+     * Adds the task to its class queue if there is room. Caller holds the lock.
+     */
+    private boolean enqueue(Task<?> task) {
+        int i = task.priority.ordinal();
+        if (closed || queues[i].size() >= config.maxQueued().get(task.priority)) {
+            return false;
+        }
+        queues[i].add(task);
+        submitted[i]++;
+        dispatchable.signal();
+        return true;
+    }
+
+    private void dispatch() {
+        while (true) {
+            Task<?> task;
+            lock.lock();
+            try {
+                while ((task = next()) == null) {
+                    if (closed) {
+                        return;
+                    }
+                    dispatchable.awaitUninterruptibly();
+                }
+                int i = task.priority.ordinal();
+                inFlight[i]++;
+                long wait = System.nanoTime() - task.queuedAtNanos;
+                totalWaitNanos[i] += wait;
+                maxWaitNanos[i] = Math.max(maxWaitNanos[i], wait);
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            Task<?> started = task;
+            try {
+                workers.execute(() -> run(started));
+            } catch (RejectedExecutionException e) {
+                finished(started, e);
+            }
+        }
+    }
+
+    /**
+     * Highest-priority queued task whose class has a free in-flight slot. Caller holds the lock.
+     */
+    private Task<?> next() {
+        for (Priority priority : PRIORITIES) {
+            int i = priority.ordinal();
+            if (!queues[i].isEmpty() && inFlight[i] < config.maxInFlight().get(priority)) {
+                return queues[i].poll();
+            }
+        }
+        return null;
+    }
+
+    private <T> void run(Task<T> task) {
+        T value;
+        try {
+            value = task.request.get();
+        } catch (Throwable e) {
+            finished(task, e);
+            return;
+        }
+        finished(task, null);
+        task.result.complete(value);
+    }
+
+    private void finished(Task<?> task, Throwable error) {
+        int i = task.priority.ordinal();
+        lock.lock();
+        try {
+            inFlight[i]--;
+            if (error != null) {
+                failed[i]++;
+            } else {
+                completed[i]++;
+            }
+            dispatchable.signal();
+        } finally {
+            lock.unlock();
+        }
+        if (error != null) {
+            task.result.completeExceptionally(error);
+        }
+    }
+
+    private static final class Task<T> {
+        final Priority priority;
+        final Supplier<T> request;
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final long queuedAtNanos = System.nanoTime();
+
+        Task(Priority priority, Supplier<T> request) {
+            this.priority = priority;
+            this.request = request;
+        }
+    }
+
+    /**
+     * Counters of one priority class. Wait times run from queueing to start of execution.
+     */
+    public record ClassStats(
+        int queued,
+        int inFlight,
+        long submitted,
+        long rejected,
+        long completed,
+        long failed,
+        long meanWaitNanos,
+        long maxWaitNanos
+    ) {}
+
+    /**
+     * Snapshot of gateway counters per priority class
+     */
+    public record Stats(Map<Priority, ClassStats> classes) {}
+}
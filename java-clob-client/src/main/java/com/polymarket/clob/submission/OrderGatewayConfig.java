@@ -0,0 +1,46 @@
+package com.polymarket.clob.submission;
+
+import com.polymarket.clob.submission.OrderGateway.Priority;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Settings for {@link OrderGateway}, per priority class
+ */
+public record OrderGatewayConfig(
+    Map<Priority, Integer> maxQueued,      // Requests waiting per class before producers are pushed back
+    Map<Priority, Integer> maxInFlight     // Requests of the class executing at once
+) {
+    public OrderGatewayConfig() {
+        this(
+            Map.of(
+                Priority.CANCEL_ALL, 16,
+                Priority.CANCEL, 4096,
+                Priority.REPLACE, 1024,
+                Priority.NEW_ORDER, 1024,
+                Priority.MARKET_DATA, 256
+            ),
+            Map.of(
+                Priority.CANCEL_ALL, 2,
+                Priority.CANCEL, 8,
+                Priority.REPLACE, 4,
+                Priority.NEW_ORDER, 4,
+                Priority.MARKET_DATA, 2
+            )
+        );
+    }
+
+    public OrderGatewayConfig {
+        for (Priority priority : Priority.values()) {
+            Integer queued = maxQueued.get(priority);
+            Integer inFlight = maxInFlight.get(priority);
+            if (queued == null || inFlight == null || queued <= 0 || inFlight <= 0) {
+                throw new IllegalArgumentException("maxQueued and maxInFlight must be positive for " + priority);
+            }
+        }
+        maxQueued = Collections.unmodifiableMap(new EnumMap<>(maxQueued));
+        maxInFlight = Collections.unmodifiableMap(new EnumMap<>(maxInFlight));
+    }
+}
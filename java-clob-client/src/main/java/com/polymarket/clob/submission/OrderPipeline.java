@@ -0,0 +1,510 @@
+package com.polymarket.clob.submission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.polymarket.clob.client.ClobClient;
+import com.polymarket.clob.client.MarketHandle;
+import com.polymarket.clob.constants.Endpoints;
+import com.polymarket.clob.exceptions.PolyApiException;
+import com.polymarket.clob.httphelpers.HttpHelpers;
+import com.polymarket.clob.types.OrderType;
+import com.polymarket.clob.types.RequestArgs;
+import com.polymarket.clob.utilities.DaemonThreadFactory;
+import com.polymarket.clob.utilities.TokenSymbols;
+import com.polymarket.clob.utilities.Utilities;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Creates and posts limit orders through a chain of dedicated threads instead
+ * of on the caller's thread.
+ * <p>
+ * Orders pass through four stages: build (price validation and amounts), sign
+ * ({@code signerThreads} workers), serialize (JSON body and L2 HMAC) and
+ * transmit (hand-off to a dedicated HTTP client). The stages share one ring of
+ * pre-allocated slots and hand orders on by publishing sequence numbers, with
+ * no locks or queues in between. Each stage is a single long-lived thread
+ * except signing, where order {@code n} goes to worker {@code n % signerThreads},
+ * so signing throughput grows with the workers while orders still leave in
+ * submission order. Idle stages spin briefly and then park for {@code idleWait},
+ * or spin throughout with {@code busySpin}; the JDK cannot pin threads to cores,
+ * so isolate them with the operating system's affinity tools if needed.
+ * <p>
+ * {@link #submit} waits for a free slot when the ring is full; {@link #trySubmit}
+ * fails at once instead. {@link Stats} reports each stage's depth and the
+ * latency from the previous stage's hand-off to its own.
+ */
+public class OrderPipeline implements AutoCloseable {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final int SPINS_BEFORE_PARK = 100;
+
+    private final ClobClient client;
+    private final OrderPipelineConfig config;
+    private final HttpClient http;
+    private final Slot[] ring;
+    private final int mask;
+    private final Map<Integer, MarketHandle> handles = new ConcurrentHashMap<>();
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean closed;
+
+    // Sequences: the next order each stage will handle
+    private final AtomicLong claimed = new AtomicLong();
+    private final Sequence built = new Sequence(0);
+    private final Sequence[] signed;
+    private final Sequence serialized = new Sequence(0);
+    private final Sequence transmitted = new Sequence(0);
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final Meter buildMeter = new Meter();
+    private final Meter signMeter = new Meter();
+    private final Meter serializeMeter = new Meter();
+    private final Meter transmitMeter = new Meter();
+    private final Meter responseMeter = new Meter();
+
+    public OrderPipeline(ClobClient client) {
+        this(client, new OrderPipelineConfig());
+    }
+
+    /**
+     * @param client L2 client whose signer and credentials the pipeline uses
+     */
+    public OrderPipeline(ClobClient client, OrderPipelineConfig config) {
+        this.client = client;
+        this.config = config;
+        this.http = HttpHelpers.newHttpClient();
+        this.ring = new Slot[config.ringSize()];
+        for (int i = 0; i < ring.length; i++) {
+            ring[i] = new Slot();
+        }
+        this.mask = ring.length - 1;
+        this.signed = new Sequence[config.signerThreads()];
+        for (int i = 0; i < signed.length; i++) {
+            signed[i] = new Sequence(i);
+        }
+
+        start(new DaemonThreadFactory("pipeline-build").newThread(this::build));
+        DaemonThreadFactory signerThreads = new DaemonThreadFactory("pipeline-signer");
+        for (int i = 0; i < signed.length; i++) {
+            int worker = i;
+            start(signerThreads.newThread(() -> sign(worker)));
+        }
+        start(new DaemonThreadFactory("pipeline-serialize").newThread(this::serialize));
+        start(new DaemonThreadFactory("pipeline-transmit").newThread(this::transmit));
+    }
+
+    public CompletableFuture<Object> submit(String tokenId, double price, double size, String side,
+                                            OrderType orderType) {
+        return submit(tokenId, price, size, side, orderType, 0);
+    }
+
+    /**
+     * Queues a limit order, waiting for a free slot if the ring is full. The
+     * future completes with the POST /order response.
+     *
+     * @param side       BUY or SELL
+     * @param expiration UNIX time in seconds for GTD orders, or 0
+     */
+    public CompletableFuture<Object> submit(String tokenId, double price, double size, String side,
+                                            OrderType orderType, long expiration) {
+        MarketHandle handle;
+        try {
+            handle = handle(tokenId);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        long sequence = claimed.getAndIncrement();
+        int idle = 0;
+        while (sequence - ring.length >= transmitted.value) {
+            if (closed) {
+                rejected.increment();
+                return CompletableFuture.failedFuture(new RejectedExecutionException("Order pipeline is closed"));
+            }
+            idle = idle(idle);
+        }
+        return publish(sequence, handle, price, size, side, orderType, expiration);
+    }
+
+    /**
+     * Queues a limit order without waiting. If the ring is full, the future fails
+     * at once with {@link RejectedExecutionException}.
+     */
+    public CompletableFuture<Object> trySubmit(String tokenId, double price, double size, String side,
+                                               OrderType orderType, long expiration) {
+        MarketHandle handle;
+        try {
+            handle = handle(tokenId);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (closed || sequence - ring.length >= transmitted.value) {
+                rejected.increment();
+                return CompletableFuture.failedFuture(new RejectedExecutionException(
+                    closed ? "Order pipeline is closed" : "Order pipeline is full"
+                ));
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+        return publish(sequence, handle, price, size, side, orderType, expiration);
+    }
+
+    /**
+     * Free slots in the ring
+     */
+    public int remainingCapacity() {
+        return (int) Math.max(0, ring.length - (claimed.get() - transmitted.value));
+    }
+
+    public Stats stats() {
+        long transmits = transmitMeter.count.sum();
+        long serializes = serializeMeter.count.sum();
+        long signs = signMeter.count.sum();
+        long builds = buildMeter.count.sum();
+        return new Stats(
+            ring.length,
+            submitted.sum(),
+            rejected.sum(),
+            failed.sum(),
+            buildMeter.snapshot(submitted.sum()),
+            signMeter.snapshot(builds),
+            serializeMeter.snapshot(signs),
+            transmitMeter.snapshot(serializes),
+            responseMeter.snapshot(transmits)
+        );
+    }
+
+    /**
+     * Stops the stages. Orders not yet handed to the HTTP client fail with
+     * {@link RejectedExecutionException}; orders already sent complete normally.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (Thread thread : threads) {
+            LockSupport.unpark(thread);
+        }
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        for (long sequence = transmitted.value; sequence < claimed.get(); sequence++) {
+            Slot slot = ring[(int) sequence & mask];
+            CompletableFuture<Object> result = slot.result;
+            if (slot.published == sequence && result != null) {
+                result.completeExceptionally(new RejectedExecutionException("Order pipeline is closed"));
+            }
+        }
+        for (MarketHandle handle : handles.values()) {
+            handle.close();
+        }
+    }
+
+    private CompletableFuture<Object> publish(long sequence, MarketHandle handle, double price, double size,
+                                              String side, OrderType orderType, long expiration) {
+        Slot slot = ring[(int) sequence & mask];
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        slot.handle = handle;
+        slot.price = price;
+        slot.size = size;
+        slot.side = side;
+        slot.orderType = orderType;
+        slot.expiration = expiration;
+        slot.result = result;
+        slot.stampNanos = System.nanoTime();
+        slot.published = sequence;
+        submitted.increment();
+        if (closed) {
+            // Raced with close; the stages may already have stopped
+            result.completeExceptionally(new RejectedExecutionException("Order pipeline is closed"));
+        }
+        return result;
+    }
+
+    private void build() {
+        long next = 0;
+        int idle = 0;
+        while (!closed) {
+            Slot slot = ring[(int) next & mask];
+            if (slot.published != next) {
+                idle = idle(idle);
+                continue;
+            }
+            idle = 0;
+            try {
+                slot.prepared = slot.handle.prepareOrder(slot.price, slot.size, slot.side, slot.expiration);
+            } catch (RuntimeException e) {
+                slot.error = e;
+            }
+            slot.stampNanos = buildMeter.record(slot.stampNanos);
+            built.value = ++next;
+        }
+    }
+
+    private void sign(int worker) {
+        Sequence done = signed[worker];
+        long next = worker;
+        int idle = 0;
+        while (!closed) {
+            if (built.value <= next) {
+                idle = idle(idle);
+                continue;
+            }
+            idle = 0;
+            Slot slot = ring[(int) next & mask];
+            if (slot.error == null) {
+                try {
+                    slot.order = slot.handle.sign(slot.prepared);
+                } catch (RuntimeException e) {
+                    slot.error = e;
+                }
+            }
+            slot.stampNanos = signMeter.record(slot.stampNanos);
+            next += signed.length;
+            done.value = next;
+        }
+    }
+
+    private void serialize() {
+        long next = 0;
+        int idle = 0;
+        while (!closed) {
+            if (signed[(int) (next % signed.length)].value <= next) {
+                idle = idle(idle);
+                continue;
+            }
+            idle = 0;
+            Slot slot = ring[(int) next & mask];
+            if (slot.error == null) {
+                try {
+                    Map<String, Object> body = Utilities.orderToJson(
+                        slot.order, client.getApiCreds().apiKey(), slot.orderType
+                    );
+                    String serializedBody = objectMapper.writeValueAsString(body);
+                    Map<String, String> headers = client.createLevel2Headers(
+                        new RequestArgs("POST", Endpoints.POST_ORDER, body, serializedBody)
+                    );
+                    slot.request = HttpHelpers.buildRequest(
+                        client.getHost() + Endpoints.POST_ORDER, "POST", headers, serializedBody
+                    );
+                } catch (Exception e) {
+                    slot.error = e;
+                }
+            }
+            slot.stampNanos = serializeMeter.record(slot.stampNanos);
+            serialized.value = ++next;
+        }
+    }
+
+    private void transmit() {
+        long next = 0;
+        int idle = 0;
+        while (!closed) {
+            if (serialized.value <= next) {
+                idle = idle(idle);
+                continue;
+            }
+            idle = 0;
+            Slot slot = ring[(int) next & mask];
+            CompletableFuture<Object> result = slot.result;
+            HttpRequest request = slot.request;
+            Throwable error = slot.error;
+            String tokenId = slot.handle.tokenId();
+            long stamp = slot.stampNanos;
+            slot.clear();
+            transmitted.value = ++next;
+
+            if (error != null) {
+                failed.increment();
+                transmitMeter.record(stamp);
+                result.completeExceptionally(error);
+                continue;
+            }
+            CompletableFuture<HttpResponse<byte[]>> response;
+            try {
+                response = http.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+            } catch (RuntimeException e) {
+                failed.increment();
+                transmitMeter.record(stamp);
+                result.completeExceptionally(e);
+                continue;
+            }
+            long sent = transmitMeter.record(stamp);
+            response.whenComplete((r, e) -> complete(result, tokenId, sent, r, e));
+        }
+    }
+
+    private void complete(CompletableFuture<Object> result, String tokenId, long sentNanos,
+                          HttpResponse<byte[]> response, Throwable error) {
+        responseMeter.record(sentNanos);
+        if (error != null) {
+            failed.increment();
+            result.completeExceptionally(new PolyApiException("Request exception: " + error.getMessage()));
+            return;
+        }
+        String body = new String(response.body(), StandardCharsets.UTF_8);
+        if (response.statusCode() != 200) {
+            failed.increment();
+            // A rejection for an invalid tick size means the cached tick size is stale
+            if (body.toLowerCase(Locale.ROOT).contains("tick size")) {
+                client.getMetadataCache().invalidateTickSize(tokenId);
+            }
+            result.completeExceptionally(new PolyApiException(response.statusCode(), body));
+            return;
+        }
+        result.complete(parse(body));
+    }
+
+    private static Object parse(String body) {
+        if (body.isBlank()) {
+            return body;
+        }
+        try {
+            return objectMapper.readValue(body, Object.class);
+        } catch (Exception e) {
+            return body;
+        }
+    }
+
+    private MarketHandle handle(String tokenId) {
+        return handles.computeIfAbsent(TokenSymbols.intern(tokenId), h -> client.getMarketHandle(tokenId));
+    }
+
+    /**
+     * Waits a little while a stage has no work. Returns the updated idle count.
+     */
+    private int idle(int idle) {
+        if (config.busySpin() || idle < SPINS_BEFORE_PARK) {
+            Thread.onSpinWait();
+        } else {
+            LockSupport.parkNanos(config.idleWait().toNanos());
+        }
+        return idle + 1;
+    }
+
+    private void start(Thread thread) {
+        threads.add(thread);
+        thread.start();
+    }
+
+    /**
+     * One pre-allocated ring entry. Fields are handed between stages through the
+     * sequences, so only {@code published} needs to be volatile.
+     */
+    private static final class Slot {
+        volatile long published = -1;
+        MarketHandle handle;
+        double price;
+        double size;
+        String side;
+        OrderType orderType;
+        long expiration;
+        CompletableFuture<Object> result;
+        MarketHandle.Prepared prepared;
+        Map<String, Object> order;
+        HttpRequest request;
+        Throwable error;
+        long stampNanos;                // Hand-off time from the previous stage
+
+        void clear() {
+            handle = null;
+            side = null;
+            orderType = null;
+            result = null;
+            prepared = null;
+            order = null;
+            request = null;
+            error = null;
+        }
+    }
+
+    // Padding keeps each sequence on its own cache line, so stages do not slow each other down
+
+    private static class LeftPadding {
+        long p1, p2, p3, p4, p5, p6, p7;
+    }
+
+    private static class SequenceValue extends LeftPadding {
+        volatile long value;
+    }
+
+    private static final class Sequence extends SequenceValue {
+        long p9, p10, p11, p12, p13, p14, p15;
+
+        Sequence(long initial) {
+            value = initial;
+        }
+    }
+
+    private static final class Meter {
+        final LongAdder count = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final AtomicLong maxNanos = new AtomicLong();
+
+        /**
+         * Records the time since {@code fromNanos} and returns the current time
+         */
+        long record(long fromNanos) {
+            long now = System.nanoTime();
+            long elapsed = now - fromNanos;
+            count.increment();
+            totalNanos.add(elapsed);
+            if (elapsed > maxNanos.get()) {
+                maxNanos.accumulateAndGet(elapsed, Math::max);
+            }
+            return now;
+        }
+
+        StageStats snapshot(long upstream) {
+            long processed = count.sum();
+            return new StageStats(
+                processed,
+                Math.max(0, upstream - processed),
+                processed > 0 ? totalNanos.sum() / processed : 0,
+                maxNanos.get()
+            );
+        }
+    }
+
+    /**
+     * Counters of one stage
+     *
+     * @param depth      orders handed to the stage and not yet through it
+     * @param meanNanos  mean time from the previous stage's hand-off to this stage's, including waiting
+     */
+    public record StageStats(long processed, long depth, long meanNanos, long maxNanos) {}
+
+    /**
+     * Snapshot of pipeline counters. {@code response} measures from the hand-off to
+     * the HTTP client to the response; its depth is the number of requests in flight.
+     */
+    public record Stats(
+        int ringSize,
+        long submitted,
+        long rejected,
+        long failed,
+        StageStats build,
+        StageStats sign,
+        StageStats serialize,
+        StageStats transmit,
+        StageStats response
+    ) {}
+}
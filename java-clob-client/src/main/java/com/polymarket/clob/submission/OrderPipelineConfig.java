@@ -0,0 +1,29 @@
+package com.polymarket.clob.submission;
+
+import java.time.Duration;
+
+/**
+ * Settings for {@link OrderPipeline}
+ */
+public record OrderPipelineConfig(
+    int ringSize,              // Orders between submission and transmission, a power of two
+    int signerThreads,         // Threads signing in parallel; orders are striped across them
+    boolean busySpin,          // Spin on a core while a stage has no work instead of parking
+    Duration idleWait          // Park time of an idle stage when not spinning
+) {
+    public OrderPipelineConfig() {
+        this(1024, Math.max(1, Runtime.getRuntime().availableProcessors() / 2), false, Duration.ofNanos(50_000));
+    }
+
+    public OrderPipelineConfig {
+        if (ringSize <= 0 || Integer.bitCount(ringSize) != 1) {
+            throw new IllegalArgumentException("ringSize must be a positive power of two");
+        }
+        if (signerThreads <= 0) {
+            throw new IllegalArgumentException("signerThreads must be positive");
+        }
+        if (idleWait.isNegative() || idleWait.isZero()) {
+            throw new IllegalArgumentException("idleWait must be positive");
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package com.polymarket.clob.submission;
+
+import com.polymarket.clob.client.ClobClient;
+import com.polymarket.clob.client.MarketHandle;
+import com.polymarket.clob.metadata.MetadataListener;
+import com.polymarket.clob.orderbook.OffHeapBookStore;
+import com.polymarket.clob.orderbuilder.constants.OrderSide;
+import com.polymarket.clob.types.OrderType;
+import com.polymarket.clob.utilities.DaemonThreadFactory;
+import com.polymarket.clob.utilities.TokenSymbols;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps signed orders ready for anticipated token, side, price and size combinations.
+ * <p>
+ * {@link #reserve} registers a slot, and background threads keep it stocked
+ * with {@code depth} signed orders. Salts come from a process-wide counter,
+ * so orders with identical terms still hash differently. {@link #post} takes
+ * a ready order and posts it at once, leaving only serialization, L2 headers
+ * and the request on the signal path. If the slot is empty it signs inline and
+ * counts a miss.
+ * <p>
+ * A tick size, neg-risk or fee rate change reported by the client's metadata
+ * cache discards the token's ready orders and re-signs them with the new
+ * parameters. GTD slots sign orders expiring {@code gtdLifetime} after signing
+ * and replace them once they are within {@code rotateBefore} of expiring. Keep
+ * that margin above the exchange's one-minute expiration threshold. Other order
+ * types are signed without expiration.
+ */
+public class PreSignedOrderPool implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(PreSignedOrderPool.class);
+
+    private final ClobClient client;
+    private final PreSignedPoolConfig config;
+    private final Map<SlotKey, Slot> slots = new ConcurrentHashMap<>();
+    private final Map<Integer, MarketHandle> handles = new ConcurrentHashMap<>();
+    private final MetadataListener listener = this::invalidate;
+    private final ExecutorService signers;
+    private final ScheduledExecutorService scheduler;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder signed = new LongAdder();
+    private final LongAdder invalidated = new LongAdder();
+    private final LongAdder rotated = new LongAdder();
+
+    public PreSignedOrderPool(ClobClient client) {
+        this(client, new PreSignedPoolConfig());
+    }
+
+    public PreSignedOrderPool(ClobClient client, PreSignedPoolConfig config) {
+        this.client = client;
+        this.config = config;
+        this.signers = Executors.newFixedThreadPool(config.signerThreads(), new DaemonThreadFactory("presigner"));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("presign-rotation"));
+        client.getMetadataCache().addListener(listener);
+        long period = config.checkInterval().toNanos();
+        scheduler.scheduleWithFixedDelay(this::rotate, period, period, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Starts keeping signed orders ready for the combination. Reserving it again has no effect.
+     *
+     * @param side BUY or SELL
+     */
+    public void reserve(String tokenId, String side, double price, double size, OrderType orderType) {
+        SlotKey key = SlotKey.of(TokenSymbols.intern(tokenId), side, price, size, orderType);
+        Slot slot = slots.computeIfAbsent(key, k -> new Slot(k, tokenId, side, price, size));
+        refill(slot);
+    }
+
+    /**
+     * Stops keeping orders ready for the combination and drops those already signed
+     */
+    public void release(String tokenId, String side, double price, double size, OrderType orderType) {
+        int handle = TokenSymbols.find(tokenId);
+        if (handle != TokenSymbols.NOT_FOUND) {
+            slots.remove(SlotKey.of(handle, side, price, size, orderType));
+        }
+    }
+
+    /**
+     * Takes a ready signed order for the combination, or returns null if none is ready
+     */
+    public Map<String, Object> take(String tokenId, String side, double price, double size, OrderType orderType) {
+        int handle = TokenSymbols.find(tokenId);
+        Slot slot = handle != TokenSymbols.NOT_FOUND
+            ? slots.get(SlotKey.of(handle, side, price, size, orderType))
+            : null;
+        if (slot == null) {
+            return null;
+        }
+        long nowSeconds = System.currentTimeMillis() / 1000;
+        Ready ready;
+        while ((ready = slot.ready.poll()) != null) {
+            slot.count.decrementAndGet();
+            if (ready.generation() == slot.generation.get() && !expiring(ready, nowSeconds)) {
+                break;
+            }
+        }
+        refill(slot);
+        return ready != null ? ready.order() : null;
+    }
+
+    /**
+     * Posts a ready order for the combination, signing one inline if none is ready
+     */
+    public Object post(String tokenId, String side, double price, double size, OrderType orderType) {
+        Map<String, Object> order = take(tokenId, side, price, size, orderType);
+        if (order != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            long expiration = orderType == OrderType.GTD ? expiration() : 0;
+            order = handle(TokenSymbols.intern(tokenId)).createOrder(price, size, side, expiration);
+            signed.increment();
+        }
+        return client.postOrder(order, orderType);
+    }
+
+    public Stats stats() {
+        int ready = 0;
+        for (Slot slot : slots.values()) {
+            ready += Math.max(0, slot.count.get());
+        }
+        return new Stats(
+            slots.size(),
+            ready,
+            hits.sum(),
+            misses.sum(),
+            signed.sum(),
+            invalidated.sum(),
+            rotated.sum()
+        );
+    }
+
+    @Override
+    public void close() {
+        client.getMetadataCache().removeListener(listener);
+        scheduler.shutdownNow();
+        signers.shutdownNow();
+        for (MarketHandle handle : handles.values()) {
+            handle.close();
+        }
+        slots.clear();
+    }
+
+    /**
+     * Discards the token's ready orders after a metadata change, or every slot's for null
+     */
+    private void invalidate(String tokenId) {
+        int handle = tokenId != null ? TokenSymbols.find(tokenId) : TokenSymbols.NOT_FOUND;
+        if (tokenId != null && handle == TokenSymbols.NOT_FOUND) {
+            return;
+        }
+        for (Slot slot : slots.values()) {
+            if (tokenId == null || slot.key.tokenHandle() == handle) {
+                // Stop handing out the old orders now
+                slot.generation.incrementAndGet();
+                invalidated.increment();
+                submit(() -> {
+                    // Orders signed before the handle reloaded may still carry the old parameters
+                    MarketHandle marketHandle = handles.get(slot.key.tokenHandle());
+                    if (marketHandle != null) {
+                        try {
+                            marketHandle.refresh();
+                        } catch (RuntimeException e) {
+                            log.warn("Could not reload market parameters for token {}", slot.tokenId, e);
+                        }
+                    }
+                    slot.generation.incrementAndGet();
+                    purge(slot);
+                    refill(slot);
+                });
+            }
+        }
+    }
+
+    private void rotate() {
+        long nowSeconds = System.currentTimeMillis() / 1000;
+        for (Slot slot : slots.values()) {
+            if (slot.key.orderType() != OrderType.GTD) {
+                continue;
+            }
+            boolean stale = false;
+            for (Ready ready : slot.ready) {
+                if (expiring(ready, nowSeconds)) {
+                    stale = true;
+                    break;
+                }
+            }
+            if (stale) {
+                rotated.add(purge(slot));
+                refill(slot);
+            }
+        }
+    }
+
+    /**
+     * Drops orders of an older generation or close to expiring. Returns the number dropped.
+     */
+    private int purge(Slot slot) {
+        long nowSeconds = System.currentTimeMillis() / 1000;
+        int dropped = 0;
+        for (Ready ready : slot.ready) {
+            if ((ready.generation() != slot.generation.get() || expiring(ready, nowSeconds)) && slot.ready.remove(ready)) {
+                slot.count.decrementAndGet();
+                dropped++;
+            }
+        }
+        return dropped;
+    }
+
+    private void refill(Slot slot) {
+        if (slot.count.get() < config.depth() && slot.filling.compareAndSet(false, true)) {
+            submit(() -> {
+                try {
+                    fill(slot);
+                } finally {
+                    slot.filling.set(false);
+                }
+            });
+        }
+    }
+
+    private void fill(Slot slot) {
+        while (slot.count.get() < config.depth() && slots.get(slot.key) == slot) {
+            long generation = slot.generation.get();
+            long expiration = slot.key.orderType() == OrderType.GTD ? expiration() : 0;
+            Map<String, Object> order;
+            try {
+                order = handle(slot.key.tokenHandle()).createOrder(slot.price, slot.size, slot.side, expiration);
+            } catch (RuntimeException e) {
+                log.warn("Pre-signing failed for token {}", slot.tokenId, e);
+                return;
+            }
+            signed.increment();
+            if (generation != slot.generation.get()) {
+                // Invalidated while signing; sign again with the new parameters
+                continue;
+            }
+            slot.ready.add(new Ready(order, expiration, generation));
+            slot.count.incrementAndGet();
+        }
+    }
+
+    private void submit(Runnable task) {
+        try {
+            signers.execute(task);
+        } catch (RejectedExecutionException e) {
+            // Closed
+        }
+    }
+
+    private MarketHandle handle(int tokenHandle) {
+        return handles.computeIfAbsent(tokenHandle, h -> client.getMarketHandle(TokenSymbols.tokenId(h)));
+    }
+
+    private long expiration() {
+        return System.currentTimeMillis() / 1000 + config.gtdLifetime().toSeconds();
+    }
+
+    private boolean expiring(Ready ready, long nowSeconds) {
+        return ready.expiration() != 0 && ready.expiration() - nowSeconds <= config.rotateBefore().toSeconds();
+    }
+
+    private record SlotKey(int tokenHandle, boolean buy, long price, long size, OrderType orderType) {
+        static SlotKey of(int tokenHandle, String side, double price, double size, OrderType orderType) {
+            return new SlotKey(
+                tokenHandle,
+                OrderSide.BUY.equals(side),
+                Math.round(price * OffHeapBookStore.SCALE),
+                Math.round(size * OffHeapBookStore.SCALE),
+                orderType
+            );
+        }
+    }
+
+    private static final class Slot {
+        final SlotKey key;
+        final String tokenId;
+        final String side;
+        final double price;
+        final double size;
+        final ConcurrentLinkedQueue<Ready> ready = new ConcurrentLinkedQueue<>();
+        final AtomicInteger count = new AtomicInteger();
+        final AtomicBoolean filling = new AtomicBoolean();
+        final AtomicLong generation = new AtomicLong();
+
+        Slot(SlotKey key, String tokenId, String side, double price, double size) {
+            this.key = key;
+            this.tokenId = tokenId;
+            this.side = side;
+            this.price = price;
+            this.size = size;
+        }
+    }
+
+    private record Ready(Map<String, Object> order, long expiration, long generation) {}
+
+    /**
+     * Snapshot of pool counters. {@code misses} counts posts that had to sign inline.
+     */
+    public record Stats(
+        int slots,
+        int readyOrders,
+        long hits,
+        long misses,
+        long signed,
+        long invalidated,
+        long rotated
+    ) {}
+}
@@ -0,0 +1,30 @@
+package com.polymarket.clob.submission;
+
+import java.time.Duration;
+
+/**
+ * Settings for {@link PreSignedOrderPool}
+ */
+public record PreSignedPoolConfig(
+    int depth,                 // Signed orders kept ready per reserved slot
+    Duration gtdLifetime,      // Expiration of pre-signed GTD orders, counted from signing
+    Duration rotateBefore,     // GTD orders this close to expiring are replaced
+    Duration checkInterval,    // How often GTD slots are checked for rotation
+    int signerThreads          // Threads signing refills in the background
+) {
+    public PreSignedPoolConfig() {
+        this(4, Duration.ofMinutes(30), Duration.ofMinutes(5), Duration.ofSeconds(30), 2);
+    }
+
+    public PreSignedPoolConfig {
+        if (depth <= 0 || signerThreads <= 0) {
+            throw new IllegalArgumentException("depth and signerThreads must be positive");
+        }
+        if (gtdLifetime.compareTo(rotateBefore) <= 0 || rotateBefore.isNegative()) {
+            throw new IllegalArgumentException("intervals must satisfy 0 <= rotateBefore < gtdLifetime");
+        }
+        if (checkInterval.isNegative() || checkInterval.isZero()) {
+            throw new IllegalArgumentException("checkInterval must be positive");
+        }
+    }
+}
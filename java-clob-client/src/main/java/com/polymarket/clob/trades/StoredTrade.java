@@ -0,0 +1,15 @@
+package com.polymarket.clob.trades;
+
+/**
+ * Trade as kept in a {@link TradeStore}
+ */
+public record StoredTrade(
+    String id,
+    String market,         // Condition ID
+    String assetId,
+    String side,
+    String outcome,
+    String price,
+    String size,
+    long matchTime         // Epoch seconds
+) {}
@@ -0,0 +1,501 @@
+package com.polymarket.clob.trades;
+
+import com.polymarket.clob.orderbook.OffHeapBookStore;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Local columnar store of trades, queried without the network.
+ * <p>
+ * Each column is its own append-only file of fixed-width little-endian values:
+ * <pre>
+ *   id.col       16 bytes   trade ID as a UUID
+ *   time.col      8 bytes   match time, epoch seconds
+ *   price.col     8 bytes   fixed-point, scaled by {@link OffHeapBookStore#SCALE}
+ *   size.col      8 bytes   fixed-point, scaled by {@link OffHeapBookStore#SCALE}
+ *   side.col      1 byte    0 BUY, 1 SELL
+ *   market.col    4 bytes   reference into strings.dat
+ *   asset.col     4 bytes   reference into strings.dat
+ *   outcome.col   4 bytes   reference into strings.dat
+ * </pre>
+ * Markets, assets and outcomes are dictionary-encoded in strings.dat. The ID
+ * column doubles as the dedup index: it is loaded into an in-memory hash set on
+ * open. Queries memory-map the columns they scan. After a crash, columns are
+ * truncated to the shortest one so every row is complete.
+ * <p>
+ * The high-water mark is kept in its own file, sync.mark, rather than derived
+ * from the rows: a sync that fails part way has stored the newest trades but not
+ * the older ones, so the mark only moves when {@link TradeSync} commits a
+ * completed sync.
+ * <p>
+ * Not thread-safe; {@link TradeSync} serializes access.
+ */
+public class TradeStore implements AutoCloseable {
+    private final Path directory;
+
+    private final Column ids;
+    private final Column times;
+    private final Column prices;
+    private final Column sizes;
+    private final Column sides;
+    private final Column markets;
+    private final Column assets;
+    private final Column outcomes;
+    private final Column[] columns;
+
+    private final FileChannel stringsFile;
+    private final List<String> strings = new ArrayList<>();
+    private final Map<String, Integer> stringRefs = new HashMap<>();
+
+    private final IdSet idSet = new IdSet();
+    private long rows;
+    private long maxMatchTime;
+    private long highWaterMark;
+
+    public TradeStore(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+            this.ids = new Column("id.col", 16);
+            this.times = new Column("time.col", 8);
+            this.prices = new Column("price.col", 8);
+            this.sizes = new Column("size.col", 8);
+            this.sides = new Column("side.col", 1);
+            this.markets = new Column("market.col", 4);
+            this.assets = new Column("asset.col", 4);
+            this.outcomes = new Column("outcome.col", 4);
+            this.columns = new Column[] {ids, times, prices, sizes, sides, markets, assets, outcomes};
+            this.stringsFile = FileChannel.open(directory.resolve("strings.dat"),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            loadStrings();
+            recover();
+            loadHighWaterMark();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open trade store " + directory, e);
+        }
+    }
+
+    public long size() {
+        return rows;
+    }
+
+    /**
+     * Match time, in epoch seconds, up to which every trade is stored, or 0 before
+     * the first completed sync
+     */
+    public long highWaterMark() {
+        return highWaterMark;
+    }
+
+    /**
+     * Newest match time in the store, in epoch seconds, or 0 if it is empty
+     */
+    public long newestMatchTime() {
+        return maxMatchTime;
+    }
+
+    /**
+     * Persists a new high-water mark once every trade up to it is stored
+     */
+    void commitHighWaterMark(long matchTime) {
+        if (matchTime <= highWaterMark) {
+            return;
+        }
+        Path file = directory.resolve("sync.mark");
+        Path temp = directory.resolve("sync.mark.tmp");
+        ByteBuffer out = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(matchTime).flip();
+        try {
+            try (FileChannel channel = FileChannel.open(temp,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                while (out.hasRemaining()) {
+                    channel.write(out);
+                }
+                channel.force(true);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write high-water mark in " + directory, e);
+        }
+        highWaterMark = matchTime;
+    }
+
+    public boolean contains(String tradeId) {
+        UUID id = toUuid(tradeId);
+        return idSet.contains(id.getMostSignificantBits(), id.getLeastSignificantBits());
+    }
+
+    /**
+     * Appends the trades that are not already stored and syncs the files.
+     * Returns the number of trades appended.
+     * <p>
+     * A failed append is rolled back: every column and the string dictionary are
+     * truncated to the rows stored before it, and its IDs stay unmarked, so the
+     * same trades can be appended again.
+     */
+    int append(List<StoredTrade> trades) {
+        List<StoredTrade> added = new ArrayList<>(trades.size());
+        List<UUID> addedIds = new ArrayList<>(trades.size());
+        Set<UUID> batch = new HashSet<>();
+        for (StoredTrade trade : trades) {
+            UUID id = toUuid(trade.id());
+            if (!idSet.contains(id.getMostSignificantBits(), id.getLeastSignificantBits()) && batch.add(id)) {
+                added.add(trade);
+                addedIds.add(id);
+            }
+        }
+        if (added.isEmpty()) {
+            return 0;
+        }
+        int stringCount = strings.size();
+        long newest = maxMatchTime;
+        try {
+            long stringsSize = stringsFile.size();
+            try {
+                int count = added.size();
+                ByteBuffer idBuf = ids.buffer(count);
+                ByteBuffer timeBuf = times.buffer(count);
+                ByteBuffer priceBuf = prices.buffer(count);
+                ByteBuffer sizeBuf = sizes.buffer(count);
+                ByteBuffer sideBuf = sides.buffer(count);
+                ByteBuffer marketBuf = markets.buffer(count);
+                ByteBuffer assetBuf = assets.buffer(count);
+                ByteBuffer outcomeBuf = outcomes.buffer(count);
+                for (int i = 0; i < count; i++) {
+                    StoredTrade trade = added.get(i);
+                    UUID id = addedIds.get(i);
+                    idBuf.putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits());
+                    timeBuf.putLong(trade.matchTime());
+                    priceBuf.putLong(OffHeapBookStore.parseFixed(trade.price()));
+                    sizeBuf.putLong(OffHeapBookStore.parseFixed(trade.size()));
+                    sideBuf.put("SELL".equals(trade.side()) ? (byte) 1 : (byte) 0);
+                    marketBuf.putInt(ref(trade.market()));
+                    assetBuf.putInt(ref(trade.assetId()));
+                    outcomeBuf.putInt(ref(trade.outcome()));
+                    newest = Math.max(newest, trade.matchTime());
+                }
+                // Strings first, so every reference in a column already resolves
+                stringsFile.force(false);
+                for (Column column : columns) {
+                    writeColumn(column);
+                }
+            } catch (IOException | RuntimeException e) {
+                try {
+                    rollBack(stringCount, stringsSize);
+                } catch (IOException rollbackFailure) {
+                    e.addSuppressed(rollbackFailure);
+                }
+                throw e;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append to trade store " + directory, e);
+        }
+        // Only now is every column written, so the IDs count as stored
+        for (UUID id : addedIds) {
+            idSet.add(id.getMostSignificantBits(), id.getLeastSignificantBits());
+        }
+        maxMatchTime = newest;
+        rows += added.size();
+        return added.size();
+    }
+
+    // Seam for tests that inject a failure part way through an append
+    void writeColumn(Column column) throws IOException {
+        column.write();
+    }
+
+    /**
+     * Truncates every column back to the stored rows and drops the strings a failed append added
+     */
+    private void rollBack(int stringCount, long stringsSize) throws IOException {
+        for (Column column : columns) {
+            column.pending = null;
+            column.channel.truncate(rows * column.width);
+            column.channel.position(rows * column.width);
+        }
+        while (strings.size() > stringCount) {
+            stringRefs.remove(strings.remove(strings.size() - 1));
+        }
+        stringsFile.truncate(stringsSize);
+        stringsFile.position(stringsSize);
+    }
+
+    /**
+     * Trades of a market matched in {@code [fromSeconds, toSeconds)}, in the order they were stored
+     *
+     * @param market condition ID, or null for all markets
+     */
+    public List<StoredTrade> query(String market, long fromSeconds, long toSeconds) {
+        List<StoredTrade> result = new ArrayList<>();
+        if (rows == 0) {
+            return result;
+        }
+        int marketRef;
+        if (market == null) {
+            marketRef = -1;
+        } else {
+            Integer ref = stringRefs.get(market);
+            if (ref == null) {
+                return result;
+            }
+            marketRef = ref;
+        }
+        try (Arena arena = Arena.ofConfined()) {
+            ByteBuffer timeCol = times.map(arena, rows);
+            ByteBuffer marketCol = markets.map(arena, rows);
+            ByteBuffer idCol = null;
+            ByteBuffer priceCol = null;
+            ByteBuffer sizeCol = null;
+            ByteBuffer sideCol = null;
+            ByteBuffer assetCol = null;
+            ByteBuffer outcomeCol = null;
+            for (int row = 0; row < rows; row++) {
+                long time = timeCol.getLong(row * 8);
+                if (time < fromSeconds || time >= toSeconds) {
+                    continue;
+                }
+                int ref = marketCol.getInt(row * 4);
+                if (marketRef >= 0 && ref != marketRef) {
+                    continue;
+                }
+                if (idCol == null) {
+                    idCol = ids.map(arena, rows);
+                    priceCol = prices.map(arena, rows);
+                    sizeCol = sizes.map(arena, rows);
+                    sideCol = sides.map(arena, rows);
+                    assetCol = assets.map(arena, rows);
+                    outcomeCol = outcomes.map(arena, rows);
+                }
+                result.add(new StoredTrade(
+                    new UUID(idCol.getLong(row * 16), idCol.getLong(row * 16 + 8)).toString(),
+                    string(ref),
+                    string(assetCol.getInt(row * 4)),
+                    sideCol.get(row) == 1 ? "SELL" : "BUY",
+                    string(outcomeCol.getInt(row * 4)),
+                    fixedToString(priceCol.getLong(row * 8)),
+                    fixedToString(sizeCol.getLong(row * 8)),
+                    time
+                ));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to query trade store " + directory, e);
+        }
+        return result;
+    }
+
+    @Override
+    public void close() {
+        try {
+            for (Column column : columns) {
+                column.channel.close();
+            }
+            stringsFile.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close trade store " + directory, e);
+        }
+    }
+
+    private void recover() throws IOException {
+        long complete = Long.MAX_VALUE;
+        for (Column column : columns) {
+            complete = Math.min(complete, column.channel.size() / column.width);
+        }
+        for (Column column : columns) {
+            column.channel.truncate(complete * column.width);
+            column.channel.position(complete * column.width);
+        }
+        rows = complete;
+        if (rows == 0) {
+            return;
+        }
+        try (Arena arena = Arena.ofConfined()) {
+            ByteBuffer idCol = ids.map(arena, rows);
+            ByteBuffer timeCol = times.map(arena, rows);
+            for (int row = 0; row < rows; row++) {
+                idSet.add(idCol.getLong(row * 16), idCol.getLong(row * 16 + 8));
+                maxMatchTime = Math.max(maxMatchTime, timeCol.getLong(row * 8));
+            }
+        }
+    }
+
+    // A missing or short mark means no sync has completed, so the next one starts from the beginning
+    private void loadHighWaterMark() throws IOException {
+        Path file = directory.resolve("sync.mark");
+        if (Files.isRegularFile(file) && Files.size(file) == 8) {
+            highWaterMark = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN).getLong();
+        }
+    }
+
+    private void loadStrings() throws IOException {
+        long size = stringsFile.size();
+        if (size == 0) {
+            return;
+        }
+        ByteBuffer in = ByteBuffer.allocate((int) size).order(ByteOrder.LITTLE_ENDIAN);
+        while (in.hasRemaining()) {
+            if (stringsFile.read(in, in.position()) < 0) {
+                break;
+            }
+        }
+        in.flip();
+        long valid = 0;
+        while (in.remaining() >= 2) {
+            int length = in.getShort() & 0xFFFF;
+            if (in.remaining() < length) {
+                break;
+            }
+            byte[] bytes = new byte[length];
+            in.get(bytes);
+            String value = new String(bytes, StandardCharsets.UTF_8);
+            stringRefs.put(value, strings.size());
+            strings.add(value);
+            valid = in.position();
+        }
+        stringsFile.truncate(valid);
+        stringsFile.position(valid);
+    }
+
+    private int ref(String value) throws IOException {
+        String key = value != null ? value : "";
+        Integer ref = stringRefs.get(key);
+        if (ref != null) {
+            return ref;
+        }
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer out = ByteBuffer.allocate(2 + bytes.length).order(ByteOrder.LITTLE_ENDIAN);
+        out.putShort((short) bytes.length).put(bytes).flip();
+        while (out.hasRemaining()) {
+            stringsFile.write(out);
+        }
+        int created = strings.size();
+        strings.add(key);
+        stringRefs.put(key, created);
+        return created;
+    }
+
+    private String string(int ref) {
+        String value = strings.get(ref);
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String fixedToString(long fixed) {
+        return BigDecimal.valueOf(fixed, 6).stripTrailingZeros().toPlainString();
+    }
+
+    // Trade IDs are UUIDs; anything else is mapped to a name-based UUID
+    private static UUID toUuid(String tradeId) {
+        try {
+            return UUID.fromString(tradeId);
+        } catch (IllegalArgumentException e) {
+            return UUID.nameUUIDFromBytes(tradeId.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    final class Column {
+        final FileChannel channel;
+        final int width;
+        ByteBuffer pending;
+
+        Column(String name, int width) throws IOException {
+            this.channel = FileChannel.open(directory.resolve(name),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.width = width;
+        }
+
+        ByteBuffer buffer(int count) {
+            pending = ByteBuffer.allocate(count * width).order(ByteOrder.LITTLE_ENDIAN);
+            return pending;
+        }
+
+        void write() throws IOException {
+            pending.flip();
+            while (pending.hasRemaining()) {
+                channel.write(pending);
+            }
+            channel.force(false);
+            pending = null;
+        }
+
+        ByteBuffer map(Arena arena, long rowCount) throws IOException {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, rowCount * width, arena)
+                .asByteBuffer()
+                .order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    /**
+     * Open-addressing hash set of 128-bit IDs
+     */
+    private static final class IdSet {
+        private long[] table = new long[2 * 1024];
+        private boolean[] used = new boolean[1024];
+        private int size;
+
+        boolean contains(long high, long low) {
+            int mask = used.length - 1;
+            for (int slot = hash(high, low) & mask; used[slot]; slot = (slot + 1) & mask) {
+                if (table[2 * slot] == high && table[2 * slot + 1] == low) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean add(long high, long low) {
+            if (contains(high, low)) {
+                return false;
+            }
+            if (2 * (size + 1) > used.length) {
+                grow();
+            }
+            insert(high, low);
+            size++;
+            return true;
+        }
+
+        private void insert(long high, long low) {
+            int mask = used.length - 1;
+            int slot = hash(high, low) & mask;
+            while (used[slot]) {
+                slot = (slot + 1) & mask;
+            }
+            used[slot] = true;
+            table[2 * slot] = high;
+            table[2 * slot + 1] = low;
+        }
+
+        private void grow() {
+            long[] oldTable = table;
+            boolean[] oldUsed = used;
+            table = new long[oldTable.length * 2];
+            used = new boolean[oldUsed.length * 2];
+            for (int slot = 0; slot < oldUsed.length; slot++) {
+                if (oldUsed[slot]) {
+                    insert(oldTable[2 * slot], oldTable[2 * slot + 1]);
+                }
+            }
+        }
+
+        private static int hash(long high, long low) {
+            long h = high * 0x9E3779B97F4A7C15L ^ low;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
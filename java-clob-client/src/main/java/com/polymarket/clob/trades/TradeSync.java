@@ -0,0 +1,130 @@
+package com.polymarket.clob.trades;
+
+import com.polymarket.clob.client.ClobClient;
+import com.polymarket.clob.types.TradeParams;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Incrementally mirrors the account's trade history into a local {@link TradeStore}.
+ * <p>
+ * Each {@link #sync()} asks {@code /data/trades} only for trades after the
+ * high-water mark of the last completed sync, so its cost follows new activity
+ * rather than the whole history. The window starts one second before the mark so
+ * trades sharing that second are not missed; the overlap is removed by the
+ * store's trade ID index. Pages come newest first and are stored as they arrive,
+ * so the mark only advances once the last page is in: a sync that fails part way
+ * is retried from the old mark, and the trades it already stored are skipped as
+ * duplicates. Trades are stored as first seen, so later status
+ * changes (MINED, CONFIRMED) are not tracked.
+ */
+public class TradeSync implements AutoCloseable {
+    private static final int BATCH_SIZE = 500;
+
+    private final ClobClient client;
+    private final TradeStore store;
+
+    private long syncs;
+    private long fetched;
+    private long appended;
+    private Duration lastSyncDuration = Duration.ZERO;
+
+    public TradeSync(ClobClient client, Path directory) {
+        this.client = client;
+        this.store = new TradeStore(directory);
+    }
+
+    /**
+     * Fetches and stores trades newer than the high-water mark. Returns the number of new trades.
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized int sync() {
+        long start = System.nanoTime();
+        long highWaterMark = store.highWaterMark();
+        TradeParams params = new TradeParams(
+            null, null, null, null, null, highWaterMark > 0 ? highWaterMark - 1 : null
+        );
+
+        int added = 0;
+        List<StoredTrade> batch = new ArrayList<>(BATCH_SIZE);
+        for (Object raw : client.pageTrades(params, null)) {
+            if (!(raw instanceof Map)) {
+                continue;
+            }
+            StoredTrade trade = toStoredTrade((Map<String, Object>) raw);
+            if (trade == null) {
+                continue;
+            }
+            fetched++;
+            batch.add(trade);
+            if (batch.size() == BATCH_SIZE) {
+                added += store.append(batch);
+                batch.clear();
+            }
+        }
+        added += store.append(batch);
+        store.commitHighWaterMark(store.newestMatchTime());
+
+        appended += added;
+        syncs++;
+        lastSyncDuration = Duration.ofNanos(System.nanoTime() - start);
+        return added;
+    }
+
+    /**
+     * Locally stored trades of a market matched in {@code [fromSeconds, toSeconds)}; no network access
+     *
+     * @param market condition ID, or null for all markets
+     */
+    public synchronized List<StoredTrade> query(String market, long fromSeconds, long toSeconds) {
+        return store.query(market, fromSeconds, toSeconds);
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(store.size(), store.highWaterMark(), syncs, fetched, appended, fetched - appended, lastSyncDuration);
+    }
+
+    @Override
+    public synchronized void close() {
+        store.close();
+    }
+
+    private static StoredTrade toStoredTrade(Map<String, Object> raw) {
+        Object id = raw.get("id");
+        Object matchTime = raw.get("match_time");
+        if (id == null || matchTime == null) {
+            return null;
+        }
+        return new StoredTrade(
+            id.toString(),
+            str(raw.get("market")),
+            str(raw.get("asset_id")),
+            str(raw.get("side")),
+            str(raw.get("outcome")),
+            str(raw.get("price")),
+            str(raw.get("size")),
+            Long.parseLong(matchTime.toString())
+        );
+    }
+
+    private static String str(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    /**
+     * Snapshot of trade sync counters. {@code duplicates} counts fetched trades that were already stored.
+     */
+    public record Stats(
+        long trades,
+        long highWaterMark,
+        long syncs,
+        long fetched,
+        long appended,
+        long duplicates,
+        Duration lastSyncDuration
+    ) {}
+}
@@ -0,0 +1,14 @@
+package com.polymarket.clob.types;
+
+/**
+ * Last trade price observation for an asset
+ */
+public record LastTrade(
+    String market,
+    String assetId,
+    String price,
+    String size,
+    String side,
+    String feeRateBps,
+    String timestamp
+) {}
@@ -0,0 +1,60 @@
+package com.polymarket.clob.types;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Order event from the user channel, or an open order returned by /data/orders
+ */
+public record OrderEvent(
+    Type type,                    // PLACEMENT, UPDATE or CANCELLATION; null for REST snapshots
+    String id,
+    String market,
+    String assetId,
+    String side,
+    String price,
+    String originalSize,
+    String sizeMatched,
+    String outcome,
+    String owner,
+    String timestamp,
+    List<String> associateTrades
+) {
+    public enum Type {
+        PLACEMENT,
+        UPDATE,
+        CANCELLATION
+    }
+
+    @SuppressWarnings("unchecked")
+    public static OrderEvent fromMap(Map<String, Object> raw) {
+        Object type = raw.get("type");
+        Type parsedType = null;
+        if (type != null) {
+            try {
+                parsedType = Type.valueOf(type.toString().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                parsedType = null;
+            }
+        }
+        return new OrderEvent(
+            parsedType,
+            str(raw.get("id")),
+            str(raw.get("market")),
+            str(raw.get("asset_id")),
+            str(raw.get("side")),
+            str(raw.get("price")),
+            str(raw.get("original_size")),
+            str(raw.get("size_matched")),
+            str(raw.get("outcome")),
+            str(raw.get("owner")),
+            str(raw.get("timestamp") != null ? raw.get("timestamp") : raw.get("created_at")),
+            (List<String>) raw.get("associate_trades")
+        );
+    }
+
+    private static String str(Object value) {
+        return value != null ? value.toString() : null;
+    }
+}
@@ -0,0 +1,73 @@
+package com.polymarket.clob.types;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Trade event from the user channel
+ */
+public record TradeEvent(
+    String id,
+    String market,
+    String assetId,
+    String side,
+    String price,
+    String size,
+    String status,                // MATCHED, MINED, CONFIRMED, RETRYING or FAILED
+    String outcome,
+    String owner,
+    String takerOrderId,
+    List<MakerOrder> makerOrders,
+    String matchTime,
+    String timestamp
+) {
+    /**
+     * Maker side of a matched trade
+     */
+    public record MakerOrder(
+        String orderId,
+        String assetId,
+        String matchedAmount,
+        String price,
+        String outcome,
+        String owner
+    ) {}
+
+    @SuppressWarnings("unchecked")
+    public static TradeEvent fromMap(Map<String, Object> raw) {
+        List<MakerOrder> makers = new ArrayList<>();
+        List<Map<String, Object>> rawMakers = (List<Map<String, Object>>) raw.get("maker_orders");
+        if (rawMakers != null) {
+            for (Map<String, Object> maker : rawMakers) {
+                makers.add(new MakerOrder(
+                    str(maker.get("order_id")),
+                    str(maker.get("asset_id")),
+                    str(maker.get("matched_amount")),
+                    str(maker.get("price")),
+                    str(maker.get("outcome")),
+                    str(maker.get("owner"))
+                ));
+            }
+        }
+        return new TradeEvent(
+            str(raw.get("id")),
+            str(raw.get("market")),
+            str(raw.get("asset_id")),
+            str(raw.get("side")),
+            str(raw.get("price")),
+            str(raw.get("size")),
+            str(raw.get("status")),
+            str(raw.get("outcome")),
+            str(raw.get("owner")),
+            str(raw.get("taker_order_id")),
+            makers,
+            str(raw.get("matchtime")),
+            str(raw.get("timestamp"))
+        );
+    }
+
+    private static String str(Object value) {
+        return value != null ? value.toString() : null;
+    }
+}
@@ -0,0 +1,85 @@
+package com.polymarket.clob.utilities;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Lock-free rate limiter allowing {@code burst} permits at once and
+ * {@code permitsPerSecond} on average.
+ * <p>
+ * Implemented as a generic cell rate algorithm: the limiter keeps only the time
+ * at which the next permit is due, advanced with compare-and-set. Callers that
+ * have to wait reserve their permit first and then sleep until it is due, so
+ * they are served in the order they asked.
+ */
+public final class RateLimiter {
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final AtomicLong dueNanos;
+
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+
+    public RateLimiter(double permitsPerSecond, int burst) {
+        if (!(permitsPerSecond > 0)) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive");
+        }
+        if (burst <= 0) {
+            throw new IllegalArgumentException("burst must be positive");
+        }
+        this.intervalNanos = Math.max(1, Math.round(1_000_000_000L / permitsPerSecond));
+        this.toleranceNanos = intervalNanos * (burst - 1);
+        this.dueNanos = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Takes a permit, waiting until one is available
+     */
+    public void acquire() {
+        long now = System.nanoTime();
+        long due;
+        do {
+            due = dueNanos.get();
+        } while (!dueNanos.compareAndSet(due, Math.max(due, now) + intervalNanos));
+        acquired.increment();
+
+        long wait = due - toleranceNanos - now;
+        if (wait > 0) {
+            throttled.increment();
+            waitNanos.add(wait);
+            long until = now + wait;
+            while ((wait = until - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+        }
+    }
+
+    /**
+     * Takes a permit if one is available now
+     */
+    public boolean tryAcquire() {
+        long now = System.nanoTime();
+        long due;
+        do {
+            due = dueNanos.get();
+            if (due - toleranceNanos - now > 0) {
+                throttled.increment();
+                return false;
+            }
+        } while (!dueNanos.compareAndSet(due, Math.max(due, now) + intervalNanos));
+        acquired.increment();
+        return true;
+    }
+
+    public Stats stats() {
+        return new Stats(acquired.sum(), throttled.sum(), waitNanos.sum());
+    }
+
+    /**
+     * Snapshot of limiter counters. {@code throttled} counts permits that had to
+     * wait or were refused; {@code waitNanos} is the total time waited.
+     */
+    public record Stats(long acquired, long throttled, long waitNanos) {}
+}
@@ -0,0 +1,132 @@
+package com.polymarket.clob.utilities;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide symbol table for token IDs.
+ * <p>
+ * Token IDs are 256-bit decimals. {@link #intern} maps each one to a dense int
+ * handle and stores its canonical decimal string, its 32-byte big-endian encoding
+ * and its BigInteger value once, so hot paths can key arrays and primitive maps
+ * on the handle and reuse the parsed forms instead of hashing and re-parsing
+ * strings. Handles are never reused, and symbols are kept for the life of the
+ * process. The whole catalog is a few hundred thousand tokens at most.
+ * <p>
+ * Lookups of interned IDs are one hash lookup, and resolving a handle is an
+ * array read. Only the first sight of a token takes a lock.
+ */
+public final class TokenSymbols {
+    private TokenSymbols() {}
+
+    public static final int NOT_FOUND = -1;
+
+    private static final Map<String, Integer> handles = new ConcurrentHashMap<>();
+    private static final Object lock = new Object();
+    private static volatile Symbol[] symbols = new Symbol[1024];
+    private static int count;  // guarded by lock
+
+    /**
+     * Handle for the token ID, registering it on first use
+     *
+     * @throws IllegalArgumentException if the ID is not an unsigned 256-bit decimal
+     */
+    public static int intern(String tokenId) {
+        Integer handle = handles.get(tokenId);
+        return handle != null ? handle : register(tokenId);
+    }
+
+    /**
+     * Handle for the token ID, or {@link #NOT_FOUND} if it has never been interned
+     */
+    public static int find(String tokenId) {
+        Integer handle = handles.get(tokenId);
+        return handle != null ? handle : NOT_FOUND;
+    }
+
+    /**
+     * Canonical decimal string of the token ID
+     */
+    public static String tokenId(int handle) {
+        return symbol(handle).tokenId();
+    }
+
+    public static BigInteger value(int handle) {
+        return symbol(handle).value();
+    }
+
+    /**
+     * 32-byte big-endian encoding of the token ID, as used in EIP-712 order hashes
+     */
+    public static byte[] encoded(int handle) {
+        return symbol(handle).encoded().clone();
+    }
+
+    /**
+     * Copies the 32-byte encoding into {@code dst} at {@code offset} without allocating
+     */
+    public static void copyEncoded(int handle, byte[] dst, int offset) {
+        System.arraycopy(symbol(handle).encoded(), 0, dst, offset, 32);
+    }
+
+    public static int size() {
+        synchronized (lock) {
+            return count;
+        }
+    }
+
+    private static Symbol symbol(int handle) {
+        Symbol[] table = symbols;
+        Symbol symbol = handle >= 0 && handle < table.length ? table[handle] : null;
+        if (symbol == null) {
+            throw new IllegalArgumentException("Unknown token handle " + handle);
+        }
+        return symbol;
+    }
+
+    private static int register(String tokenId) {
+        BigInteger value;
+        try {
+            value = new BigInteger(tokenId);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid token ID: " + tokenId, e);
+        }
+        if (value.signum() < 0 || value.bitLength() > 256) {
+            throw new IllegalArgumentException("Token ID out of range: " + tokenId);
+        }
+        String canonical = value.toString();
+
+        synchronized (lock) {
+            Integer handle = handles.get(canonical);
+            if (handle == null) {
+                handle = count;
+                Symbol[] table = symbols;
+                if (handle == table.length) {
+                    table = Arrays.copyOf(table, table.length * 2);
+                }
+                table[handle] = new Symbol(canonical, value, encode(value));
+                // Publish the table before the handle becomes reachable through the map
+                symbols = table;
+                count++;
+                handles.put(canonical, handle);
+            }
+            if (!tokenId.equals(canonical)) {
+                handles.put(tokenId, handle);
+            }
+            return handle;
+        }
+    }
+
+    private static byte[] encode(BigInteger value) {
+        byte[] raw = value.toByteArray();
+        byte[] encoded = new byte[32];
+        // toByteArray may carry a leading sign byte, which is dropped
+        int length = Math.min(raw.length, 32);
+        System.arraycopy(raw, raw.length - length, encoded, 32 - length, length);
+        return encoded;
+    }
+
+    private record Symbol(String tokenId, BigInteger value, byte[] encoded) {}
+}
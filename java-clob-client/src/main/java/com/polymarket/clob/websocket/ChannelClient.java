@@ -0,0 +1,237 @@
+package com.polymarket.clob.websocket;
+
+import com.polymarket.clob.httphelpers.HttpHelpers;
+import com.polymarket.clob.utilities.DaemonThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Base for CLOB WebSocket channels.
+ * Keeps one socket open, sends a PING heartbeat, reconnects with exponential backoff
+ * when the socket closes, errors or goes silent, and hands complete text messages to
+ * the subclass. Subclasses resend their subscriptions from {@link #onConnected()}.
+ */
+public abstract class ChannelClient implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(ChannelClient.class);
+
+    private static final Duration PING_INTERVAL = Duration.ofSeconds(10);
+    private static final Duration MIN_BACKOFF = Duration.ofMillis(250);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+    private final URI uri;
+    protected final ScheduledExecutorService scheduler;
+
+    private volatile WebSocket socket;
+    private volatile long lastMessageNanos;
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final AtomicBoolean reconnectPending = new AtomicBoolean();
+    private volatile boolean closed;
+    private long backoffMillis = MIN_BACKOFF.toMillis();
+
+    // Sends are chained so at most one sendText is outstanding, as WebSocket requires
+    private CompletableFuture<WebSocket> sendChain = CompletableFuture.completedFuture(null);
+
+    private final LongAdder connects = new LongAdder();
+    private final LongAdder messages = new LongAdder();
+
+    protected ChannelClient(URI uri, String threadName) {
+        this.uri = uri;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory(threadName));
+    }
+
+    /**
+     * Opens the socket and starts the heartbeat. Safe to call once.
+     */
+    public void connect() {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+        long ping = PING_INTERVAL.toMillis();
+        scheduler.scheduleWithFixedDelay(this::heartbeat, ping, ping, TimeUnit.MILLISECONDS);
+        scheduler.execute(this::open);
+    }
+
+    public boolean isConnected() {
+        WebSocket ws = socket;
+        return ws != null && !ws.isOutputClosed() && !ws.isInputClosed();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        WebSocket ws = socket;
+        socket = null;
+        if (ws != null) {
+            ws.sendClose(WebSocket.NORMAL_CLOSURE, "").exceptionally(e -> null);
+        }
+        scheduler.shutdownNow();
+    }
+
+    public long connectCount() {
+        return connects.sum();
+    }
+
+    public long messageCount() {
+        return messages.sum();
+    }
+
+    /**
+     * Time since the last message arrived
+     */
+    public Duration lastMessageAge() {
+        long last = lastMessageNanos;
+        return last == 0 ? null : Duration.ofNanos(System.nanoTime() - last);
+    }
+
+    /**
+     * Called on the scheduler thread after every successful (re)connect
+     */
+    protected abstract void onConnected();
+
+    /**
+     * Called with every complete text message other than the PONG heartbeat reply
+     */
+    protected abstract void onMessage(String text);
+
+    /**
+     * Queues a text frame on the current socket. Dropped when disconnected; the
+     * subclass resends its state from {@link #onConnected()} after a reconnect.
+     */
+    protected synchronized void send(String text) {
+        WebSocket ws = socket;
+        if (ws == null) {
+            return;
+        }
+        sendChain = sendChain
+            .exceptionally(e -> null)
+            .thenCompose(previous -> ws.sendText(text, true));
+    }
+
+    /**
+     * Drops the current socket and connects again, e.g. when local state is known to be bad
+     */
+    protected void forceReconnect() {
+        WebSocket ws = socket;
+        if (ws != null) {
+            ws.abort();
+        }
+        scheduleReconnect(ws);
+    }
+
+    private void open() {
+        if (closed) {
+            return;
+        }
+        Listener listener = new Listener();
+        HttpHelpers.newWebSocketBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .buildAsync(uri, listener)
+            .whenComplete((ws, error) -> {
+                if (error != null) {
+                    log.warn("WebSocket connect to {} failed: {}", uri, error.getMessage());
+                    scheduleReconnect(null);
+                    return;
+                }
+                synchronized (this) {
+                    socket = ws;
+                    sendChain = CompletableFuture.completedFuture(ws);
+                }
+                lastMessageNanos = System.nanoTime();
+                connects.increment();
+                scheduler.execute(() -> {
+                    synchronized (this) {
+                        backoffMillis = MIN_BACKOFF.toMillis();
+                    }
+                    onConnected();
+                });
+            });
+    }
+
+    private void scheduleReconnect(WebSocket failed) {
+        if (closed || failed != socket || !reconnectPending.compareAndSet(false, true)) {
+            return;
+        }
+        socket = null;
+        long delay;
+        synchronized (this) {
+            delay = backoffMillis;
+            backoffMillis = Math.min(MAX_BACKOFF.toMillis(), backoffMillis * 2);
+        }
+        try {
+            scheduler.schedule(() -> {
+                reconnectPending.set(false);
+                open();
+            }, delay, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            // Scheduler already shut down by close()
+            reconnectPending.set(false);
+        }
+    }
+
+    private void heartbeat() {
+        WebSocket ws = socket;
+        if (ws == null) {
+            return;
+        }
+        long silence = System.nanoTime() - lastMessageNanos;
+        if (silence > 3 * PING_INTERVAL.toNanos()) {
+            log.warn("WebSocket {} silent for {} ms, reconnecting", uri, silence / 1_000_000);
+            forceReconnect();
+            return;
+        }
+        send("PING");
+    }
+
+    private final class Listener implements WebSocket.Listener {
+        private final StringBuilder buffer = new StringBuilder();
+
+        @Override
+        public void onOpen(WebSocket webSocket) {
+            webSocket.request(1);
+        }
+
+        @Override
+        public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+            buffer.append(data);
+            if (last) {
+                String text = buffer.toString();
+                buffer.setLength(0);
+                lastMessageNanos = System.nanoTime();
+                if (!"PONG".equals(text)) {
+                    messages.increment();
+                    try {
+                        onMessage(text);
+                    } catch (RuntimeException e) {
+                        log.warn("Failed to handle WebSocket message from {}", uri, e);
+                    }
+                }
+            }
+            webSocket.request(1);
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+            log.info("WebSocket {} closed: {} {}", uri, statusCode, reason);
+            scheduleReconnect(webSocket);
+            return null;
+        }
+
+        @Override
+        public void onError(WebSocket webSocket, Throwable error) {
+            log.warn("WebSocket {} error: {}", uri, error.getMessage());
+            scheduleReconnect(webSocket);
+        }
+    }
+}
@@ -0,0 +1,510 @@
+package com.polymarket.clob.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.polymarket.clob.client.ClobClient;
+import com.polymarket.clob.constants.Constants;
+import com.polymarket.clob.orderbook.BookListener;
+import com.polymarket.clob.orderbook.LocalOrderBook;
+import com.polymarket.clob.orderbook.TradeListener;
+import com.polymarket.clob.types.LastTrade;
+import com.polymarket.clob.types.OrderBookSummary;
+import com.polymarket.clob.types.OrderSummary;
+import com.polymarket.clob.utilities.Utilities;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Client for the CLOB market WebSocket channel.
+ * Subscribes to asset IDs, keeps a {@link LocalOrderBook} per asset from book snapshots
+ * and price_change deltas, and resubscribes after every reconnect.
+ * <p>
+ * Hash verification: on each snapshot the client checks whether hashing the snapshot
+ * locally reproduces the server's hash. If it does, every later delta is verified the
+ * same way and a mismatch resyncs the asset, from REST when a {@link ClobClient} was
+ * supplied and by reconnecting otherwise. Assets whose snapshot hash cannot be
+ * reproduced are tracked without verification. A tick size change alters the locally
+ * hashed fields, so the asset is calibrated again on its next server hash.
+ * <p>
+ * Books are written under one lock: by the socket's listener thread for messages,
+ * and by the scheduler for a REST resync, which is installed as soon as its fetch
+ * completes. Listeners are called with that lock held, so they must not block.
+ */
+public class MarketChannelClient extends ChannelClient {
+    private static final Logger log = LoggerFactory.getLogger(MarketChannelClient.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final ClobClient restClient;
+    private final Set<String> assets = ConcurrentHashMap.newKeySet();
+    private final Map<String, LocalOrderBook> books = new ConcurrentHashMap<>();
+    private final Set<String> verifiable = ConcurrentHashMap.newKeySet();
+    private final Set<String> recalibrating = ConcurrentHashMap.newKeySet();
+    private final Map<String, Resync> resyncing = new ConcurrentHashMap<>();
+    // Serializes message handling with resync completion, so each book has one writer at a time
+    private final Object bookLock = new Object();
+
+    private final List<BookListener> bookListeners = new CopyOnWriteArrayList<>();
+    private final List<TradeListener> tradeListeners = new CopyOnWriteArrayList<>();
+    private final List<TickSizeListener> tickSizeListeners = new CopyOnWriteArrayList<>();
+
+    private final LongAdder snapshots = new LongAdder();
+    private final LongAdder deltas = new LongAdder();
+    private final LongAdder hashMismatches = new LongAdder();
+    private final LongAdder resyncs = new LongAdder();
+
+    public MarketChannelClient() {
+        this(URI.create(Constants.WS_MARKET_CHANNEL), null);
+    }
+
+    /**
+     * @param uri        market channel URL
+     * @param restClient used to resync a book from REST after a hash mismatch, and kept
+     *                   current on tick size changes; may be null
+     */
+    public MarketChannelClient(URI uri, ClobClient restClient) {
+        super(uri, "market-channel");
+        this.restClient = restClient;
+    }
+
+    public void addListener(BookListener listener) {
+        bookListeners.add(listener);
+    }
+
+    public void addTradeListener(TradeListener listener) {
+        tradeListeners.add(listener);
+    }
+
+    public void addTickSizeListener(TickSizeListener listener) {
+        tickSizeListeners.add(listener);
+    }
+
+    public void subscribe(Collection<String> assetIds) {
+        List<String> added = new ArrayList<>();
+        for (String assetId : assetIds) {
+            if (assets.add(assetId)) {
+                added.add(assetId);
+            }
+        }
+        if (!added.isEmpty() && isConnected()) {
+            send(subscriptionMessage(added, "subscribe"));
+        }
+    }
+
+    public void unsubscribe(Collection<String> assetIds) {
+        List<String> removed = new ArrayList<>();
+        for (String assetId : assetIds) {
+            if (assets.remove(assetId)) {
+                removed.add(assetId);
+                books.remove(assetId);
+                verifiable.remove(assetId);
+                recalibrating.remove(assetId);
+                resyncing.remove(assetId);
+            }
+        }
+        if (!removed.isEmpty() && isConnected()) {
+            send(subscriptionMessage(removed, "unsubscribe"));
+        }
+    }
+
+    /**
+     * Locally maintained book for the asset, or null before its first snapshot
+     */
+    public LocalOrderBook book(String assetId) {
+        return books.get(assetId);
+    }
+
+    public Stats stats() {
+        return new Stats(
+            assets.size(),
+            isConnected(),
+            connectCount(),
+            messageCount(),
+            snapshots.sum(),
+            deltas.sum(),
+            hashMismatches.sum(),
+            resyncs.sum()
+        );
+    }
+
+    @Override
+    protected void onConnected() {
+        if (assets.isEmpty()) {
+            return;
+        }
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("assets_ids", new ArrayList<>(assets));
+        message.put("type", "market");
+        send(toJson(message));
+    }
+
+    @Override
+    protected void onMessage(String text) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(text);
+        } catch (Exception e) {
+            log.debug("Ignoring non-JSON market channel message: {}", text);
+            return;
+        }
+        synchronized (bookLock) {
+            if (root.isArray()) {
+                for (JsonNode event : root) {
+                    handleEvent(event);
+                }
+            } else {
+                handleEvent(root);
+            }
+        }
+    }
+
+    private void handleEvent(JsonNode event) {
+        String type = text(event, "event_type");
+        if (type == null) {
+            return;
+        }
+        switch (type) {
+            case "book" -> handleBook(event);
+            case "price_change" -> handlePriceChange(event);
+            case "tick_size_change" -> handleTickSizeChange(event);
+            case "last_trade_price" -> handleLastTrade(event);
+            default -> log.debug("Ignoring market channel event {}", type);
+        }
+    }
+
+    private void handleBook(JsonNode event) {
+        String assetId = text(event, "asset_id");
+        if (assetId == null || !assets.contains(assetId)) {
+            return;
+        }
+        OrderBookSummary snapshot = new OrderBookSummary(
+            text(event, "market"),
+            assetId,
+            text(event, "timestamp"),
+            levels(event.has("bids") ? event.get("bids") : event.get("buys")),
+            levels(event.has("asks") ? event.get("asks") : event.get("sells")),
+            null,
+            null,
+            null,
+            text(event, "hash")
+        );
+
+        // A pushed snapshot supersedes a REST resync still in progress
+        resyncing.remove(assetId);
+        LocalOrderBook book = books.computeIfAbsent(assetId, LocalOrderBook::new);
+        book.applySnapshot(snapshot);
+        snapshots.increment();
+        calibrate(book);
+        publish(book);
+    }
+
+    /**
+     * Verifies later deltas of the asset only if hashing the book reproduces the snapshot's hash
+     */
+    private void calibrate(LocalOrderBook book) {
+        recalibrating.remove(book.assetId());
+        String hash = book.hash();
+        if (hash != null && hash.equals(localHash(book))) {
+            verifiable.add(book.assetId());
+        } else {
+            verifiable.remove(book.assetId());
+        }
+    }
+
+    private void handlePriceChange(JsonNode event) {
+        String timestamp = text(event, "timestamp");
+        JsonNode changes = event.get("price_changes");
+        if (changes != null && changes.isArray()) {
+            // One entry per level, each carrying its own asset and resulting hash
+            Set<LocalOrderBook> touched = new LinkedHashSet<>();
+            for (JsonNode change : changes) {
+                LocalOrderBook book = applyChange(
+                    text(change, "asset_id"),
+                    text(change, "side"),
+                    text(change, "price"),
+                    text(change, "size"),
+                    timestamp,
+                    text(change, "hash")
+                );
+                if (book != null) {
+                    touched.add(book);
+                }
+            }
+            touched.forEach(this::verifyAndPublish);
+            return;
+        }
+
+        // Older format: one asset with a list of changes and a single hash
+        String assetId = text(event, "asset_id");
+        JsonNode legacy = event.get("changes");
+        if (legacy == null || !legacy.isArray()) {
+            return;
+        }
+        LocalOrderBook book = null;
+        for (JsonNode change : legacy) {
+            book = applyChange(assetId, text(change, "side"), text(change, "price"), text(change, "size"),
+                timestamp, text(event, "hash"));
+        }
+        if (book != null) {
+            verifyAndPublish(book);
+        }
+    }
+
+    private LocalOrderBook applyChange(String assetId, String side, String price, String size,
+                                       String timestamp, String hash) {
+        if (assetId == null || price == null || size == null) {
+            return null;
+        }
+        LocalOrderBook book = books.get(assetId);
+        if (book == null) {
+            Resync resync = resyncing.get(assetId);
+            if (resync != null) {
+                // Replayed on top of the REST snapshot once it arrives
+                resync.buffer(new Delta(side, price, size, timestamp, hash));
+            }
+            // Otherwise no snapshot yet; the book event for this asset will follow
+            return null;
+        }
+        book.applyChange(side, price, size, timestamp, hash);
+        deltas.increment();
+        return book;
+    }
+
+    private void verifyAndPublish(LocalOrderBook book) {
+        String assetId = book.assetId();
+        if (recalibrating.contains(assetId)) {
+            // First server hash since a tick size change
+            calibrate(book);
+        } else if (verifiable.contains(assetId)) {
+            String expected = book.hash();
+            if (expected != null && !expected.equals(localHash(book))) {
+                hashMismatches.increment();
+                resync(assetId);
+                return;
+            }
+        }
+        publish(book);
+    }
+
+    /**
+     * Drops the asset's book and fetches a snapshot from REST on the scheduler thread.
+     * Deltas arriving meanwhile are buffered, and the snapshot is installed on the
+     * scheduler as soon as the fetch completes, even if no further message arrives.
+     */
+    private void resync(String assetId) {
+        resyncs.increment();
+        books.remove(assetId);
+        verifiable.remove(assetId);
+        recalibrating.remove(assetId);
+        if (restClient == null) {
+            forceReconnect();
+            return;
+        }
+        Resync resync = new Resync();
+        resyncing.put(assetId, resync);
+        scheduler.execute(() -> {
+            OrderBookSummary snapshot;
+            try {
+                snapshot = restClient.getOrderBook(assetId);
+            } catch (RuntimeException e) {
+                log.warn("REST resync of {} failed, reconnecting", assetId, e);
+                resyncing.remove(assetId, resync);
+                forceReconnect();
+                return;
+            }
+            synchronized (bookLock) {
+                completeResync(assetId, resync, snapshot);
+            }
+        });
+    }
+
+    /**
+     * Installs a fetched resync snapshot, replays the deltas buffered during the fetch
+     * that are newer than the snapshot and verifies the result. Holds bookLock.
+     */
+    private void completeResync(String assetId, Resync resync, OrderBookSummary snapshot) {
+        // Superseded by a pushed snapshot, an unsubscribe or a later resync
+        if (!resyncing.remove(assetId, resync)) {
+            return;
+        }
+        if (resync.overflowed) {
+            log.warn("Too many deltas for {} during REST resync, reconnecting", assetId);
+            forceReconnect();
+            return;
+        }
+        LocalOrderBook book = new LocalOrderBook(assetId);
+        book.applySnapshot(snapshot);
+        calibrate(book);
+        long snapshotTime = millis(snapshot.timestamp());
+        for (Delta delta : resync.deltas) {
+            long time = millis(delta.timestamp());
+            if (time < 0 || snapshotTime < 0 || time > snapshotTime) {
+                book.applyChange(delta.side(), delta.price(), delta.size(), delta.timestamp(), delta.hash());
+                deltas.increment();
+            }
+        }
+        books.put(assetId, book);
+        verifyAndPublish(book);
+    }
+
+    private static long millis(String timestamp) {
+        if (timestamp == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(timestamp);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private void handleTickSizeChange(JsonNode event) {
+        String assetId = text(event, "asset_id");
+        String newTickSize = text(event, "new_tick_size");
+        if (assetId == null || newTickSize == null) {
+            return;
+        }
+        LocalOrderBook book = books.get(assetId);
+        if (book != null) {
+            book.setTickSize(newTickSize);
+            // The tick size is hashed locally, so the old calibration no longer holds
+            if (verifiable.remove(assetId)) {
+                recalibrating.add(assetId);
+            }
+        }
+        if (restClient != null) {
+            restClient.getMetadataCache().putTickSize(assetId, newTickSize);
+        }
+        String oldTickSize = text(event, "old_tick_size");
+        for (TickSizeListener listener : tickSizeListeners) {
+            try {
+                listener.onTickSizeChange(assetId, oldTickSize, newTickSize);
+            } catch (RuntimeException e) {
+                log.warn("Tick size listener failed on {}", assetId, e);
+            }
+        }
+    }
+
+    private void handleLastTrade(JsonNode event) {
+        if (tradeListeners.isEmpty()) {
+            return;
+        }
+        LastTrade trade = new LastTrade(
+            text(event, "market"),
+            text(event, "asset_id"),
+            text(event, "price"),
+            text(event, "size"),
+            text(event, "side"),
+            text(event, "fee_rate_bps"),
+            text(event, "timestamp")
+        );
+        for (TradeListener listener : tradeListeners) {
+            try {
+                listener.onTrade(trade);
+            } catch (RuntimeException e) {
+                log.warn("Trade listener failed on {}", trade.assetId(), e);
+            }
+        }
+    }
+
+    private void publish(LocalOrderBook book) {
+        if (bookListeners.isEmpty()) {
+            return;
+        }
+        OrderBookSummary summary = book.toSummary();
+        for (BookListener listener : bookListeners) {
+            try {
+                listener.onBook(summary);
+            } catch (RuntimeException e) {
+                log.warn("Book listener failed on {}", summary.assetId(), e);
+            }
+        }
+    }
+
+    private static String localHash(LocalOrderBook book) {
+        return Utilities.generateOrderbookSummaryHash(book.toSummary());
+    }
+
+    private static List<OrderSummary> levels(JsonNode node) {
+        List<OrderSummary> levels = new ArrayList<>();
+        if (node != null && node.isArray()) {
+            for (JsonNode level : node) {
+                levels.add(new OrderSummary(text(level, "price"), text(level, "size")));
+            }
+        }
+        return levels;
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private static String subscriptionMessage(List<String> assetIds, String operation) {
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("assets_ids", assetIds);
+        message.put("operation", operation);
+        return toJson(message);
+    }
+
+    private static String toJson(Object message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to serialize subscription", e);
+        }
+    }
+
+    /**
+     * A REST resync in progress. Deltas are buffered under bookLock.
+     */
+    private static final class Resync {
+        private static final int MAX_DELTAS = 10_000;
+
+        final List<Delta> deltas = new ArrayList<>();
+        boolean overflowed;
+
+        void buffer(Delta delta) {
+            if (deltas.size() < MAX_DELTAS) {
+                deltas.add(delta);
+            } else {
+                overflowed = true;
+            }
+        }
+    }
+
+    private record Delta(String side, String price, String size, String timestamp, String hash) {}
+
+    /**
+     * Receives tick size changes pushed on the market channel
+     */
+    @FunctionalInterface
+    public interface TickSizeListener {
+        void onTickSizeChange(String assetId, String oldTickSize, String newTickSize);
+    }
+
+    /**
+     * Snapshot of market channel counters
+     */
+    public record Stats(
+        int assets,
+        boolean connected,
+        long connects,
+        long messages,
+        long snapshots,
+        long deltas,
+        long hashMismatches,
+        long resyncs
+    ) {}
+}
@@ -0,0 +1,387 @@
+package com.polymarket.clob.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.polymarket.clob.client.ClobClient;
+import com.polymarket.clob.constants.Constants;
+import com.polymarket.clob.types.ApiCreds;
+import com.polymarket.clob.types.OpenOrderParams;
+import com.polymarket.clob.types.OrderEvent;
+import com.polymarket.clob.types.TradeEvent;
+import com.polymarket.clob.utilities.DaemonThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Client for the authenticated CLOB user channel.
+ * Pushes order placements, updates and cancellations and trade matches to listeners
+ * as typed events, and keeps the set of open orders those events imply.
+ * <p>
+ * The channel carries no server sequence numbers, so gaps are inferred: every
+ * reconnect is treated as a gap, as is an update or cancellation for an order
+ * that was never seen and a size_matched that moves backwards. On a gap the
+ * open orders are reloaded through {@link ClobClient#getOrders} and listeners get
+ * {@link UserChannelListener#onResync}. Events arriving during the reload are
+ * replayed on top of the REST snapshot.
+ */
+public class UserChannelClient extends ChannelClient {
+    private static final Logger log = LoggerFactory.getLogger(UserChannelClient.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final ApiCreds creds;
+    private final ClobClient restClient;
+    private final Set<String> markets = ConcurrentHashMap.newKeySet();
+    private final List<UserChannelListener> listeners = new CopyOnWriteArrayList<>();
+
+    private final ExecutorService resyncExecutor;
+
+    private final Object stateLock = new Object();
+    private final Map<String, OrderEvent> openOrders = new LinkedHashMap<>();
+    // Events of the current resync generation, replayed on its snapshot; guarded by stateLock
+    private List<OrderEvent> pendingDuringResync;
+    private boolean resyncQueued;
+    private boolean synced;
+
+    private final LongAdder orderEvents = new LongAdder();
+    private final LongAdder tradeEvents = new LongAdder();
+    private final LongAdder gaps = new LongAdder();
+    private final LongAdder resyncs = new LongAdder();
+
+    public UserChannelClient(ApiCreds creds, ClobClient restClient) {
+        this(URI.create(Constants.WS_USER_CHANNEL), creds, restClient);
+    }
+
+    /**
+     * @param uri        user channel URL
+     * @param creds      L2 API credentials used to authenticate the subscription
+     * @param restClient L2 client used to reload open orders after a gap, may be null
+     */
+    public UserChannelClient(URI uri, ApiCreds creds, ClobClient restClient) {
+        super(uri, "user-channel");
+        this.creds = creds;
+        this.restClient = restClient;
+        // Reloads page through REST and must not hold up the heartbeat on the scheduler
+        this.resyncExecutor = Executors.newSingleThreadExecutor(new DaemonThreadFactory("user-channel-resync"));
+    }
+
+    public void addListener(UserChannelListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(UserChannelListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Restricts the channel to the given condition IDs. With no markets, events for all markets are received.
+     */
+    public void subscribe(Collection<String> conditionIds) {
+        List<String> added = new ArrayList<>();
+        for (String conditionId : conditionIds) {
+            if (markets.add(conditionId)) {
+                added.add(conditionId);
+            }
+        }
+        if (!added.isEmpty() && isConnected()) {
+            Map<String, Object> message = new LinkedHashMap<>();
+            message.put("markets", added);
+            message.put("operation", "subscribe");
+            send(toJson(message));
+        }
+    }
+
+    /**
+     * Open orders implied by the events and resyncs so far
+     */
+    public List<OrderEvent> openOrders() {
+        synchronized (stateLock) {
+            return new ArrayList<>(openOrders.values());
+        }
+    }
+
+    public Stats stats() {
+        int open;
+        synchronized (stateLock) {
+            open = openOrders.size();
+        }
+        return new Stats(
+            isConnected(),
+            connectCount(),
+            orderEvents.sum(),
+            tradeEvents.sum(),
+            open,
+            gaps.sum(),
+            resyncs.sum()
+        );
+    }
+
+    @Override
+    public void close() {
+        super.close();
+        resyncExecutor.shutdownNow();
+    }
+
+    @Override
+    protected void onConnected() {
+        Map<String, Object> auth = new LinkedHashMap<>();
+        auth.put("apiKey", creds.apiKey());
+        auth.put("secret", creds.apiSecret());
+        auth.put("passphrase", creds.apiPassphrase());
+
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("auth", auth);
+        message.put("markets", new ArrayList<>(markets));
+        message.put("type", "user");
+        send(toJson(message));
+
+        // The first connect loads the baseline, later ones may have missed events
+        if (connectCount() > 1) {
+            gaps.increment();
+        }
+        scheduleResync();
+    }
+
+    @Override
+    protected void onMessage(String text) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(text);
+        } catch (Exception e) {
+            log.debug("Ignoring non-JSON user channel message: {}", text);
+            return;
+        }
+        if (root.isArray()) {
+            for (JsonNode event : root) {
+                handleEvent(event);
+            }
+        } else {
+            handleEvent(root);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void handleEvent(JsonNode node) {
+        JsonNode type = node.get("event_type");
+        if (type == null) {
+            return;
+        }
+        Map<String, Object> raw = objectMapper.convertValue(node, Map.class);
+        switch (type.asText()) {
+            case "order" -> {
+                OrderEvent event = OrderEvent.fromMap(raw);
+                orderEvents.increment();
+                if (!applyOrder(event)) {
+                    gaps.increment();
+                    scheduleResync();
+                }
+                for (UserChannelListener listener : listeners) {
+                    try {
+                        listener.onOrder(event);
+                    } catch (RuntimeException e) {
+                        log.warn("User channel listener failed on order {}", event.id(), e);
+                    }
+                }
+            }
+            case "trade" -> {
+                TradeEvent event = TradeEvent.fromMap(raw);
+                tradeEvents.increment();
+                for (UserChannelListener listener : listeners) {
+                    try {
+                        listener.onTrade(event);
+                    } catch (RuntimeException e) {
+                        log.warn("User channel listener failed on trade {}", event.id(), e);
+                    }
+                }
+            }
+            default -> log.debug("Ignoring user channel event {}", type.asText());
+        }
+    }
+
+    /**
+     * Applies an order event to the open-order set. Returns false when the event
+     * is inconsistent with what has been seen, which indicates missed events.
+     */
+    private boolean applyOrder(OrderEvent event) {
+        if (event.id() == null || event.type() == null) {
+            return true;
+        }
+        synchronized (stateLock) {
+            if (pendingDuringResync != null) {
+                pendingDuringResync.add(event);
+            }
+            return apply(openOrders, event, synced);
+        }
+    }
+
+    private static boolean apply(Map<String, OrderEvent> orders, OrderEvent event, boolean checkConsistency) {
+        OrderEvent previous = orders.get(event.id());
+        boolean consistent = true;
+        switch (event.type()) {
+            case PLACEMENT -> orders.put(event.id(), event);
+            case UPDATE -> {
+                if (previous == null) {
+                    consistent = false;
+                } else if (decreased(previous.sizeMatched(), event.sizeMatched())) {
+                    consistent = false;
+                }
+                if (isFilled(event)) {
+                    orders.remove(event.id());
+                } else {
+                    orders.put(event.id(), event);
+                }
+            }
+            case CANCELLATION -> {
+                if (orders.remove(event.id()) == null) {
+                    consistent = false;
+                }
+            }
+        }
+        return consistent || !checkConsistency;
+    }
+
+    private static boolean decreased(String before, String after) {
+        if (before == null || after == null) {
+            return false;
+        }
+        return new BigDecimal(after).compareTo(new BigDecimal(before)) < 0;
+    }
+
+    private static boolean isFilled(OrderEvent event) {
+        if (event.originalSize() == null || event.sizeMatched() == null) {
+            return false;
+        }
+        return new BigDecimal(event.sizeMatched()).compareTo(new BigDecimal(event.originalSize())) >= 0;
+    }
+
+    /**
+     * Queues a reload of the open orders unless one is already queued. Events are
+     * buffered from now on; a gap found while a reload is running keeps appending
+     * to the running reload's buffer, and the queued reload buffers from where that
+     * one ends.
+     */
+    private void scheduleResync() {
+        synchronized (stateLock) {
+            if (restClient == null) {
+                synced = false;
+                return;
+            }
+            if (pendingDuringResync == null) {
+                pendingDuringResync = new ArrayList<>();
+            }
+            if (resyncQueued) {
+                return;
+            }
+            resyncQueued = true;
+        }
+        try {
+            resyncExecutor.execute(this::resync);
+        } catch (RejectedExecutionException e) {
+            // Closed
+        }
+    }
+
+    private void resync() {
+        List<OrderEvent> buffer;
+        synchronized (stateLock) {
+            resyncQueued = false;
+            if (pendingDuringResync == null) {
+                pendingDuringResync = new ArrayList<>();
+            }
+            buffer = pendingDuringResync;
+        }
+        List<OrderEvent> snapshot = new ArrayList<>();
+        try {
+            if (markets.isEmpty()) {
+                addOrders(snapshot, restClient.getOrders(new OpenOrderParams(), null));
+            } else {
+                for (String market : markets) {
+                    addOrders(snapshot, restClient.getOrders(new OpenOrderParams(null, market, null), null));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("User channel resync failed", e);
+            synchronized (stateLock) {
+                endGeneration(buffer);
+                synced = false;
+            }
+            return;
+        }
+
+        List<OrderEvent> open;
+        synchronized (stateLock) {
+            openOrders.clear();
+            for (OrderEvent order : snapshot) {
+                openOrders.put(order.id(), order);
+            }
+            for (OrderEvent event : buffer) {
+                apply(openOrders, event, false);
+            }
+            endGeneration(buffer);
+            synced = true;
+            open = Collections.unmodifiableList(new ArrayList<>(openOrders.values()));
+        }
+        resyncs.increment();
+        for (UserChannelListener listener : listeners) {
+            try {
+                listener.onResync(open);
+            } catch (RuntimeException e) {
+                log.warn("User channel listener failed on resync", e);
+            }
+        }
+    }
+
+    /**
+     * Retires a generation's buffer, starting a fresh one if another reload is queued. Holds stateLock.
+     */
+    private void endGeneration(List<OrderEvent> buffer) {
+        if (pendingDuringResync == buffer) {
+            pendingDuringResync = resyncQueued ? new ArrayList<>() : null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void addOrders(List<OrderEvent> into, List<Object> raw) {
+        for (Object order : raw) {
+            if (order instanceof Map) {
+                into.add(OrderEvent.fromMap((Map<String, Object>) order));
+            }
+        }
+    }
+
+    private static String toJson(Object message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to serialize subscription", e);
+        }
+    }
+
+    /**
+     * Snapshot of user channel counters
+     */
+    public record Stats(
+        boolean connected,
+        long connects,
+        long orderEvents,
+        long tradeEvents,
+        int openOrders,
+        long gaps,
+        long resyncs
+    ) {}
+}
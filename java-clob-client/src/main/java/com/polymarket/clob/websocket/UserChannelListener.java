@@ -0,0 +1,21 @@
+package com.polymarket.clob.websocket;
+
+import com.polymarket.clob.types.OrderEvent;
+import com.polymarket.clob.types.TradeEvent;
+
+import java.util.List;
+
+/**
+ * Receives events from the authenticated user channel
+ */
+public interface UserChannelListener {
+    default void onOrder(OrderEvent event) {}
+
+    default void onTrade(TradeEvent event) {}
+
+    /**
+     * Called with the full set of open orders after a gap was detected and the
+     * client resynchronized through REST. Replaces any state built from earlier events.
+     */
+    default void onResync(List<OrderEvent> openOrders) {}
+}
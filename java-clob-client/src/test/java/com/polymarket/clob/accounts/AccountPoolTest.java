@@ -0,0 +1,122 @@
+package com.polymarket.clob.accounts;
+
+import com.polymarket.clob.exceptions.PolyException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AccountPoolTest {
+    // Well-known development key; never funded
+    private static final String PRIVATE_KEY = "0xac0974bec39a17e36ba4a6b4d238ff944bacb478cbed5efcc7ae784a9d6f2f80";
+    // Nonces the stand-in refuses to create or derive credentials for
+    private static final Set<String> BROKEN_NONCES = Set.of("7", "8");
+
+    private HttpServer server;
+    private volatile CountDownLatch creating = new CountDownLatch(0);
+    private final AtomicInteger concurrent = new AtomicInteger();
+    private final AtomicInteger maxConcurrent = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/auth/api-key", exchange -> {
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            try {
+                // Holds each request until all expected ones have arrived, which only parallel setup achieves
+                creating.countDown();
+                creating.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                concurrent.decrementAndGet();
+            }
+            credentials(exchange);
+        });
+        server.createContext("/auth/derive-api-key", this::credentials);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void credentialsAreCreatedInParallel() {
+        creating = new CountDownLatch(4);
+        List<AccountSpec> specs = List.of(spec("a", 1), spec("b", 2), spec("c", 3), spec("d", 4));
+
+        try (AccountPool pool = new AccountPool(host(), 137, specs, new AccountPoolConfig(50, 50, 4))) {
+            assertEquals(4, maxConcurrent.get(), "all four accounts should be set up at once");
+            assertEquals(List.of("a", "b", "c", "d"), pool.accounts().stream().map(Account::name).toList());
+            assertEquals("key-3", pool.account("c").client().getApiCreds().apiKey());
+
+            AccountPool.Stats stats = pool.stats();
+            assertEquals(4, stats.accounts());
+            assertEquals(1, stats.signers(), "accounts with the same key share a signer");
+        }
+    }
+
+    @Test
+    void failedAccountsAreReportedTogether() {
+        List<AccountSpec> specs = List.of(spec("good", 1), spec("bad-7", 7), spec("bad-8", 8));
+
+        PolyException error = assertThrows(PolyException.class,
+            () -> new AccountPool(host(), 137, specs, new AccountPoolConfig(50, 50, 4)));
+
+        assertTrue(error.getMessage().contains("[bad-7, bad-8]"), error.getMessage());
+        assertEquals(2, error.getSuppressed().length);
+    }
+
+    @Test
+    void duplicateNamesAreRejected() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new AccountPool(host(), 137, List.of(spec("a", 1), spec("a", 2))));
+    }
+
+    private String host() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    private static AccountSpec spec(String name, int nonce) {
+        return new AccountSpec(name, PRIVATE_KEY, null, null, null, nonce);
+    }
+
+    private void credentials(HttpExchange exchange) throws IOException {
+        String nonce = exchange.getRequestHeaders().getFirst("POLY_NONCE");
+        if (BROKEN_NONCES.contains(nonce)) {
+            respond(exchange, 500, "{\"error\":\"could not create api key\"}");
+            return;
+        }
+        respond(exchange, 200, "{\"apiKey\":\"key-" + nonce + "\","
+            + "\"secret\":\"c2VjcmV0LXNlY3JldC1zZWNyZXQ=\",\"passphrase\":\"passphrase\"}");
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
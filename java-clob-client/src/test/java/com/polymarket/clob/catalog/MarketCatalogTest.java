@@ -0,0 +1,97 @@
+package com.polymarket.clob.catalog;
+
+import com.polymarket.clob.client.ClobClient;
+import com.polymarket.clob.exceptions.PolyApiException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MarketCatalogTest {
+    // Cursor of each page and the cursor after it; the last page ends the catalog
+    private static final Map<String, String> NEXT_CURSOR = Map.of("MA==", "MTAw", "MTAw", "MjAw", "MjAw", "LTE=");
+    private static final List<String> PAGES = List.of("MA==", "MTAw", "MjAw");
+
+    private HttpServer server;
+    private volatile boolean failLastPage;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/markets", this::page);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void failedCrawlDoesNotMoveResumeCursor() {
+        MarketCatalog catalog = new MarketCatalog(new ClobClient(host()));
+        failLastPage = true;
+        assertThrows(PolyApiException.class, catalog::refresh);
+        assertEquals(0, catalog.size());
+
+        // With no completed crawl the incremental refresh must fall back to a full one
+        failLastPage = false;
+        assertEquals(3, catalog.refreshNew());
+        assertEquals(3, catalog.size());
+        for (int page = 0; page < PAGES.size(); page++) {
+            assertNotNull(catalog.market(conditionId(page)), "market of page " + page);
+        }
+    }
+
+    @Test
+    void refreshNewResumesFromLastPage() {
+        MarketCatalog catalog = new MarketCatalog(new ClobClient(host()));
+        assertEquals(3, catalog.refresh());
+        assertEquals(1, catalog.refreshNew());
+        assertEquals(3, catalog.size());
+        assertEquals(4, catalog.stats().pages());
+    }
+
+    private void page(HttpExchange exchange) throws IOException {
+        String query = exchange.getRequestURI().getQuery();
+        String cursor = query.substring(query.indexOf('=') + 1);
+        int page = PAGES.indexOf(cursor);
+        if (page < 0 || (failLastPage && page == PAGES.size() - 1)) {
+            respond(exchange, 500, "{\"error\":\"unavailable\"}");
+            return;
+        }
+        respond(exchange, 200, "{\"data\":[{\"condition_id\":\"" + conditionId(page) + "\","
+            + "\"tokens\":[{\"token_id\":\"" + (1000 + page) + "\",\"outcome\":\"Yes\"}]}],"
+            + "\"next_cursor\":\"" + NEXT_CURSOR.get(cursor) + "\"}");
+    }
+
+    private static String conditionId(int page) {
+        return "0x" + page;
+    }
+
+    private String host() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.polymarket.clob.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.polymarket.clob.exceptions.PolyException;
+import com.polymarket.clob.signing.hmac.HmacSigner;
+import com.polymarket.clob.types.ApiCreds;
+import com.polymarket.clob.types.OrderType;
+import com.polymarket.clob.types.RequestArgs;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Shares one client between threads that rotate its credentials and threads that
+ * sign requests with them. Every request must carry a key, passphrase, HMAC and
+ * order owner from one and the same set of credentials.
+ */
+class ClobClientConcurrencyTest {
+    // Well-known development key; never funded
+    private static final String PRIVATE_KEY = "0xac0974bec39a17e36ba4a6b4d238ff944bacb478cbed5efcc7ae784a9d6f2f80";
+    private static final ApiCreds FIRST = creds("00000000-0000-0000-0000-000000000001", "first");
+    private static final ApiCreds SECOND = creds("00000000-0000-0000-0000-000000000002", "second");
+    private static final Map<String, ApiCreds> BY_KEY = Map.of(FIRST.apiKey(), FIRST, SECOND.apiKey(), SECOND);
+    private static final int READERS = 4;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    static {
+        // Without it the stand-in's responses wait on delayed ACKs, which only stretches the run
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private HttpServer server;
+    private ClobClient client;
+    private final Queue<String> mismatches = new ConcurrentLinkedQueue<>();
+    private final Set<String> keysSeen = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newFixedThreadPool(READERS));
+        server.createContext("/order", exchange -> {
+            String body;
+            try (InputStream in = exchange.getRequestBody()) {
+                body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            Headers headers = exchange.getRequestHeaders();
+            String owner = String.valueOf(objectMapper.readValue(body, Map.class).get("owner"));
+            verify(Map.of(
+                "POLY_API_KEY", headers.getFirst("POLY_API_KEY"),
+                "POLY_PASSPHRASE", headers.getFirst("POLY_PASSPHRASE"),
+                "POLY_SIGNATURE", headers.getFirst("POLY_SIGNATURE"),
+                "POLY_TIMESTAMP", headers.getFirst("POLY_TIMESTAMP")
+            ), "POST", "/order", body);
+            if (!owner.equals(headers.getFirst("POLY_API_KEY"))) {
+                mismatches.add("order owned by " + owner + " sent with key " + headers.getFirst("POLY_API_KEY"));
+            }
+            respond(exchange, "{\"success\":true,\"orderID\":\"0x1\",\"status\":\"live\"}");
+        });
+        server.start();
+        client = new ClobClient("http://localhost:" + server.getAddress().getPort(), 137, PRIVATE_KEY, FIRST, null, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void level2HeadersComeFromOneSnapshot() throws Exception {
+        RequestArgs args = new RequestArgs("GET", "/data/orders");
+        AtomicInteger signed = new AtomicInteger();
+
+        race(List.of(FIRST, SECOND), 20_000, () -> {
+            verify(client.createLevel2Headers(args), "GET", "/data/orders", null);
+            signed.incrementAndGet();
+        });
+
+        assertEquals(List.of(), List.copyOf(mismatches));
+        assertEquals(READERS * 20_000, signed.get());
+        assertEquals(Set.of(FIRST.apiKey(), SECOND.apiKey()), keysSeen, "both credentials should have been in use");
+    }
+
+    @Test
+    void orderOwnerMatchesSigningKey() throws Exception {
+        AtomicInteger posted = new AtomicInteger();
+
+        race(List.of(FIRST, SECOND), 250, () -> {
+            client.postOrder(Map.of("salt", 1), OrderType.GTC);
+            posted.incrementAndGet();
+        });
+
+        assertEquals(List.of(), List.copyOf(mismatches));
+        assertEquals(READERS * 250, posted.get());
+    }
+
+    @Test
+    void droppingCredentialsFailsRequestsCleanly() throws Exception {
+        RequestArgs args = new RequestArgs("GET", "/data/orders");
+        AtomicInteger signed = new AtomicInteger();
+        AtomicInteger refused = new AtomicInteger();
+
+        // Null drops the client to Level 1 between rotations
+        race(Arrays.asList(FIRST, null), 20_000, () -> {
+            Map<String, String> headers;
+            try {
+                headers = client.createLevel2Headers(args);
+            } catch (PolyException e) {
+                refused.incrementAndGet();
+                return;
+            }
+            verify(headers, "GET", "/data/orders", null);
+            signed.incrementAndGet();
+        });
+
+        assertEquals(List.of(), List.copyOf(mismatches));
+        assertEquals(READERS * 20_000, signed.get() + refused.get());
+        assertTrue(signed.get() > 0 && refused.get() > 0, signed.get() + " signed, " + refused.get() + " refused");
+    }
+
+    /**
+     * Runs {@code work} {@code iterations} times on each of {@link #READERS} threads while
+     * another thread keeps cycling the client through {@code rotation}
+     */
+    private void race(List<ApiCreds> rotation, int iterations, Runnable work) throws Exception {
+        AtomicBoolean done = new AtomicBoolean();
+        Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+        CountDownLatch started = new CountDownLatch(READERS + 1);
+
+        Thread rotator = new Thread(() -> {
+            started.countDown();
+            // Rotates flat out, so readers on other cores see as many switches as possible
+            for (int i = 0; !done.get(); i++) {
+                client.setApiCreds(rotation.get(i % rotation.size()));
+            }
+        });
+        rotator.start();
+
+        List<Thread> readers = new ArrayList<>();
+        for (int r = 0; r < READERS; r++) {
+            Thread reader = new Thread(() -> {
+                started.countDown();
+                try {
+                    started.await();
+                    for (int i = 0; i < iterations; i++) {
+                        work.run();
+                    }
+                } catch (Throwable e) {
+                    errors.add(e);
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        done.set(true);
+        rotator.join();
+
+        assertEquals(List.of(), List.copyOf(errors));
+    }
+
+    /**
+     * Records a mismatch unless key, passphrase and HMAC all belong to the same credentials
+     */
+    private void verify(Map<String, String> headers, String method, String path, String body) {
+        String key = headers.get("POLY_API_KEY");
+        ApiCreds creds = BY_KEY.get(key);
+        if (creds == null) {
+            mismatches.add("unknown key " + key);
+            return;
+        }
+        keysSeen.add(key);
+        if (!creds.apiPassphrase().equals(headers.get("POLY_PASSPHRASE"))) {
+            mismatches.add("key " + key + " sent with passphrase " + headers.get("POLY_PASSPHRASE"));
+        }
+        String expected = HmacSigner.buildHmacSignature(
+            creds.apiSecret(), Long.parseLong(headers.get("POLY_TIMESTAMP")), method, path, body
+        );
+        if (!expected.equals(headers.get("POLY_SIGNATURE"))) {
+            mismatches.add("key " + key + " sent with a signature from another secret");
+        }
+    }
+
+    private static ApiCreds creds(String key, String name) {
+        String secret = Base64.getUrlEncoder().encodeToString(("secret-" + name).getBytes(StandardCharsets.UTF_8));
+        return new ApiCreds(key, secret, "passphrase-" + name);
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.polymarket.clob.client;
+
+import com.polymarket.clob.client.PagedResults.Page;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PagedResultsTest {
+    private static final Map<String, Page> PAGES = Map.of(
+        "MA==", new Page(List.of(1, 2), "c2"),
+        "c2", new Page(List.of(), "c3"),
+        "c3", new Page(List.of(3), "LTE=")
+    );
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void iteratorYieldsEveryRecordAcrossPages() {
+        List<Object> records = new ArrayList<>();
+        new PagedResults(PAGES::get, null).forEach(records::add);
+
+        assertEquals(List.of(1, 2, 3), records);
+
+        Iterator<Page> pages = new PagedResults(PAGES::get, null).pages();
+        int count = 0;
+        while (pages.hasNext()) {
+            pages.next();
+            count++;
+        }
+        assertEquals(3, count);
+    }
+
+    @Test
+    void publisherHonoursDemand() throws Exception {
+        Recorder recorder = new Recorder();
+        new PagedResults(PAGES::get, null).publisher(executor).subscribe(recorder);
+
+        recorder.subscription.get().request(2);
+        assertTrue(recorder.awaitRecords(2));
+        assertFalse(recorder.completed.await(50, TimeUnit.MILLISECONDS), "two records were requested, not three");
+
+        recorder.subscription.get().request(Long.MAX_VALUE);
+        assertTrue(recorder.completed.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(1, 2, 3), recorder.records);
+        assertNull(recorder.error.get());
+    }
+
+    @Test
+    void invalidRequestIsSignalledAfterTheCurrentOnNext() throws Exception {
+        CountDownLatch inOnNext = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean delivering = new AtomicBoolean();
+        AtomicBoolean overlapped = new AtomicBoolean();
+        Recorder recorder = new Recorder() {
+            @Override
+            public void onNext(Object item) {
+                delivering.set(true);
+                inOnNext.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                delivering.set(false);
+                super.onNext(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                overlapped.compareAndSet(false, delivering.get());
+                super.onError(throwable);
+            }
+        };
+        new PagedResults(PAGES::get, null).publisher(executor).subscribe(recorder);
+        recorder.subscription.get().request(1);
+        assertTrue(inOnNext.await(5, TimeUnit.SECONDS));
+
+        recorder.subscription.get().request(0);
+        assertNull(recorder.error.get(), "onError must not run on the requesting thread during onNext");
+
+        release.countDown();
+        assertTrue(recorder.failed.await(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, recorder.error.get());
+        assertFalse(overlapped.get());
+        assertEquals(List.of(1), recorder.records);
+    }
+
+    @Test
+    void cancelInterruptsThePrefetch() throws Exception {
+        CountDownLatch prefetching = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        PagedResults.PageFetcher fetcher = cursor -> {
+            if (cursor.equals("MA==")) {
+                return new Page(List.of(1), "c2");
+            }
+            prefetching.countDown();
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return new Page(List.of(2), "LTE=");
+        };
+        Recorder recorder = new Recorder();
+        new PagedResults(fetcher, null).publisher(executor).subscribe(recorder);
+        recorder.subscription.get().request(1);
+        assertTrue(recorder.awaitRecords(1));
+        assertTrue(prefetching.await(5, TimeUnit.SECONDS));
+
+        recorder.subscription.get().cancel();
+
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS), "cancel must stop the prefetch in progress");
+        assertEquals(List.of(1), recorder.records);
+        assertNull(recorder.error.get());
+    }
+
+    private static class Recorder implements Flow.Subscriber<Object> {
+        final AtomicReference<Flow.Subscription> subscription = new AtomicReference<>();
+        final List<Object> records = new CopyOnWriteArrayList<>();
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+        final CountDownLatch completed = new CountDownLatch(1);
+        final CountDownLatch failed = new CountDownLatch(1);
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription.set(subscription);
+        }
+
+        @Override
+        public void onNext(Object item) {
+            records.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error.set(throwable);
+            failed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+
+        boolean awaitRecords(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (records.size() < count) {
+                if (System.nanoTime() > deadline) {
+                    return false;
+                }
+                Thread.sleep(5);
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.polymarket.clob.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Scan throughput of {@link JournalReader} over a journal of book snapshots, for
+ * header-only iteration, an in-place pass over every body byte and full decoding.
+ * <p>
+ * Not part of the regular test run, which only picks up *Test classes; run it
+ * with {@code -Dtest=JournalReaderBenchmark}.
+ */
+class JournalReaderBenchmark {
+    private static final int RECORDS = 200_000;
+    private static final int TOKENS = 5_000;
+    private static final int LEVELS = 20;
+    private static final long FILE_SIZE = 64L * 1024 * 1024;
+    private static final int PASSES = 5;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void scanThroughput() {
+        JournalWriter.Stats written = TestJournals.writeBooks(directory, RECORDS, TOKENS, LEVELS, FILE_SIZE);
+        System.out.printf("%d book records x %d levels, %.1f MB in %d files%n",
+            RECORDS, LEVELS, written.bytesWritten() / 1e6, written.files());
+        System.out.printf("%-10s %12s %12s%n", "", "GB/s", "records/s");
+
+        measure("headers", written.bytesWritten(), reader -> reader.sequence() + reader.timestampNanos() + reader.type());
+        measure("bodies", written.bytesWritten(), JournalReaderBenchmark::sumBody);
+        measure("decode", written.bytesWritten(), reader -> reader.readBook().bids().size());
+    }
+
+    private void measure(String name, long bytes, RecordVisitor visitor) {
+        long best = Long.MAX_VALUE;
+        long checksum = 0;
+        for (int pass = 0; pass < PASSES; pass++) {
+            long start = System.nanoTime();
+            long records = 0;
+            try (JournalReader reader = new JournalReader(directory)) {
+                while (reader.next()) {
+                    checksum += visitor.visit(reader);
+                    records++;
+                }
+            }
+            best = Math.min(best, System.nanoTime() - start);
+            assertEquals(RECORDS, records);
+        }
+        System.out.printf("%-10s %12.2f %12.0f   (checksum %d)%n",
+            name, bytes / (double) best, RECORDS / (best / 1e9), checksum);
+    }
+
+    /**
+     * Reads every byte of the body in place, a long at a time
+     */
+    private static long sumBody(JournalReader reader) {
+        ByteBuffer body = reader.body();
+        long sum = 0;
+        int position = body.position();
+        int limit = body.limit();
+        for (; position + Long.BYTES <= limit; position += Long.BYTES) {
+            sum += body.getLong(position);
+        }
+        for (; position < limit; position++) {
+            sum += body.get(position);
+        }
+        return sum;
+    }
+
+    @FunctionalInterface
+    private interface RecordVisitor {
+        long visit(JournalReader reader);
+    }
+}
@@ -0,0 +1,144 @@
+package com.polymarket.clob.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Replay speed of {@link JournalReplayer}: unpaced throughput, how closely paced
+ * replay follows the recorded schedule, and what the sparse time index saves when
+ * replay starts late in the journal.
+ * <p>
+ * Not part of the regular test run, which only picks up *Test classes; run it
+ * with {@code -Dtest=JournalReplayerBenchmark}.
+ */
+class JournalReplayerBenchmark {
+    private static final int RECORDS = 200_000;
+    private static final int TOKENS = 5_000;
+    private static final int LEVELS = 20;
+    private static final long FILE_SIZE = 64L * 1024 * 1024;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void maxSpeedReplay() {
+        TestJournals.writeBooks(directory, RECORDS, TOKENS, LEVELS, FILE_SIZE);
+
+        try (JournalReplayer replayer = new JournalReplayer(directory)) {
+            replayer.firstTimestamp();
+            long start = System.nanoTime();
+            replayer.replay();
+            long skipOnly = System.nanoTime() - start;
+            assertEquals(RECORDS, replayer.stats().skipped());
+
+            LongAdder levels = new LongAdder();
+            replayer.addListener(book -> levels.add(book.bids().size()));
+            long best = Long.MAX_VALUE;
+            for (int pass = 0; pass < 3; pass++) {
+                start = System.nanoTime();
+                assertEquals(RECORDS, replayer.replay());
+                best = Math.min(best, System.nanoTime() - start);
+            }
+            assertEquals(3L * RECORDS * LEVELS, levels.sum());
+
+            System.out.printf("%d book records x %d levels at MAX_SPEED%n", RECORDS, LEVELS);
+            System.out.printf("  no listener (skipped)   %12.0f records/s%n", RECORDS / (skipOnly / 1e9));
+            System.out.printf("  book listener           %12.0f records/s%n", RECORDS / (best / 1e9));
+        }
+    }
+
+    @Test
+    void pacedReplayFollowsRecordedSchedule() {
+        int records = 20_000;
+        TestJournals.writeBooks(directory, records, 100, LEVELS, FILE_SIZE, 50_000);
+        long[] timestamps = timestamps(records);
+        long span = timestamps[records - 1] - timestamps[0];
+
+        System.out.printf("%d records recorded over %.0f ms%n", records, span / 1e6);
+        System.out.printf("%-8s %12s %12s %12s%n", "speed", "expected", "elapsed", "max lag");
+        for (double speed : new double[] {JournalReplayer.REAL_TIME, 10, 100}) {
+            try (JournalReplayer replayer = new JournalReplayer(directory)) {
+                replayer.addListener(book -> { });
+                // Unpaced pass to build the index and warm up decoding
+                replayer.replay();
+                long start = System.nanoTime();
+                assertEquals(records, replayer.replay(Long.MIN_VALUE, Long.MAX_VALUE, speed));
+                long elapsed = System.nanoTime() - start;
+                System.out.printf("%-8s %9.1f ms %9.1f ms %9.3f ms%n",
+                    speed + "x", span / speed / 1e6, elapsed / 1e6, replayer.stats().maxLagNanos() / 1e6);
+            }
+        }
+    }
+
+    @Test
+    void seekThroughSparseIndex() {
+        TestJournals.writeBooks(directory, RECORDS, TOKENS, LEVELS, FILE_SIZE);
+        long[] timestamps = timestamps(RECORDS);
+        // The last tenth of the journal but one percent
+        int first = RECORDS * 9 / 10;
+        int last = first + RECORDS / 100;
+        long from = timestamps[first];
+        long to = timestamps[last];
+        int expected = 0;
+        for (long timestamp : timestamps) {
+            if (timestamp >= from && timestamp < to) {
+                expected++;
+            }
+        }
+
+        // Baseline: scan from the start, decoding only the window
+        long start = System.nanoTime();
+        int scanned = 0;
+        try (JournalReader reader = new JournalReader(directory)) {
+            while (reader.next()) {
+                long timestamp = reader.timestampNanos();
+                if (timestamp >= to) {
+                    break;
+                }
+                if (timestamp >= from) {
+                    reader.readBook();
+                    scanned++;
+                }
+            }
+        }
+        long scan = System.nanoTime() - start;
+        assertEquals(expected, scanned);
+
+        try (JournalReplayer replayer = new JournalReplayer(directory)) {
+            replayer.addListener(book -> { });
+            start = System.nanoTime();
+            replayer.firstTimestamp();
+            long indexBuild = System.nanoTime() - start;
+
+            long best = Long.MAX_VALUE;
+            for (int pass = 0; pass < 5; pass++) {
+                start = System.nanoTime();
+                assertEquals(expected, replayer.replay(from, to, JournalReplayer.MAX_SPEED));
+                best = Math.min(best, System.nanoTime() - start);
+            }
+
+            System.out.printf("window of %d records starting at record %d of %d%n", expected, first, RECORDS);
+            System.out.printf("  scan from start         %9.2f ms%n", scan / 1e6);
+            System.out.printf("  index build (once)      %9.2f ms, %d entries%n",
+                indexBuild / 1e6, replayer.stats().indexEntries());
+            System.out.printf("  seek + replay window    %9.2f ms%n", best / 1e6);
+        }
+    }
+
+    private long[] timestamps(int records) {
+        long[] timestamps = new long[records];
+        try (JournalReader reader = new JournalReader(directory)) {
+            int i = 0;
+            while (reader.next()) {
+                timestamps[i++] = reader.timestampNanos();
+            }
+            assertEquals(records, i);
+        }
+        return timestamps;
+    }
+}
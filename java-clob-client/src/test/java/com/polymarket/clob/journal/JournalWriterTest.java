@@ -0,0 +1,88 @@
+package com.polymarket.clob.journal;
+
+import com.polymarket.clob.types.LastTrade;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JournalWriterTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void writesAndReadsBackTrades() {
+        try (JournalWriter writer = new JournalWriter(directory, 1 << 20, 1024)) {
+            for (int i = 0; i < 100; i++) {
+                writer.onTrade(trade(i));
+            }
+        }
+        try (JournalReader reader = new JournalReader(directory)) {
+            int count = 0;
+            while (reader.next()) {
+                assertEquals(JournalFormat.TRADE, reader.type());
+                assertEquals(count, reader.sequence());
+                assertEquals(String.valueOf(count), reader.readTrade().size());
+                count++;
+            }
+            assertEquals(100, count);
+        }
+    }
+
+    @Test
+    void offersRacingCloseAreWrittenOrCountedAsDropped() throws Exception {
+        for (int attempt = 0; attempt < 20; attempt++) {
+            Path journal = directory.resolve("race-" + attempt);
+            JournalWriter writer = new JournalWriter(journal, 1 << 20, 1 << 16);
+            int producers = 4;
+            AtomicLong offered = new AtomicLong();
+            CountDownLatch started = new CountDownLatch(producers);
+            List<Thread> threads = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                Thread thread = new Thread(() -> {
+                    started.countDown();
+                    for (int i = 0; i < 5_000; i++) {
+                        writer.onTrade(trade(i));
+                        offered.incrementAndGet();
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+            started.await();
+            writer.close();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            JournalWriter.Stats stats = writer.stats();
+            assertEquals(offered.get(), stats.written() + stats.dropped(), "offers must not be lost");
+            assertEquals(0, stats.queued());
+            long records = 0;
+            try (JournalReader reader = new JournalReader(journal)) {
+                while (reader.next()) {
+                    records++;
+                }
+            }
+            assertEquals(stats.written(), records);
+        }
+    }
+
+    private static LastTrade trade(int i) {
+        return new LastTrade(
+            "0x5f65177b394277fd294cd75650044e32ba009a95022d88a0c1d565897d72f8f1",
+            "71321045679252212594626385532706912750332728571942532289631379312455583992563",
+            "0.51",
+            String.valueOf(i),
+            "BUY",
+            "0",
+            "1757908892601"
+        );
+    }
+}
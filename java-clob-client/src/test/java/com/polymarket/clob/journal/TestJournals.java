@@ -0,0 +1,70 @@
+package com.polymarket.clob.journal;
+
+import com.polymarket.clob.types.OrderBookSummary;
+import com.polymarket.clob.types.OrderSummary;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes synthetic journals for the journal tests and benchmarks
+ */
+final class TestJournals {
+    private TestJournals() {}
+
+    /**
+     * Journals {@code count} book snapshots cycling over {@code tokens} tokens and returns the writer's stats
+     */
+    static JournalWriter.Stats writeBooks(Path directory, int count, int tokens, int levels, long fileSize) {
+        return writeBooks(directory, count, tokens, levels, fileSize, 0);
+    }
+
+    /**
+     * As {@link #writeBooks(Path, int, int, int, long)}, spacing the recorded timestamps by about {@code intervalNanos}
+     */
+    static JournalWriter.Stats writeBooks(Path directory, int count, int tokens, int levels, long fileSize,
+                                          long intervalNanos) {
+        JournalWriter writer = new JournalWriter(directory, fileSize, count + 1);
+        long next = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            if (intervalNanos > 0) {
+                while (System.nanoTime() < next) {
+                    Thread.onSpinWait();
+                }
+                next += intervalNanos;
+            }
+            writer.onBook(book(i % tokens, i, levels));
+        }
+        writer.close();
+        JournalWriter.Stats stats = writer.stats();
+        if (stats.written() != count) {
+            throw new IllegalStateException("Journaled " + stats.written() + " of " + count + " books");
+        }
+        return stats;
+    }
+
+    static OrderBookSummary book(int token, int round, int levels) {
+        List<OrderSummary> bids = new ArrayList<>(levels);
+        List<OrderSummary> asks = new ArrayList<>(levels);
+        for (int level = levels - 1; level >= 0; level--) {
+            bids.add(new OrderSummary(price(480 - level), String.valueOf(100 + level + round % 50)));
+            asks.add(new OrderSummary(price(520 + level), String.valueOf(80 + level + round % 50)));
+        }
+        return new OrderBookSummary(
+            "0x5f65177b394277fd294cd75650044e32ba009a95022d88a0c1d565897d72f8f1",
+            "71321045679252212594626385532706912750332728571942532289631379312455" + (1_000_000 + token),
+            String.valueOf(1_757_908_892_000L + round),
+            bids,
+            asks,
+            "5",
+            false,
+            "0.001",
+            "a44cc7219f0b1188650b682934797d9f65f952dd"
+        );
+    }
+
+    private static String price(int mills) {
+        return String.format("0.%03d", mills);
+    }
+}
@@ -0,0 +1,141 @@
+package com.polymarket.clob.metadata;
+
+import com.polymarket.clob.exceptions.PolyApiException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class MarketMetadataCacheTest {
+    private static final String TOKEN = "71321045679252212594626385532706912750332728571942532289631379312455583992563";
+    private static final int CALLERS = 16;
+
+    private HttpServer server;
+    private final AtomicInteger tickSizeRequests = new AtomicInteger();
+    private volatile int status = 200;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/tick-size", exchange -> {
+            tickSizeRequests.incrementAndGet();
+            sleep(200);
+            respond(exchange, status, status == 200 ? "{\"minimum_tick_size\":0.001}" : "{\"error\":\"market not found\"}");
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        MarketMetadataCache cache = new MarketMetadataCache(host());
+
+        List<Object> results = callConcurrently(() -> cache.tickSize(TOKEN));
+
+        for (Object result : results) {
+            assertEquals("0.001", result);
+        }
+        assertEquals(1, tickSizeRequests.get());
+        MarketMetadataCache.FieldStats stats = cache.stats().tickSize();
+        assertEquals(1, stats.loads());
+        assertEquals(CALLERS - 1, stats.sharedLoads() + stats.hits());
+    }
+
+    @Test
+    void concurrentMissesShareOneFailedLoad() throws Exception {
+        status = 404;
+        MarketMetadataCache cache = new MarketMetadataCache(host());
+
+        List<Object> results = callConcurrently(() -> {
+            try {
+                return cache.tickSize(TOKEN);
+            } catch (PolyApiException e) {
+                return e;
+            }
+        });
+
+        for (Object result : results) {
+            assertTrue(result instanceof PolyApiException, String.valueOf(result));
+            assertEquals(Integer.valueOf(404), ((PolyApiException) result).getStatusCode());
+        }
+        assertEquals(1, tickSizeRequests.get());
+        assertEquals(1, cache.stats().tickSize().loadFailures());
+    }
+
+    @Test
+    void loadAfterCompletedLoadIsCached() {
+        MarketMetadataCache cache = new MarketMetadataCache(host());
+        assertEquals("0.001", cache.tickSize(TOKEN));
+        assertEquals("0.001", cache.tickSize(TOKEN));
+        assertEquals(1, tickSizeRequests.get());
+        assertEquals(1, cache.stats().tickSize().hits());
+    }
+
+    private List<Object> callConcurrently(Callable<Object> call) throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                futures.add(callers.submit(() -> {
+                    start.await();
+                    return call.call();
+                }));
+            }
+            start.countDown();
+            List<Object> results = new ArrayList<>();
+            for (Future<Object> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    private String host() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail("interrupted");
+        }
+    }
+}
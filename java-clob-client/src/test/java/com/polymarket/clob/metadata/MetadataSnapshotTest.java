@@ -0,0 +1,114 @@
+package com.polymarket.clob.metadata;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetadataSnapshotTest {
+    private static final String TOKEN = "71321045679252212594626385532706912750332728571942532289631379312455583992563";
+
+    @TempDir
+    Path directory;
+
+    private HttpServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile String tickSize = "0.001";
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/tick-size", exchange -> respond(exchange, "{\"minimum_tick_size\":" + tickSize + "}"));
+        server.createContext("/neg-risk", exchange -> respond(exchange, "{\"neg_risk\":true}"));
+        server.createContext("/fee-rate", exchange -> respond(exchange, "{\"base_fee\":30}"));
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void loadFillsCacheWithoutRoundTrips() {
+        MarketMetadataCache saved = new MarketMetadataCache(host());
+        saved.tickSize(TOKEN);
+        saved.negRisk(TOKEN);
+        saved.feeRateBps(TOKEN);
+        Path file = directory.resolve("metadata.snap");
+        assertEquals(1, new MetadataSnapshot(saved, file).save());
+        requests.set(0);
+
+        MarketMetadataCache restarted = new MarketMetadataCache(host());
+        assertEquals(1, new MetadataSnapshot(restarted, file).load());
+        assertEquals("0.001", restarted.tickSize(TOKEN));
+        assertTrue(restarted.negRisk(TOKEN));
+        assertEquals(30, restarted.feeRateBps(TOKEN));
+        assertEquals(0, requests.get(), "a loaded snapshot must not cost round trips");
+    }
+
+    @Test
+    void expiredEntriesAreServedStaleAndRevalidated() throws Exception {
+        MetadataCacheConfig config = new MetadataCacheConfig(
+            Duration.ofMillis(50), Duration.ofHours(24), Duration.ofHours(1), Duration.ofMinutes(1), 100_000
+        );
+        MarketMetadataCache saved = new MarketMetadataCache(host(), config);
+        saved.tickSize(TOKEN);
+        saved.negRisk(TOKEN);
+        Path file = directory.resolve("metadata.snap");
+        Thread.sleep(100);
+        // Saved after the tick size expired; it is kept all the same
+        assertEquals(1, new MetadataSnapshot(saved, file).save());
+        tickSize = "0.01";
+        requests.set(0);
+
+        MarketMetadataCache restarted = new MarketMetadataCache(host(), config);
+        assertEquals(1, new MetadataSnapshot(restarted, file).load());
+        assertEquals(0, requests.get(), "loading must not revalidate eagerly");
+        assertTrue(restarted.negRisk(TOKEN));
+        assertEquals("0.001", restarted.tickSize(TOKEN), "the stale tick size is served without waiting");
+        assertEquals(1, restarted.stats().tickSize().staleHits());
+
+        awaitTrue(() -> requests.get() == 1 && restarted.stats().tickSize().loads() == 1);
+        assertEquals("0.01", restarted.tickSize(TOKEN), "the background reload replaces the stale value");
+        assertEquals(1, requests.get(), "only the expired tick size is reloaded");
+    }
+
+    private String host() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "timed out");
+            Thread.sleep(5);
+        }
+    }
+
+    private void respond(HttpExchange exchange, String body) throws IOException {
+        requests.incrementAndGet();
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
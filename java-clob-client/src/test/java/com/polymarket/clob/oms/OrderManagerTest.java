@@ -0,0 +1,191 @@
+package com.polymarket.clob.oms;
+
+import com.polymarket.clob.client.ClobClient;
+import com.polymarket.clob.types.ApiCreds;
+import com.polymarket.clob.types.OrderEvent;
+import com.polymarket.clob.types.OrderType;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrderManagerTest {
+    private static final String TOKEN = "71321045679252212594626385532706912750332728571942532289631379312455583992563";
+    // Well-known development key; never funded
+    private static final String PRIVATE_KEY = "0xac0974bec39a17e36ba4a6b4d238ff944bacb478cbed5efcc7ae784a9d6f2f80";
+    private static final ApiCreds CREDS = new ApiCreds(
+        "00000000-0000-0000-0000-000000000001", "c2VjcmV0LXNlY3JldC1zZWNyZXQ=", "passphrase"
+    );
+    private static final long SCALE = 1_000_000;
+
+    private HttpServer server;
+    private OrderManager manager;
+    // Open orders /data/orders returns, and the /data/order/{id} lookups of closed ones
+    private volatile String openOrders = "[]";
+    private final Map<String, String> lookups = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/data/orders", exchange ->
+            respond(exchange, 200, "{\"data\":" + openOrders + ",\"next_cursor\":\"LTE=\"}"));
+        server.createContext("/data/order/", exchange -> {
+            String id = exchange.getRequestURI().getPath().substring("/data/order/".length());
+            String order = lookups.get(id);
+            respond(exchange, order != null ? 200 : 404, order != null ? order : "{\"error\":\"not found\"}");
+        });
+        server.start();
+        manager = new OrderManager(new ClobClient(
+            "http://localhost:" + server.getAddress().getPort(), 137, PRIVATE_KEY, CREDS, null, null
+        ));
+    }
+
+    @AfterEach
+    void tearDown() {
+        manager.close();
+        server.stop(0);
+    }
+
+    @Test
+    void fillsAccumulateFromCumulativeSizeMatched() {
+        assertNotNull(manager.applyPostResponse(buy(0.50, 10), OrderType.GTC, posted("0xa1", "live")));
+        assertEquals(10 * SCALE, manager.exposure(TOKEN).openBuySize());
+        assertEquals(5 * SCALE, manager.exposure(TOKEN).openBuyNotional());
+
+        manager.onOrder(event(OrderEvent.Type.UPDATE, "0xa1", "4"));
+        // A replayed update must not count the fill twice
+        manager.onOrder(event(OrderEvent.Type.UPDATE, "0xa1", "4"));
+
+        assertEquals(6 * SCALE, manager.exposure(TOKEN).openBuySize());
+        assertEquals(4 * SCALE, manager.exposure(TOKEN).filledBuySize());
+
+        manager.onOrder(event(OrderEvent.Type.UPDATE, "0xa1", "10"));
+        assertEquals(TrackedOrder.Status.FILLED, manager.order("0xa1").status());
+        assertEquals(0, manager.exposure(TOKEN).openBuySize());
+        assertEquals(10 * SCALE, manager.exposure(TOKEN).filledBuySize());
+        assertEquals(0, manager.openCount(TOKEN, "BUY"));
+    }
+
+    @Test
+    void rejectedPostIsNotTracked() {
+        Map<String, Object> response = Map.of("success", false, "errorMsg", "not enough balance", "orderID", "");
+
+        assertNull(manager.applyPostResponse(buy(0.50, 10), OrderType.GTC, response));
+        assertEquals(1, manager.stats().rejected());
+        assertEquals(0, manager.stats().trackedOrders());
+    }
+
+    @Test
+    void immediateOrderRemainderIsCanceled() {
+        Map<String, Object> response = Map.of(
+            "success", true, "orderID", "0xa2", "status", "matched", "takingAmount", "4", "makingAmount", "2"
+        );
+
+        TrackedOrder order = manager.applyPostResponse(buy(0.50, 10), OrderType.FAK, response);
+
+        assertEquals(TrackedOrder.Status.CANCELED, order.status());
+        assertEquals(4 * SCALE, order.sizeMatched());
+        assertEquals(0, manager.exposure(TOKEN).openBuySize());
+    }
+
+    @Test
+    void lateEventDoesNotReopenCanceledOrder() {
+        manager.applyPostResponse(buy(0.50, 10), OrderType.GTC, posted("0xa3", "live"));
+        assertEquals(1, manager.applyCancelResponse(Map.of("canceled", List.of("0xa3"), "not_canceled", Map.of())));
+
+        manager.onOrder(event(OrderEvent.Type.PLACEMENT, "0xa3", "0"));
+
+        assertEquals(TrackedOrder.Status.CANCELED, manager.order("0xa3").status());
+        assertEquals(0, manager.openCount(TOKEN, "BUY"));
+    }
+
+    @Test
+    void lateEventDoesNotRecreatePrunedOrder() {
+        manager.applyPostResponse(buy(0.50, 10), OrderType.GTC, posted("0xa4", "live"));
+        manager.applyCancelResponse(Map.of("canceled", List.of("0xa4")));
+
+        // The second pass forgets orders closed before the first
+        manager.reconcile();
+        manager.reconcile();
+        assertNull(manager.order("0xa4"));
+
+        manager.onOrder(event(OrderEvent.Type.UPDATE, "0xa4", "2"));
+        manager.onResync(List.of(event(null, "0xa4", "2")));
+
+        assertNull(manager.order("0xa4"), "a late event must not bring a forgotten order back as open");
+        assertEquals(0, manager.openCount(TOKEN, "BUY"));
+        assertEquals(2, manager.stats().lateEvents());
+
+        // The server's own list still wins
+        openOrders = "[" + json("0xa4", "2") + "]";
+        assertEquals(1, manager.reconcile());
+        assertEquals(TrackedOrder.Status.OPEN, manager.order("0xa4").status());
+    }
+
+    @Test
+    void reconcileAddsMissingOrdersAndResolvesClosedOnes() {
+        manager.applyPostResponse(buy(0.50, 10), OrderType.GTC, posted("0xa5", "live"));
+        manager.applyPostResponse(buy(0.40, 10), OrderType.GTC, posted("0xa6", "live"));
+        lookups.put("0xa5", "{\"id\":\"0xa5\",\"status\":\"MATCHED\",\"size_matched\":\"10\"}");
+        // 0xa6 is unknown to the server: treated as canceled
+        openOrders = "[" + json("0xa7", "3") + "]";
+
+        assertEquals(3, manager.reconcile());
+
+        assertEquals(TrackedOrder.Status.FILLED, manager.order("0xa5").status());
+        assertEquals(TrackedOrder.Status.CANCELED, manager.order("0xa6").status());
+        TrackedOrder added = manager.order("0xa7");
+        assertEquals(TrackedOrder.Status.OPEN, added.status());
+        assertEquals(3 * SCALE, added.sizeMatched());
+        assertEquals(List.of(added), manager.openOrders());
+        assertEquals(7 * SCALE, manager.exposure(TOKEN).openBuySize());
+        assertTrue(manager.stats().reconcileClosed() == 2 && manager.stats().reconcileAdded() == 1);
+    }
+
+    private static Map<String, Object> buy(double price, long size) {
+        long taker = size * SCALE;
+        return Map.of(
+            "tokenId", TOKEN,
+            "side", "BUY",
+            "makerAmount", String.valueOf(Math.round(price * taker)),
+            "takerAmount", String.valueOf(taker)
+        );
+    }
+
+    private static Map<String, Object> posted(String id, String status) {
+        return Map.of("success", true, "orderID", id, "status", status);
+    }
+
+    private static OrderEvent event(OrderEvent.Type type, String id, String sizeMatched) {
+        return new OrderEvent(type, id, "0xabc", TOKEN, "BUY", "0.5", "10", sizeMatched, "Yes", null, null, List.of());
+    }
+
+    private static String json(String id, String sizeMatched) {
+        return "{\"id\":\"" + id + "\",\"market\":\"0xabc\",\"asset_id\":\"" + TOKEN + "\",\"side\":\"BUY\","
+            + "\"price\":\"0.5\",\"original_size\":\"10\",\"size_matched\":\"" + sizeMatched + "\"}";
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
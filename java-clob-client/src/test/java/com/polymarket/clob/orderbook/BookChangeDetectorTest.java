@@ -0,0 +1,71 @@
+package com.polymarket.clob.orderbook;
+
+import com.polymarket.clob.exceptions.PolyApiException;
+import com.polymarket.clob.types.OrderBookSummary;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BookChangeDetectorTest {
+    private static final String FIRST = "111";
+    private static final String SECOND = "222";
+
+    private final BookChangeDetector detector = new BookChangeDetector();
+
+    @Test
+    void unchangedBooksAreSkipped() {
+        assertEquals(2, detector.apply(books(book(FIRST, "h1"), book(SECOND, "h2"))).size());
+
+        List<OrderBookSummary> changed = detector.apply(books(book(FIRST, "h1"), book(SECOND, "h3")));
+
+        assertEquals(1, changed.size());
+        assertEquals(SECOND, changed.get(0).assetId());
+        assertEquals("0.48", changed.get(0).bids().get(0).price());
+        assertEquals(1, detector.unchangedCount());
+    }
+
+    @Test
+    void partlyUnreadableResponseRecordsNoHashes() {
+        String truncated = "[" + book(FIRST, "h1") + ",{\"asset_id\":\"" + SECOND + "\",\"hash\":";
+
+        assertThrows(PolyApiException.class, () -> detector.apply(truncated.getBytes(StandardCharsets.UTF_8)));
+        assertNull(detector.lastHash(FIRST));
+
+        // The book read before the failure was never delivered, so it is reported again
+        List<OrderBookSummary> changed = detector.apply(books(book(FIRST, "h1")));
+        assertEquals(1, changed.size());
+        assertEquals("h1", detector.lastHash(FIRST));
+    }
+
+    @Test
+    void throwingListenerDoesNotStopDelivery() {
+        List<String> delivered = new ArrayList<>();
+        detector.addListener(book -> {
+            throw new IllegalStateException("listener bug");
+        });
+        detector.addListener(book -> delivered.add(book.assetId()));
+
+        List<OrderBookSummary> changed = detector.apply(books(book(FIRST, "h1"), book(SECOND, "h2")));
+
+        assertEquals(2, changed.size());
+        assertEquals(List.of(FIRST, SECOND), delivered);
+        assertEquals("h2", detector.lastHash(SECOND));
+    }
+
+    private static byte[] books(String... books) {
+        return ("[" + String.join(",", books) + "]").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String book(String assetId, String hash) {
+        // Levels before the hash, as /books sends them
+        return "{\"market\":\"0xabc\",\"asset_id\":\"" + assetId + "\","
+            + "\"bids\":[{\"price\":\"0.48\",\"size\":\"10\"}],\"asks\":[{\"price\":\"0.52\",\"size\":\"10\"}],"
+            + "\"hash\":\"" + hash + "\"}";
+    }
+}
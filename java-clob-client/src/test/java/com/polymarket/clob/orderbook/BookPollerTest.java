@@ -0,0 +1,100 @@
+package com.polymarket.clob.orderbook;
+
+import com.polymarket.clob.client.ClobClient;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BookPollerTest {
+    private static final String TOKEN = "71321045679252212594626385532706912750332728571942532289631379312455583992563";
+    private static final String BOOK = "[{\"market\":\"0xabc\",\"asset_id\":\"" + TOKEN + "\",\"hash\":\"h1\","
+        + "\"bids\":[{\"price\":\"0.48\",\"size\":\"10\"}],\"asks\":[{\"price\":\"0.52\",\"size\":\"10\"}]}]";
+
+    private HttpServer server;
+    private BookPoller poller;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final CountDownLatch requested = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/books", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            if (requests.incrementAndGet() == 1) {
+                requested.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            respond(exchange, BOOK);
+        });
+        server.start();
+        ClobClient client = new ClobClient("http://localhost:" + server.getAddress().getPort());
+        poller = new BookPoller(client, new BookPollerConfig(
+            100, 1, Duration.ofMillis(20), Duration.ofMillis(20), Duration.ofMillis(5)
+        ));
+    }
+
+    @AfterEach
+    void tearDown() {
+        poller.close();
+        server.stop(0);
+    }
+
+    @Test
+    void removedTokenIsNotRestoredByInFlightPoll() throws Exception {
+        poller.add(TOKEN);
+        poller.start();
+        assertTrue(requested.await(5, TimeUnit.SECONDS));
+
+        poller.remove(TOKEN);
+        release.countDown();
+        awaitTrue(() -> poller.stats().requests() == 1 && poller.stats().inFlight() == 0);
+
+        assertNull(poller.latest(TOKEN), "a poll completing after remove() must not bring the book back");
+
+        // Re-added, the token is fetched in full again rather than treated as unchanged
+        poller.add(TOKEN);
+        awaitTrue(() -> poller.latest(TOKEN) != null);
+        assertNotNull(poller.latest(TOKEN).bids());
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "timed out");
+            Thread.sleep(5);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.polymarket.clob.orderbook;
+
+import com.polymarket.clob.types.OrderBookSummary;
+import com.polymarket.clob.types.OrderSummary;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Heap and GC cost of 5,000 books held in an {@link OffHeapBookStore}, against a map
+ * of {@link OrderBookSummary} as the pollers keep them.
+ * <p>
+ * Not part of the regular test run, which only picks up *Test classes; run it
+ * with {@code -Dtest=OffHeapBookStoreBenchmark}.
+ */
+class OffHeapBookStoreBenchmark {
+    private static final int BOOKS = 5_000;
+    private static final int LEVELS = 20;
+    private static final int ROUNDS = 50;
+    private static final int READ_ROUNDS = 200;
+
+    @Test
+    void retainedHeapAndGcAtFiveThousandBooks() {
+        Map<String, OrderBookSummary> map = new HashMap<>();
+        Result heap = run("HashMap<OrderBookSummary>", book -> map.put(book.assetId(), book));
+        Reference.reachabilityFence(map);
+
+        OffHeapBookStore store = new OffHeapBookStore(BOOKS, LEVELS);
+        Result offHeap = run("OffHeapBookStore", store::put);
+        Reference.reachabilityFence(store);
+
+        System.out.printf("%d books x %d levels, %d update rounds%n", BOOKS, LEVELS, ROUNDS);
+        System.out.printf("%-26s %14s %14s %8s %10s %12s%n",
+            "", "retained heap", "off-heap", "GCs", "GC time", "updates/s");
+        heap.print(0);
+        offHeap.print(store.byteSize());
+        store.close();
+
+        assertTrue(offHeap.retainedBytes < heap.retainedBytes / 4,
+            "off-heap store should retain far less heap than the map");
+    }
+
+    @Test
+    void readPathAllocatesNothing() {
+        Map<String, OrderBookSummary> map = new HashMap<>();
+        OffHeapBookStore store = new OffHeapBookStore(BOOKS, LEVELS);
+        int[] slots = new int[BOOKS];
+        for (int token = 0; token < BOOKS; token++) {
+            OrderBookSummary book = book(token, 0);
+            map.put(book.assetId(), book);
+            slots[token] = store.put(book);
+        }
+        List<OrderBookSummary> books = new ArrayList<>(map.values());
+
+        // Warm up so both loops are compiled before measuring
+        for (int i = 0; i < 20; i++) {
+            readMap(books);
+            readStore(store, slots);
+        }
+        long mapBytes = allocated(() -> {
+            for (int i = 0; i < READ_ROUNDS; i++) {
+                readMap(books);
+            }
+        });
+        long storeBytes = allocated(() -> {
+            for (int i = 0; i < READ_ROUNDS; i++) {
+                readStore(store, slots);
+            }
+        });
+        store.close();
+
+        long reads = (long) READ_ROUNDS * BOOKS;
+        System.out.printf("best bid/ask + 5-level depth, %d reads%n", reads);
+        System.out.printf("  HashMap<OrderBookSummary>  %8.1f bytes/read%n", (double) mapBytes / reads);
+        System.out.printf("  OffHeapBookStore           %8.1f bytes/read%n", (double) storeBytes / reads);
+
+        assertTrue(storeBytes < reads, "store reads should not allocate");
+    }
+
+    private static Result run(String name, Consumer<OrderBookSummary> put) {
+        long before = usedHeap();
+        long gcCount = gcCount();
+        long gcMillis = gcMillis();
+        long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int token = 0; token < BOOKS; token++) {
+                put.accept(book(token, round));
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        // Read the collector counters before usedHeap() forces its own collections
+        long collections = gcCount() - gcCount;
+        long collectionMillis = gcMillis() - gcMillis;
+        return new Result(
+            name,
+            usedHeap() - before,
+            collections,
+            collectionMillis,
+            (double) ROUNDS * BOOKS / (elapsed / 1e9)
+        );
+    }
+
+    private static double readMap(List<OrderBookSummary> books) {
+        double sum = 0;
+        for (OrderBookSummary book : books) {
+            List<OrderSummary> bids = book.bids();
+            List<OrderSummary> asks = book.asks();
+            sum += new BigDecimal(bids.get(bids.size() - 1).price()).doubleValue();
+            sum += new BigDecimal(asks.get(asks.size() - 1).price()).doubleValue();
+            for (int level = 0; level < 5; level++) {
+                sum += new BigDecimal(bids.get(bids.size() - 1 - level).size()).doubleValue();
+            }
+        }
+        return sum;
+    }
+
+    private static long readStore(OffHeapBookStore store, int[] slots) {
+        long sum = 0;
+        for (int slot : slots) {
+            sum += store.bestBid(slot) + store.bestAsk(slot) + store.cumulativeSize(slot, true, 5);
+        }
+        return sum;
+    }
+
+    /**
+     * A book as parsed from /books: distinct token, levels worst first, sizes varying by round
+     */
+    private static OrderBookSummary book(int token, int round) {
+        List<OrderSummary> bids = new ArrayList<>(LEVELS);
+        List<OrderSummary> asks = new ArrayList<>(LEVELS);
+        for (int level = LEVELS - 1; level >= 0; level--) {
+            bids.add(new OrderSummary(price(48 - level), String.valueOf(100 + level + round)));
+            asks.add(new OrderSummary(price(52 + level), String.valueOf(80 + level + round)));
+        }
+        return new OrderBookSummary(
+            "0x5f65177b394277fd294cd75650044e32ba009a95022d88a0c1d565897d72f8f1",
+            "71321045679252212594626385532706912750332728571942532289631379312455" + (1_000_000 + token),
+            String.valueOf(1_757_908_892_000L + round),
+            bids,
+            asks,
+            "5",
+            false,
+            "0.01",
+            "a44cc7219f0b1188650b682934797d9f65f952dd"
+        );
+    }
+
+    private static String price(int cents) {
+        return String.format("0.%02d", cents);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+        }
+        return count;
+    }
+
+    private static long gcMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            millis += Math.max(0, gc.getCollectionTime());
+        }
+        return millis;
+    }
+
+    private static long allocated(Runnable work) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long before = threads.getCurrentThreadAllocatedBytes();
+        work.run();
+        return threads.getCurrentThreadAllocatedBytes() - before;
+    }
+
+    private record Result(String name, long retainedBytes, long gcCount, long gcMillis, double updatesPerSecond) {
+        void print(long offHeapBytes) {
+            System.out.printf("%-26s %11.1f MB %11.1f MB %8d %7d ms %12.0f%n",
+                name, retainedBytes / 1e6, offHeapBytes / 1e6, gcCount, gcMillis, updatesPerSecond);
+        }
+    }
+}
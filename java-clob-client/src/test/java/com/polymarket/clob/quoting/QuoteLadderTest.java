@@ -0,0 +1,127 @@
+package com.polymarket.clob.quoting;
+
+import com.polymarket.clob.client.ClobClient;
+import com.polymarket.clob.client.MarketHandle;
+import com.polymarket.clob.types.PostOrdersArgs;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QuoteLadderTest {
+    private static final String TOKEN = "71321045679252212594626385532706912750332728571942532289631379312455583992563";
+    // Well-known development key; never funded
+    private static final String PRIVATE_KEY = "0xac0974bec39a17e36ba4a6b4d238ff944bacb478cbed5efcc7ae784a9d6f2f80";
+
+    private HttpServer server;
+    private MarketHandle handle;
+    private final AtomicInteger orderIds = new AtomicInteger();
+    private final List<List<PostOrdersArgs>> posts = new CopyOnWriteArrayList<>();
+    private final List<List<String>> cancels = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/tick-size", exchange -> respond(exchange, "{\"minimum_tick_size\":0.01}"));
+        server.createContext("/neg-risk", exchange -> respond(exchange, "{\"neg_risk\":false}"));
+        server.createContext("/fee-rate", exchange -> respond(exchange, "{\"base_fee\":0}"));
+        server.start();
+        ClobClient client = new ClobClient("http://localhost:" + server.getAddress().getPort(), 137, PRIVATE_KEY);
+        handle = client.getMarketHandle(TOKEN);
+    }
+
+    @AfterEach
+    void tearDown() {
+        handle.close();
+        server.stop(0);
+    }
+
+    @Test
+    void orderNotCanceledStaysLiveAndIsNotPostedOver() {
+        QuoteLadder ladder = ladder(ids -> Map.of(
+            "canceled", List.of(ids.get(0)),
+            "not_canceled", Map.of(ids.get(1), "order can't be canceled because it's already matched")
+        ));
+        QuoteLadder.Result first = ladder.requote(List.of(bid(0.50, 10), bid(0.49, 10)));
+        assertEquals(2, first.posted());
+        List<String> before = ladder.liveOrderIds();
+
+        // Both levels are resized, so both orders are canceled; the server only cancels the first
+        QuoteLadder.Result second = ladder.requote(List.of(bid(0.50, 20), bid(0.49, 20)));
+
+        assertEquals(1, cancels.size());
+        assertEquals(2, cancels.get(0).size());
+        assertEquals(1, second.canceled());
+        assertEquals(1, second.posted(), "the level whose order is still resting must not be posted over");
+        assertEquals(1, second.failed());
+        assertEquals(1, posts.get(1).size());
+
+        String notCanceled = cancels.get(0).get(1);
+        List<String> live = ladder.liveOrderIds();
+        assertEquals(2, live.size());
+        assertTrue(live.contains(notCanceled), "order the server did not cancel must stay tracked");
+        assertTrue(before.contains(notCanceled));
+
+        // The next requote retries the cancel of the order that is still live
+        cancels.clear();
+        ladder.requote(List.of(bid(0.50, 20), bid(0.49, 20)));
+        assertEquals(List.of(notCanceled), cancels.get(0));
+    }
+
+    @Test
+    void unreadableCancelResponseKeepsEveryOrder() {
+        QuoteLadder ladder = ladder(ids -> "ok");
+        ladder.requote(List.of(bid(0.50, 10)));
+        List<String> before = ladder.liveOrderIds();
+
+        QuoteLadder.Result result = ladder.requote(List.of());
+
+        assertEquals(0, result.canceled());
+        assertEquals(before, ladder.liveOrderIds());
+    }
+
+    private QuoteLadder ladder(Function<List<String>, Object> cancelResponse) {
+        return new QuoteLadder(handle, this::post, ids -> {
+            cancels.add(List.copyOf(ids));
+            return cancelResponse.apply(ids);
+        }, null);
+    }
+
+    private Object post(List<PostOrdersArgs> batch) {
+        posts.add(List.copyOf(batch));
+        List<Object> results = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            results.add(Map.of("success", true, "orderID", "0x" + orderIds.incrementAndGet()));
+        }
+        return results;
+    }
+
+    private static LadderLevel bid(double price, double size) {
+        return new LadderLevel("BUY", price, size);
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.polymarket.clob.signing.remote;
+
+import com.polymarket.clob.config.Config;
+import com.polymarket.orderutils.ExchangeDomain;
+import com.polymarket.orderutils.UtilsSigner;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Signing throughput of one {@link SigningDaemon} shared by several client processes.
+ * <p>
+ * Each client is a separate JVM running {@link Client}: it connects a
+ * {@link RemoteSigner}, warms up, and on a go signal from this test signs a fixed
+ * number of orders from several threads calling {@link RemoteSigner#signOrder}, as
+ * order-building threads would. Throughput is all signatures over the slowest
+ * client's time. Signing with the key in-process on one thread is the baseline.
+ * <p>
+ * Not part of the regular test run, which only picks up *Test classes; run it
+ * with {@code -Dtest=SigningDaemonBenchmark}.
+ */
+class SigningDaemonBenchmark {
+    // Well-known development key; never funded
+    private static final String PRIVATE_KEY = "0xac0974bec39a17e36ba4a6b4d238ff944bacb478cbed5efcc7ae784a9d6f2f80";
+    private static final ExchangeDomain EXCHANGE = new ExchangeDomain(137, Config.getContractConfig(137, false).exchange());
+    private static final int[] PROCESSES = {1, 2, 4};
+    private static final int THREADS_PER_PROCESS = 4;
+    private static final int SIGNATURES_PER_THREAD = 2_000;
+    private static final int WARMUP = 2_000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void throughputByClientProcesses() throws Exception {
+        double local = localBaseline();
+        System.out.printf("%d threads x %d signatures per client process, %d cores%n",
+            THREADS_PER_PROCESS, SIGNATURES_PER_THREAD, Runtime.getRuntime().availableProcessors());
+        System.out.printf("  %-28s %12s %12s %12s%n", "", "sigs/s", "mean batch", "sign us");
+        System.out.printf("  %-28s %12.0f %12s %12s%n", "in-process, 1 thread", local, "-", "-");
+
+        for (int processes : PROCESSES) {
+            Path socket = directory.resolve("signer-" + processes + ".sock");
+            try (SigningDaemon daemon = new SigningDaemon(socket, PRIVATE_KEY, 137)) {
+                long signatures = (long) processes * THREADS_PER_PROCESS * SIGNATURES_PER_THREAD;
+                double seconds = runClients(socket, daemon.address(), processes) / 1e9;
+                SigningDaemon.Stats stats = daemon.stats();
+                System.out.printf("  %-28s %12.0f %12.1f %12.1f%n",
+                    processes + (processes == 1 ? " client process" : " client processes"),
+                    signatures / seconds, stats.meanBatchSize(), stats.meanSignNanos() / 1e3);
+
+                assertEquals(0, stats.failures());
+                assertEquals(signatures + (long) processes * WARMUP, stats.signatures());
+                assertTrue(stats.meanBatchSize() > 1, "concurrent callers should share requests");
+            }
+        }
+    }
+
+    /**
+     * Starts the clients, waits until all are warm, releases them together and
+     * returns the slowest one's signing time in nanoseconds
+     */
+    private static long runClients(Path socket, String address, int processes) throws Exception {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        List<Process> clients = new ArrayList<>(processes);
+        List<BufferedReader> outputs = new ArrayList<>(processes);
+        try {
+            for (int i = 0; i < processes; i++) {
+                Process client = new ProcessBuilder(
+                    java, "-cp", System.getProperty("java.class.path"), Client.class.getName(), socket.toString(), address
+                ).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+                clients.add(client);
+                outputs.add(new BufferedReader(new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8)));
+            }
+            for (BufferedReader output : outputs) {
+                assertEquals("ready", output.readLine());
+            }
+            for (Process client : clients) {
+                client.getOutputStream().write('\n');
+                client.getOutputStream().flush();
+            }
+            long slowest = 0;
+            for (BufferedReader output : outputs) {
+                String done = output.readLine();
+                assertTrue(done != null && done.startsWith("done "), "client failed: " + done);
+                slowest = Math.max(slowest, Long.parseLong(done.substring("done ".length())));
+            }
+            for (Process client : clients) {
+                assertTrue(client.waitFor(30, TimeUnit.SECONDS));
+                assertEquals(0, client.exitValue());
+            }
+            return slowest;
+        } finally {
+            clients.forEach(Process::destroyForcibly);
+        }
+    }
+
+    private static double localBaseline() {
+        UtilsSigner signer = new UtilsSigner(PRIVATE_KEY);
+        for (int i = 0; i < WARMUP; i++) {
+            signer.signOrder(EXCHANGE, hash(i));
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < SIGNATURES_PER_THREAD; i++) {
+            signer.signOrder(EXCHANGE, hash(i));
+        }
+        return SIGNATURES_PER_THREAD / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private static String hash(int i) {
+        return String.format("0x%064x", i);
+    }
+
+    /**
+     * Client process: prints "ready" once warm, signs after a line on stdin, then prints "done" and its nanoseconds
+     */
+    static final class Client {
+        public static void main(String[] args) throws Exception {
+            PrintStream out = System.out;
+            try (RemoteSigner signer = new RemoteSigner(Path.of(args[0]), args[1])) {
+                List<String> warmup = new ArrayList<>(WARMUP);
+                for (int i = 0; i < WARMUP; i++) {
+                    warmup.add(hash(i));
+                }
+                signer.signAll(EXCHANGE, warmup);
+                out.println("ready");
+                out.flush();
+                new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)).readLine();
+
+                List<Thread> threads = new ArrayList<>(THREADS_PER_PROCESS);
+                long start = System.nanoTime();
+                for (int t = 0; t < THREADS_PER_PROCESS; t++) {
+                    int offset = t * SIGNATURES_PER_THREAD;
+                    Thread thread = new Thread(() -> {
+                        for (int i = 0; i < SIGNATURES_PER_THREAD; i++) {
+                            signer.signOrder(EXCHANGE, hash(offset + i));
+                        }
+                    });
+                    thread.start();
+                    threads.add(thread);
+                }
+                for (Thread thread : threads) {
+                    thread.join();
+                }
+                out.println("done " + (System.nanoTime() - start));
+                out.flush();
+            }
+        }
+    }
+}
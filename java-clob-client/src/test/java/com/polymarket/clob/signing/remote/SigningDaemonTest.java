@@ -0,0 +1,206 @@
+package com.polymarket.clob.signing.remote;
+
+import com.polymarket.clob.client.ClobClient;
+import com.polymarket.clob.config.Config;
+import com.polymarket.clob.exceptions.PolyException;
+import com.polymarket.clob.signer.Signer;
+import com.polymarket.clob.types.ApiCreds;
+import com.polymarket.clob.types.RequestArgs;
+import com.polymarket.orderutils.ExchangeDomain;
+import com.polymarket.orderutils.UtilsSigner;
+import com.polymarket.orderutils.builders.UtilsOrderBuilder;
+import com.polymarket.orderutils.model.OrderData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.web3j.utils.Numeric;
+
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SigningDaemonTest {
+    // Well-known development key; never funded
+    private static final String PRIVATE_KEY = "0xac0974bec39a17e36ba4a6b4d238ff944bacb478cbed5efcc7ae784a9d6f2f80";
+    private static final String OTHER_KEY = "0x59c6995e998f97a5a0044966f0945389dc9e86dae88c7a8412f4603b6b78690d";
+    private static final String TOKEN = "71321045679252212594626385532706912750332728571942532289631379312455583992563";
+    private static final ApiCreds CREDS = new ApiCreds(
+        "00000000-0000-0000-0000-000000000001", "c2VjcmV0LXNlY3JldC1zZWNyZXQ=", "passphrase"
+    );
+    private static final ExchangeDomain EXCHANGE = new ExchangeDomain(137, Config.getContractConfig(137, false).exchange());
+    private static final ExchangeDomain NEG_RISK_EXCHANGE =
+        new ExchangeDomain(137, Config.getContractConfig(137, true).exchange());
+
+    @TempDir
+    Path directory;
+
+    private SigningDaemon daemon;
+    private RemoteSigner remote;
+    private final UtilsSigner local = new UtilsSigner(PRIVATE_KEY);
+
+    @BeforeEach
+    void setUp() {
+        daemon = new SigningDaemon(directory.resolve("signer.sock"), PRIVATE_KEY, 137, new SigningDaemonConfig(2, true));
+        remote = new RemoteSigner(daemon.socketPath(), local.getAddress());
+    }
+
+    @AfterEach
+    void tearDown() {
+        remote.close();
+        daemon.close();
+    }
+
+    @Test
+    void remoteSignaturesMatchLocalOnes() {
+        List<String> hashes = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            hashes.add(String.format("0x%064x", 1_000_003L * (i + 1)));
+        }
+
+        for (ExchangeDomain domain : List.of(EXCHANGE, NEG_RISK_EXCHANGE)) {
+            List<String> signed = remote.signAll(domain, hashes);
+            for (int i = 0; i < hashes.size(); i++) {
+                assertEquals(local.signOrder(domain, hashes.get(i)), signed.get(i), "order " + i);
+            }
+        }
+
+        // Whole orders, built with the same salt and signed through each signer
+        for (ExchangeDomain domain : List.of(EXCHANGE, NEG_RISK_EXCHANGE)) {
+            UtilsOrderBuilder localBuilder = new UtilsOrderBuilder(domain.exchangeAddress(), 137, local, () -> 42L);
+            UtilsOrderBuilder remoteBuilder = new UtilsOrderBuilder(domain.exchangeAddress(), 137, remote, () -> 42L);
+            assertEquals(
+                localBuilder.buildSignedOrder(order()).getSignature(),
+                remoteBuilder.buildSignedOrder(order()).getSignature()
+            );
+        }
+        assertEquals(0, daemon.stats().failures());
+    }
+
+    @Test
+    void rawDigestsAndOtherChainsAreRefused() {
+        assertThrows(UnsupportedOperationException.class, () -> remote.sign(String.format("0x%064x", 1)));
+
+        ExchangeDomain amoy = new ExchangeDomain(80002, Config.getContractConfig(80002, false).exchange());
+        assertThrows(IllegalArgumentException.class, () -> remote.signOrder(amoy, String.format("0x%064x", 1)));
+    }
+
+    @Test
+    void errorFrameFailsOnlyItsRequest() {
+        ExchangeDomain unknown = new ExchangeDomain(137, "0x000000000000000000000000000000000000dEaD");
+
+        PolyException error = assertThrows(PolyException.class,
+            () -> remote.signOrder(unknown, String.format("0x%064x", 1)));
+        assertTrue(error.getMessage().contains("is not an exchange on chain 137"), error.getMessage());
+
+        // The connection stays usable
+        String hash = String.format("0x%064x", 2);
+        assertEquals(local.signOrder(EXCHANGE, hash), remote.signOrder(EXCHANGE, hash));
+        assertEquals(1, daemon.stats().failures());
+        assertEquals(1, remote.stats().failures());
+    }
+
+    @Test
+    void daemonForAnotherAddressIsRefused() {
+        String other = new UtilsSigner(OTHER_KEY).getAddress();
+
+        PolyException error = assertThrows(PolyException.class,
+            () -> new RemoteSigner(daemon.socketPath(), other));
+        assertTrue(error.getMessage().contains("not " + other), error.getMessage());
+    }
+
+    @Test
+    void droppedConnectionFailsSentAndLaterOrders() throws Exception {
+        Path socket = directory.resolve("dropping.sock");
+        CountDownLatch requested = new CountDownLatch(1);
+        try (ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            server.bind(UnixDomainSocketAddress.of(socket));
+            // Greets like a daemon, takes one request and hangs up without answering
+            Thread dropper = new Thread(() -> {
+                try (SocketChannel connection = server.accept()) {
+                    ByteBuffer hello = ByteBuffer.allocate(SigningProtocol.HELLO_BYTES);
+                    hello.putInt(SigningProtocol.MAGIC).putShort(SigningProtocol.VERSION).putInt(137)
+                        .put(Numeric.hexStringToByteArray(local.getAddress())).flip();
+                    SigningProtocol.writeFully(connection, hello);
+                    SigningProtocol.readFrame(connection, ByteBuffer.allocate(4));
+                    requested.countDown();
+                } catch (Exception e) {
+                    requested.countDown();
+                }
+            });
+            dropper.start();
+
+            try (RemoteSigner dropped = new RemoteSigner(socket, local.getAddress())) {
+                CompletableFuture<String> sent = CompletableFuture.supplyAsync(
+                    () -> dropped.signOrder(EXCHANGE, String.format("0x%064x", 1))
+                );
+                assertTrue(requested.await(5, TimeUnit.SECONDS));
+
+                CompletionException error = assertThrows(CompletionException.class, sent::join);
+                assertInstanceOf(PolyException.class, error.getCause());
+                assertTrue(error.getCause().getMessage().contains("connection failed"), error.getCause().getMessage());
+
+                PolyException later = assertThrows(PolyException.class,
+                    () -> dropped.signOrder(EXCHANGE, String.format("0x%064x", 2)));
+                assertEquals(error.getCause().getMessage(), later.getMessage(), "later orders fail with the same cause");
+            }
+            dropper.join(5_000);
+        }
+    }
+
+    @Test
+    void keylessClientAuthenticatesWithTheDaemonAddress() {
+        ClobClient client = ClobClient.keyless("http://localhost:1", 137, remote, CREDS, null, null);
+
+        assertEquals(local.getAddress(), client.getAddress());
+        assertEquals(local.getAddress(),
+            client.createLevel2Headers(new RequestArgs("GET", "/data/orders")).get("POLY_ADDRESS"));
+        assertEquals(CREDS, client.getApiCreds());
+        // Credentials can only be created or derived with the key
+        assertThrows(PolyException.class, () -> client.createApiKey(0));
+
+        ClobClient readOnly = ClobClient.keyless("http://localhost:1", 137, local.getAddress(), CREDS, null);
+        assertThrows(PolyException.class, () -> readOnly.getMarketHandle(TOKEN));
+    }
+
+    @Test
+    void orderSignerMustBelongToTheClient() {
+        Signer other = new Signer(OTHER_KEY, 137);
+
+        assertThrows(IllegalArgumentException.class,
+            () -> ClobClient.sharing("http://localhost:1", other, null, CREDS, null, null, remote));
+        // The daemon may hold the funder's key instead
+        ClobClient client = ClobClient.sharing("http://localhost:1", other, null, CREDS, 2, local.getAddress(), remote);
+        assertEquals(other.address(), client.getAddress());
+    }
+
+    private OrderData order() {
+        return OrderData.builder()
+            .maker(local.getAddress())
+            .signer(local.getAddress())
+            .taker("0x0000000000000000000000000000000000000000")
+            .tokenId(TOKEN)
+            .makerAmount("5000000")
+            .takerAmount("10000000")
+            .side(0)
+            .feeRateBps("0")
+            .nonce("0")
+            .expiration("0")
+            .signatureType(0)
+            .build();
+    }
+}
@@ -0,0 +1,112 @@
+package com.polymarket.clob.submission;
+
+import com.polymarket.clob.submission.CancelCoalescer.CancelResult;
+import com.polymarket.clob.types.PostOrdersArgs;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CancelCoalescerTest {
+    @Test
+    void ordersWaitForCancelsIssuedBeforeThem() throws Exception {
+        Queue<String> events = new ConcurrentLinkedQueue<>();
+        CountDownLatch cancelsStarted = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        Function<List<String>, Object> cancelOrders = ids -> {
+            events.add("cancel " + ids);
+            cancelsStarted.countDown();
+            await(release);
+            events.add("canceled " + ids);
+            return Map.of("canceled", ids);
+        };
+        try (CancelCoalescer cancels = new CancelCoalescer(cancelOrders,
+                new CancelCoalescerConfig(Duration.ofSeconds(10), 2, 4))) {
+            // A full batch goes out at once; the third cancel is still queued when the order is posted
+            cancels.cancel("0x1");
+            cancels.cancel("0x2");
+            CompletableFuture<CancelResult> queued = cancels.cancel("0x3");
+            Function<List<PostOrdersArgs>, Object> post = cancels.ahead(args -> {
+                events.add("post");
+                return List.of();
+            });
+
+            Thread poster = new Thread(() -> post.apply(List.of()));
+            poster.start();
+            assertTrue(cancelsStarted.await(5, TimeUnit.SECONDS));
+            poster.join(50);
+            assertTrue(poster.isAlive(), "the post must wait for the cancel responses");
+
+            release.countDown();
+            poster.join(5_000);
+
+            List<String> order = new ArrayList<>(events);
+            assertEquals(5, order.size(), order.toString());
+            assertEquals("post", order.get(4));
+            assertTrue(queued.get(5, TimeUnit.SECONDS).canceled());
+        }
+    }
+
+    @Test
+    void cancelRacingCloseEitherCompletesOrFails() throws Exception {
+        for (int round = 0; round < 200; round++) {
+            CancelCoalescer cancels = new CancelCoalescer(ids -> Map.of("canceled", ids),
+                new CancelCoalescerConfig(Duration.ofNanos(50_000), 3, 2));
+            Queue<CompletableFuture<CancelResult>> results = new ConcurrentLinkedQueue<>();
+            Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < 3; t++) {
+                int offset = t * 100;
+                Thread thread = new Thread(() -> {
+                    try {
+                        start.await();
+                        for (int i = 0; i < 20; i++) {
+                            results.add(cancels.cancel("0x" + (offset + i)));
+                        }
+                    } catch (Throwable e) {
+                        errors.add(e);
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+            start.countDown();
+            Thread.yield();
+            cancels.close();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            assertEquals(List.of(), List.copyOf(errors), "cancel must not throw when racing close");
+            for (CompletableFuture<CancelResult> result : results) {
+                try {
+                    assertTrue(result.get(5, TimeUnit.SECONDS).canceled());
+                } catch (ExecutionException e) {
+                    assertInstanceOf(IllegalStateException.class, e.getCause());
+                }
+            }
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.polymarket.clob.submission;
+
+import com.polymarket.clob.client.ClobClient;
+import com.polymarket.clob.types.ApiCreds;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Trigger-to-wire latency of {@link KillSwitch}: from {@link KillSwitch#trigger()}
+ * to the cancel-all request reaching a local server, against calling
+ * {@link ClobClient#cancelAll()} on the triggering thread.
+ * <p>
+ * Server and client share the JVM, so both ends read the same {@link System#nanoTime()}
+ * clock. Loopback hides network time; what remains is the client-side cost the
+ * kill switch removes: signing, serialization and connection handling.
+ * <p>
+ * Not part of the regular test run, which only picks up *Test classes; run it
+ * with {@code -Dtest=KillSwitchBenchmark}.
+ */
+class KillSwitchBenchmark {
+    // Well-known development key; never funded
+    private static final String PRIVATE_KEY = "0xac0974bec39a17e36ba4a6b4d238ff944bacb478cbed5efcc7ae784a9d6f2f80";
+    private static final ApiCreds CREDS = new ApiCreds(
+        "00000000-0000-0000-0000-000000000001", "c2VjcmV0LXNlY3JldC1zZWNyZXQ=", "passphrase"
+    );
+    private static final int WARMUP = 200;
+    private static final int FIRINGS = 1_000;
+    // Idle time between firings, so each one starts from a quiet watcher as in production
+    private static final long IDLE_NANOS = Duration.ofMillis(2).toNanos();
+
+    private HttpServer server;
+    private ClobClient client;
+    private volatile long arrivedAtNanos;
+
+    static {
+        // Without it the stand-in's responses wait on delayed ACKs, which stretches the run, not the measurement
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/time", exchange -> respond(exchange, "1757908892"));
+        server.createContext("/cancel-all", exchange -> {
+            arrivedAtNanos = System.nanoTime();
+            respond(exchange, "{\"canceled\":[],\"not_canceled\":{}}");
+        });
+        server.start();
+        client = new ClobClient("http://localhost:" + server.getAddress().getPort(), 137, PRIVATE_KEY, CREDS, null, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void triggerToWire() throws Exception {
+        System.out.printf("trigger to request arrival, %d firings, %.0f ms idle between%n", FIRINGS, IDLE_NANOS / 1e6);
+        System.out.printf("  %-28s %10s %10s %10s %10s%n", "", "p50", "p90", "p99", "max");
+
+        long[] direct = measure(() -> client.cancelAll());
+        print("client.cancelAll()", direct);
+
+        long[] parked;
+        try (KillSwitch killSwitch = new KillSwitch(client)) {
+            parked = measure(() -> fire(killSwitch));
+        }
+        print("kill switch, parked 20 us", parked);
+
+        long[] spinning;
+        KillSwitchConfig spin = new KillSwitchConfig(Duration.ofSeconds(1), Duration.ofSeconds(5), true, Duration.ofNanos(20_000));
+        try (KillSwitch killSwitch = new KillSwitch(client, spin)) {
+            spinning = measure(() -> fire(killSwitch));
+        }
+        print("kill switch, busy spin", spinning);
+
+        assertTrue(spinning[FIRINGS / 2] < direct[FIRINGS / 2], "a spinning kill switch should beat signing on the caller");
+    }
+
+    private static void fire(KillSwitch killSwitch) {
+        KillSwitch.Target target = killSwitch.cancelAllTarget();
+        target.rearm();
+        killSwitch.trigger();
+        target.result().join();
+    }
+
+    /**
+     * Sorted trigger-to-arrival latencies of {@link #FIRINGS} calls, after a warm-up
+     */
+    private long[] measure(Runnable trigger) {
+        long[] latencies = new long[FIRINGS];
+        for (int i = -WARMUP; i < FIRINGS; i++) {
+            LockSupport.parkNanos(IDLE_NANOS);
+            long start = System.nanoTime();
+            trigger.run();
+            if (i >= 0) {
+                latencies[i] = arrivedAtNanos - start;
+            }
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static void print(String name, long[] sorted) {
+        System.out.printf("  %-28s %7.1f us %7.1f us %7.1f us %7.1f us%n",
+            name,
+            sorted[sorted.length / 2] / 1e3,
+            sorted[(int) (sorted.length * 0.9)] / 1e3,
+            sorted[(int) (sorted.length * 0.99)] / 1e3,
+            sorted[sorted.length - 1] / 1e3);
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
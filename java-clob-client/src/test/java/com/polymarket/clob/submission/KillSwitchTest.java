@@ -0,0 +1,102 @@
+package com.polymarket.clob.submission;
+
+import com.polymarket.clob.client.ClobClient;
+import com.polymarket.clob.types.ApiCreds;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class KillSwitchTest {
+    // Well-known development key; never funded
+    private static final String PRIVATE_KEY = "0xac0974bec39a17e36ba4a6b4d238ff944bacb478cbed5efcc7ae784a9d6f2f80";
+    private static final ApiCreds CREDS = new ApiCreds(
+        "00000000-0000-0000-0000-000000000001", "c2VjcmV0LXNlY3JldC1zZWNyZXQ=", "passphrase"
+    );
+
+    private HttpServer server;
+    private KillSwitch killSwitch;
+    private final AtomicInteger cancels = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/time", exchange -> respond(exchange, "1757908892"));
+        server.createContext("/cancel-all", exchange -> {
+            int n = cancels.incrementAndGet();
+            respond(exchange, "{\"canceled\":[\"0x" + n + "\"],\"not_canceled\":{}}");
+        });
+        server.start();
+        ClobClient client = new ClobClient(
+            "http://localhost:" + server.getAddress().getPort(), 137, PRIVATE_KEY, CREDS, null, null
+        );
+        killSwitch = new KillSwitch(client);
+    }
+
+    @AfterEach
+    void tearDown() {
+        killSwitch.close();
+        server.stop(0);
+    }
+
+    @Test
+    void resultIsAvailableAsSoonAsTriggerReturns() throws Exception {
+        KillSwitch.Target target = killSwitch.cancelAllTarget();
+        assertNull(target.result());
+
+        killSwitch.trigger();
+        CompletableFuture<Object> result = target.result();
+        assertNotNull(result, "result() must not depend on the watcher having dispatched yet");
+
+        Map<?, ?> response = (Map<?, ?>) result.get(5, TimeUnit.SECONDS);
+        assertEquals(List.of("0x1"), response.get("canceled"));
+        assertEquals(1, killSwitch.stats().fired());
+    }
+
+    @Test
+    void rearmedTargetFiresWithFreshResult() throws Exception {
+        KillSwitch.Target target = killSwitch.cancelAllTarget();
+        killSwitch.trigger();
+        CompletableFuture<Object> first = target.result();
+        first.get(5, TimeUnit.SECONDS);
+
+        // Firing again without rearming is a no-op
+        killSwitch.trigger();
+        assertSame(first, target.result());
+
+        target.rearm();
+        assertSame(first, target.result(), "the last response stays available until the next firing");
+        killSwitch.trigger();
+        CompletableFuture<Object> second = target.result();
+        assertNotSame(first, second);
+        assertEquals(List.of("0x2"), ((Map<?, ?>) second.get(5, TimeUnit.SECONDS)).get("canceled"));
+        assertEquals(2, cancels.get());
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.polymarket.clob.submission;
+
+import com.polymarket.clob.types.OrderType;
+import com.polymarket.clob.types.PostOrdersArgs;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Latency and throughput of {@link OrderBatcher} at different linger settings,
+ * against a stand-in for /orders that takes a fixed round trip per request.
+ * <p>
+ * Strategy threads each submit an order and wait for its result before the next,
+ * as a quoting loop would. Direct posting, one request per order, is the baseline.
+ * <p>
+ * Not part of the regular test run, which only picks up *Test classes; run it
+ * with {@code -Dtest=OrderBatcherBenchmark}.
+ */
+class OrderBatcherBenchmark {
+    private static final long ROUND_TRIP_NANOS = Duration.ofMillis(3).toNanos();
+    private static final int ORDERS_PER_THREAD = 400;
+    private static final Duration[] LINGERS = {
+        Duration.ZERO, Duration.ofMillis(1), Duration.ofMillis(2), Duration.ofMillis(5)
+    };
+
+    @Test
+    void lingerTradeOffUnderContention() throws Exception {
+        int threads = 16;
+        System.out.printf("%d threads x %d orders, %.1f ms per /orders request%n",
+            threads, ORDERS_PER_THREAD, ROUND_TRIP_NANOS / 1e6);
+        printHeader();
+        Result direct = runDirect(threads);
+        direct.print("direct postOrder");
+        Result lingerZero = null;
+        Result lingerLongest = null;
+        for (Duration linger : LINGERS) {
+            Result result = runBatched(threads, linger);
+            result.print("linger " + linger.toMillis() + " ms");
+            if (lingerZero == null) {
+                lingerZero = result;
+            }
+            lingerLongest = result;
+        }
+
+        assertTrue(lingerZero.meanBatchSize > 1, "contended orders should share requests even without a linger");
+        assertTrue(lingerLongest.requests < direct.requests / 4, "a long linger should cut requests well below one per order");
+    }
+
+    @Test
+    void lingerCostForLoneSubmitter() throws Exception {
+        System.out.printf("1 thread x %d orders, %.1f ms per /orders request%n", ORDERS_PER_THREAD, ROUND_TRIP_NANOS / 1e6);
+        printHeader();
+        runDirect(1).print("direct postOrder");
+        Result lingerZero = null;
+        Result lingerLongest = null;
+        for (Duration linger : LINGERS) {
+            Result result = runBatched(1, linger);
+            result.print("linger " + linger.toMillis() + " ms");
+            if (lingerZero == null) {
+                lingerZero = result;
+            }
+            lingerLongest = result;
+        }
+
+        // Nobody else submits, so every order waits out the whole linger alone
+        assertEquals(1.0, lingerLongest.meanBatchSize, 0.01);
+        assertTrue(lingerLongest.p50Nanos - lingerZero.p50Nanos >= Duration.ofMillis(4).toNanos(),
+            "a lone order should pay the linger in full");
+    }
+
+    private static Result runDirect(int threads) throws InterruptedException {
+        Result result = null;
+        // The first pass warms up and is discarded
+        for (int pass = 0; pass < 2; pass++) {
+            LongAdder requests = new LongAdder();
+            long[][] latencies = run(threads, () -> {
+                long start = System.nanoTime();
+                post(List.of(new PostOrdersArgs(Map.of(), OrderType.GTC)), requests);
+                return System.nanoTime() - start;
+            });
+            result = Result.of(latencies, requests.sum(), 1.0);
+        }
+        return result;
+    }
+
+    private static Result runBatched(int threads, Duration linger) throws InterruptedException {
+        Result result = null;
+        OrderBatcherConfig config = new OrderBatcherConfig(linger, OrderBatcherConfig.SERVER_BATCH_LIMIT, 4);
+        for (int pass = 0; pass < 2; pass++) {
+            LongAdder requests = new LongAdder();
+            try (OrderBatcher batcher = new OrderBatcher(batch -> post(batch, requests), config)) {
+                long[][] latencies = run(threads, () -> {
+                    long start = System.nanoTime();
+                    batcher.submit(Map.of(), OrderType.GTC).join();
+                    return System.nanoTime() - start;
+                });
+                result = Result.of(latencies, requests.sum(), batcher.stats().meanBatchSize());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Runs {@code order} {@link #ORDERS_PER_THREAD} times on each thread, returning
+     * each thread's latencies and the wall time in the last slot
+     */
+    private static long[][] run(int threads, LatencyProbe order) throws InterruptedException {
+        long[][] latencies = new long[threads + 1][ORDERS_PER_THREAD];
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            long[] mine = latencies[t];
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < ORDERS_PER_THREAD; i++) {
+                    mine[i] = order.measure();
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        long began = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        latencies[threads] = new long[] {System.nanoTime() - began};
+        return latencies;
+    }
+
+    // Stands in for /orders: one round trip per request, one result per order
+    private static Object post(List<PostOrdersArgs> batch, LongAdder requests) {
+        requests.increment();
+        LockSupport.parkNanos(ROUND_TRIP_NANOS);
+        List<Object> results = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            results.add(Map.of("success", true, "orderID", "0x" + i));
+        }
+        return results;
+    }
+
+    private static void printHeader() {
+        System.out.printf("  %-18s %10s %10s %10s %10s %12s%n",
+            "", "requests", "batch", "p50", "p99", "orders/s");
+    }
+
+    @FunctionalInterface
+    private interface LatencyProbe {
+        long measure();
+    }
+
+    private record Result(long requests, double meanBatchSize, long p50Nanos, long p99Nanos, double ordersPerSecond) {
+        static Result of(long[][] latencies, long requests, double meanBatchSize) {
+            int threads = latencies.length - 1;
+            long[] all = new long[threads * ORDERS_PER_THREAD];
+            for (int t = 0; t < threads; t++) {
+                System.arraycopy(latencies[t], 0, all, t * ORDERS_PER_THREAD, ORDERS_PER_THREAD);
+            }
+            Arrays.sort(all);
+            long wall = latencies[threads][0];
+            return new Result(
+                requests,
+                meanBatchSize,
+                all[all.length / 2],
+                all[(int) (all.length * 0.99)],
+                all.length / (wall / 1e9)
+            );
+        }
+
+        void print(String name) {
+            System.out.printf("  %-18s %10d %10.1f %7.2f ms %7.2f ms %12.0f%n",
+                name, requests, meanBatchSize, p50Nanos / 1e6, p99Nanos / 1e6, ordersPerSecond);
+        }
+    }
+}
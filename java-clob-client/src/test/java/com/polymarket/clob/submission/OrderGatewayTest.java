@@ -0,0 +1,109 @@
+package com.polymarket.clob.submission;
+
+import com.polymarket.clob.client.ClobClient;
+import com.polymarket.clob.exceptions.PolyApiException;
+import com.polymarket.clob.types.ApiCreds;
+import com.polymarket.clob.types.OrderType;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrderGatewayTest {
+    private static final String ORDER_ID = "0x38a73eed1e6d177545e9ab027abddfb7e08dbe975fa777123b1752d203d6ac88";
+    // Well-known development key; never funded
+    private static final String PRIVATE_KEY = "0xac0974bec39a17e36ba4a6b4d238ff944bacb478cbed5efcc7ae784a9d6f2f80";
+    private static final ApiCreds CREDS = new ApiCreds(
+        "00000000-0000-0000-0000-000000000001", "c2VjcmV0LXNlY3JldC1zZWNyZXQ=", "passphrase"
+    );
+
+    private HttpServer server;
+    private OrderGateway gateway;
+    private volatile String cancelResponse;
+    private final AtomicInteger posts = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/order", exchange -> {
+            if ("DELETE".equals(exchange.getRequestMethod())) {
+                respond(exchange, cancelResponse);
+            } else {
+                posts.incrementAndGet();
+                respond(exchange, "{\"success\":true,\"orderID\":\"0xreplacement\",\"status\":\"live\"}");
+            }
+        });
+        server.start();
+        ClobClient client = new ClobClient(
+            "http://localhost:" + server.getAddress().getPort(), 137, PRIVATE_KEY, CREDS, null, null
+        );
+        gateway = new OrderGateway(client);
+    }
+
+    @AfterEach
+    void tearDown() {
+        gateway.close();
+        server.stop(0);
+    }
+
+    @Test
+    void replacePostsOnceOrderIsCanceled() throws Exception {
+        cancelResponse = "{\"canceled\":[\"" + ORDER_ID + "\"],\"not_canceled\":{}}";
+
+        Object response = gateway.replace(ORDER_ID, Map.of(), OrderType.GTC).get(5, TimeUnit.SECONDS);
+
+        assertEquals("0xreplacement", ((Map<?, ?>) response).get("orderID"));
+        assertEquals(1, posts.get());
+    }
+
+    @Test
+    void replaceDoesNotPostWhenOrderWasNotCanceled() {
+        cancelResponse = "{\"canceled\":[],\"not_canceled\":{\"" + ORDER_ID
+            + "\":\"order can't be canceled because it's already matched\"}}";
+
+        CompletableFuture<Object> replaced = gateway.replace(ORDER_ID, Map.of(), OrderType.GTC);
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> replaced.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(PolyApiException.class, e.getCause());
+        assertTrue(e.getCause().getMessage().contains("already matched"), e.getCause().getMessage());
+        assertEquals(0, posts.get());
+        assertEquals(1, gateway.stats().classes().get(OrderGateway.Priority.REPLACE).failed());
+    }
+
+    @Test
+    void replaceDoesNotPostWhenCancelResponseOmitsOrder() {
+        cancelResponse = "{\"canceled\":[\"0xsomeoneelse\"]}";
+
+        CompletableFuture<Object> replaced = gateway.replace(ORDER_ID, Map.of(), OrderType.GTC);
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> replaced.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(PolyApiException.class, e.getCause());
+        assertEquals(0, posts.get());
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
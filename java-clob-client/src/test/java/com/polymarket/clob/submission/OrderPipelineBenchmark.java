@@ -0,0 +1,194 @@
+package com.polymarket.clob.submission;
+
+import com.polymarket.clob.client.ClobClient;
+import com.polymarket.clob.client.MarketHandle;
+import com.polymarket.clob.types.ApiCreds;
+import com.polymarket.clob.types.OrderType;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Throughput and latency of {@link OrderPipeline} against building, signing and
+ * posting each order on the submitting thread, with a local stand-in for /order.
+ * <p>
+ * Each submitter thread sends a burst of orders. Directly, every order is built,
+ * signed and posted before the next; through the pipeline, the thread submits the
+ * whole burst and then waits for it, so signing overlaps the round trips. Latency
+ * runs from the start of the burst to each order's response, which is what a
+ * strategy placing a ladder of quotes sees.
+ * <p>
+ * Not part of the regular test run, which only picks up *Test classes; run it
+ * with {@code -Dtest=OrderPipelineBenchmark}.
+ */
+class OrderPipelineBenchmark {
+    private static final String TOKEN = "71321045679252212594626385532706912750332728571942532289631379312455583992563";
+    // Well-known development key; never funded
+    private static final String PRIVATE_KEY = "0xac0974bec39a17e36ba4a6b4d238ff944bacb478cbed5efcc7ae784a9d6f2f80";
+    private static final ApiCreds CREDS = new ApiCreds(
+        "00000000-0000-0000-0000-000000000001", "c2VjcmV0LXNlY3JldC1zZWNyZXQ=", "passphrase"
+    );
+    private static final int THREADS = 4;
+    private static final int BURSTS = 20;
+    private static final int BURST_SIZE = 20;
+    private static final int[] SIGNER_THREADS = {1, 2, 4};
+
+    private HttpServer server;
+    private ClobClient client;
+    private final LongAdder posts = new LongAdder();
+
+    static {
+        // Without it the stand-in's responses wait on delayed ACKs, which stretches the run, not the measurement
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/tick-size", exchange -> respond(exchange, "{\"minimum_tick_size\":0.01}"));
+        server.createContext("/neg-risk", exchange -> respond(exchange, "{\"neg_risk\":false}"));
+        server.createContext("/fee-rate", exchange -> respond(exchange, "{\"base_fee\":0}"));
+        server.createContext("/order", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            posts.increment();
+            respond(exchange, "{\"success\":true,\"orderID\":\"0x1\",\"status\":\"live\"}");
+        });
+        server.start();
+        client = new ClobClient("http://localhost:" + server.getAddress().getPort(), 137, PRIVATE_KEY, CREDS, null, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void pipelineAgainstCallerThread() throws Exception {
+        System.out.printf("%d threads x %d bursts of %d orders, %d cores%n",
+            THREADS, BURSTS, BURST_SIZE, Runtime.getRuntime().availableProcessors());
+        System.out.printf("  %-22s %12s %10s %10s %14s%n", "", "orders/s", "p50", "p99", "sign stage us");
+
+        MarketHandle handle = client.getMarketHandle(TOKEN);
+        Result direct = null;
+        // The first pass warms up and is discarded
+        for (int pass = 0; pass < 2; pass++) {
+            direct = run(() -> {
+                long start = System.nanoTime();
+                long[] latencies = new long[BURST_SIZE];
+                for (int i = 0; i < BURST_SIZE; i++) {
+                    client.postOrder(handle.createOrder(0.5, 10, "BUY"), OrderType.GTC);
+                    latencies[i] = System.nanoTime() - start;
+                }
+                return latencies;
+            });
+        }
+        direct.print("caller thread", "-");
+        handle.close();
+
+        long expected = 2L * THREADS * BURSTS * BURST_SIZE;
+        for (int signers : SIGNER_THREADS) {
+            OrderPipelineConfig config = new OrderPipelineConfig(1024, signers, false, Duration.ofNanos(50_000));
+            try (OrderPipeline pipeline = new OrderPipeline(client, config)) {
+                Result result = null;
+                for (int pass = 0; pass < 2; pass++) {
+                    result = run(() -> {
+                        long start = System.nanoTime();
+                        List<CompletableFuture<Object>> burst = new ArrayList<>(BURST_SIZE);
+                        for (int i = 0; i < BURST_SIZE; i++) {
+                            burst.add(pipeline.submit(TOKEN, 0.5, 10, "BUY", OrderType.GTC));
+                        }
+                        long[] latencies = new long[BURST_SIZE];
+                        for (int i = 0; i < BURST_SIZE; i++) {
+                            burst.get(i).join();
+                            latencies[i] = System.nanoTime() - start;
+                        }
+                        return latencies;
+                    });
+                }
+                OrderPipeline.Stats stats = pipeline.stats();
+                result.print(signers + (signers == 1 ? " signer" : " signers"),
+                    String.format("%.1f", stats.sign().meanNanos() / 1e3));
+
+                assertEquals(0, stats.failed());
+                assertEquals(expected, stats.response().processed());
+            }
+        }
+        assertEquals(expected * (1 + SIGNER_THREADS.length), posts.sum());
+    }
+
+    /**
+     * Runs {@link #BURSTS} bursts on each of {@link #THREADS} threads
+     */
+    private static Result run(Burst burst) throws InterruptedException {
+        long[][] latencies = new long[THREADS][BURSTS * BURST_SIZE];
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            long[] mine = latencies[t];
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int b = 0; b < BURSTS; b++) {
+                    System.arraycopy(burst.run(), 0, mine, b * BURST_SIZE, BURST_SIZE);
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        long began = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long wall = System.nanoTime() - began;
+
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Result(all.length / (wall / 1e9), all[all.length / 2], all[(int) (all.length * 0.99)]);
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Sends one burst and returns each order's latency from the start of the burst
+     */
+    @FunctionalInterface
+    private interface Burst {
+        long[] run();
+    }
+
+    private record Result(double ordersPerSecond, long p50Nanos, long p99Nanos) {
+        void print(String name, String signMicros) {
+            System.out.printf("  %-22s %12.0f %7.2f ms %7.2f ms %14s%n",
+                name, ordersPerSecond, p50Nanos / 1e6, p99Nanos / 1e6, signMicros);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.polymarket.clob.submission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.polymarket.clob.client.ClobClient;
+import com.polymarket.clob.signer.Signer;
+import com.polymarket.clob.types.ApiCreds;
+import com.polymarket.clob.types.OrderType;
+import com.polymarket.orderutils.HashSigner;
+import com.polymarket.orderutils.UtilsSigner;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrderPipelineTest {
+    private static final String TOKEN = "71321045679252212594626385532706912750332728571942532289631379312455583992563";
+    // Well-known development key; never funded
+    private static final String PRIVATE_KEY = "0xac0974bec39a17e36ba4a6b4d238ff944bacb478cbed5efcc7ae784a9d6f2f80";
+    private static final ApiCreds CREDS = new ApiCreds(
+        "00000000-0000-0000-0000-000000000001", "c2VjcmV0LXNlY3JldC1zZWNyZXQ=", "passphrase"
+    );
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private HttpServer server;
+    private OrderPipeline pipeline;
+    private final TestSigner hashSigner = new TestSigner();
+    private volatile CountDownLatch postHold = new CountDownLatch(0);
+    private final CountDownLatch posted = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/tick-size", exchange -> respond(exchange, "{\"minimum_tick_size\":0.01}"));
+        server.createContext("/neg-risk", exchange -> respond(exchange, "{\"neg_risk\":false}"));
+        server.createContext("/fee-rate", exchange -> respond(exchange, "{\"base_fee\":0}"));
+        // Echoes the order's taker amount as its ID, so each response can be matched to its order
+        server.createContext("/order", exchange -> {
+            Map<?, ?> body = objectMapper.readValue(exchange.getRequestBody(), Map.class);
+            posted.countDown();
+            try {
+                postHold.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            Object takerAmount = ((Map<?, ?>) body.get("order")).get("takerAmount");
+            respond(exchange, "{\"success\":true,\"orderID\":\"" + takerAmount + "\",\"status\":\"live\"}");
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        hashSigner.release();
+        postHold.countDown();
+        if (pipeline != null) {
+            pipeline.close();
+        }
+        server.stop(0);
+    }
+
+    @Test
+    void ordersCompleteWithTheirOwnResponsesAcrossRingWraps() throws Exception {
+        pipeline = pipeline(4, 3);
+        List<CompletableFuture<Object>> results = new ArrayList<>();
+        // Ten passes around a four-slot ring; submit waits for free slots
+        for (int i = 0; i < 40; i++) {
+            results.add(pipeline.submit(TOKEN, 0.5, i + 1, "BUY", OrderType.GTC));
+        }
+
+        for (int i = 0; i < results.size(); i++) {
+            Map<?, ?> response = (Map<?, ?>) results.get(i).get(5, TimeUnit.SECONDS);
+            assertEquals(String.valueOf((i + 1) * 1_000_000L), response.get("orderID"), "order " + i);
+        }
+        OrderPipeline.Stats stats = pipeline.stats();
+        assertEquals(40, stats.submitted());
+        assertEquals(0, stats.failed());
+        assertEquals(40, stats.transmit().processed());
+        assertEquals(4, pipeline.remainingCapacity());
+    }
+
+    @Test
+    void buildErrorsFailTheirOrdersInSubmissionOrder() throws Exception {
+        pipeline = pipeline(4, 2);
+        List<Integer> failedInOrder = new ArrayList<>();
+        List<CompletableFuture<Object>> results = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            int index = i;
+            // Every third order is priced outside (0, 1) and fails to build
+            double price = i % 3 == 0 ? 1.5 : 0.5;
+            CompletableFuture<Object> result = pipeline.submit(TOKEN, price, i + 1, "BUY", OrderType.GTC);
+            result.whenComplete((r, e) -> {
+                if (e != null) {
+                    synchronized (failedInOrder) {
+                        failedInOrder.add(index);
+                    }
+                }
+            });
+            results.add(result);
+        }
+
+        for (int i = 0; i < results.size(); i++) {
+            if (i % 3 == 0) {
+                ExecutionException e = assertThrows(ExecutionException.class, results.get(i)::get);
+                assertInstanceOf(IllegalArgumentException.class, e.getCause());
+            } else {
+                Map<?, ?> response = (Map<?, ?>) results.get(i).get(5, TimeUnit.SECONDS);
+                assertEquals(String.valueOf((i + 1) * 1_000_000L), response.get("orderID"));
+            }
+        }
+        synchronized (failedInOrder) {
+            assertEquals(List.of(0, 3, 6, 9, 12, 15, 18), failedInOrder);
+        }
+        assertEquals(7, pipeline.stats().failed());
+    }
+
+    @Test
+    void signErrorFailsOnlyTheOrdersItHits() throws Exception {
+        pipeline = pipeline(8, 2);
+        assertTrue(pipeline.submit(TOKEN, 0.5, 1, "BUY", OrderType.GTC).get(5, TimeUnit.SECONDS) instanceof Map);
+
+        hashSigner.failing = true;
+        List<CompletableFuture<Object>> failing = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            failing.add(pipeline.submit(TOKEN, 0.5, 2 + i, "BUY", OrderType.GTC));
+        }
+        for (CompletableFuture<Object> result : failing) {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertEquals("signer unavailable", e.getCause().getMessage());
+        }
+
+        hashSigner.failing = false;
+        Map<?, ?> response = (Map<?, ?>) pipeline.submit(TOKEN, 0.5, 9, "BUY", OrderType.GTC).get(5, TimeUnit.SECONDS);
+        assertEquals("9000000", response.get("orderID"));
+        assertEquals(4, pipeline.stats().failed());
+    }
+
+    @Test
+    void closeFailsOrdersNotYetSentAndLetsSentOnesComplete() throws Exception {
+        pipeline = pipeline(4, 1);
+        postHold = new CountDownLatch(1);
+        CompletableFuture<Object> sent = pipeline.submit(TOKEN, 0.5, 1, "BUY", OrderType.GTC);
+        assertTrue(posted.await(5, TimeUnit.SECONDS));
+
+        // The next orders stop in the sign stage, holding their slots
+        hashSigner.hold();
+        CompletableFuture<Object> first = pipeline.submit(TOKEN, 0.5, 2, "BUY", OrderType.GTC);
+        CompletableFuture<Object> second = pipeline.submit(TOKEN, 0.5, 3, "BUY", OrderType.GTC);
+        assertTrue(hashSigner.awaitHeld());
+
+        Thread closer = new Thread(pipeline::close);
+        closer.start();
+        closer.join(50);
+        hashSigner.release();
+        closer.join(5_000);
+        assertFalse(closer.isAlive(), "close must return once the stages stop");
+
+        for (CompletableFuture<Object> result : List.of(first, second)) {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(RejectedExecutionException.class, e.getCause());
+        }
+        ExecutionException late = assertThrows(ExecutionException.class,
+            () -> pipeline.submit(TOKEN, 0.5, 4, "BUY", OrderType.GTC).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, late.getCause());
+
+        postHold.countDown();
+        assertEquals("1000000", ((Map<?, ?>) sent.get(5, TimeUnit.SECONDS)).get("orderID"),
+            "an order already sent completes after close");
+    }
+
+    private OrderPipeline pipeline(int ringSize, int signerThreads) {
+        ClobClient client = ClobClient.sharing(
+            "http://localhost:" + server.getAddress().getPort(), new Signer(PRIVATE_KEY, 137),
+            null, CREDS, null, null, hashSigner
+        );
+        return new OrderPipeline(client, new OrderPipelineConfig(ringSize, signerThreads, false, Duration.ofNanos(50_000)));
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Signs with the development key, or fails or blocks on demand
+     */
+    private static final class TestSigner implements HashSigner {
+        private final UtilsSigner delegate = new UtilsSigner(PRIVATE_KEY);
+        volatile boolean failing;
+        private volatile CountDownLatch hold = new CountDownLatch(0);
+        private final CountDownLatch held = new CountDownLatch(1);
+
+        void hold() {
+            hold = new CountDownLatch(1);
+        }
+
+        boolean awaitHeld() throws InterruptedException {
+            return held.await(5, TimeUnit.SECONDS);
+        }
+
+        void release() {
+            hold.countDown();
+        }
+
+        @Override
+        public String sign(String structHash) {
+            if (failing) {
+                throw new IllegalStateException("signer unavailable");
+            }
+            if (hold.getCount() > 0) {
+                held.countDown();
+                try {
+                    hold.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return delegate.sign(structHash);
+        }
+
+        @Override
+        public String getAddress() {
+            return delegate.getAddress();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.polymarket.clob.trades;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TradeStoreTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void partialSyncDoesNotAdvanceHighWaterMark() {
+        // /data/trades pages newest first: a sync that fails after its first page
+        // has stored the newest trades only
+        try (TradeStore store = new TradeStore(directory)) {
+            store.append(trades(1_000, 500));
+            assertEquals(1_499, store.newestMatchTime());
+            assertEquals(0, store.highWaterMark());
+        }
+        try (TradeStore store = new TradeStore(directory)) {
+            assertEquals(500, store.size());
+            assertEquals(0, store.highWaterMark(), "the retry must start from the old mark");
+
+            assertEquals(0, store.append(trades(1_000, 500)), "already stored trades are skipped");
+            assertEquals(1_000, store.append(trades(0, 1_000)));
+            store.commitHighWaterMark(store.newestMatchTime());
+            assertEquals(1_499, store.highWaterMark());
+        }
+        try (TradeStore store = new TradeStore(directory)) {
+            assertEquals(1_500, store.size());
+            assertEquals(1_499, store.highWaterMark());
+            assertEquals(1_500, store.query(null, 0, Long.MAX_VALUE).size());
+        }
+    }
+
+    @Test
+    void highWaterMarkNeverMovesBack() {
+        try (TradeStore store = new TradeStore(directory)) {
+            store.commitHighWaterMark(2_000);
+            store.commitHighWaterMark(1_000);
+            assertEquals(2_000, store.highWaterMark());
+        }
+    }
+
+    @Test
+    void failedColumnWriteRollsBackTheAppend() {
+        try (FailingStore store = new FailingStore(directory)) {
+            store.append(trades(0, 10));
+
+            // Half the columns of the next batch reach disk before the failure
+            store.failAfter = 4;
+            List<StoredTrade> batch = trades(10, 10, "0xnew-market");
+            assertThrows(UncheckedIOException.class, () -> store.append(batch));
+
+            assertEquals(10, store.size());
+            assertEquals(9, store.newestMatchTime());
+            assertFalse(store.contains("trade-10"), "an ID whose row was rolled back must not count as stored");
+            assertEquals(List.of(), store.query("0xnew-market", 0, Long.MAX_VALUE));
+
+            store.failAfter = -1;
+            assertEquals(10, store.append(batch), "the failed batch is appended in full on retry");
+            assertEquals(20, store.size());
+            assertEquals(19, store.newestMatchTime());
+        }
+        try (TradeStore store = new TradeStore(directory)) {
+            assertEquals(20, store.size());
+            List<StoredTrade> stored = store.query(null, 0, Long.MAX_VALUE);
+            assertEquals(20, stored.size());
+            assertTrue(store.contains("trade-10"));
+            assertEquals(10, store.query("0xnew-market", 0, Long.MAX_VALUE).size());
+            assertEquals("Yes", stored.get(19).outcome());
+        }
+    }
+
+    /**
+     * Fails the column write after {@code failAfter} successful ones
+     */
+    private static final class FailingStore extends TradeStore {
+        int failAfter = -1;
+        private int written;
+
+        FailingStore(Path directory) {
+            super(directory);
+        }
+
+        @Override
+        void writeColumn(Column column) throws IOException {
+            if (failAfter >= 0 && written++ == failAfter) {
+                written = 0;
+                throw new IOException("disk full");
+            }
+            super.writeColumn(column);
+        }
+    }
+
+    private static List<StoredTrade> trades(int from, int count) {
+        return trades(from, count, "0x5f65177b394277fd294cd75650044e32ba009a95022d88a0c1d565897d72f8f1");
+    }
+
+    private static List<StoredTrade> trades(int from, int count, String market) {
+        List<StoredTrade> trades = new ArrayList<>(count);
+        for (int i = from; i < from + count; i++) {
+            trades.add(new StoredTrade(
+                "trade-" + i,
+                market,
+                "71321045679252212594626385532706912750332728571942532289631379312455583992563",
+                i % 2 == 0 ? "BUY" : "SELL",
+                "Yes",
+                "0.51",
+                "10",
+                i
+            ));
+        }
+        return trades;
+    }
+}
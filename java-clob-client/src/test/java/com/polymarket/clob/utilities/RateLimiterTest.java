@@ -0,0 +1,93 @@
+package com.polymarket.clob.utilities;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimiterTest {
+    // 10 per second: one permit every 100 ms
+    private static final long INTERVAL_MILLIS = 100;
+
+    @Test
+    void burstIsAvailableAtOnceAndThenRefused() {
+        RateLimiter limiter = new RateLimiter(10, 3);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire(), "the fourth permit is due one interval after the third");
+
+        RateLimiter.Stats stats = limiter.stats();
+        assertEquals(3, stats.acquired());
+        assertEquals(1, stats.throttled());
+        assertEquals(0, stats.waitNanos(), "a refused permit is not reserved and costs no wait");
+    }
+
+    @Test
+    void acquireBeyondBurstWaitsForItsSlot() {
+        RateLimiter limiter = new RateLimiter(10, 3);
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire();
+        }
+
+        // The next permit is due at start + 3 intervals, less the tolerance of 2: one interval away
+        long start = System.nanoTime();
+        limiter.acquire();
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(waitedMillis >= INTERVAL_MILLIS - 10, "waited " + waitedMillis + " ms");
+        assertTrue(waitedMillis < 3 * INTERVAL_MILLIS, "waited " + waitedMillis + " ms");
+        RateLimiter.Stats stats = limiter.stats();
+        assertEquals(4, stats.acquired());
+        assertEquals(1, stats.throttled());
+        assertTrue(stats.waitNanos() > TimeUnit.MILLISECONDS.toNanos(INTERVAL_MILLIS - 10));
+    }
+
+    @Test
+    void waitingCallersReserveConsecutiveSlots() {
+        RateLimiter limiter = new RateLimiter(10, 1);
+
+        long start = System.nanoTime();
+        limiter.acquire();
+        limiter.acquire();
+        limiter.acquire();
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Without tolerance the first permit is free and each later one waits a full interval
+        assertTrue(waitedMillis >= 2 * INTERVAL_MILLIS - 10, "waited " + waitedMillis + " ms");
+        assertEquals(2, limiter.stats().throttled());
+    }
+
+    @Test
+    void idleTimeDoesNotBankMoreThanTheBurst() throws InterruptedException {
+        RateLimiter limiter = new RateLimiter(10, 2);
+        Thread.sleep(5 * INTERVAL_MILLIS);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire(), "five idle intervals still allow a burst of two");
+    }
+
+    @Test
+    void permitsReturnAsTimePasses() throws InterruptedException {
+        RateLimiter limiter = new RateLimiter(10, 1);
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+
+        Thread.sleep(INTERVAL_MILLIS + 10);
+
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    void rejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new RateLimiter(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new RateLimiter(Double.NaN, 1));
+        assertThrows(IllegalArgumentException.class, () -> new RateLimiter(10, 0));
+    }
+}
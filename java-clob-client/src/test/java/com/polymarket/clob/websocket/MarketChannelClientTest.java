@@ -0,0 +1,275 @@
+package com.polymarket.clob.websocket;
+
+import com.polymarket.clob.client.ClobClient;
+import com.polymarket.clob.orderbook.LocalOrderBook;
+import com.polymarket.clob.types.LastTrade;
+import com.polymarket.clob.types.OrderBookSummary;
+import com.polymarket.clob.utilities.Utilities;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MarketChannelClientTest {
+    private static final String ASSET = "71321045679252212594626385532706912750332728571942532289631379312455583992563";
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private ReplayServer server;
+    private HttpServer rest;
+    private MarketChannelClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new ReplayServer();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (client != null) {
+            client.close();
+        }
+        if (rest != null) {
+            rest.stop(0);
+        }
+        server.close();
+    }
+
+    @Test
+    void buildsBookFromSnapshotAndDeltas() throws Exception {
+        client = new MarketChannelClient(server.uri(), null);
+        List<OrderBookSummary> books = new CopyOnWriteArrayList<>();
+        List<LastTrade> trades = new CopyOnWriteArrayList<>();
+        List<String> tickSizes = new CopyOnWriteArrayList<>();
+        client.addListener(books::add);
+        client.addTradeListener(trades::add);
+        client.addTickSizeListener((assetId, oldTickSize, newTickSize) -> tickSizes.add(oldTickSize + "->" + newTickSize));
+        client.subscribe(List.of(ASSET));
+        client.connect();
+
+        server.awaitConnection(TIMEOUT);
+        String subscription = server.awaitReceived(TIMEOUT);
+        assertTrue(subscription.contains(ASSET), subscription);
+        assertTrue(subscription.contains("\"type\":\"market\""), subscription);
+
+        server.replay("websocket/market-book-and-deltas.jsonl");
+        await(() -> tickSizes.size() == 1);
+
+        LocalOrderBook book = client.book(ASSET);
+        assertEquals(new BigDecimal("0.49"), book.bestBid());
+        assertEquals(new BigDecimal("0.52"), book.bestAsk());
+        assertEquals(3, book.bidDepth());
+        assertEquals(1, book.askDepth());
+        assertEquals(3, books.size());
+        assertEquals(1, trades.size());
+        assertEquals("0.51", trades.get(0).price());
+        assertEquals("0.01->0.001", tickSizes.get(0));
+
+        MarketChannelClient.Stats stats = client.stats();
+        assertEquals(1, stats.snapshots());
+        assertEquals(2, stats.deltas());
+        assertEquals(0, stats.hashMismatches());
+    }
+
+    @Test
+    void throwingListenersDoNotStopDelivery() throws Exception {
+        client = new MarketChannelClient(server.uri(), null);
+        client.addListener(book -> {
+            throw new IllegalStateException("listener bug");
+        });
+        client.addTradeListener(trade -> {
+            throw new IllegalStateException("listener bug");
+        });
+        client.addTickSizeListener((assetId, oldTickSize, newTickSize) -> {
+            throw new IllegalStateException("listener bug");
+        });
+        List<OrderBookSummary> books = new CopyOnWriteArrayList<>();
+        List<LastTrade> trades = new CopyOnWriteArrayList<>();
+        List<String> tickSizes = new CopyOnWriteArrayList<>();
+        client.addListener(books::add);
+        client.addTradeListener(trades::add);
+        client.addTickSizeListener((assetId, oldTickSize, newTickSize) -> tickSizes.add(newTickSize));
+        client.subscribe(List.of(ASSET));
+        client.connect();
+        server.awaitConnection(TIMEOUT);
+        server.awaitReceived(TIMEOUT);
+
+        server.replay("websocket/market-book-and-deltas.jsonl");
+        await(() -> tickSizes.size() == 1);
+
+        assertEquals(3, books.size());
+        assertEquals(1, trades.size());
+        assertEquals(new BigDecimal("0.49"), client.book(ASSET).bestBid());
+    }
+
+    @Test
+    void tickSizeChangeRecalibratesInsteadOfResyncing() throws Exception {
+        client = new MarketChannelClient(server.uri(), null);
+        client.subscribe(List.of(ASSET));
+        client.connect();
+        server.awaitConnection(TIMEOUT);
+        server.awaitReceived(TIMEOUT);
+        server.replay("websocket/market-book-and-deltas.jsonl");
+        await(() -> "0.001".equals(client.book(ASSET).toSummary().tickSize()));
+
+        // The server's next hash covers the levels it hashed before, not the new tick size
+        LocalOrderBook expected = new LocalOrderBook(ASSET);
+        OrderBookSummary current = client.book(ASSET).toSummary();
+        expected.applySnapshot(new OrderBookSummary(current.market(), ASSET, current.timestamp(),
+            current.bids(), current.asks(), null, null, null, null));
+        expected.applyChange("BUY", "0.50", "25", "1757908893000", null);
+        String serverHash = Utilities.generateOrderbookSummaryHash(expected.toSummary());
+        server.send("{\"event_type\":\"price_change\",\"market\":\"" + current.market() + "\","
+            + "\"timestamp\":\"1757908893000\",\"price_changes\":[{\"asset_id\":\"" + ASSET + "\","
+            + "\"price\":\"0.50\",\"size\":\"25\",\"side\":\"BUY\",\"hash\":\"" + serverHash + "\"}]}");
+        barrier();
+
+        assertEquals(0, client.stats().hashMismatches());
+        assertEquals(0, client.stats().resyncs());
+        assertEquals(new BigDecimal("0.50"), client.book(ASSET).bestBid());
+        assertEquals(1, client.stats().connects(), "a tick size change must not force a reconnect");
+    }
+
+    @Test
+    void resyncReplaysDeltasNewerThanRestSnapshot() throws Exception {
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch fetched = new CountDownLatch(1);
+        byte[] restBook = String.join("\n", ReplayServer.fixture("websocket/market-resync-book.json"))
+            .getBytes(StandardCharsets.UTF_8);
+        rest = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        rest.createContext("/book", exchange -> {
+            fetchStarted.countDown();
+            try {
+                release.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, restBook.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(restBook);
+            }
+            fetched.countDown();
+        });
+        rest.start();
+
+        client = new MarketChannelClient(
+            server.uri(), new ClobClient("http://localhost:" + rest.getAddress().getPort())
+        );
+        client.subscribe(List.of(ASSET));
+        client.connect();
+        server.awaitConnection(TIMEOUT);
+        server.awaitReceived(TIMEOUT);
+
+        // Snapshot, then a delta whose hash does not match the local book
+        server.replay("websocket/market-resync-mismatch.jsonl");
+        assertTrue(fetchStarted.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+        assertEquals(1, client.stats().hashMismatches());
+        assertNull(client.book(ASSET));
+
+        // Deltas arriving while the REST fetch is outstanding: one older than the
+        // REST snapshot, which already contains it, and one newer
+        server.replay("websocket/market-resync-during-fetch.jsonl");
+        barrier();
+
+        release.countDown();
+        assertTrue(fetched.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+        // Installed as soon as the fetch completes, with no further message on the channel
+        await(() -> client.book(ASSET) != null);
+
+        LocalOrderBook book = client.book(ASSET);
+        assertEquals(new BigDecimal("0.50"), book.bestBid());
+        assertEquals(new BigDecimal("0.51"), book.bestAsk());
+        assertEquals(2, book.askDepth(), "delta older than the snapshot must not be replayed");
+        assertEquals("b27dfed6361754b82bf11d6026a65cf12dc89bd3", book.hash());
+        assertEquals(1, client.stats().hashMismatches());
+
+        // The resynced book is verified again, so a bad delta is caught
+        server.replay("websocket/market-resync-verify.jsonl");
+        await(() -> client.stats().hashMismatches() == 2);
+        assertEquals(2, client.stats().resyncs());
+    }
+
+    @Test
+    void pushedSnapshotSupersedesResync() throws Exception {
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch fetched = new CountDownLatch(1);
+        rest = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        rest.createContext("/book", exchange -> {
+            fetchStarted.countDown();
+            try {
+                release.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = String.join("\n", ReplayServer.fixture("websocket/market-resync-book.json"))
+                .getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+            fetched.countDown();
+        });
+        rest.start();
+
+        client = new MarketChannelClient(
+            server.uri(), new ClobClient("http://localhost:" + rest.getAddress().getPort())
+        );
+        client.subscribe(List.of(ASSET));
+        client.connect();
+        server.awaitConnection(TIMEOUT);
+        server.awaitReceived(TIMEOUT);
+
+        server.replay("websocket/market-resync-mismatch.jsonl");
+        assertTrue(fetchStarted.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+        server.send(ReplayServer.fixture("websocket/market-book-and-deltas.jsonl").get(0));
+        await(() -> client.book(ASSET) != null);
+        LocalOrderBook pushed = client.book(ASSET);
+
+        release.countDown();
+        assertTrue(fetched.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+        Thread.sleep(50);
+        barrier();
+        assertSame(pushed, client.book(ASSET));
+        assertEquals("a44cc7219f0b1188650b682934797d9f65f952dd", client.book(ASSET).hash());
+    }
+
+    /**
+     * Returns once the client has handled every message sent so far
+     */
+    private void barrier() throws InterruptedException {
+        // Messages are handled one at a time, so once this one is counted all earlier ones are done
+        long before = client.messageCount();
+        server.send("[]");
+        await(() -> client.messageCount() > before);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition not met within " + TIMEOUT);
+            }
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package com.polymarket.clob.websocket;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebSocket stand-in for the CLOB channels that replays recorded message sequences.
+ * <p>
+ * Accepts one client at a time on a loopback port, completes the upgrade handshake
+ * and answers the text PING heartbeat. Fixtures are classpath resources with one
+ * recorded message per line, each sent as one text frame. Frames sent by the client
+ * are queued for the test to inspect.
+ */
+final class ReplayServer implements AutoCloseable {
+    private static final String ACCEPT_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+
+    private final ServerSocket server;
+    private final Thread acceptor;
+    private final BlockingQueue<String> received = new LinkedBlockingQueue<>();
+    private final BlockingQueue<Socket> connections = new LinkedBlockingQueue<>();
+    private volatile Socket connection;
+    private volatile boolean closed;
+
+    ReplayServer() throws IOException {
+        this.server = new ServerSocket(0, 16, InetAddress.getLoopbackAddress());
+        this.acceptor = new Thread(this::accept, "replay-server");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    URI uri() {
+        return URI.create("ws://localhost:" + server.getLocalPort() + "/ws/market");
+    }
+
+    /**
+     * Waits for the next client to complete the handshake
+     */
+    void awaitConnection(Duration timeout) throws InterruptedException {
+        if (connections.poll(timeout.toMillis(), TimeUnit.MILLISECONDS) == null) {
+            throw new AssertionError("No WebSocket connection within " + timeout);
+        }
+    }
+
+    /**
+     * Next text frame sent by the client other than the heartbeat
+     */
+    String awaitReceived(Duration timeout) throws InterruptedException {
+        String text = received.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        if (text == null) {
+            throw new AssertionError("No message from the client within " + timeout);
+        }
+        return text;
+    }
+
+    /**
+     * Sends every recorded message of the fixture, in order
+     */
+    void replay(String resource) {
+        for (String message : fixture(resource)) {
+            send(message);
+        }
+    }
+
+    synchronized void send(String text) {
+        Socket socket = connection;
+        if (socket == null) {
+            throw new IllegalStateException("No client connected");
+        }
+        try {
+            writeFrame(socket.getOutputStream(), 0x1, text.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to send to client", e);
+        }
+    }
+
+    /**
+     * Drops the current client without a close handshake, as a network failure would
+     */
+    void drop() throws IOException {
+        Socket socket = connection;
+        if (socket != null) {
+            socket.close();
+        }
+    }
+
+    /**
+     * Lines of a fixture under src/test/resources, skipping blank lines
+     */
+    static List<String> fixture(String resource) {
+        InputStream in = ReplayServer.class.getResourceAsStream("/" + resource);
+        if (in == null) {
+            throw new IllegalArgumentException("Missing fixture " + resource);
+        }
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    lines.add(line);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read fixture " + resource, e);
+        }
+        return lines;
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        server.close();
+        drop();
+    }
+
+    private void accept() {
+        while (!closed) {
+            try {
+                Socket socket = server.accept();
+                handshake(socket);
+                connection = socket;
+                Thread reader = new Thread(() -> read(socket), "replay-server-reader");
+                reader.setDaemon(true);
+                reader.start();
+                connections.add(socket);
+            } catch (IOException e) {
+                // Closed, or a client that gave up during the handshake
+            }
+        }
+    }
+
+    private static void handshake(Socket socket) throws IOException {
+        BufferedReader reader = new BufferedReader(
+            new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1)
+        );
+        String key = null;
+        String line;
+        while ((line = reader.readLine()) != null && !line.isEmpty()) {
+            int colon = line.indexOf(':');
+            if (colon > 0 && line.substring(0, colon).trim().toLowerCase(Locale.ROOT).equals("sec-websocket-key")) {
+                key = line.substring(colon + 1).trim();
+            }
+        }
+        if (key == null) {
+            socket.close();
+            throw new IOException("Not a WebSocket upgrade");
+        }
+        String response = "HTTP/1.1 101 Switching Protocols\r\n"
+            + "Upgrade: websocket\r\n"
+            + "Connection: Upgrade\r\n"
+            + "Sec-WebSocket-Accept: " + accept(key) + "\r\n\r\n";
+        OutputStream out = socket.getOutputStream();
+        out.write(response.getBytes(StandardCharsets.ISO_8859_1));
+        out.flush();
+    }
+
+    private void read(Socket socket) {
+        try {
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            ByteArrayOutputStream message = new ByteArrayOutputStream();
+            while (true) {
+                int first = in.readUnsignedByte();
+                int second = in.readUnsignedByte();
+                long length = second & 0x7F;
+                if (length == 126) {
+                    length = in.readUnsignedShort();
+                } else if (length == 127) {
+                    length = in.readLong();
+                }
+                byte[] mask = new byte[4];
+                if ((second & 0x80) != 0) {
+                    in.readFully(mask);
+                }
+                byte[] payload = new byte[(int) length];
+                in.readFully(payload);
+                for (int i = 0; i < payload.length; i++) {
+                    payload[i] ^= mask[i % 4];
+                }
+                int opcode = first & 0x0F;
+                if (opcode == 0x8) {
+                    synchronized (this) {
+                        writeFrame(socket.getOutputStream(), 0x8, payload);
+                    }
+                    socket.close();
+                    return;
+                }
+                if (opcode == 0x9) {
+                    synchronized (this) {
+                        writeFrame(socket.getOutputStream(), 0xA, payload);
+                    }
+                    continue;
+                }
+                message.write(payload);
+                if ((first & 0x80) == 0) {
+                    continue;
+                }
+                String text = message.toString(StandardCharsets.UTF_8);
+                message.reset();
+                if ("PING".equals(text)) {
+                    synchronized (this) {
+                        writeFrame(socket.getOutputStream(), 0x1, "PONG".getBytes(StandardCharsets.UTF_8));
+                    }
+                } else {
+                    received.add(text);
+                }
+            }
+        } catch (IOException e) {
+            // Client went away or the server was closed
+        }
+    }
+
+    private static void writeFrame(OutputStream out, int opcode, byte[] payload) throws IOException {
+        ByteArrayOutputStream frame = new ByteArrayOutputStream(payload.length + 10);
+        frame.write(0x80 | opcode);
+        if (payload.length < 126) {
+            frame.write(payload.length);
+        } else if (payload.length <= 0xFFFF) {
+            frame.write(126);
+            frame.write(payload.length >>> 8);
+            frame.write(payload.length & 0xFF);
+        } else {
+            frame.write(127);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                frame.write((int) ((long) payload.length >>> shift) & 0xFF);
+            }
+        }
+        frame.write(payload);
+        out.write(frame.toByteArray());
+        out.flush();
+    }
+
+    private static String accept(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1")
+                .digest((key + ACCEPT_GUID).getBytes(StandardCharsets.ISO_8859_1));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.polymarket.clob.websocket;
+
+import com.polymarket.clob.client.ClobClient;
+import com.polymarket.clob.types.ApiCreds;
+import com.polymarket.clob.types.OrderEvent;
+import com.polymarket.clob.types.TradeEvent;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserChannelClientTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    // Well-known development key; never funded
+    private static final String PRIVATE_KEY = "0xac0974bec39a17e36ba4a6b4d238ff944bacb478cbed5efcc7ae784a9d6f2f80";
+    private static final ApiCreds CREDS = new ApiCreds(
+        "00000000-0000-0000-0000-000000000001", "c2VjcmV0LXNlY3JldC1zZWNyZXQ=", "passphrase"
+    );
+
+    private ReplayServer server;
+    private HttpServer rest;
+    private UserChannelClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new ReplayServer();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (client != null) {
+            client.close();
+        }
+        if (rest != null) {
+            rest.stop(0);
+        }
+        server.close();
+    }
+
+    @Test
+    void tracksOpenOrdersFromEvents() throws Exception {
+        client = new UserChannelClient(server.uri(), CREDS, null);
+        Recorder recorder = new Recorder();
+        client.addListener(recorder);
+        client.connect();
+
+        server.awaitConnection(TIMEOUT);
+        String subscription = server.awaitReceived(TIMEOUT);
+        assertTrue(subscription.contains("\"apiKey\":\"" + CREDS.apiKey() + "\""), subscription);
+        assertTrue(subscription.contains("\"type\":\"user\""), subscription);
+
+        server.replay("websocket/user-orders.jsonl");
+        await(() -> recorder.orders.size() == 4);
+
+        List<OrderEvent> open = client.openOrders();
+        assertEquals(1, open.size());
+        assertEquals("0xb1", open.get(0).id());
+        assertEquals("4", open.get(0).sizeMatched());
+        assertEquals(1, recorder.trades.size());
+        assertEquals("0xb1", recorder.trades.get(0).makerOrders().get(0).orderId());
+
+        UserChannelClient.Stats stats = client.stats();
+        assertEquals(4, stats.orderEvents());
+        assertEquals(1, stats.tradeEvents());
+        assertEquals(0, stats.gaps());
+    }
+
+    @Test
+    void throwingListenerDoesNotStopDelivery() throws Exception {
+        client = new UserChannelClient(server.uri(), CREDS, null);
+        client.addListener(new UserChannelListener() {
+            @Override
+            public void onOrder(OrderEvent event) {
+                throw new IllegalStateException("listener bug");
+            }
+
+            @Override
+            public void onTrade(TradeEvent event) {
+                throw new IllegalStateException("listener bug");
+            }
+        });
+        Recorder recorder = new Recorder();
+        client.addListener(recorder);
+        client.connect();
+        server.awaitConnection(TIMEOUT);
+        server.awaitReceived(TIMEOUT);
+
+        server.replay("websocket/user-orders.jsonl");
+        await(() -> recorder.orders.size() == 4);
+
+        // The array frame carries an update and a trade; both reach the second listener
+        assertEquals(1, recorder.trades.size());
+        assertEquals(1, client.openOrders().size());
+    }
+
+    @Test
+    void gapReloadsOpenOrders() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        rest = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        rest.createContext("/data/orders", exchange -> {
+            // The first load is the baseline on connect; the second follows the gap
+            String data = loads.incrementAndGet() == 1
+                ? "[]"
+                : "[" + ReplayServer.fixture("websocket/user-gap.jsonl").get(0) + "]";
+            byte[] body = ("{\"data\":" + data + ",\"next_cursor\":\"LTE=\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        rest.start();
+        ClobClient restClient = new ClobClient(
+            "http://localhost:" + rest.getAddress().getPort(), 137, PRIVATE_KEY, CREDS, null, null
+        );
+
+        client = new UserChannelClient(server.uri(), CREDS, restClient);
+        client.addListener(new UserChannelListener() {
+            @Override
+            public void onResync(List<OrderEvent> openOrders) {
+                throw new IllegalStateException("listener bug");
+            }
+        });
+        Recorder recorder = new Recorder();
+        client.addListener(recorder);
+        client.connect();
+        server.awaitConnection(TIMEOUT);
+        server.awaitReceived(TIMEOUT);
+        await(() -> recorder.resyncs.size() == 1);
+        assertEquals(List.of(), recorder.resyncs.get(0));
+
+        // An update for an order never seen means events were missed
+        server.replay("websocket/user-gap.jsonl");
+        await(() -> recorder.resyncs.size() == 2);
+
+        assertEquals(1, recorder.resyncs.get(1).size());
+        assertEquals("0xb7", client.openOrders().get(0).id());
+        assertEquals(1, client.stats().gaps());
+        assertEquals(2, client.stats().resyncs());
+    }
+
+    private static final class Recorder implements UserChannelListener {
+        final List<OrderEvent> orders = new CopyOnWriteArrayList<>();
+        final List<TradeEvent> trades = new CopyOnWriteArrayList<>();
+        final List<List<OrderEvent>> resyncs = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onOrder(OrderEvent event) {
+            orders.add(event);
+        }
+
+        @Override
+        public void onTrade(TradeEvent event) {
+            trades.add(event);
+        }
+
+        @Override
+        public void onResync(List<OrderEvent> openOrders) {
+            resyncs.add(openOrders);
+        }
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition not met within " + TIMEOUT);
+            }
+            Thread.sleep(5);
+        }
+    }
+}
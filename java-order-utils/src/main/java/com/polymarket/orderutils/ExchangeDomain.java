@@ -0,0 +1,81 @@
+package com.polymarket.orderutils;
+
+import com.polymarket.orderutils.utils.Utils;
+import org.web3j.crypto.Hash;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * EIP712 domain of one exchange contract, whose orders are signed as
+ * keccak256("\x19\x01" ‖ domainSeparator ‖ hashStruct(order))
+ */
+public final class ExchangeDomain {
+
+    public static final String NAME = "Polymarket CTF Exchange";
+    public static final String VERSION = "1";
+
+    private static final String EIP712_DOMAIN_TYPEHASH =
+        "EIP712Domain(string name,string version,uint256 chainId,address verifyingContract)";
+
+    private final int chainId;
+    private final String exchangeAddress;
+    private final byte[] separator;
+
+    /**
+     * Create the domain of an exchange
+     *
+     * @param chainId         The chain ID
+     * @param exchangeAddress The address of the exchange contract
+     */
+    public ExchangeDomain(int chainId, String exchangeAddress) {
+        this.chainId = chainId;
+        this.exchangeAddress = Utils.normalizeAddress(exchangeAddress);
+        this.separator = hashDomain(chainId, this.exchangeAddress);
+    }
+
+    public int chainId() {
+        return chainId;
+    }
+
+    public String exchangeAddress() {
+        return exchangeAddress;
+    }
+
+    /**
+     * The message digest that is signed for an order
+     *
+     * @param orderHash The 32-byte EIP712 hashStruct of the order
+     * @return The 32-byte digest
+     */
+    public byte[] digest(byte[] orderHash) {
+        if (orderHash.length != 32) {
+            throw new IllegalArgumentException("orderHash must be 32 bytes, got " + orderHash.length);
+        }
+        byte[] message = new byte[2 + 32 + 32];
+        message[0] = 0x19;
+        message[1] = 0x01;
+        System.arraycopy(separator, 0, message, 2, 32);
+        System.arraycopy(orderHash, 0, message, 34, 32);
+        return Hash.sha3(message);
+    }
+
+    /**
+     * encode(domainSeparator : 𝕊) = keccak256(typeHash ‖ nameHash ‖ versionHash ‖ chainId ‖ verifyingContract)
+     */
+    private static byte[] hashDomain(int chainId, String verifyingContract) {
+        byte[] encoded = new byte[32 * 5];
+
+        System.arraycopy(Hash.sha3(EIP712_DOMAIN_TYPEHASH.getBytes(StandardCharsets.UTF_8)), 0, encoded, 0, 32);
+        System.arraycopy(Hash.sha3(NAME.getBytes(StandardCharsets.UTF_8)), 0, encoded, 32, 32);
+        System.arraycopy(Hash.sha3(VERSION.getBytes(StandardCharsets.UTF_8)), 0, encoded, 64, 32);
+        System.arraycopy(Numeric.toBytesPadded(BigInteger.valueOf(chainId), 32), 0, encoded, 96, 32);
+
+        // Address left-padded with zeros to 32 bytes
+        byte[] addressBytes = Numeric.hexStringToByteArray(verifyingContract);
+        System.arraycopy(Numeric.toBytesPadded(new BigInteger(1, addressBytes), 32), 0, encoded, 128, 32);
+
+        return Hash.sha3(encoded);
+    }
+}
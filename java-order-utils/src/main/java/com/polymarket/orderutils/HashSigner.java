@@ -0,0 +1,35 @@
+package com.polymarket.orderutils;
+
+import org.web3j.utils.Numeric;
+
+/**
+ * Signs EIP712 struct hashes for one address
+ */
+public interface HashSigner {
+
+    /**
+     * Sign an EIP712 struct hash (already hashed data)
+     *
+     * @param structHash The 32-byte hash as a hex string, with or without 0x prefix
+     * @return The 65-byte r, s, v signature as a hex string
+     */
+    String sign(String structHash);
+
+    /**
+     * Sign an order under the exchange's EIP712 domain
+     *
+     * @param domain    The exchange the order is for
+     * @param orderHash The 32-byte EIP712 hashStruct of the order as a hex string
+     * @return The 65-byte r, s, v signature as a hex string
+     */
+    default String signOrder(ExchangeDomain domain, String orderHash) {
+        return sign(Numeric.toHexString(domain.digest(Numeric.hexStringToByteArray(orderHash))));
+    }
+
+    /**
+     * Get the address the signatures recover to
+     *
+     * @return The Ethereum address
+     */
+    String getAddress();
+}
@@ -10,7 +10,7 @@ import java.math.BigInteger;
 /**
  * Signs orders using a private key
  */
-public class UtilsSigner {
+public class UtilsSigner implements HashSigner {
 
     private final String privateKey;
     private final Credentials credentials;
@@ -34,6 +34,7 @@ public class UtilsSigner {
      * @param structHash The EIP712 struct hash to sign (already keccak256 hashed)
      * @return The signature as a hex string
      */
+    @Override
     public String sign(String structHash) {
         // Remove 0x prefix if present
         String cleanHash = structHash.startsWith("0x") ? structHash.substring(2) : structHash;
@@ -79,6 +80,7 @@ public class UtilsSigner {
      *
      * @return The Ethereum address
      */
+    @Override
     public String getAddress() {
         return credentials.getAddress();
     }
@@ -1,6 +1,7 @@
 package com.polymarket.orderutils.builders;
 
-import com.polymarket.orderutils.UtilsSigner;
+import com.polymarket.orderutils.ExchangeDomain;
+import com.polymarket.orderutils.HashSigner;
 import com.polymarket.orderutils.model.Order;
 import com.polymarket.orderutils.utils.Utils;
 import org.web3j.crypto.Hash;
@@ -16,15 +17,13 @@ import java.util.function.Supplier;
 public abstract class BaseBuilder {
 
     protected final String contractAddress;
-    protected final UtilsSigner signer;
+    protected final HashSigner signer;
     protected final int chainId;
     protected final EIP712Domain domainSeparator;
+    protected final ExchangeDomain exchangeDomain;
     protected final Supplier<Long> saltGenerator;
 
-    // EIP712 Type Hashes
-    private static final String EIP712_DOMAIN_TYPEHASH =
-        "EIP712Domain(string name,string version,uint256 chainId,address verifyingContract)";
-
+    // EIP712 Type Hash
     private static final String ORDER_TYPEHASH =
         "Order(uint256 salt,address maker,address signer,address taker,uint256 tokenId," +
         "uint256 makerAmount,uint256 takerAmount,uint256 expiration,uint256 nonce," +
@@ -50,13 +49,14 @@ public abstract class BaseBuilder {
     protected BaseBuilder(
         String exchangeAddress,
         int chainId,
-        UtilsSigner signer,
+        HashSigner signer,
         Supplier<Long> saltGenerator
     ) {
         this.contractAddress = Utils.normalizeAddress(exchangeAddress);
         this.signer = signer;
         this.chainId = chainId;
         this.domainSeparator = getDomainSeparator(chainId, this.contractAddress);
+        this.exchangeDomain = new ExchangeDomain(chainId, this.contractAddress);
         this.saltGenerator = saltGenerator;
     }
 
@@ -65,54 +65,25 @@ public abstract class BaseBuilder {
      */
     protected EIP712Domain getDomainSeparator(int chainId, String verifyingContract) {
         return new EIP712Domain(
-            "Polymarket CTF Exchange",
-            "1",
+            ExchangeDomain.NAME,
+            ExchangeDomain.VERSION,
             BigInteger.valueOf(chainId),
             verifyingContract
         );
     }
 
     /**
-     * Create an EIP712 struct hash for the order
+     * Create the EIP712 digest signed for the order
      */
     protected String createStructHash(Order order) {
-        byte[] domainSeparatorHash = hashDomain(domainSeparator);
-        byte[] orderHash = hashOrder(order);
-
-        // EIP712 message hash: keccak256("\x19\x01" ‖ domainSeparator ‖ structHash)
-        byte[] prefix = new byte[]{0x19, 0x01};
-        byte[] message = new byte[prefix.length + domainSeparatorHash.length + orderHash.length];
-
-        System.arraycopy(prefix, 0, message, 0, prefix.length);
-        System.arraycopy(domainSeparatorHash, 0, message, prefix.length, domainSeparatorHash.length);
-        System.arraycopy(orderHash, 0, message, prefix.length + domainSeparatorHash.length, orderHash.length);
-
-        return Utils.prependZx(Numeric.toHexStringNoPrefix(Hash.sha3(message)));
+        return Utils.prependZx(Numeric.toHexStringNoPrefix(exchangeDomain.digest(hashOrder(order))));
     }
 
     /**
-     * Hash the EIP712 domain
+     * Create the EIP712 hashStruct of the order, before it is wrapped in the exchange's domain
      */
-    private byte[] hashDomain(EIP712Domain domain) {
-        byte[] typeHash = Hash.sha3(EIP712_DOMAIN_TYPEHASH.getBytes(StandardCharsets.UTF_8));
-        byte[] nameHash = Hash.sha3(domain.name.getBytes(StandardCharsets.UTF_8));
-        byte[] versionHash = Hash.sha3(domain.version.getBytes(StandardCharsets.UTF_8));
-
-        // encode(domainSeparator : 𝕊) = keccak256(typeHash ‖ nameHash ‖ versionHash ‖ chainId ‖ verifyingContract)
-        byte[] encoded = new byte[32 * 5];
-
-        System.arraycopy(typeHash, 0, encoded, 0, 32);
-        System.arraycopy(nameHash, 0, encoded, 32, 32);
-        System.arraycopy(versionHash, 0, encoded, 64, 32);
-        System.arraycopy(Numeric.toBytesPadded(domain.chainId, 32), 0, encoded, 96, 32);
-
-        // Address needs to be padded to 32 bytes (left-padded with zeros)
-        // Convert address to BigInteger and pad to 32 bytes
-        byte[] addressBytes = Numeric.hexStringToByteArray(domain.verifyingContract);
-        byte[] addressPadded = Numeric.toBytesPadded(new BigInteger(1, addressBytes), 32);
-        System.arraycopy(addressPadded, 0, encoded, 128, 32);
-
-        return Hash.sha3(encoded);
+    protected String createOrderHash(Order order) {
+        return Utils.prependZx(Numeric.toHexStringNoPrefix(hashOrder(order)));
     }
 
     /**
@@ -149,4 +120,11 @@ public abstract class BaseBuilder {
     protected String sign(String structHash) {
         return signer.sign(structHash);
     }
+
+    /**
+     * Sign the order under the exchange's domain
+     */
+    protected String signOrder(Order order) {
+        return signer.signOrder(exchangeDomain, createOrderHash(order));
+    }
 }
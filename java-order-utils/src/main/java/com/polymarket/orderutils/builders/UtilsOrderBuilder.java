@@ -1,6 +1,6 @@
 package com.polymarket.orderutils.builders;
 
-import com.polymarket.orderutils.UtilsSigner;
+import com.polymarket.orderutils.HashSigner;
 import com.polymarket.orderutils.model.*;
 import com.polymarket.orderutils.utils.Utils;
 
@@ -17,9 +17,9 @@ public class UtilsOrderBuilder extends BaseBuilder {
      *
      * @param exchangeAddress The address of the exchange contract
      * @param chainId         The chain ID
-     * @param signer          The signer for signing orders
+     * @param signer          The signer for signing orders, local or remote
      */
-    public UtilsOrderBuilder(String exchangeAddress, int chainId, UtilsSigner signer) {
+    public UtilsOrderBuilder(String exchangeAddress, int chainId, HashSigner signer) {
         this(exchangeAddress, chainId, signer, Utils::generateSeed);
     }
 
@@ -34,7 +34,7 @@ public class UtilsOrderBuilder extends BaseBuilder {
     public UtilsOrderBuilder(
         String exchangeAddress,
         int chainId,
-        UtilsSigner signer,
+        HashSigner signer,
         Supplier<Long> saltGenerator
     ) {
         super(exchangeAddress, chainId, signer, saltGenerator);
@@ -48,6 +48,18 @@ public class UtilsOrderBuilder extends BaseBuilder {
      * @throws ValidationException if the order data is invalid
      */
     public Order buildOrder(OrderData data) {
+        return buildOrder(data, data.getTokenId() != null ? new BigInteger(data.getTokenId()) : null);
+    }
+
+    /**
+     * Build an order from order data and an already parsed token ID
+     *
+     * @param data    The order input data
+     * @param tokenId The token ID of {@code data}, parsed once by the caller
+     * @return The constructed Order
+     * @throws ValidationException if the order data is invalid
+     */
+    public Order buildOrder(OrderData data, BigInteger tokenId) {
         if (!validateInputs(data)) {
             throw new ValidationException("Invalid order inputs");
         }
@@ -78,7 +90,7 @@ public class UtilsOrderBuilder extends BaseBuilder {
             .maker(Utils.normalizeAddress(data.getMaker()))
             .signer(Utils.normalizeAddress(data.getSigner()))
             .taker(Utils.normalizeAddress(data.getTaker()))
-            .tokenId(new BigInteger(data.getTokenId()))
+            .tokenId(tokenId)
             .makerAmount(new BigInteger(data.getMakerAmount()))
             .takerAmount(new BigInteger(data.getTakerAmount()))
             .expiration(new BigInteger(data.getExpiration()))
@@ -96,7 +108,7 @@ public class UtilsOrderBuilder extends BaseBuilder {
      * @return The signature as a hex string
      */
     public String buildOrderSignature(Order order) {
-        return Utils.prependZx(sign(createStructHash(order)));
+        return Utils.prependZx(signOrder(order));
     }
 
     /**
@@ -112,6 +124,20 @@ public class UtilsOrderBuilder extends BaseBuilder {
         return new SignedOrder(order, signature);
     }
 
+    /**
+     * Build and sign an order with an already parsed token ID
+     *
+     * @param data    The order input data
+     * @param tokenId The token ID of {@code data}, parsed once by the caller
+     * @return The signed order
+     * @throws ValidationException if the order data is invalid
+     */
+    public SignedOrder buildSignedOrder(OrderData data, BigInteger tokenId) {
+        Order order = buildOrder(data, tokenId);
+        String signature = buildOrderSignature(order);
+        return new SignedOrder(order, signature);
+    }
+
     /**
      * Validate order input data
      *
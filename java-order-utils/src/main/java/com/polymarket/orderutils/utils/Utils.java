@@ -2,8 +2,10 @@ package com.polymarket.orderutils.utils;
 
 import org.web3j.crypto.Keys;
 
+import java.security.SecureRandom;
 import java.time.Instant;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Utility functions for order processing
@@ -13,6 +15,10 @@ public class Utils {
     private static final double MAX_INT = Math.pow(2, 32);
     private static final Random random = new Random();
 
+    // Salts stay below 2^53 so they survive JSON number parsing as doubles
+    private static final long MAX_SAFE_SEED = (1L << 53) - 1;
+    private static final AtomicLong uniqueSeed = new AtomicLong(new SecureRandom().nextLong() & ((1L << 52) - 1));
+
     /**
      * Normalize a string by converting to lowercase and removing punctuation
      */
@@ -46,6 +52,14 @@ public class Utils {
         return Math.round(now * random.nextDouble());
     }
 
+    /**
+     * Generate a seed that is distinct from every other one returned in this process.
+     * Starts at a random point and counts up, so identical orders signed in bulk get distinct hashes.
+     */
+    public static long generateUniqueSeed() {
+        return uniqueSeed.getAndUpdate(seed -> seed >= MAX_SAFE_SEED ? 1 : seed + 1);
+    }
+
     /**
      * Prepend "0x" to the input string if it is missing
      */